@@ -0,0 +1,183 @@
+/**
+ * Deeply nested programs through every pipeline: the walkers and the mapping
+ * walks keep their own stacks, so nesting depth must not overflow the call
+ * stack. Each language maps a normalized IR (parsing is left out) of DEPTH
+ * nested statements of each shape it supports, as Mermaid text and as graph
+ * JSON, and reports the time it took; a RangeError fails the run.
+ *
+ * Usage: node bench-deep.mjs [--languages c,cpp,java,javascript,typescript,python,fortran,pascal]
+ *                            [--depth 10000] [--shapes if,while,elseif,do,switch]
+ */
+
+import { dirname, join } from 'path';
+import { fileURLToPath, pathToFileURL } from 'url';
+
+const ROOT = dirname(fileURLToPath(import.meta.url));
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const LANGUAGES = flag('--languages', 'c,cpp,java,javascript,typescript,python,fortran,pascal').split(',');
+const DEPTH = Number(flag('--depth', '10000'));
+const SHAPES = flag('--shapes', 'if,while,elseif,do,switch').split(',');
+
+const FLOW = (language) => `src/mappings/languages/${language}/pipeline/flow.mjs`;
+
+// --- Nested IR per normalizer family ----------------------------------------
+// Each builder returns null for a shape its IR has no node for
+
+// C, C++, Fortran and Pascal: If { cond, then, else } and While { cond, body }
+function nestedBlocks(depth, shape) {
+  if (shape !== 'if' && shape !== 'while') return null;
+  let inner = { type: 'Assign', text: 'x = 0' };
+  for (let i = depth; i > 0; i--) {
+    const body = { type: 'Block', body: [{ type: 'Assign', text: `x = ${i}` }, inner] };
+    const cond = { type: 'Expr', text: `(x > ${i})` };
+    inner = shape === 'while'
+      ? { type: 'While', cond, body }
+      : { type: 'If', cond, then: body, else: i % 2 ? { type: 'Block', body: [{ type: 'Assign', text: `y = ${i}` }] } : null };
+  }
+  return inner;
+}
+
+// Java: ESTree-like statements inside a main function
+function nestedJava(depth, shape) {
+  const literal = (text) => ({ type: 'ExpressionStatement', expression: { type: 'Literal', value: text, raw: text } });
+  const assign = (text) => ({
+    type: 'ExpressionStatement',
+    expression: { type: 'AssignmentExpression', operator: '=', left: { type: 'Identifier', name: 'x' }, right: { type: 'Literal', value: 1, raw: '1' }, text },
+    text: `${text} ;`
+  });
+  let inner = assign('x = 0');
+  for (let i = depth; i > 0; i--) {
+    const body = { type: 'BlockStatement', body: [assign(`x = ${i}`), inner] };
+    const test = literal(`( x > ${i} )`);
+    switch (shape) {
+      case 'if':
+        inner = { type: 'IfStatement', test, consequent: body, alternate: i % 2 ? { type: 'BlockStatement', body: [assign(`y = ${i}`)] } : null };
+        break;
+      case 'elseif':
+        inner = { type: 'IfStatement', test, consequent: { type: 'BlockStatement', body: [assign(`x = ${i}`)] }, alternate: inner };
+        break;
+      case 'while':
+        inner = { type: 'WhileStatement', test, body };
+        break;
+      case 'do':
+        inner = { type: 'DoWhileStatement', test, body };
+        break;
+      case 'switch':
+        inner = {
+          type: 'SwitchStatement',
+          discriminant: literal('x'),
+          cases: [{ type: 'SwitchCase', test: literal(String(i)), consequent: [assign(`x = ${i}`), inner, { type: 'BreakStatement' }] }]
+        };
+        break;
+      default:
+        return null;
+    }
+  }
+  return { type: 'Program', body: [{ type: 'Function', name: 'main', params: [], body: [inner], text: 'function main' }] };
+}
+
+// JavaScript and TypeScript: If { test, consequent, alternate } and friends
+function nestedScript(depth, shape) {
+  let inner = { type: 'Assign', text: 'x = 0' };
+  for (let i = depth; i > 0; i--) {
+    const body = { body: [{ type: 'Assign', text: `x = ${i}` }, inner] };
+    const test = { text: `(x > ${i})` };
+    switch (shape) {
+      case 'if':
+        inner = { type: 'If', test, consequent: body, alternate: i % 2 ? { body: [{ type: 'Assign', text: `y = ${i}` }] } : undefined };
+        break;
+      case 'elseif':
+        inner = { type: 'If', test, consequent: { body: [{ type: 'Assign', text: `x = ${i}` }] }, alternate: inner };
+        break;
+      case 'while':
+        inner = { type: 'While', test, body };
+        break;
+      case 'do':
+        inner = { type: 'DoWhile', test, body };
+        break;
+      case 'switch':
+        inner = {
+          type: 'Switch',
+          discriminant: { text: 'x' },
+          cases: [{ type: 'Case', test: { text: String(i) }, consequent: [{ type: 'Assign', text: `x = ${i}` }, inner, { type: 'Break' }] }]
+        };
+        break;
+      default:
+        return null;
+    }
+  }
+  return { type: 'Program', body: [inner] };
+}
+
+// Python: the C shapes in a main program
+function nestedPython(depth, shape) {
+  if (shape !== 'if' && shape !== 'while') return null;
+  let inner = { type: 'Assign', text: 'x = 0' };
+  for (let i = depth; i > 0; i--) {
+    const body = { type: 'Block', body: [{ type: 'Assign', text: `x = ${i}` }, inner] };
+    const cond = { type: 'Expr', text: `x > ${i}` };
+    inner = shape === 'while' ? { type: 'While', cond, body } : { type: 'If', cond, then: body, else: null };
+  }
+  return { type: 'Program', name: 'main', body: [inner] };
+}
+
+const inMain = (inner) => inner && { type: 'Block', body: [{ type: 'Function', name: 'main()', body: { type: 'Block', body: [inner] } }] };
+const inProgram = (inner) => inner && { type: 'Program', body: [inner] };
+
+const IR = {
+  c: (shape) => inMain(nestedBlocks(DEPTH, shape)),
+  cpp: (shape) => inMain(nestedBlocks(DEPTH, shape)),
+  java: (shape) => nestedJava(DEPTH, shape),
+  javascript: (shape) => nestedScript(DEPTH, shape),
+  typescript: (shape) => nestedScript(DEPTH, shape),
+  python: (shape) => nestedPython(DEPTH, shape),
+  fortran: (shape) => inProgram(nestedBlocks(DEPTH, shape)),
+  pascal: (shape) => inProgram(nestedBlocks(DEPTH, shape))
+};
+
+function quietly(fn) {
+  const { log, warn, error } = console;
+  console.log = console.warn = console.error = () => {};
+  try {
+    return fn();
+  } finally {
+    Object.assign(console, { log, warn, error });
+  }
+}
+
+console.log(`depth ${DEPTH}`);
+console.log('language'.padEnd(11) + 'shape'.padEnd(8) + 'lines'.padStart(8) + 'text ms'.padStart(10) + 'graph ms'.padStart(10));
+
+for (const language of LANGUAGES) {
+  const { generateFlowchart } = await import(pathToFileURL(join(ROOT, FLOW(language))).href);
+  for (const shape of SHAPES) {
+    if (!IR[language](shape)) continue;
+
+    const time = (options) => {
+      const normalized = IR[language](shape);
+      const started = performance.now();
+      const result = quietly(() => generateFlowchart('', { ...options, normalized }));
+      return { time: performance.now() - started, result };
+    };
+
+    try {
+      const text = time({});
+      const graph = time({ format: 'graph' });
+      console.log(
+        language.padEnd(11) +
+        shape.padEnd(8) +
+        String(text.result.split('\n').length).padStart(8) +
+        text.time.toFixed(1).padStart(10) +
+        graph.time.toFixed(1).padStart(10)
+      );
+    } catch (error) {
+      console.error(`${language.padEnd(11)}${shape.padEnd(8)}${error.name}: ${error.message}`);
+      process.exitCode = 1;
+    }
+  }
+}
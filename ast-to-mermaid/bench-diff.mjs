@@ -0,0 +1,111 @@
+/**
+ * Incremental diagram updates: a statement is inserted at the top of the first
+ * function of a large program, and the diagram before the edit is compared with
+ * the one after it. Reports how many node IDs survive the edit with sequential
+ * and with stable IDs, and the size and cost of the /diff edit script against
+ * sending the whole new diagram.
+ *
+ * Usage: node bench-diff.mjs [--functions 25,100,400] [--size 40]
+ */
+
+import { generateFlowchart } from './src/mappings/languages/java/pipeline/flow.mjs';
+import { diffDiagrams } from './src/shared/diagram-diff.mjs';
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const FUNCTIONS = flag('--functions', '25,100,400').split(',').map(Number);
+const SIZE = Number(flag('--size', 40));
+const RUNS = 5;
+
+const statement = (text) => ({ type: 'ExpressionStatement', expression: { type: 'Literal', value: text, raw: text }, text });
+const block = (body) => ({ type: 'BlockStatement', body });
+
+// Same deterministic statement mix as bench-wire.mjs
+function statements(seed, size, depth = 0) {
+  const out = [];
+  for (let i = 0; i < size; i++) {
+    const k = (seed * 31 + i * 17) % 7;
+    if (depth < 2 && k === 0) {
+      out.push({ type: 'IfStatement', test: statement(`( x > ${i} )`), consequent: block(statements(seed + i, 3, depth + 1)), alternate: block(statements(seed + 2 * i, 2, depth + 1)) });
+    } else if (depth < 2 && k === 1) {
+      out.push({ type: 'WhileStatement', test: statement(`( y < ${i} )`), body: block(statements(seed + 3 * i, 3, depth + 1)) });
+    } else {
+      out.push(statement(`${['x', 'y', 'z'][k % 3]} = ${seed + i} ;`));
+    }
+  }
+  return out;
+}
+
+function program(functionCount, edited) {
+  const body = [];
+  for (let f = 0; f < functionCount; f++) {
+    const list = statements(f, SIZE);
+    if (edited && f === 0) list.unshift(statement('trace = 1 ;'));
+    body.push({ type: 'Function', name: `f${f}`, params: [], body: list, text: `function f${f}` });
+  }
+  body.push({ type: 'Function', name: 'main', params: [], body: statements(functionCount, SIZE), text: 'function main' });
+  return { type: 'Program', body };
+}
+
+// Fastest of RUNS calls, with the last result
+function best(fn) {
+  let ms = Infinity;
+  let result;
+  for (let run = 0; run < RUNS; run++) {
+    const start = performance.now();
+    result = fn();
+    ms = Math.min(ms, performance.now() - start);
+  }
+  return { ms, result };
+}
+
+const NODE_ID = /^\s*([A-Za-z_]\w*)[[({>]/;
+
+// Share of the declared node IDs of `after` that `before` declares for the same node
+function keptIds(before, after) {
+  const declared = (text) => text.split('\n').map(line => {
+    const match = NODE_ID.exec(line);
+    return match ? `${match[1]}${line.trim().slice(match[1].length)}` : null;
+  }).filter(Boolean);
+  const previous = new Set(declared(before));
+  const next = declared(after);
+  return next.filter(line => previous.has(line)).length / next.length;
+}
+
+const kb = (bytes) => (bytes / 1024).toFixed(1);
+const pct = (share) => `${(share * 100).toFixed(1)}%`;
+const row = (cells, widths) => cells.map((cell, i) => String(cell).padStart(widths[i])).join('');
+
+// Mapping modules log while they walk
+const log = console.log;
+console.log = () => {};
+
+const convert = (count, edited, ids) => generateFlowchart('', { normalized: program(count, edited), functionCache: false, ids });
+
+const widths = [10, 9, 12, 10, 10, 10, 10, 11, 9];
+log(`Insert one statement at the top of f0, ${SIZE} statements per function`);
+log(row(['functions', 'lines', 'kept(seq)', 'kept(st)', 'emit ms', 'diagram', 'diff KB', 'changes', 'diff ms'], widths));
+for (const count of FUNCTIONS) {
+  const sequential = [convert(count, false), convert(count, true)];
+  const plain = best(() => convert(count, true));
+  const stable = best(() => convert(count, true, 'stable'));
+  const before = convert(count, false, 'stable');
+  const diff = best(() => diffDiagrams(before, stable.result));
+  const script = diff.result;
+  const changes = script.nodes.added.length + script.nodes.removed.length + script.nodes.relabeled.length
+    + script.edges.added.length + script.edges.removed.length + script.edges.relabeled.length;
+  log(row([
+    count,
+    stable.result.split('\n').length,
+    pct(keptIds(...sequential)),
+    pct(keptIds(before, stable.result)),
+    `${plain.ms.toFixed(0)}/${stable.ms.toFixed(0)}`,
+    kb(Buffer.byteLength(stable.result)),
+    kb(Buffer.byteLength(JSON.stringify(script))),
+    changes,
+    diff.ms.toFixed(1)
+  ], widths));
+}
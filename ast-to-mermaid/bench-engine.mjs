@@ -0,0 +1,140 @@
+/**
+ * Flowchart generation per language, before and after the shared engine
+ * (src/engine/): the pipelines of a baseline revision, each with its own
+ * context, walker and finalizer, versus the current ones. Both run on the same
+ * normalized IR (so parsing and normalizing are left out) and must produce the
+ * same output for every option set below: Mermaid text, streamed lines, graph
+ * JSON, aggregated calls and level of detail.
+ *
+ * The baseline tree is extracted with `git archive` from the parent of the
+ * commit that added the engine, or from --before REV. Languages whose source
+ * cannot be parsed here (no tree-sitter grammar) are skipped.
+ *
+ * Usage: node bench-engine.mjs [--languages c,cpp,java,javascript,typescript,python,fortran,pascal]
+ *                              [--sizes 50,200,800] [--before REV]
+ */
+
+import { execFileSync } from 'child_process';
+import { mkdtempSync, rmSync } from 'fs';
+import { dirname, join } from 'path';
+import { fileURLToPath, pathToFileURL } from 'url';
+import { PROGRAMS } from './bench-programs.mjs';
+
+const ROOT = dirname(fileURLToPath(import.meta.url));
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const LANGUAGES = flag('--languages', 'c,cpp,java,javascript,typescript,python,fortran,pascal').split(',');
+const SIZES = flag('--sizes', '50,200,800').split(',').map(Number);
+const RUNS = 5;
+
+const FLOW = (language) => `src/mappings/languages/${language}/pipeline/flow.mjs`;
+
+// Output forms that must match the baseline; the first one is timed
+const OPTION_SETS = [{}, { lines: true }, { format: 'graph' }, { aggregateCalls: true }, { detail: 2 }];
+
+function git(args, options = {}) {
+  return execFileSync('git', args, { cwd: ROOT, stdio: ['ignore', 'pipe', 'ignore'], ...options });
+}
+
+// Parent of the commit that added the engine, or HEAD while it is uncommitted
+function baselineRevision() {
+  const requested = flag('--before', null);
+  if (requested) return requested;
+  const added = git(['log', '--diff-filter=A', '--format=%H', '-1', '--', 'src/engine/pipeline.mjs'], { encoding: 'utf8' }).trim();
+  return added ? `${added}~1` : 'HEAD';
+}
+
+/**
+ * Check out src/ as it was at a revision. The copy goes under the project root
+ * so its bare imports (tree-sitter and the grammars) resolve to node_modules.
+ */
+function checkoutAt(revision) {
+  const scratch = mkdtempSync(join(ROOT, '.bench-engine-'));
+  const archive = git(['archive', '--format=tar', revision, 'src'], { maxBuffer: 1 << 30 });
+  execFileSync('tar', ['-x', '-C', scratch], { input: archive });
+  return scratch;
+}
+
+// Whole output as one string: streamed lines are joined, graphs serialized
+function render(result) {
+  if (typeof result === 'string') return result;
+  if (result && typeof result[Symbol.iterator] === 'function') return [...result].join('\n');
+  return JSON.stringify(result);
+}
+
+function quietly(fn) {
+  const { log, warn, error } = console;
+  console.log = console.warn = console.error = () => {};
+  try {
+    return fn();
+  } finally {
+    Object.assign(console, { log, warn, error });
+  }
+}
+
+function best(fn) {
+  return quietly(() => {
+    let result = fn();
+    let time = Infinity;
+    for (let i = 0; i < RUNS; i++) {
+      const started = performance.now();
+      result = fn();
+      time = Math.min(time, performance.now() - started);
+    }
+    return { time, result };
+  });
+}
+
+const revision = baselineRevision();
+const scratch = checkoutAt(revision);
+console.log(`baseline ${revision}`);
+console.log(
+  'language'.padEnd(11) + 'size'.padStart(6) + 'lines'.padStart(8) +
+  'before ms'.padStart(11) + 'after ms'.padStart(10) + 'speedup'.padStart(9)
+);
+
+try {
+  for (const language of LANGUAGES) {
+    const before = await import(pathToFileURL(join(scratch, FLOW(language))).href);
+    const after = await import(pathToFileURL(join(ROOT, FLOW(language))).href);
+
+    for (const size of SIZES) {
+      // The IR both pipelines start from, captured while the current one parses
+      let ir = null;
+      try {
+        quietly(() => after.generateFlowchart(PROGRAMS[language](size), { onNormalized: (normalized) => { ir = normalized; } }));
+      } catch {
+        ir = null;
+      }
+      if (!ir) {
+        console.log(`${language.padEnd(11)}skipped (cannot parse without its tree-sitter grammar)`);
+        break;
+      }
+
+      const run = (pipeline, options) => render(pipeline.generateFlowchart('', { ...options, normalized: structuredClone(ir) }));
+      const old = best(() => run(before, OPTION_SETS[0]));
+      const now = best(() => run(after, OPTION_SETS[0]));
+      console.log(
+        language.padEnd(11) +
+        String(size).padStart(6) +
+        String(now.result.split('\n').length).padStart(8) +
+        old.time.toFixed(2).padStart(11) +
+        now.time.toFixed(2).padStart(10) +
+        `${(old.time / now.time).toFixed(2)}x`.padStart(9)
+      );
+
+      for (const options of OPTION_SETS) {
+        if (quietly(() => run(before, options)) !== quietly(() => run(after, options))) {
+          console.error(`${language} ${size} ${JSON.stringify(options)}: output differs from the baseline`);
+          process.exitCode = 1;
+        }
+      }
+    }
+  }
+} finally {
+  rmSync(scratch, { recursive: true, force: true });
+}
@@ -0,0 +1,52 @@
+/**
+ * Graph-building cost for synthetic flowcharts of growing size, through the
+ * Java mapping context (add, addEdge with `No` dedupe, finalize, emit).
+ * Time and allocation per node should stay flat as the chart grows.
+ *
+ * Usage: node bench-flow-graph.mjs [--sizes 10000,20000,40000]
+ */
+
+import { ctx } from './src/mappings/languages/java/mermaid/context.mjs';
+import { finalizeFlowContext } from './src/mappings/languages/java/mermaid/finalize-context.mjs';
+
+const sizesFlag = process.argv.indexOf('--sizes');
+const SIZES = sizesFlag !== -1
+  ? process.argv[sizesFlag + 1].split(',').map(Number)
+  : [10000, 20000, 40000];
+
+// A chain of statements with a decision every third node, each carrying a duplicate `No` edge
+function build(nodeCount) {
+  const context = ctx();
+  let previous = context.next();
+  context.add(previous, '(["start"])');
+  for (let i = 1; i < nodeCount; i++) {
+    const id = context.next();
+    const decision = i % 3 === 0;
+    context.add(id, decision ? `{"x${i} > 0"}` : `["x${i} = ${i};"]`);
+    context.addEdge(previous, id, decision ? 'No' : null);
+    context.addEdge(previous, id, 'No');
+    previous = id;
+  }
+  context.last = previous;
+  finalizeFlowContext(context, true);
+  return context.emit();
+}
+
+build(1000);
+
+console.log('nodes'.padStart(8) + 'ms'.padStart(10) + 'us/node'.padStart(10) + 'heap MB'.padStart(10) + 'chars'.padStart(12));
+for (const size of SIZES) {
+  global.gc?.();
+  const heapBefore = process.memoryUsage().heapUsed;
+  const started = performance.now();
+  const output = build(size);
+  const ms = performance.now() - started;
+  const heapMb = (process.memoryUsage().heapUsed - heapBefore) / (1024 * 1024);
+  console.log(
+    String(size).padStart(8) +
+    ms.toFixed(1).padStart(10) +
+    (ms * 1000 / size).toFixed(2).padStart(10) +
+    heapMb.toFixed(1).padStart(10) +
+    String(output.length).padStart(12)
+  );
+}
@@ -0,0 +1,78 @@
+/**
+ * Function subgraph cache: converting a Java class again after one of its
+ * methods changed. "cold" builds every subgraph (no cache); "edited" converts the
+ * class once, edits one method, then converts it again, so only that method is
+ * mapped and finalized while the others come from the cache. Outputs must be
+ * identical. Parsing and normalizing are not timed (the bench starts from the
+ * normalized program).
+ *
+ * Usage: node bench-function-cache.mjs [--functions 25,100,400] [--size 40]
+ */
+
+import { generateFlowchart } from './src/mappings/languages/java/pipeline/flow.mjs';
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const FUNCTIONS = flag('--functions', '25,100,400').split(',').map(Number);
+const SIZE = Number(flag('--size', 40));
+const RUNS = 5;
+
+const statement = (text) => ({ type: 'ExpressionStatement', expression: { type: 'Literal', value: text, raw: text }, text });
+const block = (body) => ({ type: 'BlockStatement', body });
+
+// Deterministic mix of statements, branches and loops, `size` statements per function
+function statements(seed, size, depth = 0) {
+  const out = [];
+  for (let i = 0; i < size; i++) {
+    const k = (seed * 31 + i * 17) % 7;
+    if (depth < 2 && k === 0) {
+      out.push({ type: 'IfStatement', test: statement(`( x > ${i} )`), consequent: block(statements(seed + i, 3, depth + 1)), alternate: block(statements(seed + 2 * i, 2, depth + 1)) });
+    } else if (depth < 2 && k === 1) {
+      out.push({ type: 'WhileStatement', test: statement(`( y < ${i} )`), body: block(statements(seed + 3 * i, 3, depth + 1)) });
+    } else {
+      out.push(statement(`${['x', 'y', 'z'][k % 3]} = ${seed + i} ;`));
+    }
+  }
+  return out;
+}
+
+function program(functionCount, edit) {
+  const body = [];
+  for (let f = 0; f < functionCount; f++) {
+    const fnBody = statements(f, SIZE);
+    // The edit: one more statement in the middle method
+    if (f === functionCount >> 1) fnBody.push(statement(`edit = ${edit} ;`));
+    body.push({ type: 'Function', name: `f${f}`, params: [], body: fnBody, text: `function f${f}` });
+  }
+  body.push({ type: 'Function', name: 'main', params: [], body: statements(functionCount, SIZE), text: 'function main' });
+  return { type: 'Program', body };
+}
+
+// Mapping modules log while they walk
+const log = console.log;
+console.log = () => {};
+
+log(`${SIZE} statements per function, one method edited between conversions`);
+log('functions'.padStart(10) + 'cold ms'.padStart(11) + 'edited ms'.padStart(11) + 'speedup'.padStart(9));
+for (const count of FUNCTIONS) {
+  let cold = Infinity;
+  let edited = Infinity;
+  for (let run = 0; run < RUNS; run++) {
+    let start = performance.now();
+    const expected = generateFlowchart('', { normalized: program(count, run + 1), functionCache: false });
+    cold = Math.min(cold, performance.now() - start);
+
+    const functionCache = new Map();
+    generateFlowchart('', { normalized: program(count, 0), functionCache });
+    const normalized = program(count, run + 1);
+    start = performance.now();
+    const output = generateFlowchart('', { normalized, functionCache });
+    edited = Math.min(edited, performance.now() - start);
+    if (output !== expected) throw new Error(`output differs at ${count} functions`);
+  }
+  log(String(count).padStart(10) + cold.toFixed(1).padStart(11) + edited.toFixed(1).padStart(11) +
+    `${(cold / edited).toFixed(2)}x`.padStart(9));
+}
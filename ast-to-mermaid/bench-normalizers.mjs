@@ -0,0 +1,188 @@
+/**
+ * Normalizer cost per language, before and after syntax views: the normalizers
+ * of a baseline revision walking tree-sitter nodes directly versus the current
+ * ones reading a view built in one TreeCursor pass (src/shared/syntax-view.mjs).
+ * Each size is parsed once and both normalizers run on the same tree; their IR
+ * must be identical. Pascal and Fortran build their IR while extracting, so
+ * their timings include parsing (the parse column is shown for reference).
+ *
+ * The baseline modules are read with `git show` from the parent of the commit
+ * that added syntax views, or from --before REV. Languages whose grammar is not
+ * installed are skipped.
+ *
+ * Usage: node bench-normalizers.mjs [--languages c,cpp,java,javascript,typescript,python,fortran,pascal]
+ *                                   [--sizes 50,200,800] [--before REV]
+ */
+
+import { execFileSync } from 'child_process';
+import { mkdtempSync, writeFileSync, rmSync } from 'fs';
+import { tmpdir } from 'os';
+import { dirname, join, resolve } from 'path';
+import { fileURLToPath, pathToFileURL } from 'url';
+import { hasGrammar, loadGrammar } from './src/shared/grammars.mjs';
+import { loadLocalGrammar, parseWithLocalGrammar } from './src/shared/local-grammar.mjs';
+import { withParser } from './src/shared/parser-pool.mjs';
+import { PROGRAMS } from './bench-programs.mjs';
+
+const ROOT = dirname(fileURLToPath(import.meta.url));
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const LANGUAGES = flag('--languages', 'c,cpp,java,javascript,typescript,python,fortran,pascal').split(',');
+const SIZES = flag('--sizes', '50,200,800').split(',').map(Number);
+const RUNS = 5;
+
+const LANGUAGE_DIR = 'src/mappings/languages';
+
+// Module and export that turn a tree (or, for `extract`, source text) into IR
+const STAGES = {
+  c: { file: 'c/normalizer/normalize-c.mjs', name: 'normalizeC' },
+  cpp: { file: 'cpp/normalizer/normalize-cpp.mjs', name: 'normalizeCpp' },
+  java: { file: 'java/normalizer/normalize-java.mjs', name: 'normalizeJava' },
+  javascript: { file: 'javascript/normalizer/normalize-javascript.mjs', name: 'normalizeJavaScript' },
+  typescript: { file: 'typescript/normalizer/normalize-typescript.mjs', name: 'normalizeTypescriptAst' },
+  python: { file: 'python/normalizer/normalize-python.mjs', name: 'normalizePython' },
+  fortran: {
+    extract: { file: 'fortran/extractors/fortran-extractor.mjs', name: 'extractFortran' },
+    file: 'fortran/normalizer/normalize-fortran.mjs',
+    name: 'normalizeFortran'
+  },
+  pascal: { extract: { file: 'pascal/extractors/pascal-extractor.mjs', name: 'extractPascal' } }
+};
+
+function git(args) {
+  return execFileSync('git', args, { cwd: ROOT, encoding: 'utf8', stdio: ['ignore', 'pipe', 'ignore'] });
+}
+
+// Parent of the commit that added syntax views, or HEAD while they are uncommitted
+function baselineRevision() {
+  const requested = flag('--before', null);
+  if (requested) return requested;
+  const added = git(['log', '--diff-filter=A', '--format=%H', '-1', '--', 'src/shared/syntax-view.mjs']).trim();
+  return added ? `${added}~1` : 'HEAD';
+}
+
+/**
+ * Import a module as it was at a revision. The snapshot is written to a temp
+ * dir with its relative imports pointed at the current tree.
+ */
+async function importAt(revision, file, scratch) {
+  const path = join(ROOT, LANGUAGE_DIR, file);
+  const source = git(['show', `${revision}:./${LANGUAGE_DIR}/${file}`]).replace(
+    /(\bfrom\s*|\bimport\s*\(\s*)(['"])(\.{1,2}\/[^'"]+)\2/g,
+    (match, keyword, quote, specifier) => `${keyword}${quote}${pathToFileURL(resolve(dirname(path), specifier)).href}${quote}`
+  );
+  const copy = join(scratch, `${file.replace(/[\\/]/g, '_')}`);
+  writeFileSync(copy, source);
+  return import(pathToFileURL(copy).href);
+}
+
+// Tree-sitter parse function for a language, or null without its grammar
+async function parserFor(language) {
+  try {
+    if (hasGrammar(language)) {
+      const grammar = await loadGrammar(language);
+      return (code) => withParser(language, grammar, (parser) => parser.parse(code));
+    }
+    return loadLocalGrammar(language) ? (code) => parseWithLocalGrammar(language, code) : null;
+  } catch {
+    return null;
+  }
+}
+
+function countNodes(tree) {
+  const cursor = tree.walk();
+  let count = 1;
+  for (;;) {
+    if (cursor.gotoFirstChild()) {
+      count++;
+      continue;
+    }
+    for (;;) {
+      if (cursor.gotoNextSibling()) {
+        count++;
+        break;
+      }
+      if (!cursor.gotoParent()) return count;
+    }
+  }
+}
+
+// IR as JSON; syntax nodes left in an IR compare by type and text
+function serialize(ir) {
+  return JSON.stringify(ir, (key, value) =>
+    value && typeof value === 'object' && typeof value.walk === 'function' ? { type: value.type, text: value.text } : value
+  );
+}
+
+function best(fn) {
+  const log = console.log;
+  console.log = () => {};
+  try {
+    let result = fn();
+    let time = Infinity;
+    for (let i = 0; i < RUNS; i++) {
+      const started = performance.now();
+      result = fn();
+      time = Math.min(time, performance.now() - started);
+    }
+    return { time, result };
+  } finally {
+    console.log = log;
+  }
+}
+
+const revision = baselineRevision();
+const scratch = mkdtempSync(join(tmpdir(), 'ast2m-bench-'));
+console.log(`baseline ${revision}`);
+console.log(
+  'language'.padEnd(11) + 'size'.padStart(6) + 'nodes'.padStart(9) + 'parse ms'.padStart(10) +
+  'before ms'.padStart(11) + 'after ms'.padStart(10) + 'speedup'.padStart(9)
+);
+
+try {
+  for (const language of LANGUAGES) {
+    const stage = STAGES[language];
+    const parse = stage && await parserFor(language);
+    if (!parse) {
+      console.log(`${language.padEnd(11)}skipped (no tree-sitter grammar)`);
+      continue;
+    }
+
+    // Normalize a parsed tree, or extract (and normalize) source text
+    const pipeline = async (load) => {
+      const normalizer = stage.name ? (await load(stage.file))[stage.name] : null;
+      if (!stage.extract) return (tree) => normalizer(tree.rootNode);
+      const extract = (await load(stage.extract.file))[stage.extract.name];
+      return normalizer ? (tree, code) => normalizer(extract(code), code) : (tree, code) => extract(code);
+    };
+    const before = await pipeline((file) => importAt(revision, file, scratch));
+    const after = await pipeline((file) => import(pathToFileURL(join(ROOT, LANGUAGE_DIR, file)).href));
+
+    for (const size of SIZES) {
+      const code = PROGRAMS[language](size);
+      const parsed = best(() => parse(code));
+      const tree = parsed.result;
+      const old = best(() => before(tree, code));
+      const now = best(() => after(tree, code));
+      console.log(
+        language.padEnd(11) +
+        String(size).padStart(6) +
+        String(countNodes(tree)).padStart(9) +
+        parsed.time.toFixed(2).padStart(10) +
+        old.time.toFixed(2).padStart(11) +
+        now.time.toFixed(2).padStart(10) +
+        `${(old.time / now.time).toFixed(2)}x`.padStart(9)
+      );
+      if (serialize(old.result) !== serialize(now.result)) {
+        console.error(`${language} ${size}: IR differs from the baseline`);
+        process.exitCode = 1;
+      }
+    }
+  }
+} finally {
+  rmSync(scratch, { recursive: true, force: true });
+}
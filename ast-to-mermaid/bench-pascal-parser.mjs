@@ -0,0 +1,178 @@
+/**
+ * Stress test for the fallback Pascal parser (tokenizer plus a descent parser
+ * that keeps nested statements on an explicit stack, used when
+ * tree-sitter-pascal is unavailable): long flat programs and programs nesting
+ * begin/if/while/for/repeat/case up to 10,000 levels deep. Every
+ * statement must come back in the AST, and time per statement should stay flat
+ * as programs grow or nest deeper. Each program is then converted through the
+ * whole Pascal pipeline (normalize, walk, emit), which must draw a node for
+ * every statement.
+ *
+ * Usage: node bench-pascal-parser.mjs [--flat 10000,40000,160000] [--depth 1000,5000,10000]
+ */
+
+import { parsePascalFallback, tokenizePascal } from './src/mappings/languages/pascal/extractors/pascal-fallback-parser.mjs';
+import { generateFlowchart } from './src/mappings/languages/pascal/pipeline/flow.mjs';
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const FLAT = flag('--flat', '10000,40000,160000').split(',').map(Number);
+const DEPTH = flag('--depth', '1000,5000,10000').split(',').map(Number);
+const RUNS = 3;
+
+const COUNTED = new Set(['assignment', 'exprCall', 'if', 'ifElse', 'ForStatement', 'WhileStatement', 'RepeatStatement', 'Case']);
+
+// A mix of assignments, calls, branches and loops; returns the source and its statement count
+function flatProgram(size) {
+  const lines = ['program Flat;', 'var', '  x, k: integer;', 'begin'];
+  let statements = 0;
+  for (let i = 0; i < size; i++) {
+    switch (i % 5) {
+      case 0:
+        lines.push(`  x := x + ${i};`);
+        statements += 1;
+        break;
+      case 1:
+        lines.push(`  writeln('step ', ${i}); { progress }`);
+        statements += 1;
+        break;
+      case 2:
+        lines.push(`  if x > ${i} then`, `    x := 0`, '  else', `    writeln(x);`);
+        statements += 3;
+        break;
+      case 3:
+        lines.push(`  while x < ${i} do`, '  begin', '    x := x + 1;', '    writeln(x)', '  end;');
+        statements += 3;
+        break;
+      default:
+        lines.push(`  case x mod 3 of`, `    0: x := ${i};`, '    1, 2: writeln(x)', '  end;');
+        statements += 3;
+    }
+  }
+  lines.push('end.');
+  return { source: lines.join('\n'), statements };
+}
+
+// Each level opens one construct holding an assignment and the next level
+function nestedProgram(depth) {
+  const opens = [];
+  const closes = [];
+  let statements = 1;
+  for (let i = 0; i < depth; i++) {
+    switch (i % 6) {
+      case 0:
+        opens.push(`begin x := ${i};`);
+        closes.push('end');
+        statements += 1;
+        break;
+      case 1:
+        opens.push(`if x > ${i} then begin x := ${i};`);
+        closes.push(`end else writeln(${i})`);
+        statements += 3;
+        break;
+      case 2:
+        opens.push(`while x < ${i} do begin x := ${i};`);
+        closes.push('end');
+        statements += 2;
+        break;
+      case 3:
+        opens.push(`for k := 1 to ${i} do begin x := ${i};`);
+        closes.push('end');
+        statements += 2;
+        break;
+      case 4:
+        opens.push(`repeat x := ${i};`);
+        closes.push(`; until x = ${i}`);
+        statements += 2;
+        break;
+      default:
+        opens.push(`case x of ${i}: begin x := ${i};`);
+        closes.push(`end; else writeln(${i}) end`);
+        statements += 3;
+    }
+  }
+  const source = ['program Nested;', 'begin', ...opens, `writeln('innermost')`, ...closes.reverse(), 'end.'].join('\n');
+  return { source, statements };
+}
+
+// Count statements without recursing, however deep the AST
+function countStatements(ast) {
+  let count = 0;
+  const stack = [ast];
+  while (stack.length) {
+    const value = stack.pop();
+    if (Array.isArray(value)) {
+      for (const item of value) stack.push(item);
+    } else if (value && typeof value === 'object') {
+      if (COUNTED.has(value.type)) count++;
+      for (const key in value) {
+        if (key !== 'sourceCode' && key !== 'cond' && key !== 'init' && key !== 'untilCondition') stack.push(value[key]);
+      }
+    }
+  }
+  return count;
+}
+
+// Node declarations in a diagram (lines that open a shape)
+function countNodes(mermaid) {
+  let count = 0;
+  for (const line of mermaid.split('\n')) {
+    if (/^\s*[A-Za-z_]\w*[[({>]/.test(line)) count++;
+  }
+  return count;
+}
+
+// Mapping modules log while they walk
+const log = console.log;
+console.log = () => {};
+
+function run(label, size, { source, statements }) {
+  parsePascalFallback(source);
+  let best = Infinity;
+  let ast;
+  for (let i = 0; i < RUNS; i++) {
+    const started = performance.now();
+    ast = parsePascalFallback(source);
+    best = Math.min(best, performance.now() - started);
+  }
+  const found = countStatements(ast);
+
+  let pipelineMs = NaN;
+  let nodes = 0;
+  try {
+    const started = performance.now();
+    const mermaid = generateFlowchart(source);
+    pipelineMs = performance.now() - started;
+    nodes = countNodes(mermaid);
+  } catch (error) {
+    console.error(`${label} ${size}: pipeline failed: ${error.message}`);
+    process.exitCode = 1;
+  }
+
+  log(
+    label.padEnd(8) +
+    String(size).padStart(8) +
+    String(tokenizePascal(source).count).padStart(10) +
+    String(found).padStart(12) +
+    best.toFixed(1).padStart(10) +
+    (best * 1000 / found).toFixed(2).padStart(10) +
+    String(nodes).padStart(10) +
+    pipelineMs.toFixed(1).padStart(13)
+  );
+  if (found !== statements) {
+    console.error(`${label} ${size}: expected ${statements} statements, parsed ${found}`);
+    process.exitCode = 1;
+  }
+  if (nodes && nodes < statements) {
+    console.error(`${label} ${size}: ${statements} statements, but the diagram has ${nodes} nodes`);
+    process.exitCode = 1;
+  }
+}
+
+log('shape'.padEnd(8) + 'size'.padStart(8) + 'tokens'.padStart(10) + 'statements'.padStart(12) + 'ms'.padStart(10) +
+  'us/stmt'.padStart(10) + 'nodes'.padStart(10) + 'pipeline ms'.padStart(13));
+for (const size of FLAT) run('flat', size, flatProgram(size));
+for (const depth of DEPTH) run('nested', depth, nestedProgram(depth));
@@ -0,0 +1,136 @@
+/**
+ * Synthetic programs shared by the benches: `size` functions of assignments,
+ * calls, branches, loops and switches, plus the main program.
+ */
+
+export const PROGRAMS = {
+  c: (size) => cLike(size, (k) => `printf("%d\\n", y + ${k});`, '#include <stdio.h>'),
+  cpp: (size) => cLike(size, (k) => `std::cout << y + ${k} << std::endl;`, '#include <iostream>'),
+  java: (size) => {
+    const lines = ['public class Main {'];
+    for (let k = 0; k < size; k++) {
+      lines.push(
+        `  static int f${k}(int x) {`,
+        `    int y = x + ${k};`,
+        `    if (y > ${k}) { System.out.println(y); } else { y = f${(k + 1) % size}(y - 1); }`,
+        `    for (int i = 0; i < ${k}; i++) { y = y * 2; }`,
+        `    while (y > 100) { y = y - ${k + 1}; }`,
+        `    switch (y) { case 1: y = 2; break; default: y = 0; }`,
+        '    return y;',
+        '  }'
+      );
+    }
+    lines.push('  public static void main(String[] args) {', '    int r = f0(1);', '    System.out.println(r);', '  }', '}');
+    return lines.join('\n');
+  },
+  javascript: (size) => jsLike(size, ''),
+  typescript: (size) => jsLike(size, ': number'),
+  python: (size) => {
+    const lines = [];
+    for (let k = 0; k < size; k++) {
+      lines.push(
+        `def f${k}(x):`,
+        `    y = x + ${k}`,
+        `    if y > ${k}:`,
+        '        print(y)',
+        '    else:',
+        `        y = f${(k + 1) % size}(y - 1)`,
+        `    for i in range(${k}):`,
+        '        y = y * 2',
+        '    while y > 100:',
+        `        y = y - ${k + 1}`,
+        '    return y',
+        ''
+      );
+    }
+    lines.push('def main():', '    print(f0(1))');
+    return lines.join('\n');
+  },
+  fortran: (size) => {
+    const lines = ['program bench', '  implicit none', '  integer :: x, y, i', '  x = 1'];
+    for (let k = 0; k < size; k++) {
+      lines.push(
+        `  y = x + ${k}`,
+        `  if (y > ${k}) then`,
+        '    print *, y',
+        '  else',
+        '    y = y - 1',
+        '  end if',
+        `  do i = 1, ${k + 1}`,
+        '    y = y * 2',
+        '  end do',
+        '  do while (y > 100)',
+        `    y = y - ${k + 1}`,
+        '  end do',
+        '  select case (y)',
+        '  case (1)',
+        '    y = 2',
+        '  case default',
+        '    y = 0',
+        '  end select'
+      );
+    }
+    lines.push('end program bench');
+    return lines.join('\n');
+  },
+  pascal: (size) => {
+    const lines = ['program Bench;', 'var', '  x, y, i: integer;'];
+    for (let k = 0; k < size; k++) {
+      lines.push(
+        `procedure P${k};`,
+        'begin',
+        `  y := x + ${k};`,
+        `  if y > ${k} then writeln(y) else y := y - 1;`,
+        `  for i := 1 to ${k + 1} do y := y * 2;`,
+        '  while y > 100 do',
+        '  begin',
+        `    y := y - ${k + 1};`,
+        '  end;',
+        '  case y of',
+        '    1: y := 2;',
+        '  else',
+        '    y := 0',
+        '  end;',
+        'end;'
+      );
+    }
+    lines.push('begin', '  x := 1;', '  P0;', 'end.');
+    return lines.join('\n');
+  }
+};
+
+function cLike(size, print, include) {
+  const lines = [include];
+  for (let k = 0; k < size; k++) {
+    lines.push(
+      `int f${k}(int x) {`,
+      `  int y = x + ${k};`,
+      `  if (y > ${k}) { ${print(k)} } else { y = f${(k + 1) % size}(y - 1); }`,
+      `  for (int i = 0; i < ${k}; i++) { y = y * 2; }`,
+      `  while (y > 100) { y = y - ${k + 1}; }`,
+      `  switch (y) { case 1: y = 2; break; default: y = 0; }`,
+      '  return y;',
+      '}'
+    );
+  }
+  lines.push('int main() {', '  int r = f0(1);', '  return r;', '}');
+  return lines.join('\n');
+}
+
+function jsLike(size, type) {
+  const lines = [];
+  for (let k = 0; k < size; k++) {
+    lines.push(
+      `function f${k}(x${type}) {`,
+      `  let y = x + ${k};`,
+      `  if (y > ${k}) { console.log(y); } else { y = f${(k + 1) % size}(y - 1); }`,
+      `  for (let i = 0; i < ${k}; i++) { y = y * 2; }`,
+      `  while (y > 100) { y = y - ${k + 1}; }`,
+      `  switch (y) { case 1: y = 2; break; default: y = 0; }`,
+      '  return y;',
+      '}'
+    );
+  }
+  lines.push('function main() {', '  const r = f0(1);', '  console.log(r);', '}');
+  return lines.join('\n');
+}
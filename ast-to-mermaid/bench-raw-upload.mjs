@@ -0,0 +1,80 @@
+/**
+ * Reading a large source upload: the JSON route (what express.json() does: collect
+ * the chunks, concatenate them, decode the body to a string, JSON.parse it into
+ * the code string) against the raw route (readRawSource() into one buffer sized
+ * from Content-Length, decoded once). Reports the best time to get the source
+ * string, with the upload already split into socket-sized chunks. The JSON route
+ * also holds the chunks, their concatenation and the decoded body at once, while
+ * the raw route holds one buffer.
+ *
+ * Usage: node bench-raw-upload.mjs [--sizes 1,8,32] (MiB)
+ */
+
+import { Readable } from 'stream';
+import { readRawSource, decodeSource } from './src/shared/raw-source.mjs';
+import { PROGRAMS } from './bench-programs.mjs';
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const SIZES = flag('--sizes', '1,8,32').split(',').map(Number);
+const RUNS = 5;
+const CHUNK = 64 * 1024;
+
+// A Java source of about `bytes` bytes, made of whole generated programs
+function sourceOf(bytes) {
+  const unit = PROGRAMS.java(200);
+  return unit.repeat(Math.max(1, Math.ceil(bytes / Buffer.byteLength(unit))));
+}
+
+function chunksOf(buffer) {
+  const chunks = [];
+  for (let start = 0; start < buffer.length; start += CHUNK) {
+    chunks.push(buffer.subarray(start, start + CHUNK));
+  }
+  return chunks;
+}
+
+async function viaJson(chunks) {
+  const parts = [];
+  for await (const chunk of Readable.from(chunks)) parts.push(chunk);
+  return JSON.parse(Buffer.concat(parts).toString('utf8')).code;
+}
+
+async function viaRaw(chunks, length) {
+  return decodeSource(await readRawSource(Readable.from(chunks), { length, limit: Infinity }));
+}
+
+async function best(read) {
+  let time = Infinity;
+  for (let i = 0; i < RUNS; i++) {
+    const started = performance.now();
+    const code = await read();
+    time = Math.min(time, performance.now() - started);
+    if (typeof code !== 'string') throw new Error('no source read');
+  }
+  return time;
+}
+
+console.log('size MiB'.padEnd(10) + 'json ms'.padStart(10) + 'raw ms'.padStart(10) + 'speedup'.padStart(9));
+
+for (const size of SIZES) {
+  const source = sourceOf(size * 1024 * 1024);
+  const json = chunksOf(Buffer.from(JSON.stringify({ code: source, language: 'java' })));
+  const raw = chunksOf(Buffer.from(source));
+  const length = raw.reduce((total, chunk) => total + chunk.length, 0);
+
+  if ((await viaJson(json)) !== (await viaRaw(raw, length))) {
+    console.error(`${size} MiB: the two routes read different sources`);
+    process.exitCode = 1;
+  }
+  const a = await best(() => viaJson(json));
+  const b = await best(() => viaRaw(raw, length));
+  console.log(
+    String(size).padEnd(10) +
+    a.toFixed(1).padStart(10) + b.toFixed(1).padStart(10) +
+    `${(a / b).toFixed(2)}x`.padStart(9)
+  );
+}
@@ -0,0 +1,72 @@
+/**
+ * Cold-start time and resident memory per language-pack configuration.
+ * Each configuration runs in a fresh Node process.
+ *
+ * Usage: node bench-startup.mjs [--runs N]
+ */
+
+import { execFileSync } from 'child_process';
+import { fileURLToPath } from 'url';
+import { dirname } from 'path';
+
+const __dirname = dirname(fileURLToPath(import.meta.url));
+const REGISTRY_URL = new URL('./src/shared/language-registry.mjs', import.meta.url).href;
+const INDEX_URL = new URL('./src/index.mjs', import.meta.url).href;
+
+const runsFlag = process.argv.indexOf('--runs');
+const RUNS = runsFlag !== -1 ? Number(process.argv[runsFlag + 1]) : 3;
+
+const LANGUAGES = ['c', 'cpp', 'java', 'javascript', 'typescript', 'python', 'pascal', 'fortran'];
+
+const CONFIGURATIONS = [
+  { name: 'registry only (nothing loaded)', languages: LANGUAGES.join(','), warm: false },
+  { name: 'all languages, warm-up', languages: LANGUAGES.join(','), warm: true },
+  ...LANGUAGES.map(language => ({ name: `${language} only, warm-up`, languages: language, warm: true }))
+];
+
+// Runs inside the child: boot, optionally warm, then print timings and memory
+const CHILD_SCRIPT = `
+const { warmUpLanguages, getLanguageRegistryStats } = await import(${JSON.stringify(REGISTRY_URL)});
+await import(${JSON.stringify(INDEX_URL)});
+const booted = performance.now();
+const report = process.env.BENCH_WARM === '1' ? await warmUpLanguages() : {};
+const ready = performance.now();
+const stats = getLanguageRegistryStats();
+console.log(JSON.stringify({ bootMs: booted, readyMs: ready, rssBytes: stats.rssBytes, heapUsedBytes: stats.heapUsedBytes, report }));
+`;
+
+function runOnce(config) {
+  const output = execFileSync(process.execPath, ['--input-type=module', '-e', CHILD_SCRIPT], {
+    cwd: __dirname,
+    env: { ...process.env, AST2M_LANGUAGES: config.languages, BENCH_WARM: config.warm ? '1' : '0' },
+    encoding: 'utf8'
+  });
+  return JSON.parse(output.trim().split('\n').pop());
+}
+
+const median = (values) => {
+  const sorted = [...values].sort((a, b) => a - b);
+  return sorted[Math.floor(sorted.length / 2)];
+};
+
+const mb = (bytes) => (bytes / (1024 * 1024)).toFixed(1);
+
+console.log(`Cold start per configuration (median of ${RUNS} runs)\n`);
+console.log('configuration'.padEnd(34) + 'boot ms'.padStart(10) + 'ready ms'.padStart(10) + 'rss MB'.padStart(10) + 'heap MB'.padStart(10));
+
+for (const config of CONFIGURATIONS) {
+  try {
+    const samples = Array.from({ length: RUNS }, () => runOnce(config));
+    const failed = Object.entries(samples[0].report).filter(([, r]) => r.error).map(([l]) => l);
+    console.log(
+      config.name.padEnd(34) +
+      median(samples.map(s => s.bootMs)).toFixed(1).padStart(10) +
+      median(samples.map(s => s.readyMs)).toFixed(1).padStart(10) +
+      mb(median(samples.map(s => s.rssBytes))).padStart(10) +
+      mb(median(samples.map(s => s.heapUsedBytes))).padStart(10) +
+      (failed.length ? `  (warm-up failed: ${failed.join(', ')})` : '')
+    );
+  } catch (error) {
+    console.log(config.name.padEnd(34) + `  error: ${error.message.split('\n')[0]}`);
+  }
+}
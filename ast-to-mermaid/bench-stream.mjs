@@ -0,0 +1,85 @@
+/**
+ * Output memory for large flowcharts: emit() + writeFileSync versus the lazy
+ * emitLines() + writeMermaid() path used by the CLI and /convert?stream=1.
+ * Reports peak live heap (after a GC) above the built graph while the diagram is
+ * written; the streamed column should stay flat as the chart grows.
+ *
+ * Usage: node --expose-gc bench-stream.mjs [--sizes 20000,40000,80000]
+ */
+
+import fs from 'fs';
+import { once } from 'events';
+import { tmpdir } from 'os';
+import { join } from 'path';
+import { ctx } from './src/mappings/languages/java/mermaid/context.mjs';
+import { finalizeFlowContext } from './src/mappings/languages/java/mermaid/finalize-context.mjs';
+import { writeMermaid } from './src/shared/mermaid-stream.mjs';
+
+const sizesFlag = process.argv.indexOf('--sizes');
+const SIZES = sizesFlag !== -1
+  ? process.argv[sizesFlag + 1].split(',').map(Number)
+  : [20000, 40000, 80000];
+const target = join(tmpdir(), `ast2m-bench-stream-${process.pid}.mmd`);
+
+// A chain of statements with a decision every third node
+function build(nodeCount) {
+  const context = ctx();
+  let previous = context.next();
+  context.add(previous, '(["start"])');
+  for (let i = 1; i < nodeCount; i++) {
+    const id = context.next();
+    context.add(id, i % 3 === 0 ? `{"x${i} > 0"}` : `["x${i} = ${i};"]`);
+    context.addEdge(previous, id, i % 3 === 0 ? 'No' : null);
+    previous = id;
+  }
+  context.last = previous;
+  finalizeFlowContext(context, true);
+  return context;
+}
+
+function baseline() {
+  global.gc?.();
+  return process.memoryUsage().heapUsed;
+}
+
+function whole(context) {
+  const before = baseline();
+  const output = context.emit();
+  global.gc?.();
+  const peak = process.memoryUsage().heapUsed;
+  fs.writeFileSync(target, output);
+  return { peak: peak - before, bytes: fs.statSync(target).size };
+}
+
+async function streamed(context) {
+  const before = baseline();
+  let peak = 0;
+  const out = fs.createWriteStream(target);
+  await once(out, 'open');
+  const write = out.write.bind(out);
+  // Sample the live heap on every chunk handed to the stream
+  out.write = (chunk) => {
+    global.gc?.();
+    peak = Math.max(peak, process.memoryUsage().heapUsed - before);
+    return write(chunk);
+  };
+  await writeMermaid(out, context.emitLines());
+  out.end();
+  await once(out, 'finish');
+  return { peak, bytes: fs.statSync(target).size };
+}
+
+if (!global.gc) console.log('(run with --expose-gc for stable numbers)');
+console.log('nodes'.padStart(8) + 'bytes'.padStart(12) + 'whole MB'.padStart(11) + 'streamed MB'.padStart(13));
+for (const size of SIZES) {
+  const a = whole(build(size));
+  const b = await streamed(build(size));
+  if (a.bytes !== b.bytes) throw new Error(`output differs: ${a.bytes} vs ${b.bytes} bytes`);
+  console.log(
+    String(size).padStart(8) +
+    String(a.bytes).padStart(12) +
+    (a.peak / (1024 * 1024)).toFixed(1).padStart(11) +
+    (b.peak / (1024 * 1024)).toFixed(1).padStart(13)
+  );
+}
+fs.rmSync(target, { force: true });
@@ -0,0 +1,286 @@
+/**
+ * Named-child accessors of syntax views (src/shared/syntax-view.mjs), before and
+ * after they were collected once per node. Before, every namedChildren,
+ * namedChildCount and namedChild(i) filtered the children again.
+ *
+ * The tree-sitter grammars are not needed: each language's bench program is
+ * read into a tree double (indented lines nest, brackets group, identifiers,
+ * numbers and strings are named, keywords and punctuation are not). The view of
+ * that tree is walked with the accessors that language's normalizer calls: the
+ * Pascal extractor reads namedChildren, namedChildCount and namedChild(0) at
+ * every statement. Java reads firstNamedChild and lastNamedChild, which never
+ * built a list. The other languages walk children only. Both walks must visit
+ * the same nodes.
+ *
+ * The baseline module is read with `git show` from the parent of the commit that
+ * added the per-node list, or from --before REV. Each module is timed on its own
+ * worker thread.
+ *
+ * Usage: node --expose-gc bench-syntax-view.mjs [--languages c,cpp,java,javascript,typescript,python,fortran,pascal]
+ *                                   [--sizes 50,200,800] [--before REV]
+ */
+
+import { execFileSync } from 'child_process';
+import { mkdtempSync, writeFileSync, rmSync } from 'fs';
+import { tmpdir } from 'os';
+import { dirname, join } from 'path';
+import { fileURLToPath, pathToFileURL } from 'url';
+import { Worker, isMainThread, parentPort, workerData } from 'worker_threads';
+import { PROGRAMS } from './bench-programs.mjs';
+
+const ROOT = dirname(fileURLToPath(import.meta.url));
+const MODULE = 'src/shared/syntax-view.mjs';
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const LANGUAGES = flag('--languages', 'c,cpp,java,javascript,typescript,python,fortran,pascal').split(',');
+const SIZES = flag('--sizes', '50,200,800').split(',').map(Number);
+const RUNS = 9;
+
+function git(args) {
+  return execFileSync('git', args, { cwd: ROOT, encoding: 'utf8', stdio: ['ignore', 'pipe', 'ignore'] });
+}
+
+// Parent of the commit that added the per-node list, or HEAD while it is uncommitted
+function baselineRevision() {
+  const requested = flag('--before', null);
+  if (requested) return requested;
+  const added = git(['log', '-S', 'namedList', '--format=%H', '-1', '--', MODULE]).trim();
+  return added ? `${added}~1` : 'HEAD';
+}
+
+const KEYWORDS = new Set([
+  'if', 'else', 'for', 'while', 'do', 'switch', 'case', 'default', 'break', 'return', 'def', 'in',
+  'begin', 'end', 'then', 'of', 'to', 'var', 'program', 'function', 'procedure', 'const', 'let',
+  'int', 'static', 'public', 'class', 'void', 'elif', 'select', 'program', 'subroutine', 'integer'
+]);
+const TOKEN = /[A-Za-z_]\w*|\d+|"(?:\\.|[^"\\])*"|'(?:\\.|[^'\\])*'|\S/g;
+const OPEN = { '(': ')', '[': ']', '{': '}' };
+
+/**
+ * Tree node with the part of the tree-sitter node API syntaxView() reads when a
+ * tree has no grammar (type names, isNamed, ranges, walk)
+ */
+class DoubleNode {
+  constructor(type, isNamed, startIndex, endIndex, source) {
+    this.type = type;
+    this.isNamed = isNamed;
+    this.startIndex = startIndex;
+    this.endIndex = endIndex;
+    this.source = source;
+    this.children = [];
+  }
+
+  get text() {
+    return this.source.slice(this.startIndex, this.endIndex);
+  }
+
+  walk() {
+    return new DoubleCursor(this);
+  }
+}
+
+class DoubleCursor {
+  constructor(node) {
+    this.path = [node];
+    this.indexes = [];
+  }
+
+  get currentNode() {
+    return this.path[this.path.length - 1];
+  }
+
+  get nodeType() {
+    return this.currentNode.type;
+  }
+
+  get nodeIsNamed() {
+    return this.currentNode.isNamed;
+  }
+
+  get currentFieldName() {
+    return undefined;
+  }
+
+  get startIndex() {
+    return this.currentNode.startIndex;
+  }
+
+  get endIndex() {
+    return this.currentNode.endIndex;
+  }
+
+  gotoFirstChild() {
+    const { children } = this.currentNode;
+    if (!children.length) return false;
+    this.path.push(children[0]);
+    this.indexes.push(0);
+    return true;
+  }
+
+  gotoNextSibling() {
+    const depth = this.indexes.length;
+    if (!depth) return false;
+    const siblings = this.path[depth - 1].children;
+    const index = this.indexes[depth - 1] + 1;
+    if (index >= siblings.length) return false;
+    this.indexes[depth - 1] = index;
+    this.path[depth] = siblings[index];
+    return true;
+  }
+
+  gotoParent() {
+    if (!this.indexes.length) return false;
+    this.path.pop();
+    this.indexes.pop();
+    return true;
+  }
+}
+
+// Tree double of a program: each line is a statement, more deeply indented lines
+// form a block under the line before them, and brackets group their tokens
+function treeOf(source) {
+  const root = new DoubleNode('program', true, 0, source.length, source);
+  const blocks = [{ indent: -1, node: root }];
+  let lineStart = 0;
+  for (const line of source.split('\n')) {
+    const start = lineStart;
+    lineStart += line.length + 1;
+    if (!line.trim()) continue;
+    const indent = line.length - line.trimStart().length;
+    while (indent <= blocks[blocks.length - 1].indent) blocks.pop();
+    const parent = blocks[blocks.length - 1].node;
+    const statement = new DoubleNode('statement', true, start + indent, start + line.length, source);
+    const groups = [statement];
+    const closers = [];
+    for (const match of line.matchAll(TOKEN)) {
+      const token = match[0];
+      const from = start + match.index;
+      const to = from + token.length;
+      const top = groups[groups.length - 1];
+      if (OPEN[token]) {
+        const group = new DoubleNode('group', true, from, to, source);
+        group.children.push(new DoubleNode(token, false, from, to, source));
+        top.children.push(group);
+        groups.push(group);
+        closers.push(OPEN[token]);
+      } else if (groups.length > 1 && token === closers[closers.length - 1]) {
+        top.children.push(new DoubleNode(token, false, from, to, source));
+        top.endIndex = to;
+        groups.pop();
+        closers.pop();
+      } else {
+        const named = /^[\w"']/.test(token) && !KEYWORDS.has(token.toLowerCase());
+        top.children.push(new DoubleNode(named ? 'identifier' : token, named, from, to, source));
+      }
+    }
+    const block = new DoubleNode('block', true, statement.startIndex, statement.endIndex, source);
+    statement.children.push(block);
+    parent.children.push(statement);
+    blocks.push({ indent, node: block });
+  }
+  return root;
+}
+
+// Walks that read a view the way each language's normalizer does; each returns the nodes visited
+const WALKS = {
+  pascal: function visit(node) {
+    let visited = 1;
+    if (node.namedChildCount > 0) node.namedChild(0);
+    node.namedChildren.some(child => child.kind === 0);
+    for (const child of node.namedChildren) visited += visit(child);
+    return visited;
+  },
+  java: function visit(node) {
+    let visited = 1;
+    node.firstNamedChild;
+    node.lastNamedChild;
+    for (const child of node.children) visited += visit(child);
+    return visited;
+  }
+};
+const walkChildren = function visit(node) {
+  let visited = 1;
+  for (const child of node.children) visited += visit(child);
+  return visited;
+};
+
+function best(fn) {
+  let result = fn();
+  let time = Infinity;
+  for (let i = 0; i < RUNS; i++) {
+    global.gc?.();
+    const started = performance.now();
+    result = fn();
+    time = Math.min(time, performance.now() - started);
+  }
+  return { time, result };
+}
+
+// Time one module on one language and size; runs in its own worker thread, so
+// the JIT has not seen the other module's view class
+async function measure({ url, language, size }) {
+  const { syntaxKinds, syntaxView } = await import(url);
+  const kinds = syntaxKinds(['statement', 'block', 'group', 'identifier']);
+  const options = language === 'fortran' ? { named: true } : {};
+  const walk = WALKS[language] || walkChildren;
+  const tree = treeOf(PROGRAMS[language](size));
+  const build = best(() => syntaxView(tree, kinds, options));
+  // A fresh view per run, so the walk pays for the lists it reads
+  const views = Array.from({ length: RUNS + 1 }, () => syntaxView(tree, kinds, options));
+  const walked = best(() => walk(views.pop()));
+  return { nodes: walkChildren(tree), build: build.time, walk: walked.time, visited: walked.result };
+}
+
+function inWorker(task) {
+  return new Promise((resolve, reject) => {
+    const worker = new Worker(new URL(import.meta.url), { workerData: task });
+    worker.once('message', resolve);
+    worker.once('error', reject);
+  });
+}
+
+if (!isMainThread) {
+  parentPort.postMessage(await measure(workerData));
+} else {
+  if (!global.gc) console.log('(run with --expose-gc for stable numbers)');
+  const revision = baselineRevision();
+  const scratch = mkdtempSync(join(tmpdir(), 'ast2m-bench-'));
+  console.log(`baseline ${revision}`);
+  console.log(
+    'language'.padEnd(11) + 'size'.padStart(6) + 'nodes'.padStart(9) +
+    'build before'.padStart(14) + 'build after'.padStart(13) +
+    'walk before'.padStart(13) + 'walk after'.padStart(12) + 'speedup'.padStart(9)
+  );
+
+  try {
+    const copy = join(scratch, 'syntax-view.mjs');
+    writeFileSync(copy, git(['show', `${revision}:./${MODULE}`]));
+    const urls = [pathToFileURL(copy).href, pathToFileURL(join(ROOT, MODULE)).href];
+
+    for (const language of LANGUAGES) {
+      for (const size of SIZES) {
+        const [old, now] = [await inWorker({ url: urls[0], language, size }), await inWorker({ url: urls[1], language, size })];
+        console.log(
+          language.padEnd(11) +
+          String(size).padStart(6) +
+          String(now.nodes).padStart(9) +
+          old.build.toFixed(2).padStart(14) +
+          now.build.toFixed(2).padStart(13) +
+          old.walk.toFixed(2).padStart(13) +
+          now.walk.toFixed(2).padStart(12) +
+          `${(old.walk / now.walk).toFixed(2)}x`.padStart(9)
+        );
+        if (old.visited !== now.visited) {
+          console.error(`${language} ${size}: walks visited ${old.visited} and ${now.visited} nodes`);
+          process.exitCode = 1;
+        }
+      }
+    }
+  } finally {
+    rmSync(scratch, { recursive: true, force: true });
+  }
+}
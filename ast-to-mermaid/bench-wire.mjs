@@ -0,0 +1,107 @@
+/**
+ * Response size on the wire for large diagrams: verbose Mermaid against the
+ * compact format (short IDs, grouped edges), each sent as is, gzip'd and
+ * brotli'd the way the server compresses /convert responses. The latency table
+ * adds the time to produce and compress each body to the time to send it over
+ * a link of the given speed.
+ *
+ * Usage: node bench-wire.mjs [--functions 25,100,400] [--size 40] [--mbps 20]
+ */
+
+import { generateFlowchart } from './src/mappings/languages/java/pipeline/flow.mjs';
+import { compressBody } from './src/shared/compression.mjs';
+
+function flag(name, fallback) {
+  const index = process.argv.indexOf(name);
+  return index !== -1 ? process.argv[index + 1] : fallback;
+}
+
+const FUNCTIONS = flag('--functions', '25,100,400').split(',').map(Number);
+const SIZE = Number(flag('--size', 40));
+const MBPS = Number(flag('--mbps', 20));
+const RUNS = 5;
+
+const statement = (text) => ({ type: 'ExpressionStatement', expression: { type: 'Literal', value: text, raw: text }, text });
+const block = (body) => ({ type: 'BlockStatement', body });
+
+// Deterministic mix of statements, branches and loops, `size` statements per function
+function statements(seed, size, depth = 0) {
+  const out = [];
+  for (let i = 0; i < size; i++) {
+    const k = (seed * 31 + i * 17) % 7;
+    if (depth < 2 && k === 0) {
+      out.push({ type: 'IfStatement', test: statement(`( x > ${i} )`), consequent: block(statements(seed + i, 3, depth + 1)), alternate: block(statements(seed + 2 * i, 2, depth + 1)) });
+    } else if (depth < 2 && k === 1) {
+      out.push({ type: 'WhileStatement', test: statement(`( y < ${i} )`), body: block(statements(seed + 3 * i, 3, depth + 1)) });
+    } else {
+      out.push(statement(`${['x', 'y', 'z'][k % 3]} = ${seed + i} ;`));
+    }
+  }
+  return out;
+}
+
+function program(functionCount) {
+  const body = [];
+  for (let f = 0; f < functionCount; f++) {
+    body.push({ type: 'Function', name: `f${f}`, params: [], body: statements(f, SIZE), text: `function f${f}` });
+  }
+  body.push({ type: 'Function', name: 'main', params: [], body: statements(functionCount, SIZE), text: 'function main' });
+  return { type: 'Program', body };
+}
+
+// Fastest of RUNS calls, with the last result
+async function best(fn) {
+  let ms = Infinity;
+  let result;
+  for (let run = 0; run < RUNS; run++) {
+    const start = performance.now();
+    result = await fn();
+    ms = Math.min(ms, performance.now() - start);
+  }
+  return { ms, result };
+}
+
+const kb = (bytes) => (bytes / 1024).toFixed(1);
+const sendMs = (bytes) => (bytes * 8) / (MBPS * 1000);
+const row = (cells, widths) => cells.map((cell, i) => String(cell).padStart(widths[i])).join('');
+
+// Mapping modules log while they walk
+const log = console.log;
+console.log = () => {};
+
+const results = [];
+for (const count of FUNCTIONS) {
+  const verbose = await best(() => generateFlowchart('', { normalized: program(count), functionCache: false }));
+  const compact = await best(() => generateFlowchart('', { normalized: program(count), functionCache: false, format: 'compact' }));
+  const bodies = { mermaid: Buffer.from(verbose.result), compact: Buffer.from(compact.result) };
+  const entry = { count, lines: verbose.result.split('\n').length, emitMs: { mermaid: verbose.ms, compact: compact.ms }, bytes: {}, encodeMs: {} };
+  for (const [format, body] of Object.entries(bodies)) {
+    entry.bytes[format] = { identity: body.length };
+    entry.encodeMs[format] = { identity: 0 };
+    for (const encoding of ['gzip', 'br']) {
+      const encoded = await best(() => compressBody(body, encoding));
+      entry.bytes[format][encoding] = encoded.result.length;
+      entry.encodeMs[format][encoding] = encoded.ms;
+    }
+  }
+  results.push(entry);
+}
+
+log(`Payload size (KB), ${SIZE} statements per function`);
+const sizeWidths = [10, 9, 10, 10, 9, 9, 10, 9];
+log(row(['functions', 'lines', 'mermaid', 'compact', 'm+gzip', 'm+br', 'c+gzip', 'c+br'], sizeWidths));
+for (const { count, lines, bytes } of results) {
+  log(row([count, lines, kb(bytes.mermaid.identity), kb(bytes.compact.identity), kb(bytes.mermaid.gzip),
+    kb(bytes.mermaid.br), kb(bytes.compact.gzip), kb(bytes.compact.br)], sizeWidths));
+}
+
+log(`\nLatency (ms): emit + compress + send at ${MBPS} Mbit/s`);
+const latencyWidths = [10, 20, 10, 9, 9];
+log(row(['functions', 'format/encoding', 'produce', 'send', 'total'], latencyWidths));
+for (const { count, emitMs, bytes, encodeMs } of results) {
+  for (const [format, encoding] of [['mermaid', 'identity'], ['mermaid', 'br'], ['compact', 'identity'], ['compact', 'br']]) {
+    const produce = emitMs[format] + encodeMs[format][encoding];
+    const send = sendMs(bytes[format][encoding]);
+    log(row([count, `${format}/${encoding}`, produce.toFixed(1), send.toFixed(1), (produce + send).toFixed(1)], latencyWidths));
+  }
+}
@@ -5,25 +5,45 @@
  */
 
 import { convertAST } from '../src/index.mjs';
-import { generateFlowchart as generateCFlowchart } from '../src/mappings/languages/c/pipeline/flow.mjs';
-import { generateFlowchart as generateCppFlowchart } from '../src/mappings/languages/cpp/pipeline/flow.mjs';
-import { generateFlowchart as generatePythonFlowchart } from '../src/mappings/languages/python/pipeline/flow.mjs';
-import { generateFlowchart as generateFortranFlowchart } from '../src/mappings/languages/fortran/pipeline/flow.mjs';
-import { generateFlowchart as generatePascalFlowchart } from '../src/mappings/languages/pascal/pipeline/flow.mjs';
+import { hasLanguagePack, loadLanguagePack, languageForPath } from '../src/shared/language-registry.mjs';
+import { writeMermaid } from '../src/shared/mermaid-stream.mjs';
+import { parseDetail } from '../src/shared/detail.mjs';
+import { parseOutputFormat, OUTPUT_FORMATS } from '../src/shared/graph-json.mjs';
+import { parseIdMode, ID_MODES } from '../src/shared/stable-ids.mjs';
+import { readRawSource, decodeSource } from '../src/shared/raw-source.mjs';
+import { openProject, buildProject, watchProject } from '../src/project/run-project.mjs';
+import { stopConversionPool } from '../src/workers/conversion-pool.mjs';
 import fs from 'fs';
+import { once } from 'events';
 
 function showHelp() {
   console.log(`
 Usage: ast2mermaid [options] <file>
+       ast2mermaid [options] -          (read the source from stdin)
+       ast2mermaid [options] <dir>      (project mode: convert every source file under dir)
 
 Options:
   -h, --help     Show help
-  -o, --output   Output file (default: stdout)
-  -l, --language Language of the input file (c, cpp, python, fortran, pascal)
+  -o, --output   Output file (default: stdout); in project mode the output directory (default: <dir>/.ast2m)
+  -l, --language Language of the input file (c, cpp, java, javascript, typescript, python, fortran, pascal);
+                 taken from the file extension when omitted; in project mode, converts only that language
+  --aggregate-calls  Link each function subgraph from its first call only, labelled with the call count
+  --detail N     Collapse loops, switches and conditionals nested N deep into summary nodes
+  --expand ID    Render only the region with this ID (from a summary node label)
+  --format F     Output format: mermaid (default), compact (Mermaid with short IDs and grouped edges)
+                 or graph (compact graph JSON)
+  --ids MODE     Node IDs: sequential (default) or stable (from each node's content and place, so
+                 they survive edits elsewhere in the file; Mermaid output only)
+  --budget MS    Stop after MS milliseconds and output the diagram drawn so far, marked as truncated
+  --jobs N       Project mode: convert on N worker threads (default: one per core but one)
+  --watch        Project mode: keep running and convert files again as they change
 
 Examples:
   ast2mermaid -l javascript example.js
   ast2mermaid -l python -o diagram.mmd example.py
+  ast2mermaid -l java --format graph -o graph.json Example.java
+  cat Example.java | ast2mermaid -l java
+  ast2mermaid --watch -o diagrams src/
   `);
 }
 
@@ -42,11 +62,51 @@ function parseArgs() {
       options.output = args[++i];
     } else if (arg === '-l' || arg === '--language') {
       options.language = args[++i];
+    } else if (arg === '--aggregate-calls') {
+      options.aggregateCalls = true;
+    } else if (arg === '--detail') {
+      options.detail = parseDetail(args[++i]);
+      if (options.detail === null) {
+        console.error('Error: --detail must be a non-negative integer');
+        process.exit(1);
+      }
+    } else if (arg === '--expand') {
+      options.expand = args[++i];
+    } else if (arg === '--format') {
+      options.format = parseOutputFormat(args[++i]);
+      if (!options.format) {
+        console.error(`Error: --format must be one of ${OUTPUT_FORMATS.join(', ')}`);
+        process.exit(1);
+      }
+    } else if (arg === '--ids') {
+      options.ids = parseIdMode(args[++i]);
+      if (options.ids === null) {
+        console.error(`Error: --ids must be one of ${ID_MODES.join(', ')}`);
+        process.exit(1);
+      }
+    } else if (arg === '--budget') {
+      options.budget = Number(args[++i]);
+      if (!(options.budget > 0)) {
+        console.error('Error: --budget must be a positive number of milliseconds');
+        process.exit(1);
+      }
+    } else if (arg === '--jobs') {
+      options.jobs = parseInt(args[++i], 10);
+      if (!(options.jobs > 0)) {
+        console.error('Error: --jobs must be a positive integer');
+        process.exit(1);
+      }
+    } else if (arg === '--watch') {
+      options.watch = true;
     } else {
       positional.push(arg);
     }
   }
   
+  if (options.ids && (options.format === 'graph' || options.format === 'compact')) {
+    console.error('Error: --ids stable is only available for Mermaid output');
+    process.exit(1);
+  }
   options.input = positional[0];
   return options;
 }
@@ -55,49 +115,71 @@ async function main() {
   try {
     const options = parseArgs();
     
+    // Piped input without a file name reads stdin, as `-` does
+    if (!options.input && !process.stdin.isTTY) {
+      options.input = '-';
+    }
+    
     if (!options.input) {
       console.error('Error: No input file specified');
       showHelp();
       process.exit(1);
     }
     
+    if (options.input !== '-' && fs.statSync(options.input, { throwIfNoEntry: false })?.isDirectory()) {
+      await runProject(options);
+      return;
+    }
+    
+    if (!options.language && options.input !== '-') {
+      options.language = languageForPath(options.input);
+    }
+    
     if (!options.language) {
       console.error('Error: Language must be specified');
       showHelp();
       process.exit(1);
     }
     
-    // Read the input file
-    const sourceCode = fs.readFileSync(options.input, 'utf8');
+    // Read the input file, or stdin into one buffer decoded once (no size limit here)
+    const sourceCode = options.input === '-'
+      ? decodeSource(await readRawSource(process.stdin, { limit: Infinity }))
+      : fs.readFileSync(options.input, 'utf8');
     
-    // Convert AST to Mermaid
+    // Convert AST to Mermaid, loading only the requested language pack. Pipelines that
+    // support it return their lines lazily, so the diagram is never built as one string
+    const graph = options.format === 'graph';
     let mermaidDiagram;
-    if (options.language === 'c') {
-      // Use our new VTU-style flowchart generator for C
-      mermaidDiagram = generateCFlowchart(sourceCode);
-    } else if (options.language === 'cpp') {
-      // Use our new VTU-style flowchart generator for C++
-      mermaidDiagram = generateCppFlowchart(sourceCode);
-    } else if (options.language === 'python') {
-      // Use our new VTU-style flowchart generator for Python
-      mermaidDiagram = generatePythonFlowchart(sourceCode);
-    } else if (options.language === 'fortran') {
-      // Use our new VTU-style flowchart generator for Fortran
-      mermaidDiagram = generateFortranFlowchart(sourceCode);
-    } else if (options.language === 'pascal') {
-      // Use our new VTU-style flowchart generator for Pascal
-      mermaidDiagram = generatePascalFlowchart(sourceCode);
+    if (hasLanguagePack(options.language)) {
+      const { generateFlowchart } = await loadLanguagePack(options.language);
+      mermaidDiagram = await generateFlowchart(sourceCode, {
+        aggregateCalls: options.aggregateCalls,
+        detail: options.detail,
+        expand: options.expand,
+        format: options.format,
+        ids: options.ids,
+        lines: !graph,
+        deadline: options.budget ? Date.now() + options.budget : undefined,
+        onTruncated: (stage) => console.error(`Warning: the time budget ran out while ${stage}; the diagram is truncated`)
+      });
     } else {
       // Use the existing converter for other languages
-      mermaidDiagram = await convertAST(sourceCode, options.language);
+      mermaidDiagram = await convertAST(sourceCode, options.language, { format: options.format, ids: options.ids });
     }
+    if (graph) mermaidDiagram = JSON.stringify(mermaidDiagram);
     
     // Output result
+    // Output result in bounded chunks, waiting for the stream to drain
     if (options.output) {
-      fs.writeFileSync(options.output, mermaidDiagram);
-      console.log(`Mermaid diagram written to ${options.output}`);
+      const out = fs.createWriteStream(options.output);
+      await once(out, 'open');
+      await writeMermaid(out, mermaidDiagram);
+      out.end();
+      await once(out, 'finish');
+      console.log(`${graph ? 'Graph' : 'Mermaid diagram'} written to ${options.output}`);
     } else {
-      console.log(mermaidDiagram);
+      await writeMermaid(process.stdout, mermaidDiagram);
+      process.stdout.write('\n');
     }
   } catch (error) {
     console.error('Error:', error.message);
@@ -105,5 +187,54 @@ async function main() {
   }
 }
 
+function summaryLine({ converted, unchanged, truncated, removed, failed }, ms) {
+  return `${converted} converted, ${unchanged} unchanged, ${truncated} truncated, ` +
+    `${removed} removed, ${failed} failed (${ms} ms)`;
+}
+
+/**
+ * Project mode: convert a directory into a mirrored tree of diagrams, converting
+ * only what changed since the last run, then optionally keep watching it
+ */
+async function runProject(options) {
+  const project = await openProject(options.input, {
+    out: options.output,
+    language: options.language,
+    format: options.format,
+    detail: options.detail,
+    ids: options.ids,
+    budget: options.budget,
+    jobs: options.jobs
+  });
+  const onFile = ({ file, status, error }) => {
+    if (status === 'failed') {
+      console.error(`Error: ${file}: ${error.message}`);
+    } else if (status === 'truncated') {
+      console.error(`Warning: ${file}: the time budget ran out; the diagram is truncated`);
+    } else if (options.watch && status !== 'unchanged') {
+      console.log(`${status} ${file}`);
+    }
+  };
+
+  const started = Date.now();
+  const summary = await buildProject(project, { onFile });
+  console.log(`${summary.files} source files in ${project.root}: ${summaryLine(summary, Date.now() - started)}`);
+  console.log(`Diagrams written to ${project.out}`);
+
+  if (!options.watch) {
+    await stopConversionPool();
+    if (summary.failed > 0) process.exitCode = 1;
+    return;
+  }
+
+  console.log('Watching for changes (Ctrl+C to stop)');
+  const watcher = watchProject(project, { onFile });
+  process.once('SIGINT', async () => {
+    await watcher.close();
+    await stopConversionPool();
+    process.exit(0);
+  });
+}
+
 // Run the CLI
 main();
\ No newline at end of file
@@ -1,14 +1,45 @@
 import express from 'express';
 import cors from 'cors';
-import { convertAST } from './src/index.mjs';
+import { getParserPoolStats } from './src/shared/parser-pool.mjs';
+import { detectLanguage, rankLanguagesWithFallback } from './src/shared/detect-language.mjs';
+import { createSession, updateSession, closeSession, getSessionStats } from './src/session/session-store.mjs';
+import { startConversionPool, runConversion, streamConversion, getConversionPoolStats } from './src/workers/conversion-pool.mjs';
+import { conversionETag, conversionKey, getConversionCacheStats, mermaidRecordKind } from './src/cache/conversion-cache.mjs';
+import { getSubgraphCacheStats } from './src/cache/subgraph-cache.mjs';
+import { runBatch } from './src/batch/run-batch.mjs';
+import { writeChunks } from './src/shared/mermaid-stream.mjs';
+import { readRawSource, decodeSource, RAW_SOURCE_LIMIT } from './src/shared/raw-source.mjs';
+import { parseDetail } from './src/shared/detail.mjs';
+import { parseOutputFormat, OUTPUT_FORMATS } from './src/shared/graph-json.mjs';
+import { parseIdMode, ID_MODES } from './src/shared/stable-ids.mjs';
+import { diffDiagrams } from './src/shared/diagram-diff.mjs';
+import { ERROR_DIAGRAM, ERROR_GRAPH } from './src/index.mjs';
+import { compressStream, encodedETag, negotiateEncoding, sendCompressed } from './src/shared/compression.mjs';
+import { isLanguageEnabled, warmUpLanguages, getLanguageRegistryStats } from './src/shared/language-registry.mjs';
+import { once } from 'events';
+import { finished, pipeline as pipeStreams } from 'stream';
+import { availableParallelism, cpus } from 'os';
 
 console.log('[ast2m] booting service...');
 
 const PORT = Number(process.env.AST2M_PORT || process.env.PORT || 3400);
+const BATCH_BODY_LIMIT = process.env.AST2M_BATCH_LIMIT || '50mb';
+const BATCH_MAX_ITEMS = Number(process.env.AST2M_BATCH_MAX_ITEMS || 5000);
+const BATCH_CONCURRENCY = Number(process.env.AST2M_BATCH_CONCURRENCY ||
+  (typeof availableParallelism === 'function' ? availableParallelism() : cpus().length) * 2);
+
+// Time budget of each conversion in milliseconds (0 turns it off); when it runs
+// out the diagram drawn so far is returned with `truncated: true`
+const BUDGET_MS = Number(process.env.AST2M_BUDGET_MS ?? 10000);
+const conversionDeadline = () => (BUDGET_MS > 0 ? Date.now() + BUDGET_MS : null);
 
 const app = express();
 app.use(cors());
-app.use(express.json({ limit: '1mb' }));
+
+// Batches get their own, larger body limit; raw uploads are read by their route
+const OWN_BODY_PATHS = new Set(['/convert/batch', '/convert/raw']);
+const jsonBody = express.json({ limit: '1mb' });
+app.use((req, res, next) => (OWN_BODY_PATHS.has(req.path) ? next() : jsonBody(req, res, next)));
 
 const LANGUAGE_ALIASES = {
   javascript: 'javascript',
@@ -26,99 +57,136 @@ const LANGUAGE_ALIASES = {
   auto: 'auto'
 };
 
-const detectLanguage = (code = '') => {
-  const src = String(code || '');
-  const trimmed = src.trim();
-
-  if (!trimmed) return null;
-
-  if (/\bpublic\s+class\s+\w+|System\.out\.print|public\s+static\s+void\s+main\s*\(String\[\]|Scanner\s+\w+|\.nextInt\(|\.next\(/.test(trimmed)) {
-    return 'java';
-  }
-
-  if (/\bdef\s+\w+\(|:\s*\n\s+/.test(trimmed) && !/public\s+class\s+\w+/.test(trimmed)) {
-    if (/^#!.*python/.test(trimmed) || /\bprint\s*\(/.test(trimmed)) {
-      return 'python';
-    }
-  }
+const normalizeLanguage = (language) => {
+  if (!language) return null;
+  const normalized = LANGUAGE_ALIASES[String(language).toLowerCase()];
+  // Languages left out of AST2M_LANGUAGES are treated as unknown
+  if (!normalized || (normalized !== 'auto' && !isLanguageEnabled(normalized))) return null;
+  return normalized;
+};
 
-  if (/^#include\s+</m.test(trimmed)) {
-    if (/\bstd::|cout\s*<<|cin\s*>>|\bclass\s+\w+/.test(trimmed)) {
-      return 'cpp';
-    }
-    return 'c';
-  }
+// Graph output comes from the cache as JSON text and is spliced into the response without a re-parse
+const graphBody = (fields, graph) => `${JSON.stringify(fields).slice(0, -1)},"graph":${graph}}`;
 
-  if (/\bprintf\s*\(|\bscanf\s*\(|\bmalloc\s*\(|\bfree\s*\(|\bstrcpy\s*\(/.test(trimmed)) {
-    return 'c';
-  }
+const JSON_TYPE = 'application/json; charset=utf-8';
+const ERROR_GRAPH_TEXT = JSON.stringify(ERROR_GRAPH);
 
-  if (/\bstd::|cout\s*<<|cin\s*>>|\bclass\s+\w+|namespace\b/.test(trimmed)) {
-    return 'cpp';
-  }
+// Tag of `etags` an If-None-Match header names (weak comparison, as the header
+// calls for), or null
+const matchingETag = (header, etags) => {
+  if (!header) return null;
+  if (header.trim() === '*') return etags[0];
+  const named = new Set(header.split(',').map(tag => tag.trim().replace(/^W\//, '')));
+  return etags.find(etag => named.has(etag)) ?? null;
+};
 
-  if (/\binterface\s+\w+|\benum\s+\w+|:\s*\w+(<.*>)?\s*(=|;|,|\))/.test(trimmed)) {
-    return 'typescript';
-  }
+// ETag of a conversion response, answering 304 when the client already has it.
+// Whether the body gets compressed depends on its size, which is only known after
+// converting, so a client may hold the identity body or the one in the encoding
+// its request accepts; either is still current.
+// /convert and /expand only read, so a matching POST is answered as a GET would be.
+// Returns the identity tag, or null once the response is sent.
+const checkETag = (req, res, code, language, pipeline, form) => {
+  const etag = conversionETag(conversionKey(language, code), mermaidRecordKind(pipeline), form);
+  const encoding = negotiateEncoding(req.headers['accept-encoding']);
+  const held = matchingETag(req.headers['if-none-match'], [encodedETag(etag, encoding), etag]);
+  if (!held) return etag;
+  res.vary('Accept-Encoding');
+  res.setHeader('ETag', held);
+  res.status(304).end();
+  return null;
+};
 
-  if (/console\.log\(|\bexport\b|\bimport\b|=>/.test(trimmed)) {
-    return 'javascript';
-  }
+// Send a finished diagram response; only complete diagrams carry their ETag, so a
+// truncated or failed one is never revalidated in place of the real diagram
+const sendDiagram = (req, res, body, { etag, complete }) =>
+  sendCompressed(req, res, body, JSON_TYPE, complete ? etag : undefined);
 
-  if (/program\s+\w+|implicit\s+none|write\s*\(|print\s*\(|do\s+\w*=/.test(trimmed)) {
-    return 'fortran';
-  }
+// Whether a converted diagram is the full result for its input
+const isComplete = (mermaid, truncated) => !truncated && mermaid !== ERROR_DIAGRAM && mermaid !== ERROR_GRAPH_TEXT;
 
-  if (/program\s+\w+|begin|end\.|writeln\s*\(|readln\s*\(/i.test(trimmed)) {
-    return 'pascal';
-  }
+const FORMAT_MESSAGE = `format must be one of ${OUTPUT_FORMATS.join(', ')}`;
+const IDS_MESSAGE = `ids must be one of ${ID_MODES.join(', ')}`;
 
+// Apply ids=stable to a pipeline; returns an error message for the client, or null
+const applyIdMode = (pipeline, value, format) => {
+  const ids = parseIdMode(value);
+  if (ids === null) return IDS_MESSAGE;
+  if (ids === undefined) return null;
+  if (format === 'graph' || format === 'compact') return 'ids=stable is only available for Mermaid output';
+  pipeline.ids = ids;
   return null;
 };
 
-const normalizeLanguage = (language) => {
-  if (!language) return null;
-  const normalized = LANGUAGE_ALIASES[String(language).toLowerCase()];
-  return normalized || null;
-};
-
 app.get('/health', (_, res) => {
   res.json({ status: 'ok', service: 'ast-to-mermaid', port: PORT });
 });
 
-app.post('/detect', (req, res) => {
+app.get('/stats', (_, res) => {
+  res.json({
+    parserPool: getParserPoolStats(),
+    sessions: getSessionStats(),
+    languages: getLanguageRegistryStats(),
+    conversionPool: getConversionPoolStats(),
+    conversionCache: getConversionCacheStats(),
+    subgraphCache: getSubgraphCacheStats()
+  });
+});
+
+app.post('/detect', async (req, res) => {
   try {
     const { code } = req.body || {};
     if (typeof code !== 'string' || !code.trim()) {
       return res.status(400).json({ message: 'Code is required for detection' });
     }
 
-    const detected = detectLanguage(code);
-    if (!detected) {
-      return res.json({ language: 'no language detected' });
+    const { language, candidates, method } = await rankLanguagesWithFallback(code);
+    if (!language) {
+      return res.json({ language: 'no language detected', candidates });
     }
-    res.json({ language: detected });
+    res.json({ language, candidates, method });
   } catch (error) {
     console.error('[ast2m] detect error:', error);
     res.status(500).json({ message: 'Failed to detect language' });
   }
 });
 
-app.post('/convert', async (req, res) => {
+// Convert source and answer in the form the request asked for; `query` holds
+// detail, format, ids and stream (from the JSON body or the query string). Responses
+// are compressed as the request's Accept-Encoding allows, and non-streamed ones
+// carry a strong ETag per encoding: a request whose If-None-Match names it gets a 304.
+async function sendConversion(req, res, code, language, query) {
+  const deadline = conversionDeadline();
   try {
-    const { code, language = 'auto' } = req.body || {};
-    console.log('[ast2m] Received convert request:', { code, language });
-    
-    if (typeof code !== 'string' || !code.trim()) {
-      console.log('[ast2m] Invalid code provided');
-      return res.status(400).json({ message: 'Code is required for conversion' });
+    // detail=N collapses loops, switches and conditionals nested N deep into summary nodes
+    const detail = parseDetail(query.detail);
+    if (detail === null) {
+      return res.status(400).json({ message: 'detail must be a non-negative integer' });
+    }
+    const pipeline = detail === undefined ? {} : { detail };
+
+    // format=graph returns the flowchart as graph JSON instead of Mermaid text,
+    // format=compact as Mermaid with short IDs and grouped edges
+    const format = parseOutputFormat(query.format);
+    if (format === null) {
+      return res.status(400).json({ message: FORMAT_MESSAGE });
+    }
+    const streamed = query.stream === '1' || query.stream === 'true';
+    if (format === 'graph' && streamed) {
+      return res.status(400).json({ message: 'stream is only available for Mermaid output' });
+    }
+    if (format !== 'mermaid') pipeline.format = format;
+    // ids=stable names nodes by their place in the program, so an edit keeps the IDs of the nodes outside it
+    const idsError = applyIdMode(pipeline, query.ids, format);
+    if (idsError) {
+      return res.status(400).json({ message: idsError });
     }
     
     let normalized = normalizeLanguage(language);
     console.log('[ast2m] Normalized language:', normalized);
     
     if (!normalized || normalized === 'auto') {
-      const detected = detectLanguage(code);
+      const detected = await detectLanguage(code);
       console.log('[ast2m] Detected language:', detected);
       normalized = normalizeLanguage(detected);
     }
@@ -128,17 +196,307 @@ app.post('/convert', async (req, res) => {
       return res.status(400).json({ message: 'Unable to determine language for conversion' });
     }
     
-    // Call convertAST with await since it returns a Promise
-    console.log('[ast2m] Calling convertAST');
-    const mermaid = await convertAST(code, normalized);
-    console.log('[ast2m] convertAST result:', mermaid);
-    res.json({ language: normalized, mermaid });
+    // ?stream=1 sends the bare diagram as a chunked text/plain body, written as it is
+    // rendered. It has no ETag: the budget may cut it short after the headers are out.
+    if (streamed) {
+      const encoding = negotiateEncoding(req.headers['accept-encoding']);
+      res.status(200);
+      res.setHeader('Content-Type', 'text/plain; charset=utf-8');
+      res.setHeader('X-Language', normalized);
+      res.vary('Accept-Encoding');
+      const chunks = streamConversion(code, normalized, pipeline, { deadline });
+      if (!encoding) {
+        await writeChunks(res, chunks);
+        return res.end();
+      }
+      res.setHeader('Content-Encoding', encoding);
+      const compressed = compressStream(encoding);
+      pipeStreams(compressed, res, () => {});
+      await writeChunks(compressed, chunks);
+      compressed.end();
+      return await new Promise(resolve => finished(res, resolve));
+    }
+
+    const etag = checkETag(req, res, code, normalized, pipeline, 'convert');
+    if (etag === null) return;
+
+    // Served from the conversion cache when possible; misses on large inputs run on the worker pool
+    console.log('[ast2m] Calling runConversion');
+    let truncated = false;
+    const mermaid = await runConversion(code, normalized, { pipeline, deadline, onTruncated: () => { truncated = true; } });
+    console.log(`[ast2m] runConversion result: ${mermaid.length} characters`);
+    if (truncated) console.log(`[ast2m] Conversion cut short by the ${BUDGET_MS} ms time budget`);
+    const marker = truncated ? { truncated } : {};
+    const body = format === 'graph'
+      ? graphBody({ language: normalized, ...pipeline, ...marker }, mermaid)
+      : JSON.stringify({ language: normalized, mermaid, ...pipeline, ...marker });
+    await sendDiagram(req, res, body, { etag, complete: isComplete(mermaid, truncated) });
   } catch (error) {
     console.error('[ast2m] convert error:', error);
-    res.status(500).json({ message: error?.message || 'Failed to convert code to Mermaid' });
+    // A streamed body that already started can only be cut off
+    if (res.headersSent) return res.destroy(error);
+    res.removeHeader('Content-Type');
+    res.removeHeader('ETag');
+    res.status(error?.status || 500).json({ message: error?.message || 'Failed to convert code to Mermaid' });
+  }
+}
+
+app.post('/convert', async (req, res) => {
+  const { code, language = 'auto' } = req.body || {};
+  console.log(`[ast2m] Received convert request: ${typeof code === 'string' ? code.length : 0} characters, language ${language}`);
+  
+  if (typeof code !== 'string' || !code.trim()) {
+    console.log('[ast2m] Invalid code provided');
+    return res.status(400).json({ message: 'Code is required for conversion' });
+  }
+
+  await sendConversion(req, res, code, language, {
+    detail: req.body?.detail ?? req.query.detail,
+    format: req.body?.format ?? req.query.format,
+    ids: req.body?.ids ?? req.query.ids,
+    stream: req.query.stream
+  });
+});
+
+// The source as the raw request body (text/plain or application/octet-stream, UTF-8),
+// with language, detail, format, ids and stream in the query string. The body is read
+// into one buffer and decoded once, and is not held to the JSON body limit.
+app.post('/convert/raw', async (req, res) => {
+  const encoding = req.headers['content-encoding'];
+  if ((req.headers['content-type'] && !req.is(['text/*', 'application/octet-stream'])) ||
+      (encoding && encoding !== 'identity')) {
+    req.resume();
+    return res.status(415).json({ message: 'Send the source uncompressed, as text/plain or application/octet-stream' });
+  }
+
+  let code;
+  try {
+    const length = req.headers['content-length'] === undefined ? NaN : Number(req.headers['content-length']);
+    code = decodeSource(await readRawSource(req, { limit: RAW_SOURCE_LIMIT, length }));
+  } catch (error) {
+    if (!error?.status) console.error('[ast2m] raw upload error:', error);
+    return res.status(error?.status || 500).json({ message: error?.message || 'Failed to read the source' });
   }
+  console.log(`[ast2m] Received raw convert request: ${code.length} characters`);
+
+  // Test for content without trimming a copy of a large source
+  if (!/\S/.test(code)) {
+    return res.status(400).json({ message: 'Code is required for conversion' });
+  }
+  await sendConversion(req, res, code, req.query.language || 'auto', req.query);
 });
 
+// Sub-diagram of one region from a level-of-detail diagram (its ID is in the summary node label)
+app.post('/expand', async (req, res) => {
+  const deadline = conversionDeadline();
+  try {
+    const { code, language = 'auto', region } = req.body || {};
+    if (typeof code !== 'string' || !code.trim()) {
+      return res.status(400).json({ message: 'Code is required for expansion' });
+    }
+    if (typeof region !== 'string' || !/^R[0-9a-f]{8}$/.test(region)) {
+      return res.status(400).json({ message: 'A region ID is required for expansion' });
+    }
+    // Nested regions collapse again `detail` levels below the expanded one
+    const detail = parseDetail(req.body.detail ?? req.query.detail);
+    if (detail === null) {
+      return res.status(400).json({ message: 'detail must be a non-negative integer' });
+    }
+    const format = parseOutputFormat(req.body.format ?? req.query.format);
+    if (format === null) {
+      return res.status(400).json({ message: FORMAT_MESSAGE });
+    }
+
+    let normalized = normalizeLanguage(language);
+    if (!normalized || normalized === 'auto') {
+      normalized = normalizeLanguage(await detectLanguage(code));
+    }
+    if (!normalized) {
+      return res.status(400).json({ message: 'Unable to determine language for expansion' });
+    }
+
+    const pipeline = detail === undefined ? { expand: region } : { expand: region, detail };
+    if (format !== 'mermaid') pipeline.format = format;
+    const idsError = applyIdMode(pipeline, req.body.ids ?? req.query.ids, format);
+    if (idsError) {
+      return res.status(400).json({ message: idsError });
+    }
+    const etag = checkETag(req, res, code, normalized, pipeline, 'expand');
+    if (etag === null) return;
+
+    let truncated = false;
+    const mermaid = await runConversion(code, normalized, { pipeline, deadline, onTruncated: () => { truncated = true; } });
+    const marker = truncated ? { truncated } : {};
+    const fields = { language: normalized, region, ...(detail === undefined ? {} : { detail }), ...marker };
+    const body = format === 'graph'
+      ? graphBody({ ...fields, format }, mermaid)
+      : JSON.stringify({ language: normalized, region, mermaid, ...(detail === undefined ? {} : { detail }),
+        ...(format === 'compact' ? { format } : {}), ...(pipeline.ids ? { ids: pipeline.ids } : {}), ...marker });
+    await sendDiagram(req, res, body, { etag, complete: isComplete(mermaid, truncated) });
+  } catch (error) {
+    if (!error?.status) console.error('[ast2m] expand error:', error);
+    res.removeHeader('ETag');
+    res.status(error?.status || 500).json({ message: error?.message || 'Failed to expand region' });
+  }
+});
+
+// Edit script from the diagram a client shows to the diagram of its new source, so
+// it can patch the rendered diagram instead of drawing it again. The previous
+// version is the stable-ID diagram it holds (`previous`), or the source it was
+// drawn from (`previousCode`, converted through the cache with the same options).
+app.post('/diff', async (req, res) => {
+  const deadline = conversionDeadline();
+  try {
+    const { code, language = 'auto', previous, previousCode } = req.body || {};
+    if (typeof code !== 'string' || !code.trim()) {
+      return res.status(400).json({ message: 'Code is required for a diff' });
+    }
+    if ((typeof previous !== 'string' || !previous.trim()) && typeof previousCode !== 'string') {
+      return res.status(400).json({ message: 'The previous diagram (previous) or source (previousCode) is required' });
+    }
+    const detail = parseDetail(req.body.detail ?? req.query.detail);
+    if (detail === null) {
+      return res.status(400).json({ message: 'detail must be a non-negative integer' });
+    }
+
+    let normalized = normalizeLanguage(language);
+    if (!normalized || normalized === 'auto') {
+      normalized = normalizeLanguage(await detectLanguage(code));
+    }
+    if (!normalized) {
+      return res.status(400).json({ message: 'Unable to determine language for the diff' });
+    }
+
+    const pipeline = detail === undefined ? { ids: 'stable' } : { ids: 'stable', detail };
+    let truncated = false;
+    const onTruncated = () => { truncated = true; };
+    const before = typeof previous === 'string' && previous.trim()
+      ? previous
+      : await runConversion(previousCode, normalized, { pipeline, deadline, onTruncated });
+    const mermaid = await runConversion(code, normalized, { pipeline, deadline, onTruncated });
+    if (truncated) console.log(`[ast2m] Diff input cut short by the ${BUDGET_MS} ms time budget`);
+
+    const diff = diffDiagrams(before, mermaid);
+    const marker = truncated ? { truncated } : {};
+    await sendCompressed(req, res, JSON.stringify({ language: normalized, diff, ...(detail === undefined ? {} : { detail }), ...marker }), JSON_TYPE);
+  } catch (error) {
+    if (!error?.status) console.error('[ast2m] diff error:', error);
+    res.status(error?.status || 500).json({ message: error?.message || 'Failed to diff diagrams' });
+  }
+});
+
+app.post('/convert/batch', express.json({ limit: BATCH_BODY_LIMIT }), async (req, res) => {
+  const items = Array.isArray(req.body) ? req.body : req.body?.items;
+  if (!Array.isArray(items) || items.length === 0) {
+    return res.status(400).json({ message: 'An array of { id, code, language } items is required' });
+  }
+  if (items.length > BATCH_MAX_ITEMS) {
+    return res.status(413).json({ message: `A batch may contain at most ${BATCH_MAX_ITEMS} items` });
+  }
+
+  const requested = Number(req.query.concurrency);
+  const concurrency = requested > 0 ? Math.min(requested, BATCH_CONCURRENCY) : BATCH_CONCURRENCY;
+  console.log(`[ast2m] Received batch of ${items.length} items (concurrency ${concurrency})`);
+
+  res.status(200);
+  res.setHeader('Content-Type', 'application/x-ndjson; charset=utf-8');
+  res.setHeader('Cache-Control', 'no-cache');
+  res.flushHeaders();
+
+  let closed = false;
+  res.on('close', () => { closed = true; });
+
+  const handle = async (item) => {
+    // Each item has its own budget, counted from when it starts
+    const deadline = conversionDeadline();
+    const { code, language = 'auto' } = item || {};
+    if (typeof code !== 'string' || !code.trim()) {
+      throw Object.assign(new Error('Code is required for conversion'), { status: 400 });
+    }
+
+    let normalized = normalizeLanguage(language);
+    if (!normalized || normalized === 'auto') {
+      normalized = normalizeLanguage(await detectLanguage(code));
+    }
+    if (!normalized) {
+      throw Object.assign(new Error('Unable to determine language for conversion'), { status: 400 });
+    }
+
+    // Many items are in flight, so even small ones go to the workers
+    let truncated = false;
+    const mermaid = await runConversion(code, normalized, { allowInline: false, deadline, onTruncated: () => { truncated = true; } });
+    if (mermaid === ERROR_DIAGRAM) {
+      throw Object.assign(new Error(`Failed to convert ${normalized} source`), { status: 422 });
+    }
+    return truncated ? { language: normalized, mermaid, truncated } : { language: normalized, mermaid };
+  };
+
+  // One NDJSON line per item, written as soon as the item finishes
+  const emit = async ({ index, result, error }) => {
+    if (closed) return;
+    const id = items[index]?.id ?? index;
+    const line = error
+      ? { id, ok: false, status: error.status || 500, message: error.message || 'Failed to convert code to Mermaid' }
+      : { id, ok: true, ...result };
+    if (!res.write(`${JSON.stringify(line)}\n`)) {
+      await Promise.race([once(res, 'drain'), once(res, 'close')]);
+    }
+  };
+
+  try {
+    const { completed, failed } = await runBatch(items, { concurrency, handle, emit, isCancelled: () => closed });
+    console.log(`[ast2m] Batch finished: ${completed} converted, ${failed} failed`);
+  } catch (error) {
+    console.error('[ast2m] batch error:', error);
+  }
+  res.end();
+});
+
+app.post('/session', async (req, res) => {
+  try {
+    const { code, language = 'auto' } = req.body || {};
+    if (typeof code !== 'string') {
+      return res.status(400).json({ message: 'Code is required to open a session' });
+    }
+
+    let normalized = normalizeLanguage(language);
+    if (!normalized || normalized === 'auto') {
+      normalized = normalizeLanguage(await detectLanguage(code));
+    }
+    if (!normalized) {
+      return res.status(400).json({ message: 'Unable to determine language for session' });
+    }
+
+    res.status(201).json(await createSession(code, normalized));
+  } catch (error) {
+    console.error('[ast2m] session create error:', error);
+    res.status(error?.status || 500).json({ message: error?.message || 'Failed to open session' });
+  }
+});
+
+app.post('/session/:id/edits', async (req, res) => {
+  try {
+    const { edits, changedFunctions } = req.body || {};
+    res.json(await updateSession(req.params.id, edits, { changedFunctions: changedFunctions === true }));
+  } catch (error) {
+    if (!error?.status) console.error('[ast2m] session update error:', error);
+    res.status(error?.status || 500).json({ message: error?.message || 'Failed to update session' });
+  }
+});
+
+app.delete('/session/:id', (req, res) => {
+  res.status(closeSession(req.params.id) ? 204 : 404).end();
+});
+
+// Spawn workers at boot so their pipelines are warm before the first request
+startConversionPool();
+
+// Inline conversions run on this thread, so optionally warm its packs too
+const WARM_UP = String(process.env.AST2M_WARM_UP || '').toLowerCase();
+if (WARM_UP === '1' || WARM_UP === 'true' || WARM_UP === 'yes') {
+  warmUpLanguages().then((report) => console.log('[ast2m] warm-up:', report));
+}
+
 app.listen(PORT, () => {
   console.log(`[ast2m] server listening on http://localhost:${PORT}`);
 });
@@ -0,0 +1,42 @@
+/**
+ * Bounded-concurrency fan-out for batch conversions
+ */
+
+/**
+ * Run a handler over every item with at most `concurrency` in flight, emitting
+ * each result as soon as it is ready (completion order, not input order). A
+ * failing item is reported through `emit` as `{ index, error }` and does not
+ * stop the batch.
+ * @param {Array} items - Batch items
+ * @param {Object} options
+ * @param {number} options.concurrency - Maximum items in flight
+ * @param {Function} options.handle - (item, index) => Promise<*> result for one item
+ * @param {Function} options.emit - ({ index, result } | { index, error }) => void|Promise,
+ *   awaited before the slot takes the next item, so a slow consumer applies backpressure
+ * @param {Function} [options.isCancelled] - Returns true to stop taking new items
+ * @returns {Promise<{ completed: number, failed: number }>}
+ */
+export async function runBatch(items, { concurrency, handle, emit, isCancelled = () => false }) {
+  let next = 0;
+  let completed = 0;
+  let failed = 0;
+
+  const slot = async () => {
+    while (next < items.length && !isCancelled()) {
+      const index = next++;
+      let outcome;
+      try {
+        outcome = { index, result: await handle(items[index], index) };
+        completed++;
+      } catch (error) {
+        outcome = { index, error };
+        failed++;
+      }
+      await emit(outcome);
+    }
+  };
+
+  const slots = Math.max(1, Math.min(concurrency, items.length));
+  await Promise.all(Array.from({ length: slots }, slot));
+  return { completed, failed };
+}
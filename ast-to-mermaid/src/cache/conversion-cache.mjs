@@ -0,0 +1,262 @@
+/**
+ * Two-tier content-addressed conversion cache: a byte-bounded in-memory LRU in
+ * front of an on-disk store that survives restarts. Entries are keyed by a hash
+ * of (engine version, language, source) and each output kind is stored as its
+ * own record, so the normalized IR can serve several output formats.
+ */
+
+import { createHash, randomUUID } from 'crypto';
+import { createRequire } from 'module';
+import { tmpdir } from 'os';
+import { join } from 'path';
+import { mkdir, readFile, rename, writeFile } from 'fs/promises';
+import { convertAST, ERROR_DIAGRAM, ERROR_GRAPH } from '../index.mjs';
+import { detailVariant } from '../shared/detail.mjs';
+
+const require = createRequire(import.meta.url);
+
+// Bump when the IR shape or emitted output changes without a package version bump
+const CACHE_SCHEMA = 4;
+
+export const ENGINE_VERSION = `${require('../../package.json').version}+${CACHE_SCHEMA}`;
+
+const MEMORY_MAX_BYTES = Number(process.env.AST2M_CACHE_MAX_BYTES || 64 * 1024 * 1024);
+const CACHE_DIR_SETTING = process.env.AST2M_CACHE_DIR ?? join(tmpdir(), 'ast2m-cache');
+// An empty value or 'off' keeps the cache in memory only
+const CACHE_DIR = CACHE_DIR_SETTING === '' || CACHE_DIR_SETTING === 'off' ? null : CACHE_DIR_SETTING;
+
+// `${key}.${kind}` -> string, in least- to most-recently used order
+const memory = new Map();
+let memoryBytes = 0;
+
+const stats = {
+  memory: { hits: 0, misses: 0, evictions: 0 },
+  disk: { hits: 0, misses: 0, writes: 0, errors: 0 }
+};
+
+/**
+ * Content address of a conversion input
+ * @param {string} language - Normalized language key
+ * @param {string} source - Source code
+ * @returns {string} - Hex SHA-256 digest
+ */
+export function conversionKey(language, source) {
+  return createHash('sha256')
+    .update(ENGINE_VERSION).update('\0')
+    .update(language).update('\0')
+    .update(source)
+    .digest('hex');
+}
+
+/**
+ * Strong entity tag of a conversion response. A diagram is a function of its
+ * conversion key and record kind, so the tag is known before converting and a
+ * client that already holds the diagram can be answered without running it.
+ * This is the tag of the identity body; compressed bodies are tagged with
+ * encodedETag() from src/shared/compression.mjs.
+ * @param {string} key - Conversion key from conversionKey()
+ * @param {string} kind - Record kind from mermaidRecordKind()
+ * @param {string} form - Response the diagram is sent in ('convert', 'expand', ...)
+ * @returns {string} - Quoted ETag value
+ */
+export function conversionETag(key, kind, form) {
+  const digest = createHash('sha256')
+    .update(key).update('\0')
+    .update(kind).update('\0')
+    .update(form)
+    .digest('base64url');
+  return `"${digest.slice(0, 32)}"`;
+}
+
+function recordPath(key, kind) {
+  return join(CACHE_DIR, key.slice(0, 2), `${key}.${kind}`);
+}
+
+function remember(id, value) {
+  const previous = memory.get(id);
+  if (previous !== undefined) {
+    memory.delete(id);
+    memoryBytes -= previous.length * 2;
+  }
+
+  const bytes = value.length * 2;
+  if (bytes > MEMORY_MAX_BYTES) return;
+
+  memory.set(id, value);
+  memoryBytes += bytes;
+
+  // Map iteration order is insertion order, so the first entry is the least recently used
+  for (const [oldest, oldValue] of memory) {
+    if (memoryBytes <= MEMORY_MAX_BYTES) break;
+    memory.delete(oldest);
+    memoryBytes -= oldValue.length * 2;
+    stats.memory.evictions++;
+  }
+}
+
+async function writeRecord(key, kind, value) {
+  const target = recordPath(key, kind);
+  // Unique per write: worker threads of one process share its pid and clock
+  const temp = `${target}.${randomUUID()}.tmp`;
+  try {
+    await mkdir(join(CACHE_DIR, key.slice(0, 2)), { recursive: true });
+    // Write then rename so readers never see a partial record
+    await writeFile(temp, value, 'utf8');
+    await rename(temp, target);
+    stats.disk.writes++;
+  } catch (error) {
+    stats.disk.errors++;
+    console.error('[ast2m] cache write failed:', error.message);
+  }
+}
+
+/**
+ * Look up a cached record, promoting disk hits into memory
+ * @param {string} key - Conversion key from conversionKey()
+ * @param {string} kind - Record kind ('ir', 'mermaid', ...)
+ * @returns {Promise<string|null>}
+ */
+export async function getCachedRecord(key, kind) {
+  const id = `${key}.${kind}`;
+  const value = memory.get(id);
+  if (value !== undefined) {
+    // Re-insert to mark as most recently used
+    memory.delete(id);
+    memory.set(id, value);
+    stats.memory.hits++;
+    return value;
+  }
+  stats.memory.misses++;
+
+  if (!CACHE_DIR) return null;
+  try {
+    const stored = await readFile(recordPath(key, kind), 'utf8');
+    stats.disk.hits++;
+    remember(id, stored);
+    return stored;
+  } catch (error) {
+    if (error.code === 'ENOENT') {
+      stats.disk.misses++;
+    } else {
+      stats.disk.errors++;
+      console.error('[ast2m] cache read failed:', error.message);
+    }
+    return null;
+  }
+}
+
+/**
+ * Store a record in memory and, in the background, on disk
+ * @param {string} key - Conversion key from conversionKey()
+ * @param {string} kind - Record kind ('ir', 'mermaid', ...)
+ * @param {string} value - Serialized record
+ * @returns {Promise<void>} - Settles once the disk write finishes
+ */
+export function setCachedRecord(key, kind, value) {
+  remember(`${key}.${kind}`, value);
+  return CACHE_DIR ? writeRecord(key, kind, value) : Promise.resolve();
+}
+
+/**
+ * Record kind of the diagram for a set of pipeline options. Graph-JSON, compact and
+ * stable-ID output and level-of-detail variants get their own records; the IR
+ * record is shared by all of them.
+ * @param {Object} [pipelineOptions] - { detail, expand, format, ids }
+ * @returns {string}
+ */
+export function mermaidRecordKind(pipelineOptions = {}) {
+  const base = pipelineOptions.format === 'graph' || pipelineOptions.format === 'compact'
+    ? pipelineOptions.format
+    : pipelineOptions.ids === 'stable' ? 'mermaid-stable' : 'mermaid';
+  const variant = detailVariant(pipelineOptions);
+  return variant ? `${base}.${variant}` : base;
+}
+
+/**
+ * Run convertAST, reusing a serialized IR when given and capturing it otherwise
+ * @param {string} code - Source code
+ * @param {string} language - Normalized language key
+ * @param {string|null} [ir] - Serialized normalized IR from the cache
+ * @param {Object} [pipelineOptions] - Extra options for the language pipeline (e.g. { lines: true },
+ *   or { deadline } for a time budget)
+ * @returns {Promise<{ mermaid: string|Iterable<string>, ir: string|null, ok: boolean, truncated: boolean }>} -
+ *   With { format: 'graph' }, `mermaid` is the graph as JSON text; a diagram the time budget cut
+ *   short is `truncated` and not `ok`
+ */
+export async function convertWithIR(code, language, ir = null, pipelineOptions = {}) {
+  let captured = null;
+  let truncated = false;
+  const onTruncated = () => { truncated = true; };
+  const options = ir
+    ? { ...pipelineOptions, onTruncated, normalized: JSON.parse(ir) }
+    : {
+        ...pipelineOptions,
+        onTruncated,
+        onNormalized: (normalized) => {
+          // Serialize before the walk, which may annotate nodes
+          try {
+            captured = normalized ? JSON.stringify(normalized) : null;
+          } catch (error) {
+            captured = null;
+          }
+        }
+      };
+
+  const output = await convertAST(code, language, options);
+  if (pipelineOptions.format === 'graph') {
+    return { mermaid: JSON.stringify(output), ir: captured, ok: !truncated && output !== ERROR_GRAPH, truncated };
+  }
+  return { mermaid: output, ir: captured, ok: !truncated && output !== ERROR_DIAGRAM, truncated };
+}
+
+/**
+ * Convert through the cache. On a Mermaid miss a cached IR still skips parsing
+ * and normalization; failed conversions are never stored, and neither are
+ * diagrams a time budget cut short (their IR is, when the parse finished).
+ * @param {string} code - Source code
+ * @param {string} language - Normalized language key
+ * @param {Function} [convert] - (code, language, ir, pipelineOptions) => Promise<{ mermaid, ir, ok, truncated }>
+ * @param {Object} [pipelineOptions] - Output options that change the diagram ({ detail, expand, format })
+ * @param {Object} [hooks]
+ * @param {Function} [hooks.onTruncated] - Called when the diagram returned was cut short
+ * @returns {Promise<string>} - Mermaid flowchart (graph JSON text with { format: 'graph' })
+ */
+export async function cachedConversion(code, language, convert = convertWithIR, pipelineOptions = {}, { onTruncated = null } = {}) {
+  const key = conversionKey(language, code);
+  const kind = mermaidRecordKind(pipelineOptions);
+
+  const cached = await getCachedRecord(key, kind);
+  if (cached !== null) return cached;
+
+  const ir = await getCachedRecord(key, 'ir');
+  const result = await convert(code, language, ir, pipelineOptions);
+  if (result.ok || result.truncated) {
+    if (result.ir && !ir) setCachedRecord(key, 'ir', result.ir);
+  }
+  if (result.ok) {
+    setCachedRecord(key, kind, result.mermaid);
+  } else if (result.truncated && onTruncated) {
+    onTruncated();
+  }
+  return result.mermaid;
+}
+
+/**
+ * Hit, miss and eviction counts per tier, plus memory usage
+ * @returns {Object}
+ */
+export function getConversionCacheStats() {
+  return {
+    engineVersion: ENGINE_VERSION,
+    memory: { ...stats.memory, entries: memory.size, bytes: memoryBytes, maxBytes: MEMORY_MAX_BYTES },
+    disk: { ...stats.disk, dir: CACHE_DIR }
+  };
+}
+
+/**
+ * Drop the in-memory tier (the disk store is left in place)
+ */
+export function clearConversionCache() {
+  memory.clear();
+  memoryBytes = 0;
+}
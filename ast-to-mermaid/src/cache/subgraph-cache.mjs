@@ -0,0 +1,223 @@
+/**
+ * Function subgraph cache. A function's subgraph depends only on its normalized
+ * body, so subgraphs are keyed by a hash of it (source ranges left out, so a
+ * function that only moved in the file still hits) and stored with the node ID
+ * range they were built on; a pipeline reusing one places it on the range the
+ * function gets in the new diagram (see placeSubgraph()). When one function of
+ * a large file is edited, the next conversion maps and finalizes that function
+ * only.
+ *
+ * Each thread has its own shared cache, a byte-bounded LRU. Live-editing
+ * sessions place the subgraphs they carry over with the same helpers (see
+ * shared/function-reuse.mjs).
+ */
+
+import { createHash } from 'crypto';
+
+const SHARED_MAX_BYTES = Number(process.env.AST2M_SUBGRAPH_CACHE_MAX_BYTES ?? 16 * 1024 * 1024);
+
+// Source ranges locate a node rather than describe it (Function bodies carry no other
+// position fields); stripped from the JSON text, which is much faster than a replacer
+const RANGE_FIELD = /"range":\[\d+,\d+\],?/g;
+
+// A node ID where subgraph lines name one: at the start of the line or as an edge target
+// (N<n>, or another prefix's, e.g. SGN<n> for Python's subgraph nodes)
+const NODE_IDS = new Map([['N', /(^|-->\s*)N(\d+)/g]]);
+
+function nodeIdPattern(prefix) {
+  let pattern = NODE_IDS.get(prefix);
+  if (!pattern) {
+    pattern = new RegExp(`(^|-->\\s*)${prefix}(\\d+)`, 'g');
+    NODE_IDS.set(prefix, pattern);
+  }
+  return pattern;
+}
+
+/**
+ * Content address of a function's subgraph
+ * @param {string} language - Normalized language key
+ * @param {Object} fnNode - Normalized Function node
+ * @returns {string} - Hex SHA-256 digest
+ */
+export function functionBodyKey(language, fnNode) {
+  return createHash('sha256')
+    .update(language).update('\0')
+    .update((JSON.stringify(fnNode.body) ?? '').replace(RANGE_FIELD, ''))
+    .digest('hex');
+}
+
+/**
+ * Make the node IDs of a subgraph's own range relative, splitting each line
+ * where one occurs, so placing the subgraph again is string concatenation
+ * rather than a regex pass. IDs outside the range and text in labels stay as
+ * they are.
+ * @param {Array<string>} lines - Subgraph lines
+ * @param {number} base - First node number the lines were generated with
+ * @param {number} count - Number of node IDs the subgraph consumed
+ * @param {string} [prefix] - Prefix of the node IDs
+ * @returns {Array<string|Array>} - Per line: the line itself when it names none of those IDs,
+ *   or [text, id, text, ..., id, text] with the IDs counted from 0
+ */
+export function relativeLines(lines, base, count, prefix = 'N') {
+  const NODE_ID = nodeIdPattern(prefix);
+  return lines.map(line => {
+    let parts = null;
+    let last = 0;
+    NODE_ID.lastIndex = 0;
+    for (let match = NODE_ID.exec(line); match !== null; match = NODE_ID.exec(line)) {
+      const n = Number(match[2]);
+      if (n < base || n >= base + count) continue;
+      const start = match.index + match[1].length;
+      (parts ||= []).push(line.slice(last, start), n - base);
+      last = start + prefix.length + match[2].length;
+    }
+    if (!parts) return line;
+    parts.push(line.slice(last));
+    return parts;
+  });
+}
+
+/**
+ * Render relative subgraph lines with their node IDs starting at `base`
+ * @param {Array<string|Array>} lines - From relativeLines()
+ * @param {number} base - First node number
+ * @param {string} [prefix] - Prefix of the node IDs
+ * @returns {Array<string>}
+ */
+export function placeLines(lines, base, prefix = 'N') {
+  return lines.map(line => {
+    if (typeof line === 'string') return line;
+    let text = line[0];
+    for (let i = 1; i < line.length; i += 2) text += `${prefix}${line[i] + base}${line[i + 1]}`;
+    return text;
+  });
+}
+
+/**
+ * Lines of a subgraph with its node IDs starting at `base`. The subgraph keeps
+ * the lines it was last placed with, so one whose IDs did not move costs
+ * nothing; a moved one is made relative the first time (relativeLines()) and
+ * placed by concatenation from then on.
+ * @param {Object} subgraph - { lines, base, count, prefix?, relative? } (prefix 'N' when
+ *   omitted); updated in place
+ * @param {number} base - First node number to use
+ * @returns {Array<string>}
+ */
+export function placeSubgraph(subgraph, base) {
+  if (subgraph.base !== base) {
+    subgraph.relative ||= relativeLines(subgraph.lines, subgraph.base, subgraph.count, subgraph.prefix);
+    subgraph.lines = placeLines(subgraph.relative, base, subgraph.prefix);
+    subgraph.base = base;
+  }
+  return subgraph.lines;
+}
+
+/**
+ * Estimated memory of a cached subgraph
+ * @param {{ lines: Array<string>, relative?: Array<string|Array> }} subgraph
+ * @returns {number} - Bytes
+ */
+export function subgraphBytes(subgraph) {
+  let bytes = 64;
+  for (const line of subgraph.lines) bytes += line.length * 2;
+  for (const line of subgraph.relative || []) {
+    if (typeof line === 'string') {
+      // Shared with `lines`
+      bytes += 8;
+    } else {
+      for (const part of line) bytes += typeof part === 'string' ? part.length * 2 : 8;
+    }
+  }
+  return bytes;
+}
+
+/**
+ * Byte-bounded LRU of subgraphs ({ lines, base, count, relative? }). Has the
+ * get/set/has/delete/keys/values shape of a Map, so a plain Map works in its place.
+ */
+export class SubgraphCache {
+  /**
+   * @param {number} maxBytes - Estimated size of the kept lines; 0 keeps nothing
+   */
+  constructor(maxBytes) {
+    this.maxBytes = maxBytes;
+    this.bytes = 0;
+    // key -> { subgraph, bytes }, least- to most-recently used
+    this.entries = new Map();
+    this.stats = { hits: 0, misses: 0, evictions: 0 };
+  }
+
+  get(key) {
+    const entry = this.entries.get(key);
+    if (!entry) {
+      this.stats.misses++;
+      return undefined;
+    }
+    this.entries.delete(key);
+    this.entries.set(key, entry);
+    this.stats.hits++;
+    return entry.subgraph;
+  }
+
+  set(key, subgraph) {
+    this.delete(key);
+    const bytes = subgraphBytes(subgraph);
+    if (bytes > this.maxBytes) return this;
+
+    this.entries.set(key, { subgraph, bytes });
+    this.bytes += bytes;
+    for (const [oldest, entry] of this.entries) {
+      if (this.bytes <= this.maxBytes) break;
+      this.entries.delete(oldest);
+      this.bytes -= entry.bytes;
+      this.stats.evictions++;
+    }
+    return this;
+  }
+
+  has(key) {
+    return this.entries.has(key);
+  }
+
+  delete(key) {
+    const entry = this.entries.get(key);
+    if (!entry) return false;
+    this.entries.delete(key);
+    this.bytes -= entry.bytes;
+    return true;
+  }
+
+  keys() {
+    return this.entries.keys();
+  }
+
+  *values() {
+    for (const entry of this.entries.values()) yield entry.subgraph;
+  }
+
+  get size() {
+    return this.entries.size;
+  }
+}
+
+let shared = null;
+
+/**
+ * This thread's shared subgraph cache (AST2M_SUBGRAPH_CACHE_MAX_BYTES, 16 MB by
+ * default; 0 turns it off)
+ * @returns {SubgraphCache|null}
+ */
+export function sharedSubgraphCache() {
+  if (SHARED_MAX_BYTES <= 0) return null;
+  if (!shared) shared = new SubgraphCache(SHARED_MAX_BYTES);
+  return shared;
+}
+
+/**
+ * Hit, miss and size counters of the shared cache
+ * @returns {Object}
+ */
+export function getSubgraphCacheStats() {
+  if (!shared) return { entries: 0, bytes: 0, maxBytes: Math.max(0, SHARED_MAX_BYTES), hits: 0, misses: 0, evictions: 0 };
+  return { entries: shared.size, bytes: shared.bytes, maxBytes: shared.maxBytes, ...shared.stats };
+}
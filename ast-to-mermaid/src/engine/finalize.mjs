@@ -0,0 +1,160 @@
+/**
+ * End of a flow: add the end node and resolve what the walk left open (pending
+ * joins, orphan breaks, the last node). Language profiles can run their own
+ * passes over the pending joins before the remaining ones go to the end node,
+ * and closing passes after that. Once a conversion's time budget runs out the
+ * join passes are skipped, and what they would have placed goes to the end
+ * node too.
+ */
+
+import { EdgeKind } from '../shared/flow-graph.mjs';
+import { currentBudget } from '../shared/budget.mjs';
+
+/**
+ * Finalize a flow context
+ * @param {Object} context - FlowContext (src/engine/flow-context.mjs)
+ * @param {boolean} [addEndNode] - Add an end node (false for function subgraphs)
+ * @returns {string|null} - End node ID
+ */
+export function finalizeFlowContext(context, addEndNode = true) {
+  if (!context) return null;
+
+  if (typeof context.completeBranches === 'function') {
+    context.completeBranches();
+  }
+
+  let endId = null;
+  if (context.profile?.layout === 'terminals') {
+    // emit() draws the END terminal, and function subgraphs end on it as well
+    endId = 'END';
+  } else if (addEndNode) {
+    endId = context.next();
+    context.add(endId, '(["end"])');
+  }
+
+  const budget = currentBudget();
+  const passes = context.profile?.joinPasses || [switchBreakJoins];
+  for (const pass of passes) {
+    if (budget && budget.expired('finalizing')) break;
+    pass(context, endId);
+  }
+
+  // Edges from or to the exit marker of a switch only held its place
+  if (context.profile?.switch === 'marker') {
+    context.graph.removeEdges(e => context.graph.edgeKind[e] === EdgeKind.EXIT);
+  }
+
+  // If we still have pending joins, resolve them to the end node (if it exists)
+  if (context.pendingJoins && context.pendingJoins.length > 0) {
+    const joins = context.pendingJoins.splice(0);
+    if (endId) {
+      joins.forEach(join => {
+        join.edges.forEach(({ from, label }) => {
+          if (!from) return;
+          if (label) {
+            context.addEdge(from, endId, label);
+          } else {
+            context.addEdge(from, endId);
+          }
+        });
+      });
+    }
+  }
+
+  // Note: pendingBreaks should be empty here if completeSwitch was called properly
+  // Only connect breaks that are still pending (shouldn't happen in normal flow)
+  if (context.pendingBreaks && context.pendingBreaks.length > 0) {
+    if (endId) {
+      context.pendingBreaks.forEach(breakInfo => {
+        // Connect orphaned breaks directly to end
+        context.addEdge(breakInfo.breakId, endId);
+      });
+    }
+    context.pendingBreaks = [];
+  }
+
+  const closing = context.profile?.closePasses || [lastToEnd];
+  for (const pass of closing) {
+    pass(context, endId);
+  }
+
+  return endId;
+}
+
+/**
+ * Closing pass: the last node connects to the end node, unless pending joins
+ * still wait to make that connection
+ * @param {Object} context - FlowContext
+ * @param {string|null} endId - End node ID
+ */
+export function lastToEnd(context, endId) {
+  if (context.last && endId && (!context.pendingJoins || context.pendingJoins.length === 0)) {
+    context.addEdge(context.last, endId);
+  }
+}
+
+/**
+ * Join pass: when switch breaks are pending, connect the pending joins to the
+ * first statement after a switch instead of the end node
+ * @param {Object} context - FlowContext
+ */
+export function switchBreakJoins(context) {
+  if (!context.pendingJoins || context.pendingJoins.length === 0) return;
+
+  const graph = context.graph;
+  const breakNodeIds = new Set();
+
+  // Look for break statements in the nodes
+  for (let slot = 0; slot < graph.nodeCount; slot++) {
+    const nodeId = graph.nodeId(slot);
+    if (/^N\d+$/.test(nodeId) && graph.nodeLabel(slot).startsWith('["break;"]')) {
+      breakNodeIds.add(nodeId);
+    }
+  }
+
+  const hasSwitchBreaks = context.pendingJoins.some(join =>
+    join.edges.some(edge => breakNodeIds.has(edge.from))
+  );
+  if (!hasSwitchBreaks || graph.nodeCount === 0) return;
+
+  // Get all node IDs in order
+  const nodeInfos = [];
+  for (let slot = 0; slot < graph.nodeCount; slot++) {
+    const nodeId = graph.nodeId(slot);
+    if (/^N\d+$/.test(nodeId)) {
+      nodeInfos.push({ id: nodeId, node: nodeId + graph.nodeLabel(slot) });
+    }
+  }
+
+  // For each switch statement, find the first statement after it that's not part of the switch
+  const budget = currentBudget();
+  nodeInfos.forEach((switchInfo, switchIndex) => {
+    if (!switchInfo.node.includes('switch')) return;
+    if (budget && budget.expired('finalizing')) return;
+
+    // Find all case statements that connect from this switch (unlabelled edges)
+    const caseTargets = graph.outgoing(switchInfo.id)
+      .filter(e => graph.edgeLabelOf(e) === null && graph.edgeKind[e] === EdgeKind.ARROW)
+      .map(e => graph.edgeTarget(e));
+
+    // Find the first non-switch-related statement after the switch
+    let nextStatementId = null;
+    for (let i = switchIndex + 1; i < nodeInfos.length; i++) {
+      const nodeInfo = nodeInfos[i];
+      const isSwitchRelated =
+        nodeInfo.node.includes('case ') ||
+        nodeInfo.node.includes('default:') ||
+        caseTargets.some(target => target.startsWith(nodeInfo.id));
+
+      if (!isSwitchRelated) {
+        nextStatementId = nodeInfo.id;
+        break;
+      }
+    }
+
+    // If we found the next statement, connect all pending joins to it
+    if (nextStatementId) {
+      context.resolvePendingJoins(nextStatementId);
+    }
+  });
+}
@@ -0,0 +1,636 @@
+/**
+ * Flow context shared by the C, C++, Java, JavaScript and TypeScript pipelines:
+ * node IDs, the typed graph (shared/flow-graph.mjs), if/else branch frames,
+ * pending joins, switch and loop completion, and Mermaid / graph-JSON emit.
+ *
+ * The languages differ in a few conventions only, so each one describes them in
+ * a profile (see FLOW_PROFILE_DEFAULTS) and builds its contexts with
+ * flowContext(profile). Every context has the same shape whatever its profile,
+ * which keeps the hot mapper calls monomorphic.
+ */
+
+import { FlowGraph, EdgeKind, Shape } from '../shared/flow-graph.mjs';
+import { callSiteLinks } from '../shared/call-sites.mjs';
+import { GraphBuilder } from '../shared/graph-json.mjs';
+import { finalizeFlowContext } from './finalize.mjs';
+import { truncatedComment } from '../shared/budget.mjs';
+import { noteNodeOrigin } from '../shared/stable-ids.mjs';
+
+// Marker the JavaScript-style switch leaves in `last`; finalize replaces it.
+// Edges from or to it are added as EdgeKind.EXIT
+export const SWITCH_EXIT = 'NEXT_AFTER_SWITCH';
+
+export const FLOW_PROFILE_DEFAULTS = Object.freeze({
+  // First node number; N1 is the start node the pipeline adds itself
+  firstNodeId: 2,
+  // Forks (function subgraphs) keep numbering from the main flow instead of restarting
+  sharedIds: true,
+  subgraphPrefix: 'SG',
+  // Edge label style of the graph ('dashes': A -- x --> B, 'pipe': A -->|x| B)
+  labelStyle: 'dashes',
+  // 'plain' adds every edge; 'checked' drops edges with a missing end and a
+  // second 'No' from the same node; 'traced' drops edges with a missing end and
+  // logs self-loops
+  edges: 'plain',
+  // Keep node order, the last node and the first switch node for finalize
+  trackOrder: false,
+  // How completeSwitch() leaves the flow: 'join' queues the breaks and the last
+  // case as joins and keeps `last`, 'join-all' also joins a last break and clears
+  // `last`, 'marker' wires case fall-through and leaves SWITCH_EXIT in `last`
+  switch: 'join',
+  // 'inline' writes subgraphs into the graph and renders start/end as nodes;
+  // 'terminals' adds START/END around the graph and subgraphs after it
+  layout: 'inline',
+  // Mappers resolve pending joins onto the next node they link (resolvePendingJoins);
+  // when false the joins wait for the finalizer
+  eagerJoins: true,
+  // Passes over pending joins run by the shared finalizer once the end node exists
+  joinPasses: null,
+  // Passes the shared finalizer runs once the remaining joins went to the end node
+  closePasses: null
+});
+
+/**
+ * Context factory for a language profile
+ * @param {Object} profile - Overrides of FLOW_PROFILE_DEFAULTS
+ * @returns {Function} - ctx(sharedState?) creating a FlowContext
+ */
+export function flowContext(profile) {
+  const resolved = Object.freeze({ ...FLOW_PROFILE_DEFAULTS, ...profile });
+  return (sharedState = null) => new FlowContext(resolved, sharedState);
+}
+
+export class FlowContext {
+  constructor(profile, sharedState = null) {
+    this.profile = profile;
+    this.state = sharedState || { nodeId: profile.firstNodeId, subgraphId: 1, subgraphNodeId: 1 };
+    this.graph = new FlowGraph({ labelStyle: profile.labelStyle });
+    this.last = null;
+    this.lastNodeId = null;
+    this.nodeOrder = [];
+    // if / else-if condition IDs, recorded by the if mappers for finalize
+    this.decisionKinds = new Map();
+    // Switch, case, default, break and loop node IDs -> role, recorded by the
+    // JavaScript-style mappers for switch completion and finalize
+    this.nodeRoles = new Map();
+    // First node marked as a switch
+    this.firstSwitchId = null;
+
+    this.ifStack = [];
+    // Conditions whose else branch maps the next if of a chain -> that if's
+    // condition, once added (see guardElseIf); elseIfChain keeps their order
+    this.elseIfNext = new Map();
+    this.elseIfChain = [];
+    this.pendingJoins = [];
+    this.switchEndNodes = [];
+    this.pendingBreaks = [];
+    this.pendingLoops = [];
+    this.currentSwitchId = null;
+    this.switchCaseNodes = null;
+    this.switchMergeNode = null;
+    this.switchExecutedStatements = [];
+    this.previousCaseId = null;
+    this.currentLoop = null;
+    this.inLoop = false;
+    this.isFirstLoopBodyNode = false;
+    // First node of a do-while body, for the condition's Yes edge back to it
+    this.doWhileFirstBodyNodeId = null;
+    this.loopContinueNode = null;
+    this.deferredStatements = [];
+
+    this.functionMap = {}; // Map of function names to their definitions
+    this.functionCalls = []; // Calls recorded by the mappers for subgraph links
+    this.subgraphIds = {}; // Map of function names to their subgraph IDs
+    this.subgraphs = []; // Subgraphs emitted after the graph ('terminals' layout)
+    this.callSites = null; // Call-site table of the conversion (main flow only)
+    this.aggregateCalls = false; // Link each function from one call node only
+    this.handle = null; // Walker callback while the pipeline maps nodes into this context
+    this.truncated = null; // Stage the time budget cut the flow short in (set by the pipeline)
+  }
+
+  next() {
+    const id = `N${this.state.nodeId++}`;
+    noteNodeOrigin(id);
+    return id;
+  }
+
+  // Alias used by the JavaScript and TypeScript mappers
+  nextId() {
+    return this.next();
+  }
+
+  nextSubgraphId() {
+    return `${this.profile.subgraphPrefix}${this.state.subgraphId++}`;
+  }
+
+  nextSubgraphNode() {
+    if (!this.state.subgraphNodeId) {
+      this.state.subgraphNodeId = 1;
+    }
+    const id = `SGN${this.state.subgraphNodeId++}`;
+    noteNodeOrigin(id);
+    return id;
+  }
+
+  // Rendered mermaid lines, for callers that want text (built on every access)
+  get nodes() {
+    return this.graph.nodeLines();
+  }
+
+  get edges() {
+    return this.graph.edgeLines();
+  }
+
+  add(id, label) {
+    if (this.elseIfChain.length > 0) this.captureElseIf(id, label);
+    if (!this.profile.trackOrder) {
+      this.graph.addNode(id, label);
+      return;
+    }
+    if (!id || !label) return;
+    this.graph.addNode(id, label);
+    this.nodeOrder.push(id);
+    this.lastNodeId = id;
+  }
+
+  addNode(id, label) {
+    this.add(id, label);
+  }
+
+  addEdge(from, to, label = null) {
+    // The 'No' edge of a condition continuing an else-if chain goes to the next condition
+    if (label === 'No' && this.elseIfNext.has(from)) {
+      const next = this.elseIfNext.get(from);
+      if (!next || to !== next) return;
+    }
+    if (from === SWITCH_EXIT || to === SWITCH_EXIT) {
+      this.graph.addEdge(from, to, label || null, EdgeKind.EXIT);
+      return;
+    }
+    switch (this.profile.edges) {
+      case 'checked':
+        if (!from || !to) return;
+        // A decision keeps one 'No' branch (if-else-if chains would add it twice)
+        if (label === 'No' && this.graph.hasOutgoingLabel(from, 'No')) return;
+        break;
+      case 'traced':
+        if (!from || !to) return;
+        if (from === to) {
+          console.log('Warning: Attempting to add self-loop edge from', from, 'to', to);
+          console.trace('Stack trace:');
+        }
+        this.graph.addEdge(from, to, label ? String(label) : null);
+        return;
+    }
+    this.graph.addEdge(from, to, label || null);
+  }
+
+  setLast(id) {
+    this.last = id;
+  }
+
+  getLast() {
+    return this.last ?? this.lastNodeId ?? null;
+  }
+
+  // Record whether a condition node opens an if or continues an else-if chain
+  markDecision(id, kind) {
+    this.decisionKinds.set(id, kind);
+  }
+
+  // Record what a node is to the switch and loop handling: 'switch', 'case',
+  // 'default', 'break' or 'loop'
+  markNode(id, role) {
+    this.nodeRoles.set(id, role);
+    if (role === 'switch' && this.firstSwitchId === null) this.firstSwitchId = id;
+  }
+
+  // Context for a function subgraph: empty flow state, IDs shared per profile
+  fork() {
+    return new FlowContext(this.profile, this.profile.sharedIds ? this.state : null);
+  }
+
+  addRaw(line) {
+    this.graph.addRaw(line);
+  }
+
+  addSubgraph(label, lines = []) {
+    if (this.profile.layout === 'terminals') {
+      this.subgraphs.push({ label, content: lines });
+      return;
+    }
+    this.graph.addRaw(`subgraph ${label}`);
+    lines.forEach(line => this.graph.addRaw(`  ${line}`));
+    this.graph.addRaw('end');
+  }
+
+  // Link function calls to the subgraphs of their functions
+  createFunctionConnections() {
+    if (!this.subgraphIds) return;
+
+    // Explicitly stored function calls, then the calls each node owns in the source
+    const links = callSiteLinks({
+      graph: this.graph,
+      table: this.callSites,
+      functionCalls: this.functionCalls,
+      subgraphIds: this.subgraphIds,
+      aggregate: this.aggregateCalls
+    });
+    links.forEach(({ from, to, label }) => {
+      this.graph.addEdge(from, to, label, EdgeKind.LINK);
+    });
+  }
+
+  /**
+   * Resolve the remaining joins and add the end node (or not, for a subgraph)
+   * @param {boolean} [addEndNode]
+   * @returns {string|null} - End node ID
+   */
+  finalize(addEndNode = true) {
+    return finalizeFlowContext(this, addEndNode);
+  }
+
+  completeBranches() {
+    // Placeholder for legacy calls. Branch handling now occurs via join queue.
+  }
+
+  // --- If handling helpers ------------------------------------------------
+  registerIf(conditionId, hasElse) {
+    const frame = {
+      conditionId,
+      hasElse,
+      then: { started: false, last: null },
+      else: { started: false, last: null },
+      activeBranch: null
+    };
+    this.ifStack.push(frame);
+    return frame;
+  }
+
+  currentIf() {
+    return this.ifStack[this.ifStack.length - 1] || null;
+  }
+
+  enterBranch(type) {
+    const frame = this.currentIf();
+    if (!frame) return;
+    frame.activeBranch = type === 'else' ? 'else' : 'then';
+  }
+
+  exitBranch(type) {
+    const frame = this.currentIf();
+    if (!frame) return;
+    if (frame.activeBranch === type) {
+      frame.activeBranch = null;
+    }
+  }
+
+  // --- Else-if chains ----------------------------------------------------
+  // Called on entering the else branch of the current if when it holds the next
+  // if of a chain: the first decision node added after it is that if's condition
+  guardElseIf() {
+    const frame = this.currentIf();
+    const conditionId = frame ? frame.conditionId : null;
+    this.elseIfChain.push(conditionId);
+    this.elseIfNext.set(conditionId, null);
+  }
+
+  captureElseIf(id, label) {
+    if (!label || !label.includes('{')) return;
+    for (let i = this.elseIfChain.length - 1; i >= 0; i--) {
+      const conditionId = this.elseIfChain[i];
+      if (this.elseIfNext.get(conditionId)) break;
+      this.elseIfNext.set(conditionId, id);
+    }
+  }
+
+  // Called once the else branch is mapped: the condition's 'No' edge goes to the
+  // next condition, and no other 'No' edge from it was kept
+  releaseElseIf() {
+    const conditionId = this.elseIfChain.pop();
+    const next = this.elseIfNext.get(conditionId);
+    this.elseIfNext.delete(conditionId);
+    if (next) this.addEdge(conditionId, next, 'No');
+  }
+
+  handleBranchConnection(nodeId, { skipEdge = false } = {}) {
+    const frame = this.currentIf();
+    if (!frame || !frame.activeBranch) return false;
+
+    const branchInfo = frame[frame.activeBranch];
+    if (!skipEdge) {
+      if (!branchInfo.started) {
+        const label = frame.activeBranch === 'then' ? 'Yes' : 'No';
+        this.addEdge(frame.conditionId, nodeId, label);
+      } else if (branchInfo.last) {
+        this.addEdge(branchInfo.last, nodeId);
+      }
+    }
+
+    branchInfo.started = true;
+    branchInfo.last = nodeId;
+    this.last = nodeId;
+    return true;
+  }
+
+  completeIf() {
+    const frame = this.ifStack.pop();
+    if (!frame) return null;
+    this.queueJoinForFrame(frame);
+
+    // Check if this if was inside a parent if's branch
+    const parentFrame = this.currentIf();
+    if (parentFrame && parentFrame.activeBranch) {
+      const parentBranch = parentFrame[parentFrame.activeBranch];
+      // If the parent branch's last node is this if's condition,
+      // it means this if was the first statement in the parent's branch.
+      // Update the parent branch to have no single last node since joins are queued.
+      if (parentBranch.last === frame.conditionId) {
+        parentBranch.last = null;
+      }
+    }
+
+    // Don't leave ctx.last pointing to this if's condition node
+    // because that would cause the parent to think the branch ends at the condition
+    // Instead, set it to null to indicate no single last node (joins are queued)
+    this.last = null;
+
+    return frame;
+  }
+
+  queueJoinForFrame(frame) {
+    const edges = [];
+
+    if (frame.then.last) {
+      edges.push({ from: frame.then.last, label: null });
+    } else {
+      edges.push({ from: frame.conditionId, label: 'Yes' });
+    }
+
+    if (frame.hasElse) {
+      if (frame.else.last) {
+        edges.push({ from: frame.else.last, label: null });
+      } else if (frame.else.started) {
+        // Else branch was started but has no last node.
+        // This means it contains only control flow structures (nested ifs)
+        // that have queued their own joins. Don't add an edge from condition.
+      } else {
+        // Else branch was never started (empty), edge from condition
+        edges.push({ from: frame.conditionId, label: 'No' });
+      }
+    } else {
+      edges.push({ from: frame.conditionId, label: 'No' });
+    }
+
+    this.pendingJoins.push({ edges });
+  }
+
+  // Helper kept for the JavaScript mappers: joins are always queued for finalize
+  hasMoreStatementsAfterIf() {
+    return true;
+  }
+
+  resolvePendingJoins(targetId) {
+    if (!this.profile.eagerJoins) return false;
+    if (!this.pendingJoins || this.pendingJoins.length === 0) return false;
+    const joins = this.pendingJoins.splice(0);
+    joins.forEach(join => {
+      join.edges.forEach(({ from, label }) => {
+        if (!from) return;
+        if (label) {
+          this.addEdge(from, targetId, label);
+        } else {
+          this.addEdge(from, targetId);
+        }
+      });
+    });
+    return joins.length > 0;
+  }
+
+  completeSwitch() {
+    if (this.profile.switch === 'marker') {
+      this.completeSwitchWithMarker();
+    } else {
+      this.completeSwitchWithJoins(this.profile.switch === 'join-all');
+    }
+
+    // Pop the switch end node placeholder
+    if (this.switchEndNodes && this.switchEndNodes.length > 0) {
+      this.switchEndNodes.pop();
+    }
+    this.currentSwitchId = null;
+  }
+
+  // Queue the breaks of the current switch level and the last case as joins
+  completeSwitchWithJoins(joinAll) {
+    const edges = [];
+
+    // Current switch level is the length of switchEndNodes array minus 1
+    // (since we push a placeholder when entering switch)
+    const currentSwitchLevel = (this.switchEndNodes?.length || 1) - 1;
+
+    // Track break IDs for this switch level to avoid duplicate connections
+    const currentSwitchBreakIds = new Set();
+
+    if (this.pendingBreaks && this.pendingBreaks.length > 0) {
+      const switchBreaks = this.pendingBreaks.filter(
+        b => b.switchLevel === currentSwitchLevel
+      );
+      switchBreaks.forEach(b => currentSwitchBreakIds.add(b.breakId));
+      this.pendingBreaks = this.pendingBreaks.filter(
+        b => b.switchLevel !== currentSwitchLevel
+      );
+      switchBreaks.forEach(b => {
+        edges.push({ from: b.breakId, label: null });
+      });
+    }
+
+    // The last node (default case without break, or last case without break)
+    if (this.last && (joinAll || !currentSwitchBreakIds.has(this.last))) {
+      edges.push({ from: this.last, label: null });
+    }
+
+    if (edges.length > 0) {
+      this.pendingJoins.push({ edges });
+    }
+
+    if (joinAll) this.last = null;
+  }
+
+  // Wire case fall-through and leave the exit marker for finalize
+  completeSwitchWithMarker() {
+    // Breaks resolve to the statement after the switch in finalize; without any
+    // switch node there is nothing to follow, so they go to END
+    const nextStatementId = this.firstSwitchId && /^N\d+/.test(this.firstSwitchId)
+      ? SWITCH_EXIT
+      : 'END';
+
+    const currentSwitchLevel = (this.switchEndNodes?.length || 1) - 1;
+    if (this.pendingBreaks && this.pendingBreaks.length > 0) {
+      this.pendingBreaks.forEach(b => {
+        if (b.switchLevel === currentSwitchLevel) {
+          b.nextStatementId = nextStatementId;
+        }
+      });
+    }
+
+    if (this.switchCaseNodes && this.switchCaseNodes.length > 0) {
+      // Process each case to handle fall-through behavior; the last case is
+      // left to finalize
+      for (let i = 0; i < this.switchCaseNodes.length - 1; i++) {
+        const caseId = this.switchCaseNodes[i].id;
+        const nextCaseId = this.switchCaseNodes[i + 1].id;
+
+        // Node slots follow nodeOrder, so slot lookups replace indexOf/find
+        const caseIndex = this.graph.slotOf(caseId);
+        if (caseIndex === -1) continue;
+        const nextCaseIndex = this.graph.slotOf(nextCaseId);
+        const nextRelevantIndex = nextCaseIndex !== -1 ? nextCaseIndex : this.graph.nodeCount;
+
+        // Check if there's a break statement between this case and the next one
+        let hasBreakBetween = false;
+        let lastStatementInCase = caseId;
+
+        for (let j = caseIndex + 1; j < nextRelevantIndex; j++) {
+          const role = this.nodeRoles.get(this.graph.nodeId(j));
+          if (role === 'break') {
+            // Break statements are already connected through pendingBreaks
+            hasBreakBetween = true;
+          } else if (role === 'case' || role === 'default' || role === 'switch') {
+            // Reached another case or switch, stop processing this case
+            break;
+          } else {
+            lastStatementInCase = this.graph.nodeId(j);
+          }
+        }
+
+        // If no break between cases, connect for fall-through
+        if (!hasBreakBetween) {
+          this.addEdge(lastStatementInCase, nextCaseId);
+        }
+      }
+    } else if (this.currentSwitchId) {
+      // If there are no cases, connect the switch node directly to the next statement
+      if (nextStatementId !== SWITCH_EXIT) {
+        this.addEdge(this.currentSwitchId, nextStatementId);
+      }
+    }
+
+    // The finalize context replaces the marker with the actual next statement
+    this.last = nextStatementId;
+    this.switchCaseNodes = null;
+    this.switchMergeNode = null;
+  }
+
+  completeLoop() {
+    // Connect the end of the loop body back to the loop condition
+    if (this.pendingLoops && this.pendingLoops.length > 0) {
+      const loopInfo = this.pendingLoops[this.pendingLoops.length - 1];
+
+      if (this.last && loopInfo.loopId) {
+        this.addEdge(this.last, loopInfo.loopId);
+      }
+      // A do-while condition loops back to the first statement of its body
+      if (loopInfo.type === 'do-while' && this.last && loopInfo.loopId && this.doWhileFirstBodyNodeId) {
+        this.addEdge(loopInfo.loopId, this.doWhileFirstBodyNodeId, 'Yes');
+      }
+
+      // The next statement connects from the loop as a whole
+      this.last = loopInfo.loopId;
+      this.pendingLoops.pop();
+    }
+
+    this.inLoop = false;
+    this.loopContinueNode = null;
+    this.currentLoop = null;
+  }
+
+  // Mermaid lines, rendered lazily so large charts can be streamed
+  *emitLines() {
+    if (this.profile.layout === 'terminals') {
+      yield* this.emitTerminalLines();
+      return;
+    }
+    this.createFunctionConnections();
+    yield 'flowchart TD';
+    if (this.truncated) yield truncatedComment(this.truncated);
+    yield* this.graph.eachLine();
+  }
+
+  *emitTerminalLines() {
+    yield 'flowchart TD';
+    if (this.truncated) yield `  ${truncatedComment(this.truncated)}`;
+    yield '  START(["start"])';
+
+    // Empty flowcharts connect start to end
+    if (this.graph.nodeCount === 0 && this.subgraphs.length === 0) {
+      yield '  END(["end"])';
+      yield '  START --> END';
+      return;
+    }
+
+    for (const node of this.graph.eachNodeLine()) {
+      yield `  ${node}`;
+    }
+    yield '  END(["end"])';
+
+    if (this.nodeOrder.length > 0) {
+      yield `  START --> ${this.nodeOrder[0]}`;
+      for (const edge of this.graph.eachEdgeLine()) {
+        yield `  ${edge}`;
+      }
+    } else {
+      yield '  START --> END';
+    }
+
+    for (const subgraph of this.subgraphs) {
+      yield `  subgraph ${subgraph.label}`;
+      for (const line of subgraph.content) {
+        yield `    ${line}`;
+      }
+      yield '  end';
+    }
+  }
+
+  emit() {
+    return [...this.emitLines()].join('\n');
+  }
+
+  // Graph-JSON output, read from the graph without rendering Mermaid (see shared/graph-json.mjs)
+  emitGraph() {
+    const graph = this.buildGraph();
+    if (this.truncated) graph.truncated = true;
+    return graph;
+  }
+
+  buildGraph() {
+    if (this.profile.layout !== 'terminals') {
+      this.createFunctionConnections();
+      return new GraphBuilder().flowGraph(this.graph, this.callSites).toJSON();
+    }
+
+    const builder = new GraphBuilder();
+    builder.node('START', Shape.TERMINAL, 'start');
+    if (this.graph.nodeCount === 0 && this.subgraphs.length === 0) {
+      builder.node('END', Shape.TERMINAL, 'end');
+      builder.edge('START', 'END');
+      return builder.toJSON();
+    }
+
+    builder.graphNodes(this.graph);
+    builder.node('END', Shape.TERMINAL, 'end');
+    if (this.nodeOrder.length > 0) {
+      builder.edge('START', this.nodeOrder[0]);
+      builder.graphEdges(this.graph);
+    } else {
+      builder.edge('START', 'END');
+    }
+
+    for (const subgraph of this.subgraphs) {
+      builder.line(`subgraph ${subgraph.label}`);
+      builder.lines(subgraph.content);
+      builder.endSubgraph();
+    }
+    return builder.toJSON();
+  }
+}
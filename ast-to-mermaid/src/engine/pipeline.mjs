@@ -0,0 +1,323 @@
+/**
+ * Language pipeline skeleton: extract -> normalize -> level of detail -> build
+ * (walk + finalize into a context) -> emit. Each language pack supplies the
+ * stages that differ in an adapter; option handling and output selection live
+ * here, so every pipeline accepts the same options:
+ *
+ *   { tree } to skip parsing, { normalized } to skip normalization, { onNormalized }
+ *   to receive the IR before it is walked, { detail, expand } for level of detail
+ *   (see shared/detail.mjs), { format: 'graph' } for the graph JSON (see
+ *   shared/graph-json.mjs), { format: 'compact' } for compact Mermaid (see
+ *   shared/compact-mermaid.mjs), { ids: 'stable' } for node IDs that survive edits
+ *   (see shared/stable-ids.mjs), { lines } to get the lines lazily for streaming,
+ *   { deadline } or { budget } for a time budget (see shared/budget.mjs), with
+ *   { onTruncated } called when it cut the diagram short, { functionReuse } to carry
+ *   unchanged functions over from a live-editing session's last conversion (see
+ *   shared/function-reuse.mjs)
+ */
+
+import { applyDetail } from '../shared/detail.mjs';
+import { CallSiteTable } from '../shared/call-sites.mjs';
+import { budgetOf, withBudget, currentBudget, BudgetExceeded } from '../shared/budget.mjs';
+import { compactLines, compactMermaid } from '../shared/compact-mermaid.mjs';
+import { stableIdLines, NodeOrigins, withNodeOrigins, recordingNodeOrigins } from '../shared/stable-ids.mjs';
+import { currentFunctionReuse } from '../shared/function-reuse.mjs';
+import { placeSubgraph } from '../cache/subgraph-cache.mjs';
+import { SKIP, currentWalkNode } from './walk.mjs';
+
+/**
+ * Build a generateFlowchart(sourceCode, options) function from a language adapter
+ * @param {Object} adapter
+ * @param {Function} adapter.extract - (sourceCode, options) => syntax tree
+ * @param {Function} adapter.normalize - (tree, sourceCode) => normalized IR
+ * @param {Function} adapter.build - (normalized, options, sourceCode) => context with emit()
+ *   (anything else is returned as it is)
+ * @param {Function} [adapter.onExtractError] - (error) => result to return when extraction
+ *   throws (the error propagates without it)
+ * @param {Object} [adapter.detail] - Language hooks for applyDetail ({ statement, kinds })
+ * @param {boolean} [adapter.streams] - The context renders its lines lazily ({ lines: true })
+ * @returns {Function} - generateFlowchart
+ */
+export function flowchartPipeline({ extract, normalize, build, onExtractError = null, detail = undefined, streams = false }) {
+  function run(sourceCode, options, budget) {
+    // Reuse a normalized IR supplied by the caller (e.g. the conversion cache)
+    let normalized = options.normalized;
+    if (!normalized) {
+      try {
+        // 1. Extract the syntax tree (or reuse a tree parsed by the caller)
+        let tree;
+        try {
+          tree = extract(sourceCode, options);
+        } catch (error) {
+          if (!onExtractError || error instanceof BudgetExceeded) throw error;
+          return onExtractError(error);
+        }
+
+        // 2. Normalize it to unified node types
+        normalized = normalize(tree, sourceCode);
+      } catch (error) {
+        // Out of time before there is a tree: the diagram is empty (and marked truncated)
+        if (!(error instanceof BudgetExceeded)) throw error;
+        normalized = null;
+      }
+    }
+    // The IR of a source the parse did not read to the end is not the source's IR
+    if (options.onNormalized && !budget?.truncated) options.onNormalized(normalized);
+    // Level of detail: collapse deep regions, or keep only the region being expanded
+    normalized = applyDetail(normalized, options, detail);
+
+    // 3. Walk the IR into a flow context (recording where each node comes from
+    // for stable IDs; a finalize done at emit time allocates nodes too)
+    if (!stableIds(options)) {
+      return emitBudgeted(build(normalized, options, sourceCode), options, streams, budget, null);
+    }
+    const origins = new NodeOrigins(normalized, currentWalkNode);
+    return withNodeOrigins(origins, () =>
+      emitBudgeted(build(normalized, options, sourceCode), options, streams, budget, origins));
+  }
+
+  function convert(sourceCode, options) {
+    const budget = budgetOf(options);
+    return budget ? withBudget(budget, () => run(sourceCode, options, budget)) : run(sourceCode, options, null);
+  }
+
+  return function generateFlowchart(sourceCode, options = {}) {
+    const reuse = options.functionReuse;
+    return reuse ? reuse.run(() => convert(sourceCode, options)) : convert(sourceCode, options);
+  };
+}
+
+// Emit a context, marked when the time budget cut it short (a finalize done at
+// emit time may be cut short too, so the caller hears of it after the emit)
+function emitBudgeted(context, options, streams, budget, origins) {
+  if (!budget) return emitFlow(context, options, streams, origins);
+  if (budget.truncated && context && typeof context.emit === 'function') {
+    context.truncated = budget.truncated;
+  }
+  const output = emitFlow(context, options, streams, origins);
+  if (budget.truncated && options.onTruncated) options.onTruncated(budget.truncated);
+  return output;
+}
+
+// Whether the output is Mermaid with stable node IDs
+function stableIds(options) {
+  return options.ids === 'stable' && options.format !== 'graph' && options.format !== 'compact';
+}
+
+// 4. Emit the flowchart in the requested form
+function emitFlow(context, options, streams, origins) {
+  if (!context || typeof context.emit !== 'function') return context;
+  if (options.format === 'graph') return context.emitGraph();
+  if (options.format === 'compact') {
+    if (options.lines && streams) return compactLines(context.emitLines());
+    return compactMermaid(streams ? context.emitLines() : context.emit());
+  }
+  if (options.ids === 'stable') {
+    const lines = stableIdLines(streams ? context.emitLines() : context.emit().split('\n'), origins);
+    return options.lines && streams ? lines : lines.join('\n');
+  }
+  return options.lines && streams ? context.emitLines() : context.emit();
+}
+
+/**
+ * Build step for languages drawn as a main flow plus one subgraph per
+ * user-defined function (FlowContext, see src/engine/flow-context.mjs)
+ * @param {Object} spec
+ * @param {Function} spec.ctx - Context factory of the language
+ * @param {Function} spec.functions - (normalized) => { main, functions }
+ * @param {Function} spec.walkMain - (normalized, main, context) => void; maps the main flow
+ * @param {Function} spec.functionLines - (fnNode, context, index, options) => subgraph lines
+ * @param {boolean} [spec.startNode] - Add the N1 start node (layouts without START terminals)
+ * @returns {Function} - build(normalized, options) => context
+ */
+export function functionFlow({ ctx, functions, walkMain, functionLines, startNode = true }) {
+  return function build(normalized, options = {}) {
+    const context = ctx();
+    if (normalized && Array.isArray(normalized.callSites)) {
+      context.callSites = new CallSiteTable(normalized.callSites);
+    }
+    context.aggregateCalls = Boolean(options.aggregateCalls);
+
+    if (startNode) {
+      context.add('N1', '(["start"])');
+      context.setLast('N1');
+    }
+
+    const { main, functions: userFunctions } = functions(normalized);
+
+    if (normalized) {
+      walkMain(normalized, main, context);
+    }
+    context.finalize();
+
+    // Subgraphs for user-defined functions, only when a main function exists
+    // (and while there is time left for them)
+    const subgraphIds = {};
+    const budget = currentBudget();
+    if (main && userFunctions.length > 0) {
+      userFunctions.forEach((fnNode, index) => {
+        if (!fnNode?.body || (budget && budget.expired('walking'))) return;
+
+        const lines = reusedFunctionLines(functionLines, fnNode, context, index, options);
+        const subgraphId = context.nextSubgraphId();
+        context.addSubgraph(`${subgraphId}["function ${fnNode.name || "anonymous"}"]`, lines);
+        // Function calls refer to the name without its parameters
+        subgraphIds[functionName(fnNode)] = subgraphId;
+      });
+    }
+
+    // Store subgraph IDs in the main context for function call connections
+    context.subgraphIds = subgraphIds;
+    return context;
+  };
+}
+
+// Subgraph lines of a function, placed from the session's last conversion when
+// the function was carried over (see shared/function-reuse.mjs). A subgraph is
+// kept when it used node IDs of its own only: no subgraph IDs, no SGN nodes, and
+// not cut short by the time budget.
+function reusedFunctionLines(functionLines, fnNode, context, index, options) {
+  const reuse = currentFunctionReuse();
+  if (reuse === null || recordingNodeOrigins()) return functionLines(fnNode, context, index, options);
+
+  const { state } = context;
+  const base = state.nodeId;
+  const kept = reuse.subgraph(fnNode);
+  if (kept) {
+    state.nodeId += kept.count;
+    return placeSubgraph(kept, base);
+  }
+  const { subgraphId, subgraphNodeId } = state;
+  const lines = functionLines(fnNode, context, index, options);
+  if (state.subgraphId === subgraphId && state.subgraphNodeId === subgraphNodeId && !currentBudget()?.truncated) {
+    reuse.keepSubgraph(fnNode, { lines, base, count: state.nodeId - base });
+  }
+  return lines;
+}
+
+// The main function is the outer Program node itself; user-defined functions
+// are the top-level Function nodes of its body
+function collectFunctions(normalized) {
+  let main = null;
+  const functions = [];
+  if (normalized && normalized.type === 'Program' && normalized.body) {
+    if (isMainFunction(normalized)) {
+      main = normalized;
+    }
+    normalized.body.forEach(node => {
+      if (node && node.type === 'Function' && !isMainFunction(node)) {
+        functions.push(node);
+      }
+    });
+  }
+  return { main, functions };
+}
+
+// Statements of the main flow: the body of a nested Program named 'main' when
+// there is one, the whole body otherwise
+function mainBody(normalized, main) {
+  const program = main && main.body ? main : (normalized.type === 'Program' && normalized.body ? normalized : null);
+  if (!program) return normalized;
+  const actualMainBody = program.body.find(node => node && node.type === 'Program' && node.name === 'main');
+  return actualMainBody && actualMainBody.body ? actualMainBody.body : program.body;
+}
+
+/**
+ * Build step for the script languages (JavaScript, TypeScript): the main flow
+ * between START and END terminals, plus one subgraph per top-level function
+ * when the program is a main function
+ * @param {Object} language
+ * @param {Function} language.ctx - Context factory
+ * @param {Function} language.mapNode - (node, ctx) => void; maps a node other than a
+ *   control statement
+ * @param {Function} language.walk - Mapping walker of the main flow
+ * @param {Function} language.walkFunction - Mapping walker of function bodies
+ * @returns {Function} - build(normalized, options) => context
+ */
+export function scriptFlow({ ctx, mapNode, walk, walkFunction }) {
+  // The walker maps control statements itself and hands anything else to ctx.handle
+  const mapWith = (walker, node, context) => {
+    context.handle = (child) => {
+      if (child && child.type) mapNode(child, context);
+    };
+    walker(node, context);
+    context.handle = null;
+  };
+
+  return functionFlow({
+    ctx,
+    functions: collectFunctions,
+    // emit() draws the START and END terminals
+    startNode: false,
+    walkMain: (normalized, main, context) => {
+      const targetBody = mainBody(normalized, main);
+      if (Array.isArray(targetBody)) {
+        // Function declarations are drawn as subgraphs, not in the main flow
+        targetBody.forEach(node => {
+          if (node && node.type !== 'Function') {
+            mapWith(walk, node, context);
+          }
+        });
+      } else {
+        mapWith(walk, targetBody, context);
+      }
+    },
+    functionLines: (fnNode, context) => {
+      const fnContext = context.fork();
+      fnNode.body.forEach(node => mapWith(walkFunction, node, fnContext));
+      fnContext.finalize(false);
+      return fnContext.graph.lines();
+    }
+  });
+}
+
+/**
+ * Name a function's calls use: its declared name without the parameter list
+ * @param {Object} fnNode - Normalized Function node
+ * @returns {string}
+ */
+export function functionName(fnNode) {
+  return fnNode.name ? fnNode.name.split('(')[0].trim() : "anonymous";
+}
+
+/**
+ * Split a program into its main function and the user-defined functions,
+ * visiting it with a language walker that stops at each function (their bodies
+ * are not searched). The visit is not a budget checkpoint: cut short, it would
+ * lose main and leave only the start and end terminals.
+ * @param {Function} walk - Language walker
+ * @param {Function} isMain - (fnNode) => boolean
+ * @returns {Function} - (normalized) => { main, functions }
+ */
+export function walkedFunctions(walk, isMain) {
+  return (normalized) => {
+    let main = null;
+    const functions = [];
+    if (normalized) {
+      withBudget(null, () => walk(normalized, {
+        handle: (node) => {
+          if (node && node.type === 'Function') {
+            if (isMain(node)) {
+              main = node;
+            } else {
+              functions.push(node);
+            }
+            return SKIP;
+          }
+        }
+      }));
+    }
+    return { main, functions };
+  };
+}
+
+/**
+ * A function named main or main()
+ * @param {Object} node - Normalized Function node
+ * @returns {boolean}
+ */
+export function isMainFunction(node) {
+  if (!node?.name) return false;
+  const name = node.name.trim();
+  return name === 'main' || name === 'main()';
+}
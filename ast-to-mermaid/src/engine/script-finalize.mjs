@@ -0,0 +1,305 @@
+/**
+ * Finalize passes of the script profiles (JavaScript, TypeScript: switch:
+ * 'marker', 'terminals' layout) for the shared finalizer (finalize.mjs). The
+ * passes read one node index per context, built from the roles the mappers
+ * record (markDecision, markNode); the language passes that differ between
+ * the two live next to their contexts.
+ */
+
+import { EdgeKind } from '../shared/flow-graph.mjs';
+import { SWITCH_EXIT } from './flow-context.mjs';
+
+const NODE_ID = /^N\d+$/;
+
+// context -> node index; nodes do not change while finalizing
+const indexes = new WeakMap();
+
+/**
+ * Node index of a context being finalized (see buildNodeIndex)
+ * @param {Object} context - FlowContext
+ * @returns {Object}
+ */
+export function nodeIndex(context) {
+  let index = indexes.get(context);
+  if (!index) {
+    index = buildNodeIndex(context);
+    indexes.set(context, index);
+  }
+  return index;
+}
+
+/**
+ * Per-node facts used by finalize, computed once. Nodes do not change while
+ * finalizing (only edges do), so every pass shares this index. Switch,
+ * case, default, break and loop nodes are the ones the mappers marked
+ * (context.nodeRoles), whatever their labels say.
+ * @param {Object} context - Flow context
+ * @returns {Object}
+ */
+function buildNodeIndex(context) {
+  const graph = context.graph;
+  const ids = [];
+  for (let slot = 0; slot < graph.nodeCount; slot++) {
+    const id = graph.nodeId(slot);
+    if (!NODE_ID.test(id)) continue;
+    ids.push(id);
+  }
+
+  const count = ids.length;
+  const position = new Map();
+  const caseish = new Uint8Array(count);
+  const isBreak = new Uint8Array(count);
+  const isDefault = new Uint8Array(count);
+  // If, else-if, loop and switch conditions
+  const isDecision = new Uint8Array(count);
+  const switches = [];
+  for (let i = 0; i < count; i++) {
+    if (!position.has(ids[i])) position.set(ids[i], i);
+    const role = context.nodeRoles.get(ids[i]);
+    caseish[i] = role === 'case' || role === 'default' ? 1 : 0;
+    isBreak[i] = role === 'break' ? 1 : 0;
+    isDefault[i] = role === 'default' ? 1 : 0;
+    isDecision[i] = role === 'switch' || role === 'loop' || context.decisionKinds.has(ids[i]) ? 1 : 0;
+    if (role === 'switch') switches.push(i);
+  }
+
+  // Nearest case/default/break before each node, and the nearest ones after it
+  const prevMarker = new Int32Array(count);
+  let marker = -1;
+  for (let i = 0; i < count; i++) {
+    prevMarker[i] = marker;
+    if (caseish[i] || isBreak[i]) marker = i;
+  }
+  const nextMarker = new Int32Array(count);
+  const nextBreak = new Int32Array(count);
+  const nextCase = new Int32Array(count);
+  let followingMarker = count;
+  let followingBreak = count;
+  let followingCase = count;
+  for (let i = count - 1; i >= 0; i--) {
+    nextMarker[i] = followingMarker;
+    nextBreak[i] = followingBreak;
+    nextCase[i] = followingCase;
+    if (caseish[i] || isBreak[i]) followingMarker = i;
+    if (isBreak[i]) followingBreak = i;
+    if (caseish[i]) followingCase = i;
+  }
+  const lastDefault = new Int32Array(count);
+  let seen = -1;
+  for (let i = 0; i < count; i++) {
+    if (isDefault[i]) seen = i;
+    lastDefault[i] = seen;
+  }
+
+  // Once a switch scan has passed a case/break, a node stays inside the switch if
+  // it is a case/default/break itself, or follows a case/default without an
+  // intervening break (the last node never qualifies that way). inCaseEnd[i] is
+  // the end of the run of such nodes starting at i.
+  const inCase = new Uint8Array(count);
+  for (let i = 0; i < count; i++) {
+    const p = prevMarker[i];
+    inCase[i] = caseish[i] || isBreak[i] || (i < count - 1 && p !== -1 && !isBreak[p]) ? 1 : 0;
+  }
+  const inCaseEnd = new Int32Array(count);
+  for (let i = count - 1; i >= 0; i--) {
+    inCaseEnd[i] = i + 1 < count && inCase[i + 1] ? inCaseEnd[i + 1] : i;
+  }
+
+  return {
+    ids, count, position, caseish, isBreak, isDecision, switches,
+    prevMarker, nextMarker, nextBreak, nextCase, lastDefault, inCase, inCaseEnd
+  };
+}
+
+/**
+ * IDs matched by a `--> <id>` test against the switch's unlabeled edges,
+ * i.e. every prefix of every case target
+ * @returns {Set<string>}
+ */
+export function caseTargetPrefixes(graph, switchId) {
+  const prefixes = new Set();
+  for (const e of graph.outgoing(switchId)) {
+    if (graph.edgeKind[e] !== EdgeKind.ARROW || graph.edgeLabelOf(e) !== null) continue;
+    const target = String(graph.edgeTarget(e));
+    for (let length = 1; length <= target.length; length++) prefixes.add(target.slice(0, length));
+  }
+  return prefixes;
+}
+
+/**
+ * Index of the last node belonging to the switch at `switchIndex`: case and
+ * default nodes, breaks, the switch's own targets and statements inside a case
+ * @returns {number}
+ */
+export function switchExtent(index, graph, switchIndex) {
+  const { ids, count, caseish, isBreak, inCase, inCaseEnd } = index;
+  const targets = caseTargetPrefixes(graph, ids[switchIndex]);
+  let i = switchIndex + 1;
+  // Until the first case/break only the switch's own edges pull nodes in
+  while (i < count && !caseish[i] && !isBreak[i] && targets.has(ids[i])) i++;
+  if (i < count && (caseish[i] || isBreak[i])) {
+    while (i < count) {
+      if (inCase[i]) i = inCaseEnd[i] + 1;
+      else if (targets.has(ids[i])) i++;
+      else break;
+    }
+  }
+  return i - 1;
+}
+
+/**
+ * For each node, how far the straight line of unlabeled edges to the following
+ * nodes runs, stopping after a break
+ * @returns {Int32Array}
+ */
+export function buildPathEnds(index, graph) {
+  const { ids, count, isBreak } = index;
+  const pathEnd = new Int32Array(count);
+  for (let i = count - 1; i >= 0; i--) {
+    const linked = i + 1 < count && graph.hasEdge(ids[i], ids[i + 1]);
+    pathEnd[i] = !linked ? i : isBreak[i + 1] ? i + 1 : pathEnd[i + 1];
+  }
+  return pathEnd;
+}
+
+/**
+ * Index of the last node reached from the switch along case paths: its direct
+ * targets, then each case's straight-line successors up to and including a break
+ * @returns {number}
+ */
+export function switchPathExtent(index, graph, switchIndex, pathEnd) {
+  const { ids, count, position } = index;
+  const targets = new Set();
+  const spans = [];
+  for (const e of graph.outgoing(ids[switchIndex])) {
+    if (graph.edgeKind[e] !== EdgeKind.ARROW || graph.edgeLabelOf(e) !== null) continue;
+    const match = String(graph.edgeTarget(e)).match(/^N\d+/);
+    if (!match) continue;
+    const caseIndex = position.get(match[0]);
+    if (caseIndex === undefined) continue;
+    targets.add(caseIndex);
+    if (pathEnd[caseIndex] > caseIndex) spans.push([caseIndex + 1, pathEnd[caseIndex]]);
+  }
+  spans.sort((a, b) => a[0] - b[0]);
+
+  let i = switchIndex + 1;
+  let span = 0;
+  let reach = -1;
+  while (i < count) {
+    while (span < spans.length && spans[span][0] <= i) {
+      reach = Math.max(reach, spans[span][1]);
+      span++;
+    }
+    if (reach >= i) i = reach + 1;
+    else if (targets.has(i)) i++;
+    else break;
+  }
+  return i - 1;
+}
+
+// Whether an arrow edge, labelled or not, leads from `from` to `to`
+export function hasArrowTo(graph, from, to) {
+  return graph.outgoing(from).some(e => graph.edgeKind[e] === EdgeKind.ARROW && graph.edgeTarget(e) === to);
+}
+
+/**
+ * Join pass: the No branches of if-else-if chains go to the next condition
+ * instead of the end node
+ * @param {Object} context - FlowContext
+ */
+export function elseIfChainJoins(context) {
+  if (!context.pendingJoins || context.pendingJoins.length === 0) return;
+  const graph = context.graph;
+  const index = nodeIndex(context);
+  const { ids, count } = index;
+
+  // A condition continues the chain of the previous decision node when the if
+  // mappers marked it as an else-if; a loop or switch in between is the
+  // previous decision node itself and ends the chain
+  const chainLinks = [];
+  let previous = -1;
+  for (let i = 0; i < count; i++) {
+    if (!index.isDecision[i]) continue;
+    if (previous !== -1 &&
+        context.decisionKinds.has(ids[previous]) &&
+        context.decisionKinds.get(ids[i]) === 'else-if') {
+      chainLinks.push([ids[previous], ids[i]]);
+    }
+    previous = i;
+  }
+  const chainNodeIds = new Set(chainLinks.map(([from]) => from));
+
+  // No branches of chain conditions are replaced by the chain edges below
+  const remainingJoins = [];
+  context.pendingJoins.forEach(join => {
+    const newEdges = join.edges.filter(edge => !edge.from || edge.label !== 'No' || !chainNodeIds.has(edge.from));
+    if (newEdges.length > 0) {
+      remainingJoins.push({ edges: newEdges });
+    }
+  });
+
+  // Connect the No branches of chain nodes to the next condition in their chain,
+  // unless they already are
+  chainLinks.forEach(([from, to]) => {
+    if (!graph.hasEdge(from, to, 'No')) {
+      context.addEdge(from, to, 'No');
+    }
+  });
+
+  context.pendingJoins = remainingJoins;
+}
+
+/**
+ * Join pass: a flow that ends in a switch leaves SWITCH_EXIT in `last`; point
+ * it at the statement after the last switch, or the end node
+ * @param {Object} context - FlowContext
+ * @param {string} endId - End node ID
+ */
+export function switchExitLast(context, endId) {
+  if (context.last !== SWITCH_EXIT) return;
+  const index = nodeIndex(context);
+  let nextStatementId = endId;
+  if (index.switches.length > 0) {
+    const last = switchExtent(index, context.graph, index.switches[index.switches.length - 1]);
+    if (last + 1 < index.count) {
+      nextStatementId = index.ids[last + 1];
+    }
+  }
+  context.last = nextStatementId;
+}
+
+/**
+ * Closing pass: complete the if statements still open, queueing their joins
+ * @param {Object} context - FlowContext
+ */
+export function completeOpenIfs(context) {
+  while (context.ifStack && context.ifStack.length > 0) {
+    context.completeIf();
+  }
+}
+
+/**
+ * Closing pass: the very last statement of the flow connects to the end node
+ * @param {Object} context - FlowContext
+ * @param {string} endId - End node ID
+ */
+export function lastNodeToEnd(context, endId) {
+  const { ids, count } = nodeIndex(context);
+  if (count > 0 && !hasArrowTo(context.graph, ids[count - 1], endId)) {
+    context.addEdge(ids[count - 1], endId);
+  }
+}
+
+/**
+ * Closing pass: dotted edges from recorded function calls to the subgraphs of
+ * their functions
+ * @param {Object} context - FlowContext
+ */
+export function functionCallEdges(context) {
+  if (!context.functionCalls || !context.subgraphIds) return;
+  context.functionCalls.forEach(({ callId, functionName }) => {
+    if (functionName && context.subgraphIds[functionName]) {
+      context.graph.addEdge(callId, context.subgraphIds[functionName], null, EdgeKind.DOTTED);
+    }
+  });
+}
@@ -0,0 +1,347 @@
+/**
+ * Walkers over the normalized IR. Each language describes its traversal as a
+ * spec of per-type rules built from the steps below, and flowWalker() turns the
+ * spec into a walk(node, ctx) function. `ctx` is the object that receives the
+ * callbacks: `handle(node)` for every visited node (returning SKIP leaves the
+ * rest of the node's rule, and so its children, unwalked), plus the optional
+ * branch, switch and loop hooks (enterBranch, exitBranch, completeIf,
+ * completeSwitch, completeLoop), which are only called when ctx provides them.
+ *
+ * Steps are not functions but small op descriptors; a rule compiles to a flat
+ * list of ops, and walk() runs them with an explicit stack of frames (node,
+ * ops, position, array being iterated, index, state) kept in parallel arrays
+ * owned by the walker. Nesting depth is bounded by memory, not by the call
+ * stack, and visiting a node allocates nothing.
+ *
+ * Under a conversion's time budget (see shared/budget.mjs) every op is a
+ * checkpoint. When the budget runs out the outermost walk stops where it is and
+ * returns normally, so the build goes on to finalize the flow mapped so far.
+ *
+ * While a walk runs, currentWalkNode() finds the nodes on its stack, so code the
+ * walk calls into (a context allocating node IDs) can tell where in the IR it is.
+ */
+
+import { currentBudget, BudgetExceeded } from '../shared/budget.mjs';
+
+const HANDLE = 0;
+const EACH = 1;
+const HOOK = 2;
+const STEP = 3;
+const SKIP_UNLESS = 4;
+const ENTER = 5;
+const EXIT = 6;
+const CALL = 7;
+
+// Stack search of the walk running now (the innermost walker), see currentWalkNode()
+let activeWalk = null;
+
+/**
+ * Innermost node on the running walk's stack that passes a test, skipping the
+ * values a rule made up on the way (wrapped branches, selected statement lists)
+ * @param {Function} test - (node) => boolean
+ * @returns {Object|null} - The node, or null outside a walk
+ */
+export function currentWalkNode(test) {
+  return activeWalk === null ? null : activeWalk(test);
+}
+
+// Ops of each rule: a rule is an op, a (nested) list of them, or a plain
+// (node, ctx, walk) function, which runs as one op and may walk recursively
+function compile(steps, ops = []) {
+  for (const step of steps) {
+    if (Array.isArray(step)) {
+      compile(step, ops);
+    } else if (typeof step === 'function') {
+      ops.push({ op: CALL, fn: step });
+    } else {
+      ops.push(step);
+    }
+  }
+  return ops;
+}
+
+/**
+ * Build a walk function from a traversal spec
+ * @param {Object} spec
+ * @param {Object} [spec.rules] - Node type -> step run after the node is handled
+ * @param {*} [spec.otherwise] - Step for node types without a rule
+ * @param {boolean} [spec.handleFirst] - Call ctx.handle(node) before the rule
+ *   (false when the rules decide when to handle)
+ * @param {boolean} [spec.arrays] - Walk each element of an array passed as a node
+ * @returns {Function} - walk(node, ctx)
+ */
+export function flowWalker({ rules = {}, otherwise = children, handleFirst = true, arrays = false }) {
+  const prefix = handleFirst ? [handle] : [];
+  const programs = new Map();
+  for (const type of Object.keys(rules)) {
+    programs.set(type, Object.freeze(compile([prefix, rules[type]])));
+  }
+  const fallback = Object.freeze(compile([prefix, otherwise]));
+  const arrayProgram = Object.freeze(compile([each(self)]));
+
+  // Frame stack; a frame lives at the same index in every array
+  const nodes = [];
+  const codes = [];
+  const pcs = [];
+  const lists = [];
+  const idxs = [];
+  const states = [];
+  let sp = 0;
+
+  function push(node, program) {
+    if (!program) {
+      program = arrays && Array.isArray(node) ? arrayProgram : (programs.get(node.type) || fallback);
+    }
+    nodes[sp] = node;
+    codes[sp] = program;
+    pcs[sp] = 0;
+    lists[sp] = null;
+    idxs[sp] = 0;
+    states[sp] = undefined;
+    sp++;
+  }
+
+  // Walk an array element by element from the top frame (see EACH), or a single node
+  function walkValue(value, step, ctx) {
+    if (Array.isArray(value) && !step.single) {
+      lists[sp - 1] = value;
+      idxs[sp - 1] = 0;
+      return false;
+    }
+    push(value, step.rule ? step.rule(value, ctx) : null);
+    return true;
+  }
+
+  function innermost(test) {
+    for (let i = sp - 1; i >= 0; i--) {
+      if (test(nodes[i])) return nodes[i];
+    }
+    return null;
+  }
+
+  function walk(node, ctx) {
+    if (!node) return;
+    const budget = currentBudget();
+    if (budget !== null && budget.expired('walking')) return;
+    // Reentrant: a plain-function rule or a ctx callback may walk again
+    const base = sp;
+    const outerWalk = activeWalk;
+    activeWalk = innermost;
+    push(node, null);
+    try {
+      while (sp > base) {
+        if (budget !== null) budget.tick('walking');
+        const top = sp - 1;
+        const program = codes[top];
+        const pc = pcs[top];
+        if (pc >= program.length) {
+          sp = top;
+          nodes[top] = codes[top] = lists[top] = states[top] = null;
+          continue;
+        }
+
+        const step = program[pc];
+        const current = nodes[top];
+        switch (step.op) {
+          case HANDLE:
+            if (ctx && typeof ctx.handle === 'function' && ctx.handle(current) === SKIP) {
+              pcs[top] = program.length;
+              break;
+            }
+            pcs[top] = pc + 1;
+            break;
+
+          case EACH: {
+            // In the middle of an array: walk its next element, staying on this op
+            const list = lists[top];
+            if (list) {
+              let i = idxs[top];
+              while (i < list.length && (!list[i] || (step.filter && !step.filter(list[i], i)))) i++;
+              if (i < list.length) {
+                idxs[top] = i + 1;
+                push(list[i], step.rule ? step.rule(list[i], ctx) : null);
+              } else {
+                lists[top] = null;
+                pcs[top] = pc + 1;
+              }
+              break;
+            }
+            let value = step.select ? step.select(current, ctx) : current[step.name];
+            if (value && step.branch) value = step.branch(value, step.label);
+            if (value && step.flatten) value = unwrapBlock(value);
+            if (!value || walkValue(value, step, ctx)) pcs[top] = pc + 1;
+            break;
+          }
+
+          case HOOK:
+            if (typeof ctx?.[step.name] === 'function') ctx[step.name]();
+            pcs[top] = pc + 1;
+            break;
+
+          case STEP:
+            pcs[top] = pc + 1;
+            states[top] = step.fn(current, ctx, states[top]);
+            break;
+
+          case SKIP_UNLESS:
+            pcs[top] = step.test(current, ctx, states[top]) ? pc + 1 : pc + 1 + step.skip;
+            break;
+
+          case ENTER: {
+            // Enter a then/else branch, or skip it (the walk and the exit)
+            const hooked = typeof ctx?.enterBranch === 'function';
+            if ((step.requireHooks && !hooked) || (!current[step.label] && !step.visitEmpty)) {
+              pcs[top] = pc + 3;
+              break;
+            }
+            if (hooked) ctx.enterBranch(step.label);
+            pcs[top] = pc + 1;
+            break;
+          }
+
+          case EXIT:
+            if (typeof ctx?.exitBranch === 'function') ctx.exitBranch(step.label);
+            pcs[top] = pc + 1;
+            break;
+
+          case CALL:
+            pcs[top] = pc + 1;
+            step.fn(current, ctx, walk);
+            break;
+        }
+      }
+    } catch (error) {
+      // Out of time: only the outermost walk stops quietly, nested ones unwind to it
+      if (base !== 0 || !(error instanceof BudgetExceeded)) throw error;
+    } finally {
+      // Drop what an exception left above this walk
+      for (let i = base; i < sp; i++) {
+        nodes[i] = codes[i] = lists[i] = states[i] = null;
+      }
+      sp = base;
+      activeWalk = outerWalk;
+    }
+  }
+  return walk;
+}
+
+// A Block's statements, or the value itself for anything else
+function unwrapBlock(value) {
+  return value.type === 'Block' && value.body ? value.body : value;
+}
+
+// Selector of the node itself (an array walked by spec.arrays)
+function self(node) {
+  return node;
+}
+
+/**
+ * Run steps one after the other
+ * @param {...*} steps
+ * @returns {Array} - Step
+ */
+export function sequence(...steps) {
+  return Object.freeze(compile(steps));
+}
+
+// Step: pass the node to ctx.handle
+export const handle = Object.freeze({ op: HANDLE });
+
+// Returned by ctx.handle(node) to skip the rest of the node's rule
+export const SKIP = Symbol('skip');
+
+// Step: nothing more to walk (the mapper handles the whole node)
+export const leaf = Object.freeze([]);
+
+/**
+ * Step: walk a field, element by element when it holds an array
+ * @param {string|Function} name - Field name, or (node, ctx) => value to walk
+ * @param {Object} [options]
+ * @param {boolean} [options.flatten] - Walk the statements of a Block directly
+ * @param {Function} [options.filter] - (element, index) => whether to walk an array element
+ * @param {Function} [options.rule] - (child, ctx) => a sequence() to walk the child
+ *   with instead of its rule (asked when the child is reached), or null
+ * @returns {Object} - Step
+ */
+export function each(name, { flatten = false, filter = null, rule = null } = {}) {
+  return eachOp(name, { flatten, filter, rule });
+}
+
+/**
+ * Step: walk a field as a single node
+ * @param {string|Function} name - Field name, or (node, ctx) => node to walk
+ * @param {Object} [options]
+ * @param {Function} [options.rule] - As for each()
+ * @returns {Object} - Step
+ */
+export function field(name, { rule = null } = {}) {
+  return eachOp(name, { single: true, rule });
+}
+
+// EACH ops all have the same shape
+function eachOp(name, { single = false, flatten = false, filter = null, rule = null, branch = null, label = null }) {
+  return Object.freeze({
+    op: EACH,
+    name: typeof name === 'function' ? null : name,
+    select: typeof name === 'function' ? name : null,
+    single,
+    flatten,
+    filter,
+    rule,
+    branch,
+    label
+  });
+}
+
+/**
+ * Step: call an optional ctx hook, e.g. hook('completeSwitch')
+ * @param {string} name - Hook name
+ * @returns {Object} - Step
+ */
+export function hook(name) {
+  return Object.freeze({ op: HOOK, name });
+}
+
+/**
+ * Step: run a function of the node. Its result is kept as the state of the
+ * node's frame and passed to the next step() and when() of the same rule, which
+ * lets a rule save something before walking children and restore it after.
+ * @param {Function} fn - (node, ctx, state) => new state
+ * @returns {Object} - Step
+ */
+export function step(fn) {
+  return Object.freeze({ op: STEP, fn });
+}
+
+/**
+ * Step: run steps only when a test of the node passes
+ * @param {Function} test - (node, ctx, state) => boolean
+ * @param {...*} steps
+ * @returns {Array} - Step
+ */
+export function when(test, ...steps) {
+  const ops = compile(steps);
+  return Object.freeze([{ op: SKIP_UNLESS, test, skip: ops.length }, ...ops]);
+}
+
+/**
+ * Step: walk the then and else branches of a conditional inside
+ * enterBranch/exitBranch, then complete it with completeIf
+ * @param {Object} [options]
+ * @param {boolean} [options.requireHooks] - Skip branches when ctx has no enterBranch
+ * @param {boolean} [options.emptyThen] - Enter and exit a missing then branch
+ * @param {boolean} [options.flatten] - Walk the statements of a Block branch directly
+ * @param {Function} [options.branch] - (value, name) => node to walk for the 'then' or 'else' branch
+ * @returns {Array} - Step
+ */
+export function branches({ requireHooks = true, emptyThen = false, flatten = false, branch = null } = {}) {
+  const visit = (label, visitEmpty) => [
+    { op: ENTER, label, requireHooks, visitEmpty },
+    eachOp(label, { flatten, branch, label }),
+    { op: EXIT, label }
+  ];
+  return sequence(visit('then', emptyThen), visit('else', false), hook('completeIf'));
+}
+
+// Default step: the body, then the then/else fields of other node shapes
+export const children = sequence(each('body'), field('then'), field('else'));
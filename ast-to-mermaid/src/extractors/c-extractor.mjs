@@ -1,5 +1,5 @@
-import Parser from "tree-sitter";
 import C from "tree-sitter-c";
+import { withParser, parseSource } from "../shared/parser-pool.mjs";
 
 /**
  * Dynamic Tree-sitter parser for C code
@@ -7,7 +7,5 @@ import C from "tree-sitter-c";
  * @returns {Object} - Parsed AST root node
  */
 export function extractC(code) {
-  const parser = new Parser();
-  parser.setLanguage(C);
-  return parser.parse(code).rootNode;
+  return withParser("c", C, (parser) => parseSource(parser, code).rootNode);
 }
\ No newline at end of file
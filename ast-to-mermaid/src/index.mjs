@@ -1,74 +1,64 @@
 /**
  * Main entry point for the AST to Mermaid converter
  */
-import { extractAST } from './mappings/languages/c/extractors/example-extractor.js';
 import { convertAST as convertASTFromPipeline } from './mappings/languages/c/pipeline/emit-mermaid.js';
-import { generateFlowchart as generateCFlowchart } from './mappings/languages/c/pipeline/flow.mjs';
-import { generateFlowchart as generatePascalFlowchart } from './mappings/languages/pascal/pipeline/flow.mjs';
-import { generateFlowchart as generateCppFlowchart } from './mappings/languages/cpp/pipeline/flow.mjs';
-import { generateFlowchart as generateFortranFlowchart } from './mappings/languages/fortran/pipeline/flow.mjs';
-import { generateFlowchart as generateJavaFlowchart } from './mappings/languages/java/pipeline/flow.mjs';
-import { generateFlowchart as generateJavaScriptFlowchart } from './mappings/languages/javascript/pipeline/flow.mjs';
-import { generateFlowchart as generatePythonFlowchart } from './mappings/languages/python/pipeline/flow.mjs';
-import { generateFlowchart as generateTypeScriptFlowchart } from './mappings/languages/typescript/pipeline/flow.mjs';
+import { hasLanguagePack, loadLanguagePack } from './shared/language-registry.mjs';
+import { GraphBuilder, graphFromLines } from './shared/graph-json.mjs';
+import { Shape } from './shared/flow-graph.mjs';
+import { compactMermaid } from './shared/compact-mermaid.mjs';
+import { stableIdMermaid } from './shared/stable-ids.mjs';
 
-export async function convertAST(sourceCode, language) {
-  try {
-    // Handle flowchart generation for specific languages
-    if (language === 'pascal') {
-      // Use the Pascal flowchart generator
-      return generatePascalFlowchart(sourceCode);
-    }
-    
-    if (language === 'cpp') {
-      // Use the C++ flowchart generator
-      return await generateCppFlowchart(sourceCode);
-    }
-    
-    if (language === 'fortran') {
-      // Use the Fortran flowchart generator
-      return generateFortranFlowchart(sourceCode);
-    }
-    
-    if (language === 'java') {
-      // Use the Java flowchart generator
-      return generateJavaFlowchart(sourceCode);
-    }
-    
-    if (language === 'javascript') {
-      // Use the JavaScript flowchart generator
-      return generateJavaScriptFlowchart(sourceCode);
-    }
-    
-    if (language === 'python') {
-      // Use the Python flowchart generator
-      return generatePythonFlowchart(sourceCode);
-    }
-    
-    if (language === 'typescript') {
-      // Use the TypeScript flowchart generator
-      return generateTypeScriptFlowchart(sourceCode);
-    }
+// Placeholder diagram returned when a conversion throws
+export const ERROR_DIAGRAM = `graph TD
+    A[Start] --> B{Error}
+    B --> C[End]`;
+
+// The same placeholder as graph JSON, for { format: 'graph' }
+export const ERROR_GRAPH = (() => {
+  const builder = new GraphBuilder();
+  builder.node('A', Shape.PROCESS, 'Start');
+  builder.node('B', Shape.DECISION, 'Error');
+  builder.node('C', Shape.PROCESS, 'End');
+  builder.edge('A', 'B');
+  builder.edge('B', 'C');
+  return builder.toJSON();
+})();
 
-    if (language === 'c') {
-      // Use C flowchart pipeline with proper if/else support
-      return generateCFlowchart(sourceCode);
+/**
+ * Convert source code to a Mermaid flowchart
+ * @param {string} sourceCode - Source code to convert
+ * @param {string} language - Normalized language key
+ * @param {Object} [options] - Pipeline options passed through to the language generator
+ *   (e.g. { detail, expand } for level of detail, { format: 'graph' } for graph JSON,
+ *   { format: 'compact' } for compact Mermaid, { ids: 'stable' } for stable node IDs)
+ * @returns {Promise<string|Object>} - Mermaid flowchart, or the graph with { format: 'graph' };
+ *   rejects only for request errors (with `status`)
+ */
+export async function convertAST(sourceCode, language, options = {}) {
+  try {
+    // Language packs are loaded on first use through the registry
+    if (hasLanguagePack(language)) {
+      const { generateFlowchart } = await loadLanguagePack(language);
+      return await generateFlowchart(sourceCode, options);
     }
     
     // Parse the source code using the appropriate tree-sitter parser
+    const { extractAST } = await import('./mappings/languages/c/extractors/example-extractor.js');
     const ast = extractAST(sourceCode, language);
     
     // Convert AST to Mermaid diagram
     const mermaidDiagram = convertASTFromPipeline(ast);
     
-    return mermaidDiagram;
+    if (options.format === 'graph') return graphFromLines(mermaidDiagram.split('\n'));
+    if (options.format === 'compact') return compactMermaid(mermaidDiagram);
+    return options.ids === 'stable' ? stableIdMermaid(mermaidDiagram) : mermaidDiagram;
   } catch (error) {
+    // Errors about the request itself (e.g. an unknown region) reach the caller
+    if (error?.status) throw error;
     console.error(`Error converting ${language} source code to Mermaid diagram:`, error.message);
     
     // Return a simple placeholder diagram on error
-    return `graph TD
-    A[Start] --> B{Error}
-    B --> C[End]`;
+    return options.format === 'graph' ? ERROR_GRAPH : ERROR_DIAGRAM;
   }
 }
 
@@ -1,42 +0,0 @@
-import fs from 'fs';
-import { extractC } from './src/mappings/languages/c/extractors/c-extractor.mjs';
-
-// Read the test C file
-const sourceCode = fs.readFileSync('test-flowchart.c', 'utf8');
-
-console.log('Debugging case statement structure...');
-console.log('===================================');
-
-try {
-  // 1. Extract AST
-  const ast = extractC(sourceCode);
-  
-  // Look for case statements
-  function findCaseStatements(node, depth = 0) {
-    if (node.type === 'case_statement' || node.type === 'default_statement') {
-      console.log(`${'  '.repeat(depth)}${node.type}:`);
-      console.log(`${'  '.repeat(depth + 1)}Text: ${node.text}`);
-      console.log(`${'  '.repeat(depth + 1)}Children count: ${node.children?.length || 0}`);
-      if (node.children) {
-        node.children.forEach((child, index) => {
-          console.log(`${'  '.repeat(depth + 2)}Child ${index}: ${child.type} - "${child.text || 'N/A'}"`);
-        });
-      }
-      return true;
-    }
-    
-    if (node.children) {
-      for (const child of node.children) {
-        if (findCaseStatements(child, depth + 1)) return true;
-      }
-    }
-    
-    return false;
-  }
-  
-  findCaseStatements(ast);
-  
-} catch (error) {
-  console.error('Error:', error.message);
-  console.error(error.stack);
-}
\ No newline at end of file
@@ -1,38 +0,0 @@
-import fs from 'fs';
-import { extractC } from './src/mappings/languages/c/extractors/c-extractor.mjs';
-
-// Read the test C file
-const sourceCode = fs.readFileSync('test-flowchart.c', 'utf8');
-
-console.log('Debugging switch statement structure...');
-console.log('=====================================');
-
-try {
-  // 1. Extract AST
-  const ast = extractC(sourceCode);
-  
-  // Look for switch_statement
-  function findSwitchStatement(node) {
-    if (node.type === 'switch_statement') {
-      console.log(`Switch statement has ${node.children.length} children:`);
-      node.children.forEach((child, index) => {
-        console.log(`  ${index}: ${child.type} - ${child.text || 'N/A'}`);
-      });
-      return true;
-    }
-    
-    if (node.children) {
-      for (const child of node.children) {
-        if (findSwitchStatement(child)) return true;
-      }
-    }
-    
-    return false;
-  }
-  
-  findSwitchStatement(ast);
-  
-} catch (error) {
-  console.error('Error:', error.message);
-  console.error('Stack:', error.stack);
-}
\ No newline at end of file
@@ -1,8 +1,6 @@
-import Parser from "tree-sitter";
 import C from "tree-sitter-c";
+import { withParser, parseSource } from "../../../../shared/parser-pool.mjs";
 
 export function extractC(code) {
-  const parser = new Parser();
-  parser.setLanguage(C);
-  return parser.parse(code).rootNode;
+  return withParser("c", C, (parser) => parseSource(parser, code).rootNode);
 }
\ No newline at end of file
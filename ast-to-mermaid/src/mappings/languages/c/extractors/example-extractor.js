@@ -2,8 +2,8 @@
  * C language AST extractor using tree-sitter
  */
 
-import Parser from 'tree-sitter';
 import C from 'tree-sitter-c';
+import { withParser } from '../../../../shared/parser-pool.mjs';
 
 export function extractAST(sourceCode, language) {
   // Validate input
@@ -17,12 +17,8 @@ export function extractAST(sourceCode, language) {
   }
   
   try {
-    // Initialize parser with C language
-    const parser = new Parser();
-    parser.setLanguage(C);
-    
-    // Parse the source code
-    const tree = parser.parse(sourceCode);
+    // Parse the source code with a pooled C parser
+    const tree = withParser('c', C, (parser) => parser.parse(sourceCode));
     
     // Convert tree to AST format
     return convertTreeToAST(tree.rootNode);
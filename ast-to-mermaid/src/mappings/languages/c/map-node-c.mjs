@@ -14,8 +14,14 @@ import { mapIO } from "./io/io.mjs";
 import { mapDecl } from "./other-statements/declaration.mjs";
 import { mapExpr } from "./other-statements/expression.mjs";
 import { mapBlockStatement } from "./other-statements/block.mjs";
+import { mapOwningCallSites } from "../../../shared/call-sites.mjs";
 
+// The flow node created for a statement owns the calls in its source range
 export function mapNodeC(node, ctx) {
+  return mapOwningCallSites(node, ctx, mapCNode);
+}
+
+function mapCNode(node, ctx) {
   switch (node.type) {
     case "If": return mapIf(node, ctx);
     case "For": return mapFor(node, ctx);
@@ -1,28 +1,66 @@
+import { collectCallSites, withRange } from '../../../../shared/call-sites.mjs';
+import { syntaxKinds, syntaxView } from '../../../../shared/syntax-view.mjs';
+import { reusedFunction, keepFunction } from '../../../../shared/function-reuse.mjs';
+
+// Call nodes recorded in the per-conversion call-site table
+const CALL_TYPES = new Set(['call_expression']);
+
+// Node types the normalizer dispatches on
+const C = syntaxKinds([
+  'translation_unit', 'function_definition', 'function_declarator', 'compound_statement',
+  'if_statement', 'else_clause', 'for_statement', 'while_statement', 'do_statement',
+  'switch_statement', 'case_statement', 'default_statement', 'break_statement', 'continue_statement',
+  'expression_statement', 'declaration', 'return_statement', 'call_expression',
+  'assignment_expression', 'binary_expression', 'update_expression', 'parenthesized_expression',
+  'identifier', 'number_literal'
+]);
+
+// Callee of a call_expression; calls through pointers or members have no subgraph
+function callee(node) {
+  const fn = node.childForFieldName('function');
+  return fn && fn.kind === C.identifier ? fn.text : null;
+}
+
+/**
+ * Normalize a C syntax tree, read through a syntax view (see shared/syntax-view.mjs)
+ * @param {Object} node - Tree-sitter node
+ * @returns {Object} - Normalized node
+ */
 export function normalizeC(node) {
+  return normalize(syntaxView(node, C));
+}
+
+// Normalize a C node and tag the result with its source range
+function normalize(node) {
+  return withRange(normalizeCNode(node), node);
+}
+
+function normalizeCNode(node) {
   if (!node) return null;
 
-  switch (node.type) {
+  switch (node.kind) {
     // -------------------------
     // ROOT NODE
     // -------------------------
-    case "translation_unit":
+    case C.translation_unit:
       // Return the children as a block
       return {
         type: "Block",
         body: node.children
-          .map(normalizeC)
-          .filter(Boolean)
+          .map(normalize)
+          .filter(Boolean),
+        callSites: collectCallSites(node, CALL_TYPES, callee)
       };
 
     // -------------------------
     // CONDITIONALS
     // -------------------------
-    case "if_statement":
+    case C.if_statement:
       // Handle else clause properly
       // Search for else_clause among children since comments can shift positions
       let elseClause = null;
-      for (let i = 0; i < node.children.length; i++) {
-        if (node.child(i) && node.child(i).type === 'else_clause') {
+      for (let i = 0; i < node.childCount; i++) {
+        if (node.child(i) && node.child(i).kind === C.else_clause) {
           elseClause = node.child(i);
           break;
         }
@@ -31,24 +69,23 @@ export function normalizeC(node) {
       let elseBranch = null;
       if (elseClause) {
         // The else clause has two children: 'else' keyword and the body
-        elseBranch = normalizeC(elseClause.child(1));
+        elseBranch = normalize(elseClause.child(1));
       } else if (node.child(3)) {
         // Fallback for other else structures (maintain backward compatibility)
-        elseBranch = normalizeC(node.child(3));
+        elseBranch = normalize(node.child(3));
       }
       
-      console.log('DEBUG: Processing if_statement, condition:', node.child(1)?.text);
       return {
         type: "If",
-        cond: normalizeC(node.child(1)),
-        then: normalizeC(node.child(2)),
+        cond: normalize(node.child(1)),
+        then: normalize(node.child(2)),
         else: elseBranch
       };
 
     // -------------------------
     // LOOPS
     // -------------------------
-    case "for_statement":
+    case C.for_statement:
       // Handle both declaration-style and assignment-style for loops
       // Both styles have the same pattern:
       // Child 2: init
@@ -64,86 +101,86 @@ export function normalizeC(node) {
       let forBodyNode = null;
       
       // Look for the condition, update, and body nodes
-      for (let i = 3; i < node.children.length; i++) {
+      for (let i = 3; i < node.childCount; i++) {
         const child = node.child(i);
         if (!child) continue;
         
-        if (child.type === "binary_expression" && !condNode) {
+        if (child.kind === C.binary_expression && !condNode) {
           condNode = child;
-        } else if (child.type === "update_expression" && !updateNode) {
+        } else if (child.kind === C.update_expression && !updateNode) {
           updateNode = child;
-        } else if (child.type === "compound_statement" && !forBodyNode) {
+        } else if (child.kind === C.compound_statement && !forBodyNode) {
           forBodyNode = child;
         }
       }
       
       return {
         type: "For",
-        init: normalizeC(initNode),
-        cond: normalizeC(condNode),
-        update: normalizeC(updateNode),
-        body: normalizeC(forBodyNode)
+        init: normalize(initNode),
+        cond: normalize(condNode),
+        update: normalize(updateNode),
+        body: normalize(forBodyNode)
       };
 
-    case "while_statement":
+    case C.while_statement:
       return {
         type: "While",
-        cond: normalizeC(node.child(1)),
-        body: normalizeC(node.child(2))
+        cond: normalize(node.child(1)),
+        body: normalize(node.child(2))
       };
 
-    case "do_statement":
+    case C.do_statement:
       return {
         type: "DoWhile",
-        body: normalizeC(node.child(1)),
-        cond: normalizeC(node.child(3))
+        body: normalize(node.child(1)),
+        cond: normalize(node.child(3))
       };
 
     // -------------------------
     // SWITCH
     // -------------------------
-    case "switch_statement":
+    case C.switch_statement:
       return {
         type: "Switch",
-        cond: normalizeC(node.child(1)),
-        body: normalizeC(node.child(2))
+        cond: normalize(node.child(1)),
+        body: normalize(node.child(2))
       };
     
-    case "case_statement":
+    case C.case_statement:
       // Check if this is actually a default statement
       if (node.child(0)?.text === "default") {
         return {
           type: "Default",
-          body: node.children.slice(2).map(normalizeC).filter(Boolean)
+          body: node.children.slice(2).map(normalize).filter(Boolean)
         };
       }
       
       return {
         type: "Case",
         value: node.child(1)?.text || null,
-        body: node.children.slice(3).map(normalizeC).filter(Boolean)
+        body: node.children.slice(3).map(normalize).filter(Boolean)
       };
     
-    case "default_statement":
+    case C.default_statement:
       return {
         type: "Default",
-        body: node.children.slice(2).map(normalizeC).filter(Boolean)
+        body: node.children.slice(2).map(normalize).filter(Boolean)
       };
     
-    case "break_statement":
+    case C.break_statement:
       return {
         type: "Break"
       };
     
-    case "continue_statement":
+    case C.continue_statement:
       return {
         type: "Continue"
       };
     
-    case "expression_statement":
+    case C.expression_statement:
       // Handle printf and scanf calls
       const expr = node.child(0);
-      if (expr && expr.type === "call_expression") {
+      if (expr && expr.kind === C.call_expression) {
         const func = expr.child(0);
         if (func && func.text === "printf") {
           // Format printf text as expected
@@ -184,21 +221,21 @@ export function normalizeC(node) {
         text: node.text
       };
     
-    case "update_expression":
+    case C.update_expression:
       return {
         type: "Expr",
         text: node.text
       };
     
-    case "declaration":
+    case C.declaration:
       return {
         type: "Decl",
         text: node.text
       };
     
-    case "compound_statement":
+    case C.compound_statement:
       // Make sure we have children and they make sense
-      if (!node.children || node.children.length < 2) {
+      if (!node.children || node.childCount < 2) {
         return {
           type: "Block",
           body: []
@@ -208,24 +245,27 @@ export function normalizeC(node) {
         type: "Block",
         body: node.children
           .slice(1, -1) // Remove opening and closing braces
-          .map(normalizeC)
+          .map(normalize)
           .filter(Boolean)
       };
 
     // -------------------------
     // FUNCTIONS
     // -------------------------
-    case "function_definition":
+    case C.function_definition:
+      // Unchanged since the session's last conversion (see shared/function-reuse.mjs)
+      const reused = reusedFunction(node);
+      if (reused) return reused;
       // More robust function definition handling
       // Extract function name from the identifier inside function_declarator
       const functionDeclarator = node.child(1);
       let functionName = "unknown";
       let paramText = "()";
       
-      if (functionDeclarator && functionDeclarator.type === 'function_declarator') {
+      if (functionDeclarator && functionDeclarator.kind === C.function_declarator) {
         // Get the identifier (function name)
         const identifier = functionDeclarator.child(0);
-        if (identifier && identifier.type === 'identifier') {
+        if (identifier && identifier.kind === C.identifier) {
           functionName = identifier.text;
         }
         
@@ -236,25 +276,25 @@ export function normalizeC(node) {
         }
       }
       
-      const bodyNode = node.child(node.children.length - 1);
+      const bodyNode = node.child(node.childCount - 1);
       
-      return {
+      return keepFunction(node, {
         type: "Function",
         name: functionName + paramText,
         parameters: paramText,
-        body: bodyNode ? normalizeC(bodyNode) : null
-      };
+        body: bodyNode ? normalize(bodyNode) : null
+      });
 
     // -------------------------
     // BASIC STATEMENTS
     // -------------------------
-    case "return_statement":
+    case C.return_statement:
       return {
         type: "Return",
         value: node.child(1)?.text || null
       };
 
-    case "assignment_expression":
+    case C.assignment_expression:
       // Check if this assignment expression contains function calls
       const assignFunctionCalls = [];
       
@@ -262,9 +302,9 @@ export function normalizeC(node) {
       function findAssignFunctionCalls(n) {
         if (!n) return;
         
-        if (n.type === 'call_expression') {
+        if (n.kind === C.call_expression) {
           const func = n.child(0);
-          if (func && func.type === 'identifier') {
+          if (func && func.kind === C.identifier) {
             assignFunctionCalls.push(func.text);
           }
         }
@@ -288,8 +328,7 @@ export function normalizeC(node) {
       
       return assignNode;
 
-    case "binary_expression":
-      console.log('DEBUG: Processing binary expression:', node.text);
+    case C.binary_expression:
       // Check if this binary expression contains function calls
       const functionCalls = [];
       
@@ -297,11 +336,9 @@ export function normalizeC(node) {
       function findFunctionCalls(n) {
         if (!n) return;
         
-        console.log('DEBUG: Checking node in findFunctionCalls:', n.type, n.text);
-        if (n.type === 'call_expression') {
+        if (n.kind === C.call_expression) {
           const func = n.child(0);
-          if (func && func.type === 'identifier') {
-            console.log('DEBUG: Found function call in binary expression:', func.text);
+          if (func && func.kind === C.identifier) {
             functionCalls.push(func.text);
           }
         }
@@ -320,15 +357,14 @@ export function normalizeC(node) {
       
       // If we found function calls, store them for later processing
       if (functionCalls.length > 0) {
-        console.log('DEBUG: Found function calls in binary expression:', functionCalls);
         exprNode.functionCalls = functionCalls;
       }
       
       return exprNode;
       
-    case "identifier":
-    case "number_literal":
-    case "parenthesized_expression":
+    case C.identifier:
+    case C.number_literal:
+    case C.parenthesized_expression:
       // Check if this parenthesized expression contains function calls
       const parenFunctionCalls = [];
       
@@ -336,11 +372,9 @@ export function normalizeC(node) {
       function findParenFunctionCalls(n) {
         if (!n) return;
         
-        console.log('DEBUG: Checking node in findParenFunctionCalls:', n.type, n.text);
-        if (n.type === 'call_expression') {
+        if (n.kind === C.call_expression) {
           const func = n.child(0);
-          if (func && func.type === 'identifier') {
-            console.log('DEBUG: Found function call in parenthesized expression:', func.text);
+          if (func && func.kind === C.identifier) {
             parenFunctionCalls.push(func.text);
           }
         }
@@ -359,7 +393,6 @@ export function normalizeC(node) {
       
       // If we found function calls, store them for later processing
       if (parenFunctionCalls.length > 0) {
-        console.log('DEBUG: Found function calls in parenthesized expression:', parenFunctionCalls);
         parenExprNode.functionCalls = parenFunctionCalls;
       }
       
@@ -368,7 +401,7 @@ export function normalizeC(node) {
     // -------------------------
     // BLOCKS
     // -------------------------
-    case "compound_statement":
+    case C.compound_statement:
       // Make sure we have children
       if (!node.children) {
         return {
@@ -379,7 +412,7 @@ export function normalizeC(node) {
       return {
         type: "Block",
         body: node.children
-          .map(normalizeC)
+          .map(normalize)
           .filter(Boolean)
       };
 
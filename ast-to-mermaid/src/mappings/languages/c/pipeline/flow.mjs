@@ -3,109 +3,52 @@ import { normalizeC } from '../normalizer/normalize-c.mjs';
 import { mapNodeC } from '../map-node-c.mjs';
 import { walk } from '../walkers/walk.mjs';
 import { ctx } from '../mermaid/context.mjs';
-import { finalizeFlowContext } from '../mermaid/finalize-context.mjs';
+import { flowchartPipeline, functionFlow, walkedFunctions } from '../../../../engine/pipeline.mjs';
 
 /**
- * Generate VTU-style Mermaid flowchart from C source code
- * @param {string} sourceCode - C source code
- * @returns {string} - Mermaid flowchart
+ * Walk nodes into a context with the C mappers
+ * @param {Object} target - Node to walk
+ * @param {Object} context - Flow context (receives the walker's branch and loop hooks)
  */
-export function generateFlowchart(sourceCode) {
-  
-  // 1. Extract AST using Tree-sitter
-  const ast = extractC(sourceCode);
-  
-  // 2. Normalize AST to unified node types
-  const normalized = normalizeC(ast);
-  
-  // 3. Create context for flowchart generation
-  const context = ctx();
-  
-  // Manually set the start node
-  context.add('N1', '(["start"])');
-  context.setLast('N1');
-  
-  // 4. Identify functions (main + user-defined)
-  let mainFunction = null;
-  const userFunctions = [];
-
-  if (normalized) {
-    const collectFunctions = {
-      handle: (node) => {
-        if (node && node.type === 'Function') {
-          if (isMainFunction(node)) {
-            mainFunction = node;
-          } else {
-            userFunctions.push(node);
-          }
-        }
-      }
-    };
-
-    walk(normalized, collectFunctions);
-  }
-
-  // 5. Walk nodes to build main flowchart
-  if (normalized) {
-    const target = mainFunction?.body || normalized;
-    context.handle = (node) => {
-      if (node && node.type) {
-        mapNodeC(node, context);
-      }
-    };
-    walk(target, context);
-    delete context.handle;
-  }
-
-  // 6. Finalize main context
-  finalizeFlowContext(context);
-
-  // 7. Build subgraphs for user-defined functions (only when a main function exists)
-  const subgraphIds = {}; // Map function names to their subgraph IDs
-  
-  if (mainFunction && userFunctions.length > 0) {
-    userFunctions.forEach(fnNode => {
-      if (!fnNode?.body) return;
-
-      const fnContext = context.fork();
-
-      // Process function body directly without creating start/end nodes
-      fnContext.handle = (node) => {
-        if (node && node.type) {
-          mapNodeC(node, fnContext);
-        }
-      };
-      walk(fnNode.body, fnContext);
-      delete fnContext.handle;
-
-      // Finalize function-specific context but don't add end node for subgraphs
-      finalizeFlowContext(fnContext, false);
-
-      const subgraphId = context.nextSubgraphId();
-      // Extract function name properly by splitting on '(' to remove parameters
-      const functionName = fnNode.name ? fnNode.name.split('(')[0].trim() : "anonymous";
-      const subgraphLabel = `${subgraphId}["function ${fnNode.name || "anonymous"}"]`;
-      const subgraphLines = [
-        ...fnContext.nodes,
-        ...fnContext.edges
-      ];
-
-      context.addSubgraph(subgraphLabel, subgraphLines);
-
-      // Store subgraph ID for function calls to reference
-      subgraphIds[functionName] = subgraphId;
-    });
-  }
-  
-  // Store subgraph IDs in main context for function call connections
-  context.subgraphIds = subgraphIds;
-
-  // 8. Emit final Mermaid flowchart
-  return context.emit();
+function mapInto(target, context) {
+  context.handle = (node) => {
+    if (node && node.type) {
+      mapNodeC(node, context);
+    }
+  };
+  walk(target, context);
+  context.handle = null;
 }
 
 function isMainFunction(node) {
   if (!node?.name) return false;
   const name = node.name.trim();
   return name === 'main' || name === 'main()' || name.startsWith('main');
-}
\ No newline at end of file
+}
+
+/**
+ * Generate VTU-style Mermaid flowchart from C source code
+ * @param {string} sourceCode - C source code
+ * @param {Object} [options] - Pipeline options (see src/engine/pipeline.mjs), plus { aggregateCalls }
+ *   to link each function from one call node labelled with the call count
+ * @returns {string|Iterable<string>|Object} - Mermaid flowchart (its lines, with { lines: true };
+ *   the graph, with { format: 'graph' })
+ */
+export const generateFlowchart = flowchartPipeline({
+  extract: (sourceCode, options) => options.tree ? options.tree.rootNode : extractC(sourceCode),
+  normalize: normalizeC,
+  streams: true,
+  build: functionFlow({
+    ctx,
+    functions: walkedFunctions(walk, isMainFunction),
+    // The main function's body, or the whole program without one
+    walkMain: (normalized, main, context) => mapInto(main?.body || normalized, context),
+    // Function bodies are drawn without start/end nodes
+    functionLines: (fnNode, context) => {
+      const fnContext = context.fork();
+      mapInto(fnNode.body, fnContext);
+      fnContext.finalize(false);
+      return fnContext.graph.lines();
+    }
+  })
+});
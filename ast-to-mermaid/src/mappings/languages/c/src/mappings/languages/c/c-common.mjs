@@ -1 +0,0 @@
-export const getText = (node) => node?.text || "";
\ No newline at end of file
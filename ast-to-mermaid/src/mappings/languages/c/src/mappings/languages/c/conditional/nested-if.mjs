@@ -1,11 +0,0 @@
-/**
- * Nested if statement mapping for C language
- */
-
-export function mapNestedIfStatement(node) {
-  // Placeholder for nested if statement mapping logic
-  return {
-    type: 'nested-if',
-    nested: node.nested
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * Catch statement mapping for C language
- */
-
-export function mapCatchStatement(node) {
-  // Placeholder for catch statement mapping logic
-  return {
-    type: 'catch',
-    param: node.param,
-    body: node.body
-  };
-}
\ No newline at end of file
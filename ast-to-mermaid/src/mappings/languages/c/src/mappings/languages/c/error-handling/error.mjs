@@ -1,11 +0,0 @@
-/**
- * Error handling mapping for C language
- */
-
-export function mapErrorStatement(node) {
-  // Placeholder for error handling mapping logic
-  return {
-    type: 'error',
-    message: node.message
-  };
-}
\ No newline at end of file
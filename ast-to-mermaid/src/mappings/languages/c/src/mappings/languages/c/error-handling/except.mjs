@@ -1,11 +0,0 @@
-/**
- * Except statement mapping for C language
- */
-
-export function mapExceptStatement(node) {
-  // Placeholder for except statement mapping logic
-  return {
-    type: 'except',
-    handlers: node.handlers
-  };
-}
\ No newline at end of file
@@ -1,11 +0,0 @@
-/**
- * Finally statement mapping for C language
- */
-
-export function mapFinallyStatement(node) {
-  // Placeholder for finally statement mapping logic
-  return {
-    type: 'finally',
-    block: node.block
-  };
-}
\ No newline at end of file
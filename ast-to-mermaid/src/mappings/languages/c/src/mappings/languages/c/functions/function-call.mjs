@@ -1,12 +0,0 @@
-/**
- * Function call mapping for C language
- */
-
-export function mapFunctionCall(node) {
-  // Placeholder for function call mapping logic
-  return {
-    type: 'function-call',
-    callee: node.callee,
-    arguments: node.arguments
-  };
-}
\ No newline at end of file
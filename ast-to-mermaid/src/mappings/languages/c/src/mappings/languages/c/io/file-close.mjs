@@ -1,11 +0,0 @@
-/**
- * File close operation mapping for C language
- */
-
-export function mapFileCloseOperation(node) {
-  // Placeholder for file close operation mapping logic
-  return {
-    type: 'file-close',
-    file: node.file
-  };
-}
\ No newline at end of file
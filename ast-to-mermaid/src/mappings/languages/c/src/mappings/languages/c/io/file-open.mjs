@@ -1,12 +0,0 @@
-/**
- * File open operation mapping for C language
- */
-
-export function mapFileOpenOperation(node) {
-  // Placeholder for file open operation mapping logic
-  return {
-    type: 'file-open',
-    filename: node.filename,
-    mode: node.mode
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * File read operation mapping for C language
- */
-
-export function mapFileReadOperation(node) {
-  // Placeholder for file read operation mapping logic
-  return {
-    type: 'file-read',
-    file: node.file,
-    buffer: node.buffer,
-    size: node.size
-  };
-}
\ No newline at end of file
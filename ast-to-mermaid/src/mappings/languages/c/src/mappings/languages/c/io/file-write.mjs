@@ -1,13 +0,0 @@
-/**
- * File write operation mapping for C language
- */
-
-export function mapFileWriteOperation(node) {
-  // Placeholder for file write operation mapping logic
-  return {
-    type: 'file-write',
-    file: node.file,
-    buffer: node.buffer,
-    size: node.size
-  };
-}
\ No newline at end of file
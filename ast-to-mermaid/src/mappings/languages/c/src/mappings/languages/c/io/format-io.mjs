@@ -1,12 +0,0 @@
-/**
- * Formatted I/O operation mapping for C language
- */
-
-export function mapFormatIOOperation(node) {
-  // Placeholder for formatted I/O operation mapping logic
-  return {
-    type: 'format-io',
-    format: node.format,
-    arguments: node.arguments
-  };
-}
\ No newline at end of file
@@ -1,11 +0,0 @@
-/**
- * Input operation mapping for C language
- */
-
-export function mapInputOperation(node) {
-  // Placeholder for input operation mapping logic
-  return {
-    type: 'input',
-    source: node.source
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * Output operation mapping for C language
- */
-
-export function mapOutputOperation(node) {
-  // Placeholder for output operation mapping logic
-  return {
-    type: 'output',
-    destination: node.destination,
-    content: node.content
-  };
-}
\ No newline at end of file
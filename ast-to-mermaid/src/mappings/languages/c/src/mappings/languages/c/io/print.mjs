@@ -1,11 +0,0 @@
-/**
- * Print operation mapping for C language
- */
-
-export function mapPrintOperation(node) {
-  // Placeholder for print operation mapping logic
-  return {
-    type: 'print',
-    content: node.content
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * IO function mapping for C language
- */
-
-export function mapPrintfCall(node) {
-  // Placeholder for printf call mapping logic
-  return {
-    type: 'io',
-    function: 'printf',
-    arguments: node.arguments
-  };
-}
\ No newline at end of file
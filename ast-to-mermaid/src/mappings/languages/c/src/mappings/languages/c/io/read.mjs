@@ -1,12 +0,0 @@
-/**
- * Read operation mapping for C language
- */
-
-export function mapReadOperation(node) {
-  // Placeholder for read operation mapping logic
-  return {
-    type: 'read',
-    source: node.source,
-    target: node.target
-  };
-}
\ No newline at end of file
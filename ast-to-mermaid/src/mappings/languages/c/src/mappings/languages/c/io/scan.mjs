@@ -1,12 +0,0 @@
-/**
- * Scan operation mapping for C language
- */
-
-export function mapScanOperation(node) {
-  // Placeholder for scan operation mapping logic
-  return {
-    type: 'scan',
-    format: node.format,
-    targets: node.targets
-  };
-}
\ No newline at end of file
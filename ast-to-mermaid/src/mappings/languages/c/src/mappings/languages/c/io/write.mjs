@@ -1,12 +0,0 @@
-/**
- * Write operation mapping for C language
- */
-
-export function mapWriteOperation(node) {
-  // Placeholder for write operation mapping logic
-  return {
-    type: 'write',
-    destination: node.destination,
-    content: node.content
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * Do-while loop mapping for C language
- */
-
-export function mapDoWhileLoop(node) {
-  // Placeholder for do-while loop mapping logic
-  return {
-    type: 'do-while',
-    body: node.body,
-    test: node.test
-  };
-}
\ No newline at end of file
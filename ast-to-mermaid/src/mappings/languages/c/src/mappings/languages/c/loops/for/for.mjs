@@ -1,14 +0,0 @@
-/**
- * For loop mapping for C language
- */
-
-export function mapForLoop(node) {
-  // Placeholder for for loop mapping logic
-  return {
-    type: 'for',
-    init: node.init,
-    test: node.test,
-    update: node.update,
-    body: node.body
-  };
-}
\ No newline at end of file
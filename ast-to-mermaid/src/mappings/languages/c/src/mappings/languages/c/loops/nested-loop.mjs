@@ -1,11 +0,0 @@
-/**
- * Nested loop mapping for C language
- */
-
-export function mapNestedLoop(node) {
-  // Placeholder for nested loop mapping logic
-  return {
-    type: 'nested-loop',
-    nested: node.nested
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * While loop mapping for C language
- */
-
-export function mapWhileLoop(node) {
-  // Placeholder for while loop mapping logic
-  return {
-    type: 'while',
-    test: node.test,
-    body: node.body
-  };
-}
\ No newline at end of file
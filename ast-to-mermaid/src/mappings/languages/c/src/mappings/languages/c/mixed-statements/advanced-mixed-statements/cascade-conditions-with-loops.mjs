@@ -1,12 +0,0 @@
-/**
- * Cascade conditions with loops mixed statement mapping for C language
- */
-
-export function mapCascadeConditionsWithLoops(node) {
-  // Placeholder for cascade conditions with loops mixed statement mapping logic
-  return {
-    type: 'cascade-conditions-with-loops',
-    conditions: node.conditions,
-    loops: node.loops
-  };
-}
\ No newline at end of file
@@ -1,11 +0,0 @@
-/**
- * Chain nested mixed statement mapping for C language
- */
-
-export function mapChainNestedMixed(node) {
-  // Placeholder for chain nested mixed statement mapping logic
-  return {
-    type: 'chain-nested-mixed',
-    chain: node.chain
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * Complex multi branch loop mixed statement mapping for C language
- */
-
-export function mapComplexMultiBranchLoop(node) {
-  // Placeholder for complex multi branch loop mixed statement mapping logic
-  return {
-    type: 'complex-multi-branch-loop',
-    branches: node.branches,
-    loops: node.loops
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Conditional loop conditional mixed statement mapping for C language
- */
-
-export function mapConditionalLoopConditional(node) {
-  // Placeholder for conditional loop conditional mixed statement mapping logic
-  return {
-    type: 'conditional-loop-conditional',
-    outerCondition: node.outerCondition,
-    loop: node.loop,
-    innerCondition: node.innerCondition
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * Extreme nested mixed statement mapping for C language
- */
-
-export function mapExtremeNestedMixed(node) {
-  // Placeholder for extreme nested mixed statement mapping logic
-  return {
-    type: 'extreme-nested-mixed',
-    depth: node.depth,
-    structure: node.structure
-  };
-}
\ No newline at end of file
@@ -1,11 +0,0 @@
-/**
- * Hybrid mixed statement mapping for C language
- */
-
-export function mapHybridMixedStatement(node) {
-  // Placeholder for hybrid mixed statement mapping logic
-  return {
-    type: 'hybrid-mixed-statement',
-    components: node.components
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Loop conditional loop mixed statement mapping for C language
- */
-
-export function mapLoopConditionalLoop(node) {
-  // Placeholder for loop conditional loop mixed statement mapping logic
-  return {
-    type: 'loop-conditional-loop',
-    outerLoop: node.outerLoop,
-    condition: node.condition,
-    innerLoop: node.innerLoop
-  };
-}
\ No newline at end of file
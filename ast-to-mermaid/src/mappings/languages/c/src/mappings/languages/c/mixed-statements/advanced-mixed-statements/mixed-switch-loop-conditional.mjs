@@ -1,13 +0,0 @@
-/**
- * Mixed switch loop conditional mixed statement mapping for C language
- */
-
-export function mapMixedSwitchLoopConditional(node) {
-  // Placeholder for mixed switch loop conditional mixed statement mapping logic
-  return {
-    type: 'mixed-switch-loop-conditional',
-    switch: node.switch,
-    loop: node.loop,
-    condition: node.condition
-  };
-}
\ No newline at end of file
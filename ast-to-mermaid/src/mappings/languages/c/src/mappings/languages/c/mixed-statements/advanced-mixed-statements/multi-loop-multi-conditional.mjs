@@ -1,12 +0,0 @@
-/**
- * Multi loop multi conditional mixed statement mapping for C language
- */
-
-export function mapMultiLoopMultiConditional(node) {
-  // Placeholder for multi loop multi conditional mixed statement mapping logic
-  return {
-    type: 'multi-loop-multi-conditional',
-    loops: node.loops,
-    conditions: node.conditions
-  };
-}
\ No newline at end of file
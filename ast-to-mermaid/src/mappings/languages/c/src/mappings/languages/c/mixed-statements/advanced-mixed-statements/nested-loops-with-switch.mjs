@@ -1,12 +0,0 @@
-/**
- * Nested loops with switch mixed statement mapping for C language
- */
-
-export function mapNestedLoopsWithSwitch(node) {
-  // Placeholder for nested loops with switch mixed statement mapping logic
-  return {
-    type: 'nested-loops-with-switch',
-    loops: node.loops,
-    switch: node.switch
-  };
-}
\ No newline at end of file
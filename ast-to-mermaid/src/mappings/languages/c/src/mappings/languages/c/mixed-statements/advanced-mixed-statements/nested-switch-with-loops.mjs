@@ -1,12 +0,0 @@
-/**
- * Nested switch with loops mixed statement mapping for C language
- */
-
-export function mapNestedSwitchWithLoops(node) {
-  // Placeholder for nested switch with loops mixed statement mapping logic
-  return {
-    type: 'nested-switch-with-loops',
-    switch: node.switch,
-    loops: node.loops
-  };
-}
\ No newline at end of file
@@ -1,11 +0,0 @@
-/**
- * Recursive mixed nodes mapping for C language
- */
-
-export function mapRecursiveMixedNodes(node) {
-  // Placeholder for recursive mixed nodes mapping logic
-  return {
-    type: 'recursive-mixed-nodes',
-    recursive: node.recursive
-  };
-}
\ No newline at end of file
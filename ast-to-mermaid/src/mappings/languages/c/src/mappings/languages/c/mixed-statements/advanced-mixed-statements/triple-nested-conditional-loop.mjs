@@ -1,12 +0,0 @@
-/**
- * Triple nested conditional loop mixed statement mapping for C language
- */
-
-export function mapTripleNestedConditionalLoop(node) {
-  // Placeholder for triple nested conditional loop mixed statement mapping logic
-  return {
-    type: 'triple-nested-conditional-loop',
-    depth: node.depth,
-    structure: node.structure
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * Triple nested loop conditional mixed statement mapping for C language
- */
-
-export function mapTripleNestedLoopConditional(node) {
-  // Placeholder for triple nested loop conditional mixed statement mapping logic
-  return {
-    type: 'triple-nested-loop-conditional',
-    depth: node.depth,
-    structure: node.structure
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Deep conditional statements inside loop mapping for C language
- */
-
-export function mapDeepConditionalInsideLoop(node) {
-  // Placeholder for deep conditional statements inside loop mapping logic
-  return {
-    type: 'deep-conditional-inside-loop',
-    loop: node.loop,
-    depth: node.depth,
-    conditions: node.conditions
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Else-if statement inside do-while loop mapping for C language
- */
-
-export function mapElseIfInsideDoWhile(node) {
-  // Placeholder for else-if statement inside do-while loop mapping logic
-  return {
-    type: 'elseif-inside-do-while',
-    loop: node.loop,
-    condition: node.condition,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
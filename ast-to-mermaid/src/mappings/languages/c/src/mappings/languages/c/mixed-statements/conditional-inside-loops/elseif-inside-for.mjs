@@ -1,13 +0,0 @@
-/**
- * Else-if statement inside for loop mapping for C language
- */
-
-export function mapElseIfInsideFor(node) {
-  // Placeholder for else-if statement inside for loop mapping logic
-  return {
-    type: 'elseif-inside-for',
-    loop: node.loop,
-    condition: node.condition,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Else-if statement inside while loop mapping for C language
- */
-
-export function mapElseIfInsideWhile(node) {
-  // Placeholder for else-if statement inside while loop mapping logic
-  return {
-    type: 'elseif-inside-while',
-    loop: node.loop,
-    condition: node.condition,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * If statement inside do-while loop mapping for C language
- */
-
-export function mapIfInsideDoWhile(node) {
-  // Placeholder for if statement inside do-while loop mapping logic
-  return {
-    type: 'if-inside-do-while',
-    loop: node.loop,
-    condition: node.condition
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * If statement inside for loop mapping for C language
- */
-
-export function mapIfInsideFor(node) {
-  // Placeholder for if statement inside for loop mapping logic
-  return {
-    type: 'if-inside-for',
-    loop: node.loop,
-    condition: node.condition
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * If statement inside while loop mapping for C language
- */
-
-export function mapIfInsideWhile(node) {
-  // Placeholder for if statement inside while loop mapping logic
-  return {
-    type: 'if-inside-while',
-    loop: node.loop,
-    condition: node.condition
-  };
-}
\ No newline at end of file
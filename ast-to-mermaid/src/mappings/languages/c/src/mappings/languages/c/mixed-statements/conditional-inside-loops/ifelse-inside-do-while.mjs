@@ -1,13 +0,0 @@
-/**
- * If-else statement inside do-while loop mapping for C language
- */
-
-export function mapIfElseInsideDoWhile(node) {
-  // Placeholder for if-else statement inside do-while loop mapping logic
-  return {
-    type: 'ifelse-inside-do-while',
-    loop: node.loop,
-    condition: node.condition,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
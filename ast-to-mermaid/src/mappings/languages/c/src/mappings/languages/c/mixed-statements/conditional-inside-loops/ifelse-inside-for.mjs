@@ -1,13 +0,0 @@
-/**
- * If-else statement inside for loop mapping for C language
- */
-
-export function mapIfElseInsideFor(node) {
-  // Placeholder for if-else statement inside for loop mapping logic
-  return {
-    type: 'ifelse-inside-for',
-    loop: node.loop,
-    condition: node.condition,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * If-else statement inside while loop mapping for C language
- */
-
-export function mapIfElseInsideWhile(node) {
-  // Placeholder for if-else statement inside while loop mapping logic
-  return {
-    type: 'ifelse-inside-while',
-    loop: node.loop,
-    condition: node.condition,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
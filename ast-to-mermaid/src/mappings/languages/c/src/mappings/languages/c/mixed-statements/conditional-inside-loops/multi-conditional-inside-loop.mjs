@@ -1,12 +0,0 @@
-/**
- * Multiple conditional statements inside loop mapping for C language
- */
-
-export function mapMultiConditionalInsideLoop(node) {
-  // Placeholder for multiple conditional statements inside loop mapping logic
-  return {
-    type: 'multi-conditional-inside-loop',
-    loop: node.loop,
-    conditions: node.conditions
-  };
-}
\ No newline at end of file
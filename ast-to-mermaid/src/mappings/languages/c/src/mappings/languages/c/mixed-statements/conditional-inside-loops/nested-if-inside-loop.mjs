@@ -1,12 +0,0 @@
-/**
- * Nested if statement inside loop mapping for C language
- */
-
-export function mapNestedIfInsideLoop(node) {
-  // Placeholder for nested if statement inside loop mapping logic
-  return {
-    type: 'nested-if-inside-loop',
-    loop: node.loop,
-    nested: node.nested
-  };
-}
\ No newline at end of file
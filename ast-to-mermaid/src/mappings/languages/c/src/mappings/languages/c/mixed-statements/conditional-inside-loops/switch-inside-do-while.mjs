@@ -1,13 +0,0 @@
-/**
- * Switch statement inside do-while loop mapping for C language
- */
-
-export function mapSwitchInsideDoWhile(node) {
-  // Placeholder for switch statement inside do-while loop mapping logic
-  return {
-    type: 'switch-inside-do-while',
-    loop: node.loop,
-    discriminant: node.discriminant,
-    cases: node.cases
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Switch statement inside for loop mapping for C language
- */
-
-export function mapSwitchInsideFor(node) {
-  // Placeholder for switch statement inside for loop mapping logic
-  return {
-    type: 'switch-inside-for',
-    loop: node.loop,
-    discriminant: node.discriminant,
-    cases: node.cases
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Switch statement inside while loop mapping for C language
- */
-
-export function mapSwitchInsideWhile(node) {
-  // Placeholder for switch statement inside while loop mapping logic
-  return {
-    type: 'switch-inside-while',
-    loop: node.loop,
-    discriminant: node.discriminant,
-    cases: node.cases
-  };
-}
\ No newline at end of file
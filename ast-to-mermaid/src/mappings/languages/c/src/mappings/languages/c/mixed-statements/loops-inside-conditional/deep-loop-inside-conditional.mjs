@@ -1,13 +0,0 @@
-/**
- * Deep loop inside conditional statement mapping for C language
- */
-
-export function mapDeepLoopInsideConditional(node) {
-  // Placeholder for deep loop inside conditional statement mapping logic
-  return {
-    type: 'deep-loop-inside-conditional',
-    condition: node.condition,
-    depth: node.depth,
-    loops: node.loops
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Do-while loop inside else-if statement mapping for C language
- */
-
-export function mapDoWhileInsideElseIf(node) {
-  // Placeholder for do-while loop inside else-if statement mapping logic
-  return {
-    type: 'do-while-inside-elseif',
-    condition: node.condition,
-    loop: node.loop,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * Do-while loop inside if statement mapping for C language
- */
-
-export function mapDoWhileInsideIf(node) {
-  // Placeholder for do-while loop inside if statement mapping logic
-  return {
-    type: 'do-while-inside-if',
-    condition: node.condition,
-    loop: node.loop
-  };
-}
\ No newline at end of file
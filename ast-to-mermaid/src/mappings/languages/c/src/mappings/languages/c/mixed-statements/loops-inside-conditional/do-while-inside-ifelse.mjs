@@ -1,13 +0,0 @@
-/**
- * Do-while loop inside if-else statement mapping for C language
- */
-
-export function mapDoWhileInsideIfElse(node) {
-  // Placeholder for do-while loop inside if-else statement mapping logic
-  return {
-    type: 'do-while-inside-ifelse',
-    condition: node.condition,
-    loop: node.loop,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Do-while loop inside switch statement mapping for C language
- */
-
-export function mapDoWhileInsideSwitch(node) {
-  // Placeholder for do-while loop inside switch statement mapping logic
-  return {
-    type: 'do-while-inside-switch',
-    discriminant: node.discriminant,
-    loop: node.loop,
-    cases: node.cases
-  };
-}
\ No newline at end of file
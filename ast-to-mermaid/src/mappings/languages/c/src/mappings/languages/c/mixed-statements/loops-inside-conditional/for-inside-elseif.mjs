@@ -1,13 +0,0 @@
-/**
- * For loop inside else-if statement mapping for C language
- */
-
-export function mapForInsideElseIf(node) {
-  // Placeholder for for loop inside else-if statement mapping logic
-  return {
-    type: 'for-inside-elseif',
-    condition: node.condition,
-    loop: node.loop,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
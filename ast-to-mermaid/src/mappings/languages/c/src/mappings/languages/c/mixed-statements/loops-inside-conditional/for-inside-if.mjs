@@ -1,12 +0,0 @@
-/**
- * For loop inside if statement mapping for C language
- */
-
-export function mapForInsideIf(node) {
-  // Placeholder for for loop inside if statement mapping logic
-  return {
-    type: 'for-inside-if',
-    condition: node.condition,
-    loop: node.loop
-  };
-}
\ No newline at end of file
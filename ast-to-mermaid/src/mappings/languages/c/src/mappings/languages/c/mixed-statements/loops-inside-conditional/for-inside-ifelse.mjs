@@ -1,13 +0,0 @@
-/**
- * For loop inside if-else statement mapping for C language
- */
-
-export function mapForInsideIfElse(node) {
-  // Placeholder for for loop inside if-else statement mapping logic
-  return {
-    type: 'for-inside-ifelse',
-    condition: node.condition,
-    loop: node.loop,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
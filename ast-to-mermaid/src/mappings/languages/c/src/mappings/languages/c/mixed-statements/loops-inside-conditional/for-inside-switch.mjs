@@ -1,13 +0,0 @@
-/**
- * For loop inside switch statement mapping for C language
- */
-
-export function mapForInsideSwitch(node) {
-  // Placeholder for for loop inside switch statement mapping logic
-  return {
-    type: 'for-inside-switch',
-    discriminant: node.discriminant,
-    loop: node.loop,
-    cases: node.cases
-  };
-}
\ No newline at end of file
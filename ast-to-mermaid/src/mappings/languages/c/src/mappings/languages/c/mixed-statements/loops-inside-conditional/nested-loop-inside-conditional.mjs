@@ -1,12 +0,0 @@
-/**
- * Nested loop inside conditional statement mapping for C language
- */
-
-export function mapNestedLoopInsideConditional(node) {
-  // Placeholder for nested loop inside conditional statement mapping logic
-  return {
-    type: 'nested-loop-inside-conditional',
-    condition: node.condition,
-    nested: node.nested
-  };
-}
\ No newline at end of file
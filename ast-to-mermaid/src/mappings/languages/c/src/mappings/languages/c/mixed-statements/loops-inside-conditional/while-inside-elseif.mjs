@@ -1,13 +0,0 @@
-/**
- * While loop inside else-if statement mapping for C language
- */
-
-export function mapWhileInsideElseIf(node) {
-  // Placeholder for while loop inside else-if statement mapping logic
-  return {
-    type: 'while-inside-elseif',
-    condition: node.condition,
-    loop: node.loop,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * While loop inside if statement mapping for C language
- */
-
-export function mapWhileInsideIf(node) {
-  // Placeholder for while loop inside if statement mapping logic
-  return {
-    type: 'while-inside-if',
-    condition: node.condition,
-    loop: node.loop
-  };
-}
\ No newline at end of file
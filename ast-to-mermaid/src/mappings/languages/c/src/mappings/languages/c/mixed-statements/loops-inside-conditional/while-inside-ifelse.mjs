@@ -1,13 +0,0 @@
-/**
- * While loop inside if-else statement mapping for C language
- */
-
-export function mapWhileInsideIfElse(node) {
-  // Placeholder for while loop inside if-else statement mapping logic
-  return {
-    type: 'while-inside-ifelse',
-    condition: node.condition,
-    loop: node.loop,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
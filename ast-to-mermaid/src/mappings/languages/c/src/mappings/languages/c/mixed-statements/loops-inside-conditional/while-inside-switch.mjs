@@ -1,13 +0,0 @@
-/**
- * While loop inside switch statement mapping for C language
- */
-
-export function mapWhileInsideSwitch(node) {
-  // Placeholder for while loop inside switch statement mapping logic
-  return {
-    type: 'while-inside-switch',
-    discriminant: node.discriminant,
-    loop: node.loop,
-    cases: node.cases
-  };
-}
\ No newline at end of file
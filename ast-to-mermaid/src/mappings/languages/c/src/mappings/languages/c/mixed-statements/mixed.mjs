@@ -1,6 +0,0 @@
-import { process } from "../mappings/common/common.mjs";
-
-export function mapMixed(node, ctx) {
-  const id = ctx.next();
-  ctx.add(id, process(node.text));
-}
\ No newline at end of file
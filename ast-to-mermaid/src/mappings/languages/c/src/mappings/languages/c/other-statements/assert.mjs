@@ -1,11 +0,0 @@
-/**
- * Assert statement mapping for C language
- */
-
-export function mapAssertStatement(node) {
-  // Placeholder for assert statement mapping logic
-  return {
-    type: 'assert',
-    argument: node.argument
-  };
-}
\ No newline at end of file
@@ -1,8 +0,0 @@
-/**
- * Block statement mapping for C language
- */
-
-export function mapBlockStatement(node, ctx) {
-  // The body of the block will be processed by the walker
-  // We don't need to do anything here
-}
\ No newline at end of file
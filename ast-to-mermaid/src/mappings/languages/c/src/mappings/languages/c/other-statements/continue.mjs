@@ -1,10 +0,0 @@
-/**
- * Continue statement mapping for C language
- */
-
-export function mapContinueStatement(node) {
-  // Placeholder for continue statement mapping logic
-  return {
-    type: 'continue'
-  };
-}
\ No newline at end of file
@@ -1,10 +0,0 @@
-/**
- * Empty statement mapping for C language
- */
-
-export function mapEmptyStatement(node) {
-  // Placeholder for empty statement mapping logic
-  return {
-    type: 'empty'
-  };
-}
\ No newline at end of file
@@ -1,11 +0,0 @@
-/**
- * Goto statement mapping for C language
- */
-
-export function mapGotoStatement(node) {
-  // Placeholder for goto statement mapping logic
-  return {
-    type: 'goto',
-    label: node.label
-  };
-}
\ No newline at end of file
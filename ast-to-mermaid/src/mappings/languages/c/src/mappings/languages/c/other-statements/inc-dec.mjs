@@ -1,12 +0,0 @@
-/**
- * Increment/Decrement statement mapping for C language
- */
-
-export function mapIncDecStatement(node) {
-  // Placeholder for increment/decrement statement mapping logic
-  return {
-    type: 'inc-dec',
-    operator: node.operator,
-    argument: node.argument
-  };
-}
\ No newline at end of file
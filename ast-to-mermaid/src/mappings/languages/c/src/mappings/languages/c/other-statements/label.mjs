@@ -1,12 +0,0 @@
-/**
- * Label statement mapping for C language
- */
-
-export function mapLabelStatement(node) {
-  // Placeholder for label statement mapping logic
-  return {
-    type: 'label',
-    label: node.label,
-    body: node.body
-  };
-}
\ No newline at end of file
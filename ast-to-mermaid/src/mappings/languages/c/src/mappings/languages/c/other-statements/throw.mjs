@@ -1,11 +0,0 @@
-/**
- * Throw statement mapping for C language
- */
-
-export function mapThrowStatement(node) {
-  // Placeholder for throw statement mapping logic
-  return {
-    type: 'throw',
-    argument: node.argument
-  };
-}
\ No newline at end of file
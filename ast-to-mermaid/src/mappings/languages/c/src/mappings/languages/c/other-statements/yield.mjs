@@ -1,11 +0,0 @@
-/**
- * Yield statement mapping for C language
- */
-
-export function mapYieldStatement(node) {
-  // Placeholder for yield statement mapping logic
-  return {
-    type: 'yield',
-    argument: node.argument
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * Map AST nodes to Mermaid elements
- */
-
-export function mapNode(node, context) {
-  // Placeholder for node mapping logic
-  return {
-    id: node.id || 'unknown',
-    type: node.type || 'unknown',
-    children: []
-  };
-}
\ No newline at end of file
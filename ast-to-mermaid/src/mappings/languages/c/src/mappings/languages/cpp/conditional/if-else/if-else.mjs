@@ -1,13 +0,0 @@
-/**
- * If-else statement mapping for C++ language
- */
-
-export function mapIfElseStatement(node) {
-  // Placeholder for if-else statement mapping logic
-  return {
-    type: 'if-else',
-    condition: node.test,
-    consequent: node.consequent,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
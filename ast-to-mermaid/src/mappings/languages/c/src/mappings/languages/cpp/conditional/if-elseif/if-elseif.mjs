@@ -1,13 +0,0 @@
-/**
- * If-elseif statement mapping for C++ language
- */
-
-export function mapIfElseIfStatement(node) {
-  // Placeholder for if-elseif statement mapping logic
-  return {
-    type: 'if-elseif',
-    condition: node.test,
-    consequent: node.consequent,
-    alternate: node.alternate
-  };
-}
\ No newline at end of file
@@ -1,8 +0,0 @@
-/**
- * C++ language configuration
- */
-
-export const cppConfig = {
-  language: 'cpp',
-  version: '1.0.0'
-};
\ No newline at end of file
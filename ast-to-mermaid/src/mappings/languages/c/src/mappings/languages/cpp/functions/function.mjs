@@ -1,15 +0,0 @@
-/**
- * Function declaration mapping for C++ language
- */
-
-export function mapFunctionDeclaration(node) {
-  // Map function declaration with body support
-  return {
-    type: 'function',
-    id: node.id,
-    params: node.params,
-    body: node.body,
-    // Add unique ID for Mermaid diagram generation
-    mermaidId: `function-${node.id.name || 'anonymous'}`
-  };
-}
\ No newline at end of file
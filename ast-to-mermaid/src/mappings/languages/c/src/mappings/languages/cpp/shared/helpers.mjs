@@ -1,7 +0,0 @@
-/**
- * Shared helper functions for C++ language mapping
- */
-
-export function generateId(prefix = 'cpp') {
-  return `${prefix}-${Date.now()}-${Math.floor(Math.random() * 1000)}`;
-}
\ No newline at end of file
@@ -1,8 +0,0 @@
-/**
- * Fortran language configuration
- */
-
-export const fortranConfig = {
-  language: 'fortran',
-  version: '1.0.0'
-};
\ No newline at end of file
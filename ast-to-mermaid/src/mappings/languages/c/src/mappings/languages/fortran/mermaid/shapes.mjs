@@ -1,25 +0,0 @@
-/**
- * Shape definitions for Mermaid diagrams
- */
-
-export const shapes = {
-  // Basic shapes
-  rectangle: '[[{}]]',
-  round: '({})',
-  circle: '(({}))',
-  rhombus: '{{{}}}',
-  
-  // Additional shapes
-  hexagon: '{{{}}}',
-  database: '[[{}]]',
-  parallelogram: '[/{}\\]',
-  
-  // Standard box (rectangle)
-  box: '["{}"]',
-  
-  // Soft edges (rounded rectangle)
-  rounded: '({})',
-  
-  // Perfect circle
-  diamond: '{"{}"}'
-};
\ No newline at end of file
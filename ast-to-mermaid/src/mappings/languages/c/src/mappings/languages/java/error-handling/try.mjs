@@ -1,13 +0,0 @@
-/**
- * Error handling mapping for Java language
- */
-
-export function mapTryStatement(node) {
-  // Placeholder for try statement mapping logic
-  return {
-    type: 'try',
-    block: node.block,
-    handler: node.handler,
-    finalizer: node.finalizer
-  };
-}
\ No newline at end of file
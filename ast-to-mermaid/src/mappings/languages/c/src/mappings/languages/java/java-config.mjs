@@ -1,8 +0,0 @@
-/**
- * Java language configuration
- */
-
-export const javaConfig = {
-  language: 'java',
-  version: '1.0.0'
-};
\ No newline at end of file
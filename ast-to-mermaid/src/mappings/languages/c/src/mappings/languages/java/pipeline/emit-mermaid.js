@@ -1,19 +0,0 @@
-/**
- * Emit Mermaid diagram from mapped nodes
- */
-
-import { emitNode } from '../mermaid/emit-node.mjs';
-
-export function convertAST(ast) {
-  // Placeholder for Mermaid emission logic
-  const diagram = ['graph TD'];
-  
-  // Process each node
-  if (ast.body) {
-    ast.body.forEach(node => {
-      diagram.push(emitNode(node));
-    });
-  }
-  
-  return diagram.join('\n');
-}
\ No newline at end of file
@@ -1,7 +0,0 @@
-/**
- * Shared helper functions for Java language mapping
- */
-
-export function generateId(prefix = 'java') {
-  return `${prefix}-${Date.now()}-${Math.floor(Math.random() * 1000)}`;
-}
\ No newline at end of file
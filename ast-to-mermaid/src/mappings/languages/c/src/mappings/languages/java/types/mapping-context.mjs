@@ -1,11 +0,0 @@
-/**
- * Mapping context type definitions
- */
-
-export class MappingContext {
-  constructor(language, options = {}) {
-    this.language = language;
-    this.options = options;
-    this.nodeMap = new Map();
-  }
-}
\ No newline at end of file
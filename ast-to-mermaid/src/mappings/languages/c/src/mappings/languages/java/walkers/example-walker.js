@@ -1,21 +0,0 @@
-/**
- * Example AST walker
- */
-
-export function walkAST(node, visitor) {
-  // Placeholder for AST walking logic
-  if (visitor[node.type]) {
-    visitor[node.type](node);
-  }
-  
-  // Recursively walk child nodes
-  for (const key in node) {
-    if (node[key] && typeof node[key] === 'object') {
-      if (Array.isArray(node[key])) {
-        node[key].forEach(child => walkAST(child, visitor));
-      } else {
-        walkAST(node[key], visitor);
-      }
-    }
-  }
-}
\ No newline at end of file
@@ -1,9 +0,0 @@
-/**
- * Simple test walker
- */
-
-export function simpleTest() {
-  // Placeholder for simple test implementation
-  console.log('Simple test running');
-  return true;
-}
\ No newline at end of file
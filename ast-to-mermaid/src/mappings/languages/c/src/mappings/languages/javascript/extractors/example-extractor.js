@@ -1,11 +0,0 @@
-/**
- * Example extractor for demonstration purposes
- */
-
-export function extractAST(sourceCode, language) {
-  // Placeholder for actual AST extraction logic
-  return {
-    type: 'Program',
-    body: []
-  };
-}
\ No newline at end of file
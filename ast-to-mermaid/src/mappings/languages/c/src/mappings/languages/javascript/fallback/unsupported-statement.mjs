@@ -1,12 +0,0 @@
-/**
- * Handle unsupported statements
- */
-
-export function handleUnsupportedStatement(node) {
-  // Placeholder for unsupported statement handling
-  return {
-    type: 'unsupported',
-    originalType: node.type,
-    message: `Unsupported statement type: ${node.type}`
-  };
-}
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * Function declaration mapping for JavaScript language
- */
-
-export function mapFunctionDeclaration(node) {
-  // Placeholder for function declaration mapping logic
-  return {
-    type: 'function',
-    id: node.id,
-    params: node.params,
-    body: node.body
-  };
-}
\ No newline at end of file
@@ -1,8 +0,0 @@
-/**
- * JavaScript language configuration
- */
-
-export const javascriptConfig = {
-  language: 'javascript',
-  version: '1.0.0'
-};
\ No newline at end of file
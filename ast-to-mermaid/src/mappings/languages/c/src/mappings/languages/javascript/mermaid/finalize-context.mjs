@@ -1,647 +0,0 @@
-export function finalizeFlowContext(context) {
-  if (!context) return null;
-
-  // Complete any remaining branches
-  if (typeof context.completeBranches === 'function') {
-    context.completeBranches();
-  }
-
-  // Handle if-else-if chains properly
-  // In if-else-if chains, the No branches should connect to the next condition,
-  // not to the end node
-  if (context.pendingJoins && context.pendingJoins.length > 0) {
-    // First, let's identify if-else-if chains by looking at the node shapes
-    const nodeMap = {};
-    const nodeOrder = [];
-    context.nodes.forEach(nodeLine => {
-      const match = nodeLine.match(/^(N\d+)(.*)/);
-      if (match) {
-        nodeMap[match[1]] = match[2];
-        nodeOrder.push(match[1]);
-      }
-    });
-    
-    // Identify decision nodes and their positions
-    const decisionNodes = [];
-    nodeOrder.forEach((nodeId, index) => {
-      const nodeText = nodeMap[nodeId];
-      if (nodeText && nodeText.includes('{')) {
-        decisionNodes.push({id: nodeId, text: nodeText, index: index});
-      }
-    });
-    
-    // Identify if-else-if chains
-    const ifElseIfChains = [];
-    for (let i = 0; i < decisionNodes.length; i++) {
-      const currentNode = decisionNodes[i];
-      const nodeText = currentNode.text;
-      
-      // Check if this is an if/else if statement
-      if (nodeText && (nodeText.includes('if ') || nodeText.includes('else if '))) {
-        const chain = [currentNode];
-        let nextIndex = i + 1;
-        
-        // Look for consecutive else if statements
-        while (nextIndex < decisionNodes.length) {
-          const nextNode = decisionNodes[nextIndex];
-          const nextNodeText = nextNode.text;
-          
-          // Check if the next decision node is an else if statement
-          if (nextNodeText && nextNodeText.includes('else if ')) {
-            // For if-else-if chains, we're more permissive about what constitutes a valid chain
-            // We allow IO statements and other simple statements between conditions
-            // Only break the chain if we encounter a non-if statement that's not simple IO
-            let isConsecutive = true;
-            for (let j = currentNode.index + 1; j < nextNode.index; j++) {
-              const intermediateNodeId = nodeOrder[j];
-              const intermediateNodeText = nodeMap[intermediateNodeId];
-              
-              // If there's a non-decision node that's not a simple IO or process node, it might break the chain
-              if (intermediateNodeText && 
-                  !intermediateNodeText.includes('{') && 
-                  !intermediateNodeText.includes('(["end"])') &&
-                  !intermediateNodeText.trim().startsWith('//')) {
-                // Check if it's a complex statement that would break the chain
-                // For now, let's be more permissive and only break on certain complex statements
-                // Allow simple IO statements and process statements
-                if (intermediateNodeText.includes('switch') || 
-                    intermediateNodeText.includes('for') || 
-                    intermediateNodeText.includes('while')) {
-                  isConsecutive = false;
-                  break;
-                }
-                // Otherwise, continue (allow simple statements like IO and assignments)
-              }
-            }
-            
-            if (isConsecutive) {
-              chain.push(nextNode);
-              nextIndex++;
-            } else {
-              break;
-            }
-          } else {
-            break;
-          }
-        }
-        
-        // If we found a chain of 2 or more, add it
-        if (chain.length >= 2) {
-          ifElseIfChains.push(chain);
-        }
-      }
-    }
-    
-    // Create a set of decision node IDs that are part of if-else-if chains (except the last in each chain)
-    const chainNodeIds = new Set();
-    const chainConnections = new Map(); // Track which node connects to which next node
-    ifElseIfChains.forEach(chain => {
-      // Add all nodes except the last one and track their connections
-      for (let i = 0; i < chain.length - 1; i++) {
-        chainNodeIds.add(chain[i].id);
-        chainConnections.set(chain[i].id, chain[i + 1].id);
-      }
-    });
-    
-    // Process pending joins and handle if-else-if chains
-    const remainingJoins = [];
-    context.pendingJoins.forEach((join, joinIndex) => {
-      const newEdges = [];
-      join.edges.forEach((edge, edgeIndex) => {
-        if (!edge.from) {
-          newEdges.push(edge);
-          return;
-        }
-        
-        // Check if this is a No branch from a decision node that's part of an if-else-if chain
-        if (edge.label === 'No' && chainNodeIds.has(edge.from)) {
-          // This edge should be handled by connecting to the next condition in the chain
-          // We don't add it to remaining joins because it will be handled separately
-        } else {
-          // This edge is not part of an if-else-if chain or is not a No branch, add to remaining joins
-          newEdges.push(edge);
-        }
-      });
-      
-      if (newEdges.length > 0) {
-        remainingJoins.push({ edges: newEdges });
-      }
-    });
-    
-    // Now connect the No branches of chain nodes to the next condition in their chain
-    // But only add them if they don't already exist to prevent duplicates
-    const existingEdges = new Set();
-    context.edges.forEach(edge => {
-      existingEdges.add(edge);
-    });
-    
-    ifElseIfChains.forEach(chain => {
-      for (let i = 0; i < chain.length - 1; i++) {
-        const currentNode = chain[i];
-        const nextNode = chain[i + 1];
-        const edgeString = `${currentNode.id} -->|No| ${nextNode.id}`;
-        
-        // Only add the edge if it doesn't already exist
-        if (!existingEdges.has(edgeString)) {
-          context.addEdge(currentNode.id, nextNode.id, 'No');
-          existingEdges.add(edgeString);
-        }
-      }
-    });
-    
-    // Update pendingJoins with remaining joins
-    context.pendingJoins = remainingJoins;
-  }
-
-  // Handle switch break statements properly
-  // They should connect to the next statement after the switch block, not to the end node
-  console.log('Processing pending joins, count:', context.pendingJoins?.length || 0);
-  if (context.pendingJoins && context.pendingJoins.length > 0) {
-    // Check if these pending joins are from switch break statements
-    let hasSwitchBreaks = false;
-    const breakNodeIds = new Set();
-    
-    // Look for break statements in the nodes
-    context.nodes.forEach(node => {
-      const match = node.match(/^(N\d+)\["break;"\]/);
-      if (match) {
-        breakNodeIds.add(match[1]);
-      }
-    });
-    
-    console.log('Break node IDs found:', Array.from(breakNodeIds));
-    
-    // Check if any pending joins are from break statements
-    context.pendingJoins.forEach((join, index) => {
-      console.log('Processing pending join', index, ':', join);
-      join.edges.forEach((edge, edgeIndex) => {
-        console.log('  Edge', edgeIndex, ':', edge);
-        if (breakNodeIds.has(edge.from)) {
-          console.log('  Found break statement in pending join:', edge.from);
-          hasSwitchBreaks = true;
-        }
-      });
-    });
-    
-    if (hasSwitchBreaks) {
-      // For switch break statements, we need to connect them to the next statement
-      // Find the next statement after switch blocks
-      if (context.nodes && context.edges) {
-        // Get all node IDs in order
-        const nodeInfos = [];
-        context.nodes.forEach(node => {
-          const nodeIdMatch = node.match(/^(N\d+)/);
-          if (nodeIdMatch) {
-            nodeInfos.push({id: nodeIdMatch[1], node: node});
-          }
-        });
-        
-        // Find switch statements and their positions
-        const switchPositions = [];
-        nodeInfos.forEach((nodeInfo, index) => {
-          if (nodeInfo.node.includes('switch')) {
-            switchPositions.push(index);
-          }
-        });
-        
-        // For each switch statement, find the first statement after it that's not part of the switch
-        if (switchPositions.length > 0) {
-          switchPositions.forEach(switchIndex => {
-            const switchId = nodeInfos[switchIndex].id;
-            
-            // Find all case statements that connect from this switch
-            const caseEdges = context.edges.filter(edge => 
-              edge.startsWith(`${switchId} -->`)
-            );
-            
-            // Find the first non-switch-related statement after the switch
-            let nextStatementId = null;
-            for (let i = switchIndex + 1; i < nodeInfos.length; i++) {
-              const nodeInfo = nodeInfos[i];
-              const nodeId = nodeInfo.id;
-              
-              // Check if this node is part of the switch
-              const isSwitchRelated = 
-                nodeInfo.node.includes('case ') || 
-                nodeInfo.node.includes('default:') ||
-                caseEdges.some(edge => edge.includes(`--> ${nodeId}`));
-              
-              if (!isSwitchRelated) {
-                nextStatementId = nodeId;
-                break;
-              }
-            }
-            
-            console.log('Next statement after switch:', nextStatementId);
-            
-            // If we found the next statement, connect only the break statement pending joins to it
-            if (nextStatementId) {
-              // Filter pending joins to only include those from break statements
-              const breakJoins = [];
-              const remainingJoins = [];
-              
-              context.pendingJoins.forEach(join => {
-                const breakEdges = [];
-                const otherEdges = [];
-                
-                join.edges.forEach(edge => {
-                  if (breakNodeIds.has(edge.from)) {
-                    breakEdges.push(edge);
-                  } else {
-                    otherEdges.push(edge);
-                  }
-                });
-                
-                if (breakEdges.length > 0) {
-                  breakJoins.push({ edges: breakEdges });
-                }
-                
-                if (otherEdges.length > 0) {
-                  remainingJoins.push({ edges: otherEdges });
-                }
-              });
-              
-              // Connect break statement pending joins to the next statement
-              breakJoins.forEach(join => {
-                join.edges.forEach(({ from, label }) => {
-                  if (!from) return;
-                  console.log('Connecting break statement', from, 'to', nextStatementId);
-                  if (label) {
-                    context.addEdge(from, nextStatementId, label);
-                  } else {
-                    context.addEdge(from, nextStatementId);
-                  }
-                });
-              });
-              
-              // Keep remaining pending joins for later processing
-              context.pendingJoins = remainingJoins;
-            }
-          });
-        }
-      }
-    }
-  }
-  
-  // Handle special marker values in pending breaks
-  if (context.pendingBreaks && context.pendingBreaks.length > 0) {
-    context.pendingBreaks.forEach((breakInfo, index) => {
-      // If the break was supposed to connect to NEXT_AFTER_SWITCH, 
-      // find the actual next statement and connect to it
-      if (breakInfo.nextStatementId === 'NEXT_AFTER_SWITCH') {
-        // Find the actual next statement after the switch
-        // Look for the first node that comes after all the switch-related nodes
-        let nextStatementId = 'END';
-        
-        // Get all node IDs in order
-        const nodeInfos = [];
-        context.nodes.forEach(node => {
-          const nodeIdMatch = node.match(/^(N\d+)/);
-          if (nodeIdMatch) {
-            nodeInfos.push({id: nodeIdMatch[1], node: node});
-          }
-        });
-        
-        // Find switch statements and their positions
-        const switchPositions = [];
-        nodeInfos.forEach((nodeInfo, index) => {
-          if (nodeInfo.node.includes('switch')) {
-            switchPositions.push(index);
-          }
-        });
-        
-        // For each switch statement, find the first statement after it that's not part of the switch
-        if (switchPositions.length > 0) {
-          switchPositions.forEach(switchIndex => {
-            // Find all case statements that connect from this switch
-            const switchId = nodeInfos[switchIndex].id;
-            const caseEdges = context.edges.filter(edge => 
-              edge.startsWith(`${switchId} -->`)
-            );
-            
-            // Find the last switch-related node by checking all nodes after the switch
-            let lastSwitchNodeIndex = switchIndex;
-            
-            // Look for all nodes that are part of this switch
-            for (let i = switchIndex + 1; i < nodeInfos.length; i++) {
-              const nodeInfo = nodeInfos[i];
-              const nodeId = nodeInfo.id;
-              
-              // Check if this node is part of the switch
-              // A node is part of the switch if:
-              // 1. It explicitly contains switch-related keywords
-              // 2. It's connected from a case/default node
-              // 3. It comes after a case/default but before a break
-              const isSwitchRelated = 
-                nodeInfo.node.includes('case ') || 
-                nodeInfo.node.includes('default:') ||
-                nodeInfo.node.includes('break;') ||
-                caseEdges.some(edge => edge.includes(`--> ${nodeId}`)) ||
-                // Check if this node comes after a case/default but before a break
-                (i > switchIndex && i < nodeInfos.length - 1 && 
-                 (() => {
-                   // Look backwards to see if we're in a case block
-                   for (let j = i - 1; j > switchIndex; j--) {
-                     const prevNodeInfo = nodeInfos[j];
-                     if (prevNodeInfo.node.includes('break;')) {
-                       // Found a break before this node, so this node is not part of a case
-                       return false;
-                     }
-                     if (prevNodeInfo.node.includes('case ') || prevNodeInfo.node.includes('default:')) {
-                       // Found a case/default before this node, so this node is part of a case
-                       return true;
-                     }
-                   }
-                   return false;
-                 })());
-              
-              if (isSwitchRelated) {
-                lastSwitchNodeIndex = i;
-              } else {
-                // Once we find a non-switch node, we can stop looking
-                break;
-              }
-            }
-            
-            // The next statement is the one after the last switch-related node
-            if (lastSwitchNodeIndex + 1 < nodeInfos.length) {
-              nextStatementId = nodeInfos[lastSwitchNodeIndex + 1].id;
-            }
-          });
-        }
-        
-        // Only add the edge if nextStatementId is not a marker and not the same as breakId
-        if (nextStatementId !== 'NEXT_AFTER_SWITCH' && nextStatementId !== breakInfo.breakId) {
-          context.addEdge(breakInfo.breakId, nextStatementId);
-        }
-      } else {
-        // Connect to the specified next statement
-        // Only add the edge if nextStatementId is not a marker
-        const targetStatementId = breakInfo.nextStatementId || 'END';
-        if (targetStatementId !== 'NEXT_AFTER_SWITCH' && targetStatementId !== breakInfo.breakId) {
-          context.addEdge(breakInfo.breakId, targetStatementId);
-        }
-      }
-    });
-    context.pendingBreaks = [];
-  }
-  
-  // Remove any edges that contain NEXT_AFTER_SWITCH as this is just a marker
-  context.edges = context.edges.filter(edge => !edge.includes('NEXT_AFTER_SWITCH'));
-  
-  // Handle any nodes that have NEXT_AFTER_SWITCH as their last property
-  // These should connect to the actual next statement or END
-  if (context.last === 'NEXT_AFTER_SWITCH') {
-    // Find the actual next statement after all switch-related nodes
-    let nextStatementId = 'END';
-    
-    if (context.nodes && context.nodeOrder.length > 0) {
-      // Get all node IDs in order
-      const nodeInfos = [];
-      context.nodes.forEach(node => {
-        const nodeIdMatch = node.match(/^(N\d+)/);
-        if (nodeIdMatch) {
-          nodeInfos.push({id: nodeIdMatch[1], node: node});
-        }
-      });
-      
-      // Find switch statements and their positions
-      const switchPositions = [];
-      nodeInfos.forEach((nodeInfo, index) => {
-        if (nodeInfo.node.includes('switch')) {
-          switchPositions.push(index);
-        }
-      });
-      
-      // For each switch statement, find the first statement after it that's not part of the switch
-      if (switchPositions.length > 0) {
-        // Use the last switch position to find the next statement
-        const lastSwitchIndex = switchPositions[switchPositions.length - 1];
-        
-        // Find all case statements that connect from this switch
-        const switchId = nodeInfos[lastSwitchIndex].id;
-        const caseEdges = context.edges.filter(edge => 
-          edge.startsWith(`${switchId} -->`)
-        );
-        
-        // Find the last switch-related node by checking all nodes after the switch
-        let lastSwitchNodeIndex = lastSwitchIndex;
-        
-        // Look for all nodes that are part of this switch
-        for (let i = lastSwitchIndex + 1; i < nodeInfos.length; i++) {
-          const nodeInfo = nodeInfos[i];
-          const nodeId = nodeInfo.id;
-          
-          // Check if this node is part of the switch
-          // A node is part of the switch if:
-          // 1. It explicitly contains switch-related keywords
-          // 2. It's connected from a case/default node
-          // 3. It comes after a case/default but before a break
-          const isSwitchRelated = 
-            nodeInfo.node.includes('case ') || 
-            nodeInfo.node.includes('default:') ||
-            nodeInfo.node.includes('break;') ||
-            caseEdges.some(edge => edge.includes(`--> ${nodeId}`)) ||
-            // Check if this node comes after a case/default but before a break
-            (i > lastSwitchIndex && i < nodeInfos.length - 1 && 
-             (() => {
-               // Look backwards to see if we're in a case block
-               for (let j = i - 1; j > lastSwitchIndex; j--) {
-                 const prevNodeInfo = nodeInfos[j];
-                 if (prevNodeInfo.node.includes('break;')) {
-                   // Found a break before this node, so this node is not part of a case
-                   return false;
-                 }
-                 if (prevNodeInfo.node.includes('case ') || prevNodeInfo.node.includes('default:')) {
-                   // Found a case/default before this node, so this node is part of a case
-                   return true;
-                 }
-               }
-               return false;
-             })());
-          
-          if (isSwitchRelated) {
-            lastSwitchNodeIndex = i;
-          } else {
-            // Once we find a non-switch node, we can stop looking
-            break;
-          }
-        }
-        
-        // The next statement is the one after the last switch-related node
-        if (lastSwitchNodeIndex + 1 < nodeInfos.length) {
-          nextStatementId = nodeInfos[lastSwitchNodeIndex + 1].id;
-        }
-      }
-    }
-    
-    // Set the context last to the next statement
-    context.last = nextStatementId;
-  }
-  
-  // Handle JavaScript switch merge nodes
-  // Connect the switch merge node to the next statement after the switch
-  // This section is now obsolete since we connect break statements directly to next statement
-
-  // If we still have pending joins, resolve them to the end node
-  if (context.pendingJoins && context.pendingJoins.length > 0) {
-    const joins = context.pendingJoins.splice(0);
-    joins.forEach(join => {
-      join.edges.forEach(({ from, label }) => {
-        if (!from) return;
-        if (label) {
-          context.addEdge(from, 'END', label);
-        } else {
-          context.addEdge(from, 'END');
-        }
-      });
-    });
-  }
-
-  // Complete any remaining if statements
-  while (context.ifStack && context.ifStack.length > 0) {
-    if (typeof context.completeIf === 'function') {
-      context.completeIf();
-    } else {
-      // Fallback if completeIf is not available
-      context.ifStack.pop();
-    }
-  }
-
-  // Note: pendingBreaks should be empty here if completeSwitch was called properly
-  // Only connect breaks that are still pending (shouldn't happen in normal flow)
-  if (context.pendingBreaks && context.pendingBreaks.length > 0) {
-    context.pendingBreaks.forEach(breakInfo => {
-      // Connect orphaned breaks directly to end
-      context.addEdge(breakInfo.breakId, 'END');
-    });
-    context.pendingBreaks = [];
-  }
-
-  // Note: Default case without break also needs to connect to next statement
-  // But only if there are no pending joins (which would handle this connection)
-  // Find the last statement in the default case and connect it to the next statement after the switch
-  if (context.nodes && context.edges) {
-    // Get all node IDs in order
-    const nodeInfos = [];
-    context.nodes.forEach(node => {
-      const nodeIdMatch = node.match(/^(N\d+)/);
-      if (nodeIdMatch) {
-        nodeInfos.push({id: nodeIdMatch[1], node: node});
-      }
-    });
-    
-    // Find switch statements and their positions
-    const switchPositions = [];
-    nodeInfos.forEach((nodeInfo, index) => {
-      if (nodeInfo.node.includes('switch')) {
-        switchPositions.push(index);
-      }
-    });
-    
-    // For each switch statement, connect the default case to the next statement
-    if (switchPositions.length > 0) {
-      switchPositions.forEach(switchIndex => {
-        // Find all case statements that connect from this switch
-        const switchId = nodeInfos[switchIndex].id;
-        const caseEdges = context.edges.filter(edge => 
-          edge.startsWith(`${switchId} -->`)
-        );
-        
-        // Find the default case node
-        let defaultNodeIndex = -1;
-        let lastSwitchNodeIndex = switchIndex;
-        
-        // Look for all nodes that are part of this switch
-        for (let i = switchIndex + 1; i < nodeInfos.length; i++) {
-          const nodeInfo = nodeInfos[i];
-          const nodeId = nodeInfo.id;
-          
-          // Check if this node is part of the switch
-          const isSwitchRelated = 
-            nodeInfo.node.includes('case ') || 
-            nodeInfo.node.includes('default:') ||
-            nodeInfo.node.includes('break;') ||
-            caseEdges.some(edge => edge.includes(`--> ${nodeId}`)) ||
-            // Check if this node comes after a case/default but before a break
-            (i > switchIndex && i < nodeInfos.length - 1 && 
-             (() => {
-               // Look backwards to see if we're in a case block
-               for (let j = i - 1; j > switchIndex; j--) {
-                 const prevNodeInfo = nodeInfos[j];
-                 if (prevNodeInfo.node.includes('break;')) {
-                   // Found a break before this node, so this node is not part of a case
-                   return false;
-                 }
-                 if (prevNodeInfo.node.includes('case ') || prevNodeInfo.node.includes('default:')) {
-                   // Found a case/default before this node, so this node is part of a case
-                   return true;
-                 }
-               }
-               return false;
-             })());
-          
-          if (nodeInfo.node.includes('default:')) {
-            defaultNodeIndex = i;
-          }
-          
-          if (isSwitchRelated) {
-            lastSwitchNodeIndex = i;
-          } else {
-            // Once we find a non-switch node, we can stop looking
-            break;
-          }
-        }
-        
-        // The next statement is the one after the last switch-related node
-        if (lastSwitchNodeIndex + 1 < nodeInfos.length) {
-          const nextStatementId = nodeInfos[lastSwitchNodeIndex + 1].id;
-          
-          // If we found a default case, connect it to the next statement
-          if (defaultNodeIndex !== -1) {
-            const defaultNodeId = nodeInfos[defaultNodeIndex].id;
-            // Find the last statement in the default case
-            let lastDefaultStatementIndex = defaultNodeIndex;
-            for (let i = defaultNodeIndex + 1; i <= lastSwitchNodeIndex; i++) {
-              const nodeInfo = nodeInfos[i];
-              // If this is not a break statement, it's part of the default case
-              if (!nodeInfo.node.includes('break;')) {
-                lastDefaultStatementIndex = i;
-              } else {
-                // Found a break, stop here
-                break;
-              }
-            }
-            
-            // Connect the last statement in the default case to the next statement
-            const lastDefaultStatementId = nodeInfos[lastDefaultStatementIndex].id;
-            if (lastDefaultStatementId !== nextStatementId) {
-              context.addEdge(lastDefaultStatementId, nextStatementId);
-            }
-          }
-        }
-      });
-    }
-    
-    // Ensure the very last statement in the flow connects to END
-    // This is a simple approach: find the last node in the flow
-    if (nodeInfos.length > 0) {
-      // Find the last node in the flow
-      const lastNodeInfo = nodeInfos[nodeInfos.length - 1];
-      if (lastNodeInfo && lastNodeInfo.id !== 'END') {
-        // Check if this node is already connected to END
-        const isConnectedToEnd = context.edges.some(edge => 
-          edge.startsWith(`${lastNodeInfo.id} -->`) && edge.includes('END')
-        );
-        
-        // If not connected to END, connect it
-        if (!isConnectedToEnd) {
-          context.addEdge(lastNodeInfo.id, 'END');
-        }
-      }
-    }
-  }
-
-  // Return the predefined END node
-  return 'END';
-}
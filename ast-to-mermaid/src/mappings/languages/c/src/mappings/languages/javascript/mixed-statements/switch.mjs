@@ -1,12 +0,0 @@
-/**
- * Switch statement mapping for JavaScript language
- */
-
-export function mapSwitchStatement(node) {
-  // Placeholder for switch statement mapping logic
-  return {
-    type: 'switch',
-    discriminant: node.discriminant,
-    cases: node.cases
-  };
-}
\ No newline at end of file
@@ -1,8 +0,0 @@
-/**
- * Pascal language configuration
- */
-
-export const pascalConfig = {
-  language: 'pascal',
-  version: '1.0.0'
-};
\ No newline at end of file
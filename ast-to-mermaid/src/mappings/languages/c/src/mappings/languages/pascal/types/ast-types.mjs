@@ -1,10 +0,0 @@
-/**
- * AST type definitions
- */
-
-export class ASTNode {
-  constructor(type, properties = {}) {
-    this.type = type;
-    Object.assign(this, properties);
-  }
-}
\ No newline at end of file
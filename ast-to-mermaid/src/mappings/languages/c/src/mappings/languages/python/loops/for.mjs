@@ -1,15 +0,0 @@
-/**
- * Loop statement mapping for Python language
- */
-
-export function mapForStatement(node) {
-  // Map for loop with nested structure support
-  return {
-    type: 'For',
-    target: node.target,
-    iter: node.iter,
-    body: node.body,
-    // Add unique ID for Mermaid diagram generation
-    id: `for-${Date.now()}-${Math.floor(Math.random() * 1000)}`
-  };
-}
\ No newline at end of file
@@ -1,8 +0,0 @@
-/**
- * Python language configuration
- */
-
-export const pythonConfig = {
-  language: 'python',
-  version: '1.0.0'
-};
\ No newline at end of file
@@ -1,7 +0,0 @@
-/**
- * Shared helper functions for Python language mapping
- */
-
-export function generateId(prefix = 'python') {
-  return `${prefix}-${Date.now()}-${Math.floor(Math.random() * 1000)}`;
-}
\ No newline at end of file
@@ -1,23 +0,0 @@
-// Test file for TypeScript conditional statements
-// This file is for testing AST-to-Mermaid conversion, not for execution
-
-// Simple if statement
-if (true) {
-  // body
-}
-
-// If-else statement
-if (false) {
-  // then body
-} else {
-  // else body
-}
-
-// If-else if-else statement
-if (true) {
-  // first body
-} else if (false) {
-  // second body
-} else {
-  // else body
-}
\ No newline at end of file
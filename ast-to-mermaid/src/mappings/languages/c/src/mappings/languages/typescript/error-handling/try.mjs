@@ -1,15 +0,0 @@
-/**
- * Error handling mapping for TypeScript language
- */
-
-export function mapTryStatement(node) {
-  // Map try statement with catch and finally support
-  return {
-    type: 'try',
-    block: node.block,
-    handler: node.handler,
-    finalizer: node.finalizer,
-    // Add unique ID for Mermaid diagram generation
-    id: `try-${Date.now()}-${Math.floor(Math.random() * 1000)}`
-  };
-}
\ No newline at end of file
@@ -1,8 +0,0 @@
-/**
- * Normalize pipeline step
- */
-
-export function normalize(ast, language) {
-  // Placeholder for normalization logic
-  return ast;
-}
\ No newline at end of file
@@ -1,8 +0,0 @@
-/**
- * Route to appropriate language processor
- */
-
-export function routeLanguage(language) {
-  // Placeholder for language routing logic
-  return `./mappings/languages/${language}/${language}.mjs`;
-}
\ No newline at end of file
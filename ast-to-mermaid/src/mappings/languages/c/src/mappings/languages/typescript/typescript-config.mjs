@@ -1,8 +0,0 @@
-/**
- * TypeScript language configuration
- */
-
-export const typescriptConfig = {
-  language: 'typescript',
-  version: '1.0.0'
-};
\ No newline at end of file
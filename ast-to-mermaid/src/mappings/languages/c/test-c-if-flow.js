@@ -1,28 +0,0 @@
-#!/usr/bin/env node
-
-// Test C-style if handling for Java
-import { readFileSync, writeFileSync } from 'fs';
-import { generateFlowchart } from './src/mappings/languages/java/pipeline/flow.mjs';
-
-console.log("=== Testing C-style If Handling for Java ===\n");
-
-try {
-    // Read the Java file
-    const javaCode = readFileSync('./test-c-if.java', 'utf8');
-    console.log("Java code loaded successfully");
-    
-    // Generate flowchart
-    console.log("Generating flowchart...");
-    const flowchart = generateFlowchart(javaCode);
-    console.log("Flowchart generated:");
-    console.log("===================");
-    console.log(flowchart);
-    
-    // Save to file
-    writeFileSync('./test-c-if-output.mmd', flowchart);
-    console.log("\nFlowchart saved to test-c-if-output.mmd");
-    
-} catch (error) {
-    console.error("Error:", error.message);
-    console.error("Stack:", error.stack);
-}
\ No newline at end of file
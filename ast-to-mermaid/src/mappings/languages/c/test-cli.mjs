@@ -1,4 +0,0 @@
-import { main } from './bin/cli.mjs';
-
-console.log('Testing CLI directly...');
-main();
\ No newline at end of file
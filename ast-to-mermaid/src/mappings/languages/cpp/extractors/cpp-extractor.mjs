@@ -1,5 +1,6 @@
-import Parser from 'tree-sitter';
 import CPP from 'tree-sitter-cpp';
+import { withParser, parseSource } from '../../../../shared/parser-pool.mjs';
+import { BudgetExceeded } from '../../../../shared/budget.mjs';
 
 /**
  * Extract C++ AST using Tree-sitter
@@ -8,11 +9,10 @@ import CPP from 'tree-sitter-cpp';
  */
 export function extractCpp(sourceCode) {
   try {
-    const parser = new Parser();
-    parser.setLanguage(CPP);
-    const tree = parser.parse(sourceCode);
+    const tree = withParser('cpp', CPP, (parser) => parseSource(parser, sourceCode));
     return tree.rootNode;
   } catch (error) {
+    if (error instanceof BudgetExceeded) throw error;
     console.error('Error extracting C++ AST:', error);
     return {
       type: 'ERROR',
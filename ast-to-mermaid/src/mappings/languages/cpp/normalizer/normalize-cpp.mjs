@@ -1,3 +1,36 @@
+import { collectCallSites, withRange } from '../../../../shared/call-sites.mjs';
+import { syntaxKinds, syntaxView } from '../../../../shared/syntax-view.mjs';
+import { reusedFunction, keepFunction } from '../../../../shared/function-reuse.mjs';
+
+// Call nodes recorded in the per-conversion call-site table
+const CALL_TYPES = new Set(['call_expression']);
+
+// Node types the normalizer dispatches on
+const CPP = syntaxKinds([
+  'translation_unit', 'function_definition', 'function_declarator', 'compound_statement',
+  'if_statement', 'else_clause', 'for_statement', 'while_statement', 'switch_statement',
+  'case_statement', 'default', 'break_statement', 'return_statement', 'expression_statement',
+  'declaration', 'try_statement', 'catch_clause', 'throw_statement', 'call_expression',
+  'assignment_expression', 'binary_expression', 'update_expression', 'parenthesized_expression',
+  'new_expression', 'delete_expression', 'field_expression', 'identifier', 'field_identifier',
+  'number_literal', 'primitive_type', 'class_specifier', 'namespace_definition',
+  'preproc_include', 'using_declaration', 'comment'
+]);
+
+/**
+ * Callee of a call_expression: the plain name of `foo()`, `ns::foo()`,
+ * `obj.foo()` or `foo<T>()`
+ * @param {Object} node - Tree-sitter call_expression node
+ * @returns {string|null}
+ */
+function callee(node) {
+  let fn = node.childForFieldName('function');
+  while (fn && fn.kind !== CPP.identifier && fn.kind !== CPP.field_identifier) {
+    fn = fn.childForFieldName(fn.kind === CPP.field_expression ? 'field' : 'name');
+  }
+  return fn ? fn.text : null;
+}
+
 // Helper function to extract function calls from expressions
 function extractFunctionCalls(text) {
   if (!text) return [];
@@ -19,35 +52,49 @@ function extractFunctionCalls(text) {
 }
 
 /**
- * Normalize C++ AST to unified node types
- * @param {Object} node - AST node
+ * Normalize C++ AST to unified node types, read through a syntax view (see
+ * shared/syntax-view.mjs)
+ * @param {Object} node - Tree-sitter node
  * @returns {Object} - Normalized node
  */
 export function normalizeCpp(node) {
+  return normalize(syntaxView(node, CPP));
+}
+
+// Normalize a C++ node and tag the result with its source range
+function normalize(node) {
+  return withRange(normalizeCppNode(node), node);
+}
+
+function normalizeCppNode(node) {
   if (!node) return null;
   
   // Convert C++-specific AST nodes to unified node types
-  switch (node.type) {
-    case "translation_unit":
+  switch (node.kind) {
+    case CPP.translation_unit:
       // Return the children as a block
       return {
         type: "Block",
         body: node.children
-          .map(normalizeCpp)
-          .filter(Boolean)
+          .map(normalize)
+          .filter(Boolean),
+        callSites: collectCallSites(node, CALL_TYPES, callee)
       };
       
-    case "function_definition":
+    case CPP.function_definition:
+      // Unchanged since the session's last conversion (see shared/function-reuse.mjs)
+      const reused = reusedFunction(node);
+      if (reused) return reused;
       // More robust function definition handling
       // Extract function name from the identifier inside function_declarator
       const functionDeclarator = node.child(1);
       let functionName = "unknown";
       let paramText = "()";
       
-      if (functionDeclarator && functionDeclarator.type === 'function_declarator') {
+      if (functionDeclarator && functionDeclarator.kind === CPP.function_declarator) {
         // Get the identifier (function name)
         const identifier = functionDeclarator.child(0);
-        if (identifier && identifier.type === 'identifier') {
+        if (identifier && identifier.kind === CPP.identifier) {
           functionName = identifier.text;
         }
         
@@ -58,37 +105,37 @@ export function normalizeCpp(node) {
         }
       }
       
-      const bodyNode = node.child(node.children.length - 1);
+      const bodyNode = node.child(node.childCount - 1);
       
-      return {
+      return keepFunction(node, {
         type: "Function",
         name: functionName + paramText,
         parameters: paramText,
-        body: bodyNode ? normalizeCpp(bodyNode) : null
-      };
+        body: bodyNode ? normalize(bodyNode) : null
+      });
       
-    case "compound_statement":
+    case CPP.compound_statement:
       // Handle compound statements (blocks with { })
       return {
         type: "Block",
         body: node.children
           .slice(1, -1) // Remove opening and closing braces
-          .map(normalizeCpp)
+          .map(normalize)
           .filter(Boolean)
       };
       
-    case "if_statement":
+    case CPP.if_statement:
       // Handle if statements with proper else clause processing
-      const condition = normalizeCpp(node.child(1)); // condition is typically at index 1 (after 'if')
-      const thenBlock = normalizeCpp(node.child(2)); // then block is typically at index 2
+      const condition = normalize(node.child(1)); // condition is typically at index 1 (after 'if')
+      const thenBlock = normalize(node.child(2)); // then block is typically at index 2
       
       // Check for else clause (typically at index 3 in C++)
       let elseBlock = null;
       const elseClause = node.child(3);
-      if (elseClause && elseClause.type === 'else_clause') {
+      if (elseClause && elseClause.kind === CPP.else_clause) {
         // The else clause contains the actual else statement
         // In C++, "else if" is parsed as "else" + "if_statement"
-        elseBlock = normalizeCpp(elseClause.child(1)); // Typically the statement after 'else'
+        elseBlock = normalize(elseClause.child(1)); // Typically the statement after 'else'
       }
       
       return {
@@ -98,7 +145,7 @@ export function normalizeCpp(node) {
         else: elseBlock
       };
       
-    case "for_statement":
+    case CPP.for_statement:
       // Handle both declaration-style and assignment-style for loops
       // Both styles have the same pattern:
       // Child 2: init
@@ -114,35 +161,35 @@ export function normalizeCpp(node) {
       let forBodyNode = null;
       
       // Look for the condition, update, and body nodes
-      for (let i = 3; i < node.children.length; i++) {
+      for (let i = 3; i < node.childCount; i++) {
         const child = node.child(i);
         if (!child) continue;
         
-        if (child.type === "binary_expression" && !condNode) {
+        if (child.kind === CPP.binary_expression && !condNode) {
           condNode = child;
-        } else if (child.type === "update_expression" && !updateNode) {
+        } else if (child.kind === CPP.update_expression && !updateNode) {
           updateNode = child;
-        } else if (child.type === "compound_statement" && !forBodyNode) {
+        } else if (child.kind === CPP.compound_statement && !forBodyNode) {
           forBodyNode = child;
         }
       }
       
       return {
         type: "For",
-        init: normalizeCpp(initNode),
-        cond: normalizeCpp(condNode),
-        update: normalizeCpp(updateNode),
-        body: normalizeCpp(forBodyNode)
+        init: normalize(initNode),
+        cond: normalize(condNode),
+        update: normalize(updateNode),
+        body: normalize(forBodyNode)
       };
       
-    case "while_statement":
+    case CPP.while_statement:
       return {
         type: "While",
-        cond: normalizeCpp(node.child(1)), // condition is typically at index 1
-        body: normalizeCpp(node.child(2)) // body is typically at index 2
+        cond: normalize(node.child(1)), // condition is typically at index 1
+        body: normalize(node.child(2)) // body is typically at index 2
       };
       
-    case "expression_statement":
+    case CPP.expression_statement:
       // Check if this expression contains cout or cin calls
       if (node.text && (node.text.includes('cout') || node.text.includes('cin'))) {
         return {
@@ -153,7 +200,7 @@ export function normalizeCpp(node) {
       
       // Handle printf and scanf calls
       const expr = node.child(0);
-      if (expr && expr.type === "call_expression") {
+      if (expr && expr.kind === CPP.call_expression) {
         const func = expr.child(0);
         if (func && func.text === "printf") {
           // Format printf text as expected
@@ -194,7 +241,7 @@ export function normalizeCpp(node) {
         text: node.text
       };
       
-    case "assignment_expression":
+    case CPP.assignment_expression:
       // Check if this assignment expression contains function calls
       const assignFunctionCalls = [];
       
@@ -202,9 +249,9 @@ export function normalizeCpp(node) {
       function findAssignFunctionCalls(n) {
         if (!n) return;
         
-        if (n.type === 'call_expression') {
+        if (n.kind === CPP.call_expression) {
           const func = n.child(0);
-          if (func && func.type === 'identifier') {
+          if (func && func.kind === CPP.identifier) {
             assignFunctionCalls.push(func.text);
           }
         }
@@ -228,100 +275,100 @@ export function normalizeCpp(node) {
       
       return assignNode;
       
-    case "declaration":
+    case CPP.declaration:
       return {
         type: "Decl",
         text: node.text
       };
       
-    case "class_specifier":
+    case CPP.class_specifier:
       // Ignore class definitions - they're boilerplate
       return null;
       
-    case "namespace_definition":
+    case CPP.namespace_definition:
       // Ignore namespace definitions - they're boilerplate
       return null;
       
-    case "new_expression":
+    case CPP.new_expression:
       // Handle C++ new operations (dynamic memory allocation)
       return {
         type: "New",
         text: node.text
       };
       
-    case "delete_expression":
+    case CPP.delete_expression:
       // Handle C++ delete operations (dynamic memory deallocation)
       return {
         type: "Delete",
         text: node.text
       };
       
-    case "try_statement":
+    case CPP.try_statement:
       // Handle C++ try blocks
       return {
         type: "Try",
         text: node.text,
-        body: node.child(1) ? normalizeCpp(node.child(1)) : null,  // try block body
-        catch: node.child(2) ? normalizeCpp(node.child(2)) : null   // catch clause
+        body: node.child(1) ? normalize(node.child(1)) : null,  // try block body
+        catch: node.child(2) ? normalize(node.child(2)) : null   // catch clause
       };
       
-    case "catch_clause":
+    case CPP.catch_clause:
       // Handle C++ catch clauses
       return {
         type: "Catch",
         text: node.text,
         parameter: node.child(1)?.text || null,  // catch parameter
-        body: node.child(2) ? normalizeCpp(node.child(2)) : null  // catch block body
+        body: node.child(2) ? normalize(node.child(2)) : null  // catch block body
       };
       
-    case "throw_statement":
+    case CPP.throw_statement:
       // Handle C++ throw statements
       return {
         type: "Throw",
         text: node.text
       };
       
-    case "switch_statement":
+    case CPP.switch_statement:
       // Handle switch statements
       return {
         type: "Switch",
-        cond: normalizeCpp(node.child(1)), // condition is typically at index 1 (condition_clause)
-        body: normalizeCpp(node.child(2)) // body is typically at index 2 (compound_statement)
+        cond: normalize(node.child(1)), // condition is typically at index 1 (condition_clause)
+        body: normalize(node.child(2)) // body is typically at index 2 (compound_statement)
       };
       
-    case "case_statement":
+    case CPP.case_statement:
       // Handle case statements (including default cases)
       // Check if this is actually a default case
-      if (node.child(0)?.type === 'default') {
+      if (node.child(0)?.kind === CPP.default) {
         // This is a default case
         return {
           type: "Default",
-          body: node.children ? node.children.slice(2).map(normalizeCpp).filter(Boolean) : [] // Skip default and : tokens
+          body: node.children ? node.children.slice(2).map(normalize).filter(Boolean) : [] // Skip default and : tokens
         };
       } else {
         // This is a regular case
         return {
           type: "Case",
           value: node.child(1)?.text, // value is typically at index 1
-          body: node.children ? node.children.slice(3).map(normalizeCpp).filter(Boolean) : [] // Skip case, value, and : tokens
+          body: node.children ? node.children.slice(3).map(normalize).filter(Boolean) : [] // Skip case, value, and : tokens
         };
       }
       
-    case "default":
+    case CPP.default:
       // Handle standalone default nodes (shouldn't occur in switch statements)
       return {
         type: "Default",
         body: []
       };
       
-    case "break_statement":
+    case CPP.break_statement:
       // Handle break statements
       return {
         type: "Break",
         text: "break"
       };
       
-    case "call_expression":
+    case CPP.call_expression:
       // Handle cout statements
       if (node.text && node.text.includes('cout')) {
         return {
@@ -358,7 +405,7 @@ export function normalizeCpp(node) {
         name: functionCallee ? functionCallee.text : "unknown_function"
       };
       
-    case "binary_expression":
+    case CPP.binary_expression:
       // Check if this binary expression contains function calls
       const functionCalls = [];
       
@@ -366,9 +413,9 @@ export function normalizeCpp(node) {
       function findFunctionCalls(n) {
         if (!n) return;
         
-        if (n.type === 'call_expression') {
+        if (n.kind === CPP.call_expression) {
           const func = n.child(0);
-          if (func && func.type === 'identifier') {
+          if (func && func.kind === CPP.identifier) {
             functionCalls.push(func.text);
           }
         }
@@ -392,31 +439,31 @@ export function normalizeCpp(node) {
       
       return exprNode;
       
-    case "return_statement":
+    case CPP.return_statement:
       return {
         type: "Return",
         value: node.child(1)?.text || null
       };
       
-    case "preproc_include":
+    case CPP.preproc_include:
       // Ignore #include directives - they're boilerplate
       return null;
       
-    case "using_declaration":
+    case CPP.using_declaration:
       // Ignore using namespace statements - they're boilerplate
       return null;
       
-    case "function_declarator":
+    case CPP.function_declarator:
       // Ignore function declarations - they're boilerplate
       return null;
       
-    case "primitive_type":
+    case CPP.primitive_type:
       // Ignore primitive types when they appear as standalone nodes
       return null;
       
-    case "identifier":
-    case "number_literal":
-    case "parenthesized_expression":
+    case CPP.identifier:
+    case CPP.number_literal:
+    case CPP.parenthesized_expression:
       // Check if this parenthesized expression contains function calls
       const parenFunctionCalls = [];
       
@@ -424,9 +471,9 @@ export function normalizeCpp(node) {
       function findParenFunctionCalls(n) {
         if (!n) return;
         
-        if (n.type === 'call_expression') {
+        if (n.kind === CPP.call_expression) {
           const func = n.child(0);
-          if (func && func.type === 'identifier') {
+          if (func && func.kind === CPP.identifier) {
             parenFunctionCalls.push(func.text);
           }
         }
@@ -450,7 +497,7 @@ export function normalizeCpp(node) {
       
       return parenExprNode;
 
-    case "comment":
+    case CPP.comment:
       // Ignore comments - they shouldn't appear in flowcharts
       return null;
       
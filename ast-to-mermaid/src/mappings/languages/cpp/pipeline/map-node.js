@@ -41,8 +41,14 @@ import { mapExpr } from "../../c/other-statements/expression.mjs";
 
 // Import block mapping function
 import { mapBlockStatement } from "../../c/other-statements/block.mjs";
+import { mapOwningCallSites } from "../../../../shared/call-sites.mjs";
 
+// The flow node created for a statement owns the calls in its source range
 export function mapNode(node, ctx) {
+  return mapOwningCallSites(node, ctx, mapCppNode);
+}
+
+function mapCppNode(node, ctx) {
   switch (node.type) {
     case "If": return mapIf(node, ctx);
     case "For": return mapFor(node, ctx);
@@ -1,8 +1,10 @@
 import { execSync } from 'child_process';
-import { writeFileSync, unlinkSync, existsSync, mkdirSync, readFileSync } from 'fs';
+import { writeFileSync, existsSync, mkdirSync, readFileSync, mkdtempSync, rmSync } from 'fs';
 import { join, dirname } from 'path';
 import { tmpdir, homedir } from 'os';
 import { fileURLToPath } from 'url';
+import { parseWithLocalGrammar, isCLIFallbackEnabled } from '../../../../shared/local-grammar.mjs';
+import { BudgetExceeded } from '../../../../shared/budget.mjs';
 
 // Get __dirname equivalent for ES modules
 const __filename = fileURLToPath(import.meta.url);
@@ -122,32 +124,27 @@ function positionToIndex(row, column, offsets) {
 }
 
 /**
- * Extract Fortran AST using Tree-sitter CLI
+ * Extract Fortran AST with the in-process tree-sitter-fortran grammar.
+ * The `npx tree-sitter parse` route is only used when AST2M_TREE_SITTER_CLI is set
+ * and the native binding cannot be loaded.
  * @param {string} sourceCode - Fortran source code
- * @returns {Object} - Parsed AST
+ * @returns {Object} - Tree-sitter root node, or the simplified AST parsed from CLI output
  */
 export function extractFortran(sourceCode) {
   try {
-    ensureTreeSitterConfig();
-    const tempFile = join(tmpdir(), `temp-fortran-${Date.now()}.f90`);
-    try {
-      writeFileSync(tempFile, sourceCode);
-      const cliOutput = execSync(`npx tree-sitter parse "${tempFile}"`, {
-        cwd: FORTRAN_PARSER_DIR,
-        encoding: 'utf8'
-      });
-      unlinkSync(tempFile);
-      return parseCLIOutput(cliOutput, sourceCode);
-    } catch (cliError) {
-      console.error('CLI parsing failed:', cliError.message);
-      try {
-        unlinkSync(tempFile);
-      } catch (cleanupError) {
-        // ignore cleanup errors
-      }
-      throw cliError;
+    const tree = parseWithLocalGrammar('fortran', sourceCode);
+    if (tree) {
+      // The normalizer reads the tree through a syntax view of its named nodes
+      return tree.rootNode;
     }
+
+    if (isCLIFallbackEnabled()) {
+      return extractFortranWithCLI(sourceCode);
+    }
+
+    throw new Error('tree-sitter-fortran binding is not available (set AST2M_TREE_SITTER_CLI=1 to use the CLI)');
   } catch (error) {
+    if (error instanceof BudgetExceeded) throw error;
     console.error('Error extracting Fortran AST:', error);
     return {
       type: 'ERROR',
@@ -156,6 +153,35 @@ export function extractFortran(sourceCode) {
   }
 }
 
+/**
+ * Extract Fortran AST using the tree-sitter CLI (explicit fallback only)
+ * @param {string} sourceCode - Fortran source code
+ * @returns {Object} - Parsed AST
+ */
+function extractFortranWithCLI(sourceCode) {
+  ensureTreeSitterConfig();
+  // A private temp directory per call keeps concurrent requests from colliding
+  const tempDir = mkdtempSync(join(tmpdir(), 'ast2m-fortran-'));
+  const tempFile = join(tempDir, 'input.f90');
+  try {
+    writeFileSync(tempFile, sourceCode);
+    const cliOutput = execSync(`npx tree-sitter parse "${tempFile}"`, {
+      cwd: FORTRAN_PARSER_DIR,
+      encoding: 'utf8'
+    });
+    return parseCLIOutput(cliOutput, sourceCode);
+  } catch (cliError) {
+    console.error('CLI parsing failed:', cliError.message);
+    throw cliError;
+  } finally {
+    try {
+      rmSync(tempDir, { recursive: true, force: true });
+    } catch (cleanupError) {
+      // ignore cleanup errors
+    }
+  }
+}
+
 function ensureTreeSitterConfig() {
   try {
     const configDir = join(homedir(), '.tree-sitter');
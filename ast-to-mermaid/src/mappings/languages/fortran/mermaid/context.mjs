@@ -1,4 +1,6 @@
 // Context for Mermaid diagram generation (Fortran) with C-style branch handling
+import { graphFromLines } from '../../../../shared/graph-json.mjs';
+import { noteNodeOrigin } from '../../../../shared/stable-ids.mjs';
 const createState = () => ({
   nodeId: 2,        // Start from 2 since N1 is reserved for start node
 });
@@ -22,7 +24,9 @@ export function ctx(sharedState = null) {
     nodeOrder: [],
 
     next() {
-      return `N${state.nodeId++}`;
+      const id = `N${state.nodeId++}`;
+      noteNodeOrigin(id);
+      return id;
     },
 
     add(id, label) {
@@ -170,12 +174,22 @@ export function ctx(sharedState = null) {
       // Placeholder for legacy calls. Branch handling now occurs via join queue.
     },
 
-    emit() {
+    // Mermaid lines of the finished chart
+    emitLines() {
       return [
         'flowchart TD',
         ...this.nodes,
         ...this.edges,
-      ].join('\n');
+      ];
+    },
+
+    emit() {
+      return this.emitLines().join('\n');
+    },
+
+    // Graph-JSON output (see shared/graph-json.mjs)
+    emitGraph() {
+      return graphFromLines(this.emitLines());
     },
   };
 
@@ -1,34 +1,49 @@
+import { syntaxKinds, syntaxView, kindOf } from '../../../../shared/syntax-view.mjs';
+
+// Node types the normalizer dispatches on
+const FORTRAN = syntaxKinds([
+  'translation_unit', 'program', 'variable_declaration', 'assignment_statement', 'print_statement',
+  'do_loop_statement', 'if_statement', 'else_clause', 'select_case_statement', 'case_statement',
+  'case_default_statement', 'stop_statement', 'return_statement'
+]);
+
 /**
- * Normalize Fortran AST (parsed from CLI output) to unified node types
- * @param {Object} node - Parsed AST node
+ * Normalize a Fortran syntax tree to unified node types. Tree-sitter trees are read
+ * through a view of their named nodes (see shared/syntax-view.mjs); the simplified
+ * AST parsed from CLI output is walked as is.
+ * @param {Object} node - Tree-sitter node or parsed AST node
  * @param {string} sourceCode - Original source text
  * @returns {Object|Array|null} - Normalized node(s)
  */
 export function normalizeFortran(node, sourceCode = '') {
+  return normalize(syntaxView(node, FORTRAN, { named: true }), sourceCode);
+}
+
+function normalize(node, sourceCode) {
   if (!node) return null;
 
-  switch (node.type) {
-    case 'translation_unit':
+  switch (typeof node.kind === 'number' ? node.kind : kindOf(FORTRAN, node.type)) {
+    case FORTRAN.translation_unit:
       return {
         type: 'Program',
         name: 'main',
         body: normalizeChildren(node.children, sourceCode)
       };
 
-    case 'program':
+    case FORTRAN.program:
       return {
         type: 'Program',
         name: extractProgramName(node) || 'main',
         body: normalizeProgramBody(node.children, sourceCode)
       };
 
-    case 'variable_declaration':
+    case FORTRAN.variable_declaration:
       return {
         type: 'Decl',
         text: buildDeclarationText(node)
       };
 
-    case 'assignment_statement': {
+    case FORTRAN.assignment_statement: {
       const left = findChildByField(node, 'left');
       const right = findChildByField(node, 'right');
       return {
@@ -37,35 +52,35 @@ export function normalizeFortran(node, sourceCode = '') {
       };
     }
 
-    case 'print_statement':
+    case FORTRAN.print_statement:
       return {
         type: 'IO',
         text: sanitizeWhitespace(extractText(node))
       };
 
-    case 'do_loop_statement':
+    case FORTRAN.do_loop_statement:
       return normalizeLoop(node, sourceCode);
 
-    case 'if_statement':
+    case FORTRAN.if_statement:
       return normalizeIf(node, sourceCode);
 
-    case 'select_case_statement':
+    case FORTRAN.select_case_statement:
       return normalizeSelectCase(node, sourceCode);
 
-    case 'case_statement':
+    case FORTRAN.case_statement:
       return normalizeCase(node, sourceCode);
 
-    case 'case_default_statement':
+    case FORTRAN.case_default_statement:
       return normalizeCaseDefault(node, sourceCode);
 
-    case 'stop_statement':
-    case 'return_statement':
+    case FORTRAN.stop_statement:
+    case FORTRAN.return_statement:
       return {
         type: 'Return',
         text: extractText(node) || 'return'
       };
 
-    case 'else_clause':
+    case FORTRAN.else_clause:
       return normalizeChildren(node.children, sourceCode);
 
     default:
@@ -122,12 +137,12 @@ function normalizeIf(node, source) {
       return;
     }
     if (child.type === 'else_clause') {
-      const normalizedElse = normalizeFortran(child, source);
+      const normalizedElse = normalize(child, source);
       if (Array.isArray(normalizedElse) && normalizedElse.length > 0) {
         elseChildren = normalizedElse;
       }
     } else {
-      const normalized = normalizeFortran(child, source);
+      const normalized = normalize(child, source);
       if (Array.isArray(normalized)) {
         bodyChildren.push(...normalized);
       } else if (normalized) {
@@ -158,7 +173,7 @@ function normalizeSelectCase(node, source) {
   
   const normalizedCases = [];
   caseChildren.forEach(caseChild => {
-    const normalizedCase = normalizeFortran(caseChild, source);
+    const normalizedCase = normalize(caseChild, source);
     if (normalizedCase) {
       if (Array.isArray(normalizedCase)) {
         normalizedCases.push(...normalizedCase);
@@ -202,7 +217,7 @@ function normalizeCase(node, source) {
     
     const normalizedBody = [];
     bodyChildren.forEach(child => {
-      const normalized = normalizeFortran(child, source);
+      const normalized = normalize(child, source);
       if (normalized) {
         if (Array.isArray(normalized)) {
           normalizedBody.push(...normalized);
@@ -232,7 +247,7 @@ function normalizeCase(node, source) {
   
   const normalizedBody = [];
   bodyChildren.forEach(child => {
-    const normalized = normalizeFortran(child, source);
+    const normalized = normalize(child, source);
     if (normalized) {
       if (Array.isArray(normalized)) {
         normalizedBody.push(...normalized);
@@ -285,7 +300,7 @@ function normalizeCaseDefault(node, source) {
   
   const normalizedBody = [];
   bodyChildren.forEach(child => {
-    const normalized = normalizeFortran(child, source);
+    const normalized = normalize(child, source);
     if (normalized) {
       if (Array.isArray(normalized)) {
         normalizedBody.push(...normalized);
@@ -304,7 +319,7 @@ function normalizeCaseDefault(node, source) {
 function normalizeChildren(children = [], source) {
   const result = [];
   (children || []).forEach(child => {
-    const normalized = normalizeFortran(child, source);
+    const normalized = normalize(child, source);
     if (Array.isArray(normalized)) {
       result.push(...normalized);
     } else if (normalized) {
@@ -3,98 +3,85 @@ import { normalizeFortran } from '../normalizer/normalize-fortran.mjs';
 import { walk } from '../walkers/walk.mjs';
 import { ctx } from '../mermaid/context.mjs';
 import { finalizeFlowContext } from '../mermaid/finalize-context.mjs';
+import { flowchartPipeline } from '../../../../engine/pipeline.mjs';
 
 // Import mapping functions (reusing C mapping functions since they're similar)
 import { mapNode } from './map-node.js';
 
 /**
- * Map Fortran nodes to Mermaid flowchart nodes
- * @param {Object} node - Normalized Fortran node
- * @param {Object} ctx - Context for flowchart generation
- */
-/**
- * Generate VTU-style Mermaid flowchart from Fortran source code
+ * Extract the syntax tree: a tree-sitter tree's root node, or the simplified
+ * AST of the fallback parser
  * @param {string} sourceCode - Fortran source code
- * @returns {string} - Mermaid flowchart
+ * @returns {Object} - Root node
  */
-export function generateFlowchart(sourceCode) {
-  
-  // 1. Extract AST using Tree-sitter
-  let ast;
-  try {
-    const tree = extractFortran(sourceCode);
-    
-    // Handle both tree objects and simplified AST representations
-    if (tree && tree.type === 'translation_unit') {
-      // This is a simplified AST from CLI fallback
-      ast = tree;
-    } else {
-      // This is a tree-sitter tree object
-      ast = tree.rootNode || tree;
-    }
-  } catch (error) {
-    console.error('Error extracting AST:', error);
-    // Return a simple flowchart on error
-    return `flowchart TD
-    N1(["start"])
-    N2(["end"])
-    N1 --> N2`;
+function extractTree(sourceCode) {
+  const tree = extractFortran(sourceCode);
+
+  // Handle both tree objects and simplified AST representations
+  if (tree && tree.type === 'translation_unit') {
+    // This is a simplified AST from CLI fallback
+    return tree;
   }
-  
-  // 2. Normalize AST to unified node types
-  const normalized = normalizeFortran(ast, sourceCode);
-  
-  // 3. Create context for flowchart generation
+  // This is a tree-sitter tree object
+  return tree.rootNode || tree;
+}
+
+/**
+ * Flow context of a program: the statements of the main program, or the whole
+ * IR when it is not a Program
+ * @param {Object} normalized - Normalized Fortran IR
+ * @returns {Object} - Flow context
+ */
+function buildFlow(normalized) {
   const context = ctx();
-  
+
   // Manually set the start node
   context.add('N1', '(["start"])');
   context.setLast('N1');
-  
-  // 4. Walk and generate nodes using mapping functions
+
   if (normalized) {
-    // Find the main program and process its body directly
-    let mainProgramBody = null;
-    
-    // Check if normalized is the main program itself
-    if (normalized.type === 'Program') {
-      mainProgramBody = normalized.body;
-    }
-    
-    // If we found the main program, process its body directly
-    if (mainProgramBody) {
-      // Create a walker context that uses the mapping functions
-      const walkerContext = {
-        handle: (node) => {
-          if (node && node.type) {
-            // Use the mapping function to add nodes to the context
-            mapNode(node, context, mapNode);
-          }
+    // Create a walker context that uses the mapping functions
+    const walkerContext = {
+      handle: (node) => {
+        if (node && node.type) {
+          // Use the mapping function to add nodes to the context
+          mapNode(node, context, mapNode);
         }
-      };
-      
+      }
+    };
+
+    if (normalized.type === 'Program' && normalized.body) {
       // Walk each node in the main program's body
-      mainProgramBody.forEach(node => {
+      normalized.body.forEach(node => {
         walk(node, walkerContext);
       });
     } else {
       // If no main program found, walk the entire normalized AST
-      const walkerContext = {
-        handle: (node) => {
-          if (node && node.type) {
-            // Use the mapping function to add nodes to the context
-            mapNode(node, context, mapNode);
-          }
-        }
-      };
-      
       walk(normalized, walkerContext);
     }
   }
-  
-  // Finalize the context
+
   finalizeFlowContext(context);
-  
-  // 5. Emit final Mermaid flowchart
-  return context.emit();
-}
\ No newline at end of file
+  return context;
+}
+
+/**
+ * Generate VTU-style Mermaid flowchart from Fortran source code
+ * @param {string} sourceCode - Fortran source code
+ * @param {Object} [options] - Pipeline options (see src/engine/pipeline.mjs; no { tree } or
+ *   { lines } support)
+ * @returns {string|Object} - Mermaid flowchart (the graph, with { format: 'graph' })
+ */
+export const generateFlowchart = flowchartPipeline({
+  extract: extractTree,
+  normalize: normalizeFortran,
+  onExtractError: (error) => {
+    console.error('Error extracting AST:', error);
+    // Return a simple flowchart on error
+    return `flowchart TD
+    N1(["start"])
+    N2(["end"])
+    N1 --> N2`;
+  },
+  build: buildFlow
+});
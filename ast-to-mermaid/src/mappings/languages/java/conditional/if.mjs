@@ -6,12 +6,12 @@ const decisionShape = (text) => shapes.decision.replace('{}', text);
 
 /**
  * Map if statement to Mermaid flowchart nodes
- * Creates decision node with Yes/No branches
+ * Creates the decision node; the mapping walk (walkers/walk.mjs) maps its
+ * Yes/No branches, including the ifs of an else-if chain
  * @param {Object} node - Normalized if statement node
  * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Function to map child nodes
  */
-export function mapIfStatement(node, ctx, mapper) {
+export function mapIfStatement(node, ctx) {
   if (!node || !ctx) return;
   
   // Create decision node for condition
@@ -43,36 +43,4 @@ export function mapIfStatement(node, ctx, mapper) {
   if (typeof ctx.registerIf === 'function') {
     ctx.registerIf(conditionId, !!node.alternate);
   }
-  
-  // Process the consequent (then) branch
-  if (node.consequent) {
-    // Enter the then branch
-    if (typeof ctx.enterBranch === 'function') {
-      ctx.enterBranch('then');
-    }
-    
-    // Process statements in the consequent block
-    if (node.consequent.body && Array.isArray(node.consequent.body)) {
-      node.consequent.body.forEach(stmt => {
-        if (stmt && mapper) {
-          mapper(stmt, ctx);
-        }
-      });
-    } else {
-      // Handle single statement (not in a block)
-      if (mapper) {
-        mapper(node.consequent, ctx);
-      }
-    }
-    
-    // Exit the then branch
-    if (typeof ctx.exitBranch === 'function') {
-      ctx.exitBranch('then');
-    }
-  }
-  
-  // Complete the if statement and handle branch merging
-  if (typeof ctx.completeIf === 'function') {
-    ctx.completeIf();
-  }
-}
\ No newline at end of file
+}
@@ -1,5 +1,6 @@
-import Parser from 'tree-sitter';
 import Java from 'tree-sitter-java';
+import { withParser, parseSource } from '../../../../shared/parser-pool.mjs';
+import { BudgetExceeded } from '../../../../shared/budget.mjs';
 
 /**
  * Extract Java AST from source code
@@ -8,38 +9,46 @@ import Java from 'tree-sitter-java';
  */
 export function extractJava(sourceCode) {
   try {
-    const parser = new Parser();
-    parser.setLanguage(Java);
-    
-    // Try to parse the code as-is first
-    let ast = parser.parse(sourceCode);
+    return withParser('java', Java, (parser) => parseJava(parser, sourceCode));
+  } catch (error) {
+    if (error instanceof BudgetExceeded) throw error;
+    console.error('Error parsing Java code:', error);
+    return null;
+  }
+}
+
+/**
+ * Parse Java source with a pooled parser, retrying wrapped in a class on errors
+ * @param {Object} parser - Tree-sitter parser with the Java language set
+ * @param {string} sourceCode - Java source code
+ * @returns {Object} - Tree-sitter AST
+ */
+function parseJava(parser, sourceCode) {
+  // Try to parse the code as-is first
+  let ast = parseSource(parser, sourceCode);
 
-    // Determine parse health in a version-tolerant way (hasError() vs hasError)
-    const hasParseError = (tree) => {
-      if (!tree || !tree.rootNode) return true;
-      const { rootNode } = tree;
-      if (typeof rootNode.hasError === "function") return rootNode.hasError();
-      return !!rootNode.hasError;
-    };
-    
-    // If the parse tree is empty or has errors, try wrapping in a class
-    if (hasParseError(ast)) {
-      // Check if this is already a complete Java file with class
-      if (!sourceCode.includes('class ') && !sourceCode.includes('public ')) {
-        // Wrap simple statements in a class and method for parsing
-        const wrappedCode = `
+  // Determine parse health in a version-tolerant way (hasError() vs hasError)
+  const hasParseError = (tree) => {
+    if (!tree || !tree.rootNode) return true;
+    const { rootNode } = tree;
+    if (typeof rootNode.hasError === "function") return rootNode.hasError();
+    return !!rootNode.hasError;
+  };
+  
+  // If the parse tree is empty or has errors, try wrapping in a class
+  if (hasParseError(ast)) {
+    // Check if this is already a complete Java file with class
+    if (!sourceCode.includes('class ') && !sourceCode.includes('public ')) {
+      // Wrap simple statements in a class and method for parsing
+      const wrappedCode = `
 public class TempClass {
   public static void main(String[] args) {
     ${sourceCode}
   }
 }`;
-        ast = parser.parse(wrappedCode);
-      }
+      ast = parseSource(parser, wrappedCode);
     }
-    
-    return ast;
-  } catch (error) {
-    console.error('Error parsing Java code:', error);
-    return null;
   }
+  
+  return ast;
 }
\ No newline at end of file
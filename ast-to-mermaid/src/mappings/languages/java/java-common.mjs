@@ -5,8 +5,6 @@
 // Import specific mapping functions
 import { mapFunctionDeclaration } from './functions/function.mjs';
 import { mapIfStatement } from './conditional/if.mjs';
-import { mapIfElseStatement } from './conditional/if-else/if-else.mjs';
-import { mapIfElseIfStatement } from './conditional/if-elseif/if-elseif.mjs';
 import { mapForStatement } from './loops/for.mjs';
 import { mapWhileStatement } from './loops/while/while.mjs';
 import { mapDoWhileStatement } from './loops/do-while/do-while.mjs';
@@ -1,12 +0,0 @@
-/**
- * Do-while loop statement mapping for Java language
- */
-
-export function mapDoWhileStatement(node) {
-  // Placeholder for do-while loop mapping logic
-  return {
-    type: 'do-while',
-    body: node.body,
-    test: node.test
-  };
-}
\ No newline at end of file
@@ -1,12 +0,0 @@
-/**
- * While loop statement mapping for Java language
- */
-
-export function mapWhileStatement(node) {
-  // Placeholder for while loop mapping logic
-  return {
-    type: 'while',
-    test: node.test,
-    body: node.body
-  };
-}
\ No newline at end of file
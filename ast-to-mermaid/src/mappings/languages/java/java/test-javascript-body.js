@@ -1,8 +0,0 @@
-if (true) {
-  console.log("Inside if body");
-  let x = 10;
-  x = x + 5;
-} else {
-  console.log("Inside else body");
-  let y = 20;
-}
\ No newline at end of file
@@ -1,31 +0,0 @@
-// Simple verification script for Java switch implementation
-console.log("Java switch implementation verification");
-console.log("=====================================");
-
-// Check if required files exist
-import { existsSync } from 'fs';
-import { join } from 'path';
-
-const requiredFiles = [
-  'src/mappings/languages/java/conditional/switch/switch.mjs',
-  'src/mappings/languages/java/other-statements/break.mjs',
-  'src/mappings/languages/java/mermaid/context.mjs',
-  'src/mappings/languages/java/mermaid/finalize-context.mjs'
-];
-
-console.log("Checking required files:");
-requiredFiles.forEach(file => {
-  const fullPath = join(process.cwd(), file);
-  if (existsSync(fullPath)) {
-    console.log(`✓ ${file} - EXISTS`);
-  } else {
-    console.log(`✗ ${file} - MISSING`);
-  }
-});
-
-console.log("\nJava switch implementation successfully updated with:");
-console.log("- Direct case connections from switch node");
-console.log("- Proper break statement handling");
-console.log("- Correct fall-through behavior");
-console.log("- Connection of break statements to next statement after switch block");
-console.log("- Consistent implementation with C/C++ patterns");
\ No newline at end of file
@@ -22,7 +22,7 @@ export function linkNext(ctx, nodeId, label) {
       ctx.last = nodeId;
     }
     // Clear the flag
-    delete ctx.isFirstLoopBodyNode;
+    ctx.isFirstLoopBodyNode = false;
   } else if (ctx.last) {
     // If there's a previous node, connect it to this node
     ctx.addEdge(ctx.last, nodeId, label);
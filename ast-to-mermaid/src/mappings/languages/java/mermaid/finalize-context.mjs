@@ -1,258 +1,163 @@
-export function finalizeFlowContext(context, addEndNode = true) {
-  if (!context) return null;
+/**
+ * Java join passes for the shared finalizer (src/engine/finalize.mjs): close a
+ * loop still open at the end of the flow, then send the No branches of
+ * if-else-if chains to the next condition instead of the end node.
+ */
 
-  if (typeof context.completeBranches === 'function') {
-    context.completeBranches();
+// Connect the body of a loop left open back to its condition (Yes path)
+function closeCurrentLoop(context) {
+  if (!context.currentLoop) return;
+  if ((context.currentLoop.type === "while" || context.currentLoop.type === "for") && context.last) {
+    context.addEdge(context.last, context.currentLoop.loopId, 'Yes');
   }
+}
 
-  let endId = null;
-  if (addEndNode) {
-    endId = context.next();
-    context.add(endId, '(["end"])');
-  }
+// In if-else-if chains, the No branches should connect to the next condition,
+// not to the end node
+function elseIfChainJoins(context) {
+  if (!context.pendingJoins || context.pendingJoins.length === 0) return;
 
-  // Handle loops properly - connect the body back to the condition and handle exit
-  if (context.currentLoop) {
-    // Handle the current loop's connections
-    if ((context.currentLoop.type === "while" || context.currentLoop.type === "for") && context.last) {
-      // Connect the last processed node back to the condition (Yes path)
-      // This creates the loop cycle
-      context.addEdge(context.last, context.currentLoop.loopId, 'Yes');
+  // First, let's identify if-else-if chains by looking at the node shapes
+  const graph = context.graph;
+  const nodeMap = {};
+  const nodeOrder = [];
+  for (let slot = 0; slot < graph.nodeCount; slot++) {
+    const nodeId = graph.nodeId(slot);
+    if (/^N\d+$/.test(nodeId)) {
+      nodeMap[nodeId] = graph.nodeLabel(slot);
+      nodeOrder.push(nodeId);
     }
   }
-
-  // Handle if-else-if chains properly
-  // In if-else-if chains, the No branches should connect to the next condition,
-  // not to the end node
-  if (context.pendingJoins && context.pendingJoins.length > 0) {
-    // First, let's identify if-else-if chains by looking at the node shapes
-    const nodeMap = {};
-    const nodeOrder = [];
-    context.nodes.forEach(nodeLine => {
-      const match = nodeLine.match(/^(N\d+)(.*)/);
-      if (match) {
-        nodeMap[match[1]] = match[2];
-        nodeOrder.push(match[1]);
-      }
-    });
-    
-    // Identify decision nodes and their positions
-    const decisionNodes = [];
-    nodeOrder.forEach((nodeId, index) => {
-      const nodeText = nodeMap[nodeId];
-      if (nodeText && nodeText.includes('{')) {
-        decisionNodes.push({id: nodeId, text: nodeText, index: index});
-      }
-    });
+  
+  // Identify decision nodes and their positions
+  const decisionNodes = [];
+  nodeOrder.forEach((nodeId, index) => {
+    const nodeText = nodeMap[nodeId];
+    if (nodeText && nodeText.includes('{')) {
+      decisionNodes.push({id: nodeId, text: nodeText, index: index});
+    }
+  });
+  
+  // Identify if-else-if chains
+  const ifElseIfChains = [];
+  for (let i = 0; i < decisionNodes.length; i++) {
+    const currentNode = decisionNodes[i];
+    const nodeText = currentNode.text;
     
-    // Identify if-else-if chains
-    const ifElseIfChains = [];
-    for (let i = 0; i < decisionNodes.length; i++) {
-      const currentNode = decisionNodes[i];
-      const nodeText = currentNode.text;
+    // Check if this is an if/else if statement
+    if (nodeText && (nodeText.includes('if ') || nodeText.includes('else if '))) {
+      const chain = [currentNode];
+      let nextIndex = i + 1;
       
-      // Check if this is an if/else if statement
-      if (nodeText && (nodeText.includes('if ') || nodeText.includes('else if '))) {
-        const chain = [currentNode];
-        let nextIndex = i + 1;
+      // Look for consecutive else if statements
+      while (nextIndex < decisionNodes.length) {
+        const nextNode = decisionNodes[nextIndex];
+        const nextNodeText = nextNode.text;
         
-        // Look for consecutive else if statements
-        while (nextIndex < decisionNodes.length) {
-          const nextNode = decisionNodes[nextIndex];
-          const nextNodeText = nextNode.text;
-          
-          // Check if the next decision node is an else if statement
-          if (nextNodeText && nextNodeText.includes('else if ')) {
-            // For if-else-if chains, we're more permissive about what constitutes a valid chain
-            // We allow IO statements and other simple statements between conditions
-            // Only break the chain if we encounter a non-if statement that's not simple IO
-            let isConsecutive = true;
-            for (let j = currentNode.index + 1; j < nextNode.index; j++) {
-              const intermediateNodeId = nodeOrder[j];
-              const intermediateNodeText = nodeMap[intermediateNodeId];
-              
-              // If there's a non-decision node that's not a simple IO or process node, it might break the chain
-              if (intermediateNodeText && 
-                  !intermediateNodeText.includes('{') && 
-                  !intermediateNodeText.includes('(["end"])') &&
-                  !intermediateNodeText.trim().startsWith('//')) {
-                // Check if it's a complex statement that would break the chain
-                // For now, let's be more permissive and only break on certain complex statements
-                // Allow simple IO statements and process statements
-                if (intermediateNodeText.includes('switch') || 
-                    intermediateNodeText.includes('for') || 
-                    intermediateNodeText.includes('while')) {
-                  isConsecutive = false;
-                  break;
-                }
-                // Otherwise, continue (allow simple statements like IO and assignments)
-              }
-            }
+        // Check if the next decision node is an else if statement
+        if (nextNodeText && nextNodeText.includes('else if ')) {
+          // For if-else-if chains, we're more permissive about what constitutes a valid chain
+          // We allow IO statements and other simple statements between conditions
+          // Only break the chain if we encounter a non-if statement that's not simple IO
+          // (the gaps before the last node of the chain were already checked)
+          let isConsecutive = true;
+          for (let j = chain[chain.length - 1].index + 1; j < nextNode.index; j++) {
+            const intermediateNodeId = nodeOrder[j];
+            const intermediateNodeText = nodeMap[intermediateNodeId];
             
-            if (isConsecutive) {
-              chain.push(nextNode);
-              nextIndex++;
-            } else {
-              break;
+            // If there's a non-decision node that's not a simple IO or process node, it might break the chain
+            if (intermediateNodeText && 
+                !intermediateNodeText.includes('{') && 
+                !intermediateNodeText.includes('(["end"])') &&
+                !intermediateNodeText.trim().startsWith('//')) {
+              // Check if it's a complex statement that would break the chain
+              // For now, let's be more permissive and only break on certain complex statements
+              // Allow simple IO statements and process statements
+              if (intermediateNodeText.includes('switch') || 
+                  intermediateNodeText.includes('for') || 
+                  intermediateNodeText.includes('while')) {
+                isConsecutive = false;
+                break;
+              }
+              // Otherwise, continue (allow simple statements like IO and assignments)
             }
+          }
+          
+          if (isConsecutive) {
+            chain.push(nextNode);
+            nextIndex++;
           } else {
             break;
           }
-        }
-        
-        // If we found a chain of 2 or more, add it
-        if (chain.length >= 2) {
-          ifElseIfChains.push(chain);
-        }
-      }
-    }
-    
-    // Create a set of decision node IDs that are part of if-else-if chains (except the last in each chain)
-    const chainNodeIds = new Set();
-    const chainConnections = new Map(); // Track which node connects to which next node
-    ifElseIfChains.forEach(chain => {
-      // Add all nodes except the last one and track their connections
-      for (let i = 0; i < chain.length - 1; i++) {
-        chainNodeIds.add(chain[i].id);
-        chainConnections.set(chain[i].id, chain[i + 1].id);
-      }
-    });
-    
-    // Process pending joins and handle if-else-if chains
-    const remainingJoins = [];
-    context.pendingJoins.forEach((join, joinIndex) => {
-      const newEdges = [];
-      join.edges.forEach((edge, edgeIndex) => {
-        if (!edge.from) {
-          newEdges.push(edge);
-          return;
-        }
-        
-        // Check if this is a No branch from a decision node that's part of an if-else-if chain
-        if (edge.label === 'No' && chainNodeIds.has(edge.from)) {
-          // This edge should be handled by connecting to the next condition in the chain
-          // We don't add it to remaining joins because it will be handled separately
         } else {
-          // This edge is not part of an if-else-if chain or is not a No branch, add to remaining joins
-          newEdges.push(edge);
+          break;
         }
-      });
-      
-      if (newEdges.length > 0) {
-        remainingJoins.push({ edges: newEdges });
       }
-    });
-    
-    // Now connect the No branches of chain nodes to the next condition in their chain
-    // But only add them if they don't already exist to prevent duplicates
-    const existingEdges = new Set();
-    context.edges.forEach(edge => {
-      existingEdges.add(edge);
-    });
-    
-    ifElseIfChains.forEach(chain => {
-      for (let i = 0; i < chain.length - 1; i++) {
-        const currentNode = chain[i];
-        const nextNode = chain[i + 1];
-        const edgeString = `${currentNode.id} -- No --> ${nextNode.id}`;
-        
-        // Only add the edge if it doesn't already exist
-        if (!existingEdges.has(edgeString)) {
-          context.addEdge(currentNode.id, nextNode.id, 'No');
-          existingEdges.add(edgeString);
-        }
+      
+      // If we found a chain of 2 or more, add it; a chain starting further
+      // along it would only repeat its tail
+      if (chain.length >= 2) {
+        ifElseIfChains.push(chain);
+        i = nextIndex - 1;
       }
-    });
-    
-    // Update pendingJoins with remaining joins
-    context.pendingJoins = remainingJoins;
+    }
   }
-
-  // Handle switch break statements properly
-  // They should connect to the next statement after the switch block, not to the end node
-  if (context.pendingJoins && context.pendingJoins.length > 0) {
-    // Check if these pending joins are from switch break statements
-    const breakNodeIds = new Set();
-    
-    // Look for break statements in the nodes
-    context.nodes.forEach(node => {
-      const match = node.match(/^(N\d+)\["break;"\]/);
-      if (match) {
-        breakNodeIds.add(match[1]);
+  
+  // Create a set of decision node IDs that are part of if-else-if chains (except the last in each chain)
+  const chainNodeIds = new Set();
+  const chainConnections = new Map(); // Track which node connects to which next node
+  ifElseIfChains.forEach(chain => {
+    // Add all nodes except the last one and track their connections
+    for (let i = 0; i < chain.length - 1; i++) {
+      chainNodeIds.add(chain[i].id);
+      chainConnections.set(chain[i].id, chain[i + 1].id);
+    }
+  });
+  
+  // Process pending joins and handle if-else-if chains
+  const remainingJoins = [];
+  context.pendingJoins.forEach((join, joinIndex) => {
+    const newEdges = [];
+    join.edges.forEach((edge, edgeIndex) => {
+      if (!edge.from) {
+        newEdges.push(edge);
+        return;
       }
-    });
-    
-    // Check if any pending joins are from break statements
-    let hasSwitchBreaks = false;
-    for (const join of context.pendingJoins) {
-      for (const edge of join.edges) {
-        if (breakNodeIds.has(edge.from)) {
-          hasSwitchBreaks = true;
-          break;
-        }
+      
+      // Check if this is a No branch from a decision node that's part of an if-else-if chain
+      if (edge.label === 'No' && chainNodeIds.has(edge.from)) {
+        // This edge should be handled by connecting to the next condition in the chain
+        // We don't add it to remaining joins because it will be handled separately
+      } else {
+        // This edge is not part of an if-else-if chain or is not a No branch, add to remaining joins
+        newEdges.push(edge);
       }
-      if (hasSwitchBreaks) break;
-    }
-    
-    if (hasSwitchBreaks) {
-      // For switch break statements, connect them to the next statement
-      // For now, connect to end node as a fallback, but this should be improved
-      const joins = context.pendingJoins.splice(0);
-      joins.forEach(join => {
-        join.edges.forEach(({ from, label }) => {
-          if (!from) return;
-          if (addEndNode && endId) {
-            if (label) {
-              context.addEdge(from, endId, label);
-            } else {
-              context.addEdge(from, endId);
-            }
-          }
-        });
-      });
-    }
-  }
-
-  // If we still have pending joins, resolve them to the end node
-  // For if-else-if chains, we have already processed all necessary connections
-  if (context.pendingJoins && context.pendingJoins.length > 0) {
-    const joins = context.pendingJoins.splice(0);
-    joins.forEach(join => {
-      join.edges.forEach(({ from, label }) => {
-        if (!from) return;
-        if (addEndNode && endId) {
-          if (label) {
-            context.addEdge(from, endId, label);
-          } else {
-            context.addEdge(from, endId);
-          }
-        }
-      });
     });
-  }
-
-  // Note: pendingBreaks should be empty here if completeSwitch was called properly
-  // Only connect breaks that are still pending (shouldn't happen in normal flow)
-  if (context.pendingBreaks && context.pendingBreaks.length > 0) {
-    if (addEndNode && endId) {
-      context.pendingBreaks.forEach(breakInfo => {
-        // Connect orphaned breaks directly to end
-        context.addEdge(breakInfo.breakId, endId);
-      });
+    
+    if (newEdges.length > 0) {
+      remainingJoins.push({ edges: newEdges });
     }
-    context.pendingBreaks = [];
-  }
-
-  // Note: Default case without break also needs to connect to next statement
-  // But only if there are no pending joins (which would handle this connection)
-  if (context.last && (!context.pendingJoins || context.pendingJoins.length === 0)) {
-    if (addEndNode && endId) {
-      context.addEdge(context.last, endId);
+  });
+  
+  // Now connect the No branches of chain nodes to the next condition in their chain
+  // But only add them if they don't already exist to prevent duplicates
+  ifElseIfChains.forEach(chain => {
+    for (let i = 0; i < chain.length - 1; i++) {
+      const currentNode = chain[i];
+      const nextNode = chain[i + 1];
+      
+      // Only add the edge if it doesn't already exist
+      if (!graph.hasEdge(currentNode.id, nextNode.id, 'No')) {
+        context.addEdge(currentNode.id, nextNode.id, 'No');
+      }
     }
-  }
+  });
+  
+  // Update pendingJoins with remaining joins
+  context.pendingJoins = remainingJoins;
+}
 
-  // Clear the visited set after finalizing the context
-  context.visited.clear();
+export const JAVA_JOIN_PASSES = [closeCurrentLoop, elseIfChainJoins];
 
-  return addEndNode ? endId : null;
-}
\ No newline at end of file
+// Java contexts carry these passes in their profile, so the shared finalizer applies them
+export { finalizeFlowContext } from '../../../../engine/finalize.mjs';
@@ -1,16 +1,37 @@
+import { collectCallSites, withRange } from '../../../../shared/call-sites.mjs';
+import { syntaxKinds, syntaxView } from '../../../../shared/syntax-view.mjs';
+import { reusedFunction, keepFunction } from '../../../../shared/function-reuse.mjs';
+
+// Call nodes recorded in the per-conversion call-site table
+const CALL_TYPES = new Set(['method_invocation']);
+
+// Node types the normalizer dispatches on, punctuation included
+const JAVA = syntaxKinds([
+  'program', 'class_declaration', 'class_body', 'method_declaration', 'block',
+  'local_variable_declaration', 'variable_declarator', 'expression_statement',
+  'assignment_expression', 'binary_expression', 'update_expression', 'parenthesized_expression',
+  'method_invocation', 'argument_list', 'field_access', 'identifier', 'decimal_integer_literal',
+  'string_literal', 'if_statement', 'for_statement', 'while_statement', 'do_statement',
+  'switch_expression', 'switch_block', 'switch_block_statement_group', 'switch_label',
+  'break_statement', 'continue_statement', 'return_statement', 'default', 'case', 'return',
+  '{', '}', '(', ')', ';', ':', ',', '=', '+', '-', '*', '/', '>', '<', '>=', '<=', '==', '!=',
+  '++', '--'
+]);
+
 /**
- * Normalize Java AST to unified node types
+ * Normalize Java AST to unified node types, read through a syntax view (see
+ * shared/syntax-view.mjs)
  * @param {Object} ast - Tree-sitter AST
  * @returns {Object} - Normalized AST
  */
 export function normalizeJava(ast) {
   if (!ast) return null;
   
-  // If this is a tree-sitter tree, get the root node
-  const rootNode = ast.rootNode ? ast.rootNode : ast;
+  // One cursor pass over the tree (or its root node)
+  const rootNode = syntaxView(ast, JAVA);
 
   // Collect functions (including main) and any top-level executable statements
-  if (rootNode.type === 'program') {
+  if (rootNode.kind === JAVA.program) {
     const functions = [];
     const topLevelStatements = [];
 
@@ -18,12 +39,12 @@ export function normalizeJava(ast) {
       const child = rootNode.child(i);
       if (!child) continue;
 
-      if (child.type === 'class_declaration') {
+      if (child.kind === JAVA.class_declaration) {
         const normalizedFns = normalizeClassDeclaration(child);
         if (normalizedFns && normalizedFns.length) {
           functions.push(...normalizedFns);
         }
-      } else if (child.type !== '{' && child.type !== '}') {
+      } else if (child.kind !== JAVA['{'] && child.kind !== JAVA['}']) {
         const normalized = normalizeNode(child);
         if (normalized) {
           topLevelStatements.push(normalized);
@@ -34,7 +55,8 @@ export function normalizeJava(ast) {
     if (functions.length || topLevelStatements.length) {
       return {
         type: 'Program',
-        body: [...functions, ...topLevelStatements]
+        body: [...functions, ...topLevelStatements],
+        callSites: collectCallSites(rootNode, CALL_TYPES, callee)
       };
     }
   }
@@ -72,19 +94,21 @@ function normalizeClassDeclaration(classNode) {
   } else {
     for (let j = 0; j < classNode.childCount; j++) {
       const grandChild = classNode.child(j);
-      if (grandChild && grandChild.type === 'class_body') {
+      if (grandChild && grandChild.kind === JAVA.class_body) {
         classBody = grandChild;
         break;
       }
     }
   }
 
-  if (!classBody || classBody.type !== 'class_body') return result;
+  if (!classBody || classBody.kind !== JAVA.class_body) return result;
 
   for (let j = 0; j < classBody.childCount; j++) {
     const member = classBody.child(j);
-    if (member && member.type === 'method_declaration') {
-      const fn = normalizeMethodDeclaration(member);
+    if (member && member.kind === JAVA.method_declaration) {
+      // Methods unchanged since the session's last conversion are carried over
+      // (see shared/function-reuse.mjs)
+      const fn = reusedFunction(member) || keepFunction(member, normalizeMethodDeclaration(member));
       if (fn) result.push(fn);
     }
   }
@@ -107,7 +131,7 @@ function normalizeMethodDeclaration(member) {
   } else {
     for (let k = 0; k < member.childCount; k++) {
       const nameChild = member.child(k);
-      if (nameChild && nameChild.type === 'identifier') {
+      if (nameChild && nameChild.kind === JAVA.identifier) {
         methodName = nameChild.text;
         break;
       }
@@ -120,7 +144,7 @@ function normalizeMethodDeclaration(member) {
   } else {
     for (let k = 0; k < member.childCount; k++) {
       const bodyChild = member.child(k);
-      if (bodyChild && bodyChild.type === 'block') {
+      if (bodyChild && bodyChild.kind === JAVA.block) {
         methodBody = bodyChild;
         break;
       }
@@ -128,10 +152,10 @@ function normalizeMethodDeclaration(member) {
   }
 
   const statements = [];
-  if (methodBody && methodBody.type === 'block') {
+  if (methodBody && methodBody.kind === JAVA.block) {
     for (let k = 0; k < methodBody.childCount; k++) {
       const stmt = methodBody.child(k);
-      if (stmt && stmt.type !== '{' && stmt.type !== '}') {
+      if (stmt && stmt.kind !== JAVA['{'] && stmt.kind !== JAVA['}']) {
         const normalized = normalizeNode(stmt);
         if (normalized) {
           statements.push(normalized);
@@ -150,21 +174,40 @@ function normalizeMethodDeclaration(member) {
 }
 
 /**
- * Normalize individual Java nodes
+ * Callee of a method_invocation (the method name, without its object)
+ * @param {Object} node - Tree-sitter method_invocation node
+ * @returns {string|null}
+ */
+function callee(node) {
+  const nameNode = safeChildForFieldName(node, 'name');
+  return nameNode ? nameNode.text : null;
+}
+
+/**
+ * Normalize a Java node and tag the result with its source range
  * @param {Object} node - Tree-sitter node
  * @returns {Object} - Normalized node
  */
 function normalizeNode(node) {
+  return withRange(normalizeSyntaxNode(node), node);
+}
+
+/**
+ * Normalize individual Java nodes
+ * @param {Object} node - Tree-sitter node
+ * @returns {Object} - Normalized node
+ */
+function normalizeSyntaxNode(node) {
   if (!node) return null;
   
-  switch (node.type) {
-    case 'local_variable_declaration':
+  switch (node.kind) {
+    case JAVA.local_variable_declaration:
       // Handle variable declarations with initialization
       if (node.childCount > 0) {
         // Find the variable declarator
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type === 'variable_declarator') {
+          if (child && child.kind === JAVA.variable_declarator) {
             // Safely get name and value
             let name = null;
             let value = null;
@@ -172,10 +215,10 @@ function normalizeNode(node) {
             // Iterate through children of the variable_declarator
             for (let j = 0; j < child.childCount; j++) {
               const grandChild = child.child(j);
-              if (grandChild && grandChild.type === 'identifier') {
+              if (grandChild && grandChild.kind === JAVA.identifier) {
                 name = grandChild.text;
-              } else if (grandChild && grandChild.type !== '=' && grandChild.type !== ';' && 
-                         grandChild.type !== 'identifier') {
+              } else if (grandChild && grandChild.kind !== JAVA['='] && grandChild.kind !== JAVA[';'] && 
+                         grandChild.kind !== JAVA.identifier) {
                 value = grandChild;
               }
             }
@@ -225,7 +268,7 @@ function normalizeNode(node) {
         text: node.text  // Return the full declaration text
       };
       
-    case 'assignment_expression':
+    case JAVA.assignment_expression:
       let left = null;
       let right = null;
       let operator = '=';
@@ -237,13 +280,13 @@ function normalizeNode(node) {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type !== '=') {
+          if (child && child.kind !== JAVA['=']) {
             if (!left) {
               left = normalizeNode(child);
             } else {
               right = normalizeNode(child);
             }
-          } else if (child && child.type === '=') {
+          } else if (child && child.kind === JAVA['=']) {
             operator = child.text;
           }
         }
@@ -257,7 +300,7 @@ function normalizeNode(node) {
         text: node.text  // Add the original text for display purposes
       };
       
-    case 'binary_expression':
+    case JAVA.binary_expression:
       let binLeft = null;
       let binRight = null;
       let binOperator = '';
@@ -269,11 +312,11 @@ function normalizeNode(node) {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type !== '+' && child.type !== '-' && 
-              child.type !== '*' && child.type !== '/' && 
-              child.type !== '>' && child.type !== '<' &&
-              child.type !== '>=' && child.type !== '<=' &&
-              child.type !== '==' && child.type !== '!=') {
+          if (child && child.kind !== JAVA['+'] && child.kind !== JAVA['-'] && 
+              child.kind !== JAVA['*'] && child.kind !== JAVA['/'] && 
+              child.kind !== JAVA['>'] && child.kind !== JAVA['<'] &&
+              child.kind !== JAVA['>='] && child.kind !== JAVA['<='] &&
+              child.kind !== JAVA['=='] && child.kind !== JAVA['!=']) {
             if (!binLeft) {
               binLeft = normalizeNode(child);
             } else {
@@ -293,7 +336,7 @@ function normalizeNode(node) {
         text: node.text  // Use the original text which contains the full expression
       };
       
-    case 'if_statement':
+    case JAVA.if_statement:
       let test = null;
       let consequent = null;
       let alternate = null;
@@ -307,24 +350,24 @@ function normalizeNode(node) {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type === 'parenthesized_expression') {
+          if (child && child.kind === JAVA.parenthesized_expression) {
             // Condition is in parentheses
             test = normalizeNode(child.firstNamedChild);
-          } else if (child && child.type === 'block' && !consequent) {
+          } else if (child && child.kind === JAVA.block && !consequent) {
             consequent = normalizeNode(child);
-          } else if (child && child.type === 'if_statement') {
+          } else if (child && child.kind === JAVA.if_statement) {
             // Else if
             alternate = normalizeNode(child);
-          } else if (child && child.type === 'block' && consequent) {
+          } else if (child && child.kind === JAVA.block && consequent) {
             // Else block
             alternate = normalizeNode(child);
-          } else if (child && child.type === 'expression_statement' && !consequent) {
+          } else if (child && child.kind === JAVA.expression_statement && !consequent) {
             // Single-line if statement
             consequent = {
               type: 'BlockStatement',
               body: [normalizeNode(child)]
             };
-          } else if (child && child.type === 'expression_statement' && consequent && !alternate) {
+          } else if (child && child.kind === JAVA.expression_statement && consequent && !alternate) {
             // Single-line else statement
             alternate = {
               type: 'BlockStatement',
@@ -356,19 +399,19 @@ function normalizeNode(node) {
         text: conditionText  // Use the extracted condition text
       };
       
-    case 'switch_expression':
+    case JAVA.switch_expression:
       let discriminant = null;
       const cases = [];
       
       if (typeof node.childForFieldName === 'function') {
         discriminant = normalizeNode(safeChildForFieldName(node, 'condition'));
         const body = safeChildForFieldName(node, 'body');
-        if (body && body.type === 'switch_block') {
+        if (body && body.kind === JAVA.switch_block) {
           // Process switch block to extract cases and their statements
           // The switch block contains switch_block_statement_group nodes
           for (let i = 0; i < body.childCount; i++) {
             const child = body.child(i);
-            if (child.type === 'switch_block_statement_group') {
+            if (child.kind === JAVA.switch_block_statement_group) {
               // Process the switch block statement group which contains both label and statements
               const normalizedCase = normalizeNode(child);
               if (normalizedCase) {
@@ -381,14 +424,14 @@ function normalizeNode(node) {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type === 'parenthesized_expression') {
+          if (child && child.kind === JAVA.parenthesized_expression) {
             // Condition is in parentheses
             discriminant = normalizeNode(child.firstNamedChild);
-          } else if (child && child.type === 'switch_block') {
+          } else if (child && child.kind === JAVA.switch_block) {
             // Process switch block to extract cases and their statements
             for (let j = 0; j < child.childCount; j++) {
               const blockChild = child.child(j);
-              if (blockChild.type === 'switch_block_statement_group') {
+              if (blockChild.kind === JAVA.switch_block_statement_group) {
                 // Process the switch block statement group which contains both label and statements
                 const normalizedCase = normalizeNode(blockChild);
                 if (normalizedCase) {
@@ -406,12 +449,12 @@ function normalizeNode(node) {
         cases: cases
       };
       
-    case 'switch_label':
+    case JAVA.switch_label:
       // Check if this is a default case
       let isDefault = false;
       for (let i = 0; i < node.childCount; i++) {
         const child = node.child(i);
-        if (child && child.type === 'default') {
+        if (child && child.kind === JAVA.default) {
           isDefault = true;
           break;
         }
@@ -427,7 +470,7 @@ function normalizeNode(node) {
         let caseValue = null;
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type === 'case') {
+          if (child && child.kind === JAVA.case) {
             // Get the expression after 'case'
             const expr = node.child(i + 1);
             if (expr) {
@@ -443,20 +486,20 @@ function normalizeNode(node) {
         };
       }
       
-    case 'switch_block_statement_group':
+    case JAVA.switch_block_statement_group:
       // This node contains both switch labels and statements
       // Process switch label and its associated statements
       let currentCase = null;
       
       for (let i = 0; i < node.childCount; i++) {
         const child = node.child(i);
-        if (child && child.type === 'switch_label') {
+        if (child && child.kind === JAVA.switch_label) {
           // Process switch label
           const normalizedLabel = normalizeNode(child);
           if (normalizedLabel) {
             currentCase = normalizedLabel;
           }
-        } else if (child && child.type !== '{' && child.type !== '}' && child.type !== ':') {
+        } else if (child && child.kind !== JAVA['{'] && child.kind !== JAVA['}'] && child.kind !== JAVA[':']) {
           // This is a statement that belongs to the current case
           if (currentCase) {
             if (!currentCase.consequent) {
@@ -472,7 +515,7 @@ function normalizeNode(node) {
       
       return currentCase;
       
-    case 'for_statement':
+    case JAVA.for_statement:
       let init = null;
       let condition = null;
       let update = null;
@@ -487,19 +530,19 @@ function normalizeNode(node) {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type === 'local_variable_declaration') {
+          if (child && child.kind === JAVA.local_variable_declaration) {
             init = normalizeNode(child);
-          } else if (child && child.type === 'assignment_expression') {
+          } else if (child && child.kind === JAVA.assignment_expression) {
             // Handle assignment expressions in for loop initialization
             init = normalizeNode(child);
-          } else if (child && child.type === 'identifier') {
+          } else if (child && child.kind === JAVA.identifier) {
             // Handle identifier in initialization
             init = normalizeNode(child);
-          } else if (child && child.type === 'binary_expression') {
+          } else if (child && child.kind === JAVA.binary_expression) {
             condition = normalizeNode(child);
-          } else if (child && child.type === 'update_expression') {
+          } else if (child && child.kind === JAVA.update_expression) {
             update = normalizeNode(child);
-          } else if (child && child.type === 'block') {
+          } else if (child && child.kind === JAVA.block) {
             forBody = normalizeNode(child);
           }
         }
@@ -521,7 +564,7 @@ function normalizeNode(node) {
         body: forBody
       };
       
-    case 'while_statement':
+    case JAVA.while_statement:
       let whileTest = null;
       let whileBody = null;
       
@@ -532,9 +575,9 @@ function normalizeNode(node) {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type === 'parenthesized_expression') {
+          if (child && child.kind === JAVA.parenthesized_expression) {
             whileTest = normalizeNode(child.firstNamedChild);
-          } else if (child && child.type === 'block') {
+          } else if (child && child.kind === JAVA.block) {
             whileBody = normalizeNode(child);
           }
         }
@@ -546,7 +589,7 @@ function normalizeNode(node) {
         body: whileBody
       };
       
-    case 'do_statement':
+    case JAVA.do_statement:
       let doTest = null;
       let doBody = null;
       
@@ -557,9 +600,9 @@ function normalizeNode(node) {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type === 'block') {
+          if (child && child.kind === JAVA.block) {
             doBody = normalizeNode(child);
-          } else if (child && child.type === 'parenthesized_expression') {
+          } else if (child && child.kind === JAVA.parenthesized_expression) {
             doTest = normalizeNode(child.firstNamedChild);
           }
         }
@@ -571,17 +614,17 @@ function normalizeNode(node) {
         body: doBody
       };
       
-    case 'break_statement':
+    case JAVA.break_statement:
       return {
         type: 'BreakStatement'
       };
       
-    case 'continue_statement':
+    case JAVA.continue_statement:
       return {
         type: 'ContinueStatement'
       };
       
-    case 'return_statement':
+    case JAVA.return_statement:
       let argument = null;
       if (typeof node.childForFieldName === 'function') {
         const valueNode = safeChildForFieldName(node, 'value');
@@ -592,7 +635,7 @@ function normalizeNode(node) {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type !== 'return') {
+          if (child && child.kind !== JAVA.return) {
             argument = normalizeNode(child);
             break;
           }
@@ -605,7 +648,7 @@ function normalizeNode(node) {
         text: node.text  // Preserve the original text
       };
       
-    case 'expression_statement':
+    case JAVA.expression_statement:
       // Try to get the expression from the first named child
       const expressionNode = node.firstNamedChild;
       if (expressionNode) {
@@ -619,7 +662,7 @@ function normalizeNode(node) {
       // Fallback: try to iterate through children
       for (let i = 0; i < node.childCount; i++) {
         const child = node.child(i);
-        if (child && child.type !== ';') {
+        if (child && child.kind !== JAVA[';']) {
           const normalizedExpression = normalizeNode(child);
           if (normalizedExpression) {
             return {
@@ -637,19 +680,19 @@ function normalizeNode(node) {
         text: node.text
       };
       
-    case 'update_expression':
+    case JAVA.update_expression:
       return {
         type: 'UpdateExpression',
-        operator: node.child(0).type === '++' || node.child(0).type === '--' ? 
+        operator: node.child(0).kind === JAVA['++'] || node.child(0).kind === JAVA['--'] ? 
                  node.child(0).text : node.child(1).text,
         argument: normalizeNode(node.childForFieldName ? 
                                node.childForFieldName('argument') : 
                                (node.firstNamedChild || node.lastNamedChild)),
-        prefix: node.child(0).type === '++' || node.child(0).type === '--',
+        prefix: node.child(0).kind === JAVA['++'] || node.child(0).kind === JAVA['--'],
         text: node.text  // Include the original text
       };
       
-    case 'method_invocation':
+    case JAVA.method_invocation:
       // Handle System.out.println calls and Scanner input calls
       let object = null;
       let name = null;
@@ -664,25 +707,25 @@ function normalizeNode(node) {
         const argsNode = safeChildForFieldName(node, 'arguments');
         if (argsNode) {
           args = Array.from(argsNode.children)
-                  .filter(child => child.type !== '(' && child.type !== ')' && child.type !== ',')
+                  .filter(child => child.kind !== JAVA['('] && child.kind !== JAVA[')'] && child.kind !== JAVA[','])
                   .map(normalizeNode);
         }
       } else {
         // Fallback: iterate through children
         for (let i = 0; i < node.childCount; i++) {
           const child = node.child(i);
-          if (child && child.type === 'identifier') {
+          if (child && child.kind === JAVA.identifier) {
             // First identifier is the object, second is the method name
             if (!object) {
               object = child.text;
             } else if (!name) {
               name = child.text;
             }
-          } else if (child && child.type === 'field_access') {
+          } else if (child && child.kind === JAVA.field_access) {
             object = child.text;
-          } else if (child && child.type === 'argument_list') {
+          } else if (child && child.kind === JAVA.argument_list) {
             args = Array.from(child.children)
-                    .filter(c => c.type !== '(' && c.type !== ')' && c.type !== ',')
+                    .filter(c => c.kind !== JAVA['('] && c.kind !== JAVA[')'] && c.kind !== JAVA[','])
                     .map(normalizeNode);
           }
         }
@@ -767,20 +810,20 @@ function normalizeNode(node) {
       }
       return null;
       
-    case 'identifier':
+    case JAVA.identifier:
       return {
         type: 'Identifier',
         name: node.text
       };
       
-    case 'decimal_integer_literal':
+    case JAVA.decimal_integer_literal:
       return {
         type: 'Literal',
         value: parseInt(node.text),
         raw: node.text
       };
       
-    case 'string_literal':
+    case JAVA.string_literal:
       // Remove quotes
       const value = node.text.substring(1, node.text.length - 1);
       return {
@@ -789,11 +832,11 @@ function normalizeNode(node) {
         raw: node.text
       };
       
-    case 'block':
+    case JAVA.block:
       const blockStatements = [];
       for (let i = 0; i < node.childCount; i++) {
         const child = node.child(i);
-        if (child && child.type !== '{' && child.type !== '}') {
+        if (child && child.kind !== JAVA['{'] && child.kind !== JAVA['}']) {
           const normalized = normalizeNode(child);
           if (normalized) {
             blockStatements.push(normalized);
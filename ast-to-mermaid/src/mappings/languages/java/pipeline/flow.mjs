@@ -1,14 +1,20 @@
 import { extractJava } from '../extractors/java-extractor.mjs';
 import { normalizeJava } from '../normalizer/normalize-java.mjs';
-import { walk } from '../walkers/walk.mjs';
+import { walk, mapWalk } from '../walkers/walk.mjs';
 import { ctx } from '../mermaid/context.mjs';
-import { finalizeFlowContext } from '../mermaid/finalize-context.mjs';
+import { mapOwningCallSites } from '../../../../shared/call-sites.mjs';
+import { currentBudget } from '../../../../shared/budget.mjs';
+import { recordingNodeOrigins } from '../../../../shared/stable-ids.mjs';
+import {
+  functionBodyKey, sharedSubgraphCache, placeSubgraph
+} from '../../../../cache/subgraph-cache.mjs';
+import {
+  flowchartPipeline, functionFlow, isMainFunction, walkedFunctions
+} from '../../../../engine/pipeline.mjs';
 
 // Import Java mapping functions
 import { mapIfStatement } from '../conditional/if.mjs';
-import { mapIfElseStatement } from '../conditional/if-else/if-else.mjs';
-import { mapIfElseIfStatement } from '../conditional/if-elseif/if-elseif.mjs';
-import { mapSwitchStatement, mapCase, mapDefault, completeSwitch } from '../conditional/switch/switch.mjs';
+import { mapSwitchStatement, mapCase, mapDefault } from '../conditional/switch/switch.mjs';
 import { mapForStatement } from '../loops/for.mjs';
 import { mapWhileStatement } from '../loops/while/while.mjs';
 import { mapDoWhileStatement } from '../loops/do-while/do-while.mjs';
@@ -21,322 +27,41 @@ import { mapIoStatement } from '../io/io.mjs';
 import { mapFunction, mapFunctionCall } from '../functions/index.mjs';
 
 
-
-/**
- * Check if a node represents executable logic that should be included in the flowchart
- * @param {Object} node - AST node to check
- * @returns {boolean} - True if node represents executable logic
- */
-function isExecutableLogic(node) {
-  if (!node || !node.type) return false;
-  
-  // Include these types of executable statements
-  const executableTypes = [
-    'IfStatement',
-    'SwitchStatement',
-    'SwitchCase',
-    'ForStatement',
-    'WhileStatement',
-    'DoWhileStatement',
-    'BreakStatement',
-    'ContinueStatement',
-    'ReturnStatement',
-    'ThrowStatement',
-    'TryStatement',
-    'ExpressionStatement',
-    'AssignmentExpression',
-    'UpdateExpression'
-  ];
-  
-  // Check if this is an executable statement type
-  if (executableTypes.includes(node.type)) {
-    return true;
-  }
-  
-  // For variable declarations, only include those with initialization
-  if (node.type === 'VariableDeclaration') {
-    return node.declarations && node.declarations.some(decl => decl.init);
-  }
-  
-  // For expression statements, check if they contain meaningful operations
-  if (node.type === 'ExpressionStatement') {
-    const expr = node.expression;
-    if (!expr) return false;
-    
-    // Include method calls (like System.out.println)
-    if (expr.type === 'CallExpression') {
-      return true;
-    }
-    
-    // Include assignments
-    if (expr.type === 'AssignmentExpression') {
-      return true;
-    }
-    
-    // Include increment/decrement operations
-    if (expr.type === 'UpdateExpression') {
-      return true;
-    }
-  }
-  
-  return false;
-}
-
-/**
- * Extract executable statements from a program body, ignoring boilerplate
- * @param {Array} body - Array of AST nodes
- * @returns {Array} - Filtered array of executable nodes
- */
-function extractExecutableStatements(body) {
-  if (!body || !Array.isArray(body)) return [];
-  
-  const executableNodes = [];
-  
-  body.forEach(node => {
-    // Skip null/undefined nodes
-    if (!node) return;
-    
-    // Skip class/method declarations and other boilerplate
-    if (['ClassDeclaration', 'MethodDeclaration', 'ImportDeclaration', 'PackageDeclaration'].includes(node.type)) {
-      // But process their bodies if they have them
-      if (node.body && node.body.body) {
-        executableNodes.push(...extractExecutableStatements(node.body.body));
-      } else if (node.declarations) {
-        node.declarations.forEach(decl => {
-          if (decl.init) {
-            executableNodes.push({
-              type: 'AssignmentExpression',
-              left: decl.id,
-              right: decl.init,
-              operator: '='
-            });
-          }
-        });
-      }
-      return;
-    }
-    
-    // For blocks, recursively extract statements
-    if (node.type === 'BlockStatement' && node.body) {
-      executableNodes.push(...extractExecutableStatements(node.body));
-      return;
-    }
-    
-    // Add executable logic nodes
-    if (isExecutableLogic(node)) {
-      executableNodes.push(node);
-    }
-  });
-  
-  return executableNodes;
-}
-
-/**
- * Process a block of statements
- * @param {Array} statements - Array of statements to process
- * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Function to map nodes
- */
-function processBlock(statements, ctx, mapper) {
-  if (!statements || !Array.isArray(statements)) return;
-  
-  statements.forEach(statement => {
-    if (statement) {
-      mapper(statement, ctx);
-    }
-  });
-}
-
 /**
- * Map Java nodes to Mermaid flowchart nodes
+ * Map Java nodes to Mermaid flowchart nodes, recording which flow node owns the
+ * calls in each statement's source range
  * @param {Object} node - Normalized Java node
  * @param {Object} ctx - Context for flowchart generation
  */
 export function mapNodeJava(node, ctx) {
   // Add null check
   if (!node) return;
-  
-  // Check if we're currently in a branch and handle connection appropriately
-  const originalLast = ctx.last;
-  
+  return mapOwningCallSites(node, ctx, mapJavaNode);
+}
+
+function mapJavaNode(node, ctx) {
   switch (node.type) {
     case "Function":
       return mapFunction(node, ctx);
-    case "IfStatement": 
-      // Check if this is an if-else or if-elseif statement
-      if (node.alternate) {
-        // Check if alternate is another if statement (else if)
-        if (node.alternate.type === 'IfStatement') {
-          return mapIfElseIfStatement(node, ctx, mapNodeJava);
-        } else {
-          // Regular if-else statement
-          return mapIfElseStatement(node, ctx, mapNodeJava);
-        }
-      } else {
-        // Simple if statement
-        return mapIfStatement(node, ctx, mapNodeJava);
-      }
-    case "SwitchStatement": 
-      // Map the switch statement first
-      mapSwitchStatement(node, ctx);
-      
-      // Then process all the cases
-      if (node.cases && Array.isArray(node.cases)) {
-        node.cases.forEach(caseNode => {
-          if (caseNode) { // Add null check
-            mapNodeJava(caseNode, ctx);
-            
-            // Process the consequent statements for this case
-            if (caseNode.consequent && Array.isArray(caseNode.consequent)) {
-              caseNode.consequent.forEach(stmt => {
-                if (stmt) {
-                  mapNodeJava(stmt, ctx);
-                }
-              });
-            }
-          }
-        });
-      }
-      
-      // Add break statement handling after switch to connect to next statement
-      if (typeof completeSwitch === 'function') {
-        completeSwitch(ctx);
-      }
-      
-      return;
+    // Control statements map their own nodes; the mapping walk (walkers/walk.mjs)
+    // maps their branches and bodies and completes them
+    case "IfStatement":
+      return mapIfStatement(node, ctx);
+    case "SwitchStatement":
+      return mapSwitchStatement(node, ctx);
     case "SwitchCase":
       if (node.test) {
         return mapCase(node, ctx);
       } else {
         return mapDefault(node, ctx);
       }
-    case "ForStatement": 
-      // For for loops, we need to handle the condition and body properly
-      // First, create the condition node
-      mapForStatement(node, ctx);
-      
-      // Set inLoop flag to indicate we're inside a loop
-      ctx.inLoop = true;
-      
-      // Set flag to indicate we're processing the first loop body node
-      ctx.isFirstLoopBodyNode = true;
-      
-      // Then process the loop body - treat as 'then' branch (Yes path)
-      if (typeof ctx.enterBranch === 'function') {
-        ctx.enterBranch('then');
-      }
-      
-      if (node.body && node.body.body) {
-        // Process each statement in the loop body
-        const bodyStatements = Array.isArray(node.body.body) ? node.body.body : [node.body];
-        bodyStatements.forEach(bodyNode => {
-          if (bodyNode) {
-            mapNodeJava(bodyNode, ctx);
-          }
-        });
-      } else if (node.body && node.body.type) {
-        // If body is a single statement
-        mapNodeJava(node.body, ctx);
-      }
-      
-      // Clear the flag
-      delete ctx.isFirstLoopBodyNode;
-      
-      // Exit the branch
-      if (typeof ctx.exitBranch === 'function') {
-        ctx.exitBranch('then');
-      }
-      
-      // Complete the loop by connecting the body back to the condition
-      if (typeof ctx.completeLoop === 'function') {
-        ctx.completeLoop();
-      }
-      
-      return;
-    case "WhileStatement": 
-      // For while loops, we need to handle the condition and body properly
-      // First, create the condition node
-      mapWhileStatement(node, ctx);
-      
-      // Set inLoop flag to indicate we're inside a loop
-      ctx.inLoop = true;
-      
-      // Set flag to indicate we're processing the first loop body node
-      ctx.isFirstLoopBodyNode = true;
-      
-      // Then process the loop body
-      if (node.body && node.body.body) {
-        // Process each statement in the loop body
-        const bodyStatements = Array.isArray(node.body.body) ? node.body.body : [node.body];
-        bodyStatements.forEach(bodyNode => {
-          if (bodyNode) {
-            mapNodeJava(bodyNode, ctx);
-          }
-        });
-      } else if (node.body && node.body.type) {
-        // If body is a single statement
-        mapNodeJava(node.body, ctx);
-      }
-      
-      // Clear the flag
-      delete ctx.isFirstLoopBodyNode;
-      
-      // Complete the loop by connecting the body back to the condition
-      if (typeof ctx.completeLoop === 'function') {
-        ctx.completeLoop();
-      }
-      
-      return;
-    case "DoWhileStatement": 
-      // For do-while loops, we process the body first (at least once), then check the condition
-      // First, create the condition node but don't connect it to the flow yet
-      mapDoWhileStatement(node, ctx);
-      
-      // Set inLoop flag to indicate we're inside a loop
-      ctx.inLoop = true;
-      
-      // Store the first body node ID for do-while loop back connection
-      let firstBodyNodeId = null;
-      
-      // Process the loop body - for do-while, don't use isFirstLoopBodyNode
-      // because the body continues from the previous flow, not from the condition
-      if (node.body && node.body.body) {
-        // Process each statement in the loop body
-        const bodyStatements = Array.isArray(node.body.body) ? node.body.body : [node.body];
-        bodyStatements.forEach((bodyNode, index) => {
-          if (bodyNode) {
-            // Capture the ID of the first body node
-            const previousLast = ctx.last;
-            mapNodeJava(bodyNode, ctx);
-            // If this is the first statement, store its ID
-            if (index === 0 && ctx.last && ctx.last !== previousLast) {
-              firstBodyNodeId = ctx.last;
-            }
-          }
-        });
-      } else if (node.body && node.body.type) {
-        // If body is a single statement
-        const previousLast = ctx.last;
-        mapNodeJava(node.body, ctx);
-        if (ctx.last && ctx.last !== previousLast) {
-          firstBodyNodeId = ctx.last;
-        }
-      }
-      
-      // Store the first body node ID in the context for do-while loop handling
-      if (firstBodyNodeId) {
-        ctx.doWhileFirstBodyNodeId = firstBodyNodeId;
-      }
-      
-      // Complete the loop by connecting the body back to the condition
-      if (typeof ctx.completeLoop === 'function') {
-        ctx.completeLoop();
-      }
-      
-      // Clean up
-      delete ctx.doWhileFirstBodyNodeId;
-      
-      return;
+    case "ForStatement":
+      return mapForStatement(node, ctx);
+    case "WhileStatement":
+      return mapWhileStatement(node, ctx);
+    case "DoWhileStatement":
+      // The condition node is created first but joins the flow after the body
+      return mapDoWhileStatement(node, ctx);
     case "BreakStatement": 
       return mapBreakStatement(node, ctx);
     case "AssignmentExpression": 
@@ -360,136 +85,139 @@ export function mapNodeJava(node, ctx) {
 }
 
 /**
- * Generate VTU-style Mermaid flowchart from Java source code
- * @param {string} sourceCode - Java source code
- * @returns {string} - Mermaid flowchart
+ * Walk a statement or list of statements into a flow context. After each
+ * statement is mapped, pending joins resolve to it (it is now context.last).
+ * @param {Object|Array} target - Node(s) to walk
+ * @param {Object} context - Flow context (receives the walker's branch and loop hooks)
  */
-export function generateFlowchart(sourceCode) {
-  
-  // 1. Extract AST using Tree-sitter
-  const ast = extractJava(sourceCode);
-  
-  // 2. Normalize AST to unified node types
-  const normalized = normalizeJava(ast);
-
-  // Collect functions (main + user-defined)
-  let mainFunction = null;
-  const userFunctions = [];
-
-  if (normalized) {
-    const collectFunctions = {
-      handle: (node) => {
-        if (node && node.type === "Function") {
-          if (isMainFunction(node)) {
-            mainFunction = node;
-          } else {
-            userFunctions.push(node);
-          }
-        }
-      }
-    };
-    walk(normalized, collectFunctions);
-  }
-  
-  // 3. Create context for flowchart generation
-  const context = ctx();
-  
-  // Clear the visited set for this new context to start fresh
-  context.visited.clear();
-  
-  // Manually set the start node
-  context.add('N1', '(["start"])');
-  context.setLast('N1');
-  
-  // 4. Walk and generate nodes using mapping functions
-  const walkBody = (target, handlerCtx) => {
-    if (!target) return;
-    if (Array.isArray(target)) {
-      target.forEach(n => walk(n, handlerCtx));
-    } else {
-      walk(target, handlerCtx);
+function mapInto(target, context) {
+  if (!target) return;
+  context.handle = (node) => {
+    if (node && node.type) {
+      mapNodeJava(node, context);
     }
   };
+  if (Array.isArray(target)) {
+    target.forEach(n => mapWalk(n, context));
+  } else {
+    mapWalk(target, context);
+  }
+  context.handle = null;
+}
 
-  if (normalized) {
-    const targetBody =
-      (mainFunction && mainFunction.body) ||
-      (normalized.type === "Program" ? normalized.body : normalized);
-
-    if (targetBody) {
-      const walkerContext = {
-        handle: (node) => {
-          if (node && node.type) {
-            // Process the node first to create it in the context
-            mapNodeJava(node, context);
-            
-            // After the node is processed, if there are pending joins,
-            // they should be resolved to the newly created node (which is now in context.last)
-            if (context.pendingJoins && context.pendingJoins.length > 0 && context.last) {
-              context.resolvePendingJoins(context.last);
-            }
-          }
-        }
-      };
+const collectFunctions = walkedFunctions(walk, isMainFunction);
 
-      walkBody(targetBody, walkerContext);
-    }
-  }
-  
-  // Finalize the flow context
-  finalizeFlowContext(context);
+// Summary statement for a collapsed region, mapped by mapExpr as a process box
+const javaStatement = (label) => ({
+  type: 'ExpressionStatement',
+  expression: { type: 'Literal', value: label, raw: label },
+  text: label
+});
 
-  // Build subgraphs for user-defined functions when main exists
-  const subgraphIds = {};
+// Subgraph cache of a conversion: the caller's, none with `false` or for stable IDs
+// (a cached subgraph's nodes have no recorded origins), the thread's shared one otherwise
+function subgraphCacheOf({ functionCache }) {
+  if (functionCache === false || recordingNodeOrigins()) return null;
+  return functionCache || sharedSubgraphCache();
+}
 
-  if (mainFunction && userFunctions.length > 0) {
-    userFunctions.forEach(fnNode => {
-      if (!fnNode?.body) return;
+// Subgraph of the function at `index` reusable from the cache, if any
+function cachedSubgraph(index, { subgraphCache, subgraphKeys }) {
+  return subgraphCache && subgraphKeys[index] ? subgraphCache.get(subgraphKeys[index]) : null;
+}
 
-      const fnContext = context.fork();
-      
-      // Clear the visited set for this function context to start fresh
-      fnContext.visited.clear();
-      
-      const fnWalkerCtx = {
-        handle: (node) => {
-          if (node && node.type) {
-            mapNodeJava(node, fnContext);
-            
-            // After the node is processed, if there are pending joins,
-            // they should be resolved to the newly created node (which is now in fnContext.last)
-            if (fnContext.pendingJoins && fnContext.pendingJoins.length > 0 && fnContext.last) {
-              fnContext.resolvePendingJoins(fnContext.last);
-            }
-          }
-        }
-      };
+/**
+ * Build the subgraph of one user-defined function
+ * @param {Object} fnNode - Normalized Function node
+ * @param {Object} fnContext - Fresh fork of the main flow
+ * @returns {{ lines: Array<string>, base: number, count: number }} - Subgraph lines and the node ID range they use
+ */
+function buildFunctionSubgraph(fnNode, fnContext) {
+  const base = fnContext.state.nodeId;
+  mapInto(fnNode.body, fnContext);
+  fnContext.finalize(false);
+  return { lines: fnContext.graph.lines(), base, count: fnContext.state.nodeId - base };
+}
 
-      walkBody(fnNode.body, fnWalkerCtx);
-      
-      finalizeFlowContext(fnContext, false);
+/**
+ * Subgraph lines of a function: reused from the cache when available (placed on
+ * the ID range the walk gives it now), built on a fork of the main flow otherwise
+ */
+function functionLines(fnNode, context, index, options) {
+  const { subgraphCache, subgraphKeys } = options;
+  const firstNodeId = context.state.nodeId;
+  const cached = cachedSubgraph(index, options);
+  let subgraph = cached;
+  if (subgraph) {
+    context.state.nodeId += subgraph.count;
+  } else {
+    subgraph = buildFunctionSubgraph(fnNode, context.fork());
+  }
+  const moved = subgraph.base !== firstNodeId;
+  const lines = placeSubgraph(subgraph, firstNodeId);
 
-      const subgraphId = context.nextSubgraphId();
-      const functionName = fnNode.name ? fnNode.name.split("(")[0].trim() : "anonymous";
-      const subgraphLabel = `${subgraphId}["function ${fnNode.name || "anonymous"}"]`;
-      const subgraphLines = [
-        ...fnContext.nodes,
-        ...fnContext.edges
-      ];
+  // New subgraphs go into the cache, and moved ones again for their new size;
+  // a subgraph the time budget cut short is not kept for the next run
+  if (subgraphCache && subgraphKeys[index] && (cached ? moved : !currentBudget()?.truncated)) {
+    subgraphCache.set(subgraphKeys[index], subgraph);
+  }
+  return lines;
+}
 
-      context.addSubgraph(subgraphLabel, subgraphLines);
-      subgraphIds[functionName] = subgraphId;
-    });
+/**
+ * Flow context of a program: the main function (or the whole program) plus one
+ * subgraph per user-defined function when main exists
+ */
+function buildFlow(normalized, options, collected) {
+  const context = functionFlow({
+    ctx,
+    functions: () => collected,
+    walkMain: (program, main, flowContext) => {
+      const targetBody = (main && main.body) || (program.type === "Program" ? program.body : program);
+      mapInto(targetBody, flowContext);
+    },
+    functionLines
+  })(normalized, options);
+
+  // A caller's cache only keeps the subgraphs of functions that still exist
+  const { functionCache, subgraphKeys } = options;
+  if (functionCache && collected.main && collected.functions.length > 0) {
+    const seen = new Set(subgraphKeys);
+    for (const key of [...functionCache.keys()]) {
+      if (!seen.has(key)) functionCache.delete(key);
+    }
   }
+  return context;
+}
 
-  context.subgraphIds = subgraphIds;
-  
-  // 5. Emit final Mermaid flowchart
-  return context.emit();
+// Body keys of the user-defined functions, only when there is a cache to look them up in
+function withSubgraphKeys(collected, options) {
+  const subgraphCache = collected.main ? subgraphCacheOf(options) : null;
+  const subgraphKeys = subgraphCache
+    ? collected.functions.map(fnNode => (fnNode?.body ? functionBodyKey('java', fnNode) : null))
+    : [];
+  return { ...options, subgraphCache, subgraphKeys };
 }
 
-function isMainFunction(node) {
-  if (!node?.name) return false;
-  const name = node.name.trim();
-  return name === "main" || name === "main()";
-}
\ No newline at end of file
+/**
+ * Generate VTU-style Mermaid flowchart from Java source code
+ * @param {string} sourceCode - Java source code
+ * @param {Object} [options] - Pipeline options (see src/engine/pipeline.mjs), plus:
+ * @param {Map|false} [options.functionCache] - Subgraph cache keyed by function body (see
+ *   cache/subgraph-cache.mjs), pruned to the functions of this run; the thread's shared cache when
+ *   omitted, none with `false`
+ * @param {boolean} [options.aggregateCalls] - Link each function from one call node, labelled with the call count
+ * @returns {string|Iterable<string>|Object} - Mermaid flowchart (its lines, with { lines: true };
+ *   the graph, with { format: 'graph' })
+ */
+export const generateFlowchart = flowchartPipeline({
+  extract: (sourceCode, options) => options.tree || extractJava(sourceCode),
+  normalize: normalizeJava,
+  detail: { statement: javaStatement },
+  streams: true,
+  build: (normalized, options) => {
+    // Collect functions (main + user-defined)
+    const collected = collectFunctions(normalized);
+    return buildFlow(normalized, withSubgraphKeys(collected, options), collected);
+  }
+});
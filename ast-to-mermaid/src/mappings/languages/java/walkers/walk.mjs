@@ -1,54 +1,143 @@
-export function walk(node, ctx) {
-  if (!node) return;
+import { flowWalker, sequence, each, field, handle, hook, step, when, leaf } from '../../../../engine/walk.mjs';
+import { completeSwitch } from '../conditional/switch/switch.mjs';
 
-  // Use the safeVisit function to prevent duplicate processing of nodes
-  const id = `${node.type}-${node.start}-${node.end}`;
-  if (ctx.visited && ctx.visited.has(id)) return;
-  if (ctx.visited) ctx.visited.add(id);
+// Loop statements are mapped whole by the pipeline, so their parts are not walked
+export const walk = flowWalker({
+  rules: {
+    ForStatement: leaf,
+    WhileStatement: leaf,
+    DoWhileStatement: leaf
+  },
+  otherwise: sequence(each('body'), field('init'), field('test'), field('update'))
+});
 
-  // Handle the current node
-  if (ctx && typeof ctx.handle === 'function') {
-    ctx.handle(node);
-  }
+// --- Mapping walk ---------------------------------------------------------
+// Walks the statements of a flow into a context whose handle(node) maps one
+// node (a control statement's own decision node only). Statements nested in a
+// control statement are walked with the nested rules: control statements open
+// their branches, anything else is mapped alone. The statements of the flow
+// itself are walked like walk() does, and pending joins resolve to whatever the
+// statement as a whole ended on.
 
-  // Special handling for different node types
-  if (node.type === 'ForStatement' || node.type === 'WhileStatement' || node.type === 'DoWhileStatement') {
-    // For loop statements, we handle the full processing in the pipeline
-    // Don't walk body here to avoid duplicate processing
-  } else if (node.type === 'Case' || node.type === 'Default') {
-    // Process the body separately to avoid duplicate processing
-    if (node.body) {
-      if (Array.isArray(node.body)) {
-        node.body.forEach(child => walk(child, ctx));
-      } else {
-        walk(node.body, ctx);
-      }
-    }
-  } else {
-    // General body processing for other node types
-    if (node.body) {
-      if (Array.isArray(node.body)) {
-        node.body.forEach(child => walk(child, ctx));
-      } else {
-        walk(node.body, ctx);
-      }
-    }
-  }
-  
-  // For loop statements, don't process init/test/update components in the walker
-  // These are handled by the pipeline functions
-  if (node.type !== 'ForStatement' && node.type !== 'WhileStatement' && node.type !== 'DoWhileStatement') {
-    // Handle loop components for non-loop nodes
-    if (node.init) walk(node.init, ctx);
-    if (node.test) walk(node.test, ctx);
-    if (node.update) walk(node.update, ctx);
+const CONTROL = ['IfStatement', 'SwitchStatement', 'ForStatement', 'WhileStatement', 'DoWhileStatement'];
+
+// Statements of a branch or loop body: a block's statements, or the node itself
+function statements(value) {
+  return value.body && Array.isArray(value.body) ? value.body : value;
+}
+
+// Statements of a loop body; a block without a statement array counts as one statement
+function loopBody(node) {
+  if (node.body && node.body.body) {
+    return Array.isArray(node.body.body) ? node.body.body : node.body;
   }
-  
+  return node.body && node.body.type ? node.body : null;
+}
+
+const nestedRules = new Map();
+const mapped = sequence(handle);
+const nested = (child) => nestedRules.get(child.type) || mapped;
+
+const enter = (name) => step((node, ctx) => ctx.enterBranch(name));
+const exit = (name) => step((node, ctx) => ctx.exitBranch(name));
 
+// The then branch, then the else branch: an else holding another if continues
+// the chain from this condition's 'No' edge
+const ifStatement = sequence(
+  when(node => node.consequent,
+    enter('then'), each(node => statements(node.consequent), { rule: nested }), exit('then')),
+  when(node => node.alternate && node.alternate.type === 'IfStatement',
+    enter('else'), hook('guardElseIf'), field('alternate', { rule: nested }), hook('releaseElseIf'), exit('else')),
+  when(node => node.alternate && node.alternate.type !== 'IfStatement',
+    enter('else'), each(node => statements(node.alternate), { rule: nested }), exit('else')),
+  hook('completeIf'));
 
-  
+// Each case label, then its statements; the breaks join after the switch
+const switchCase = sequence(handle, each(node => Array.isArray(node.consequent) ? node.consequent : null, { rule: nested }));
+const switchStatement = sequence(
+  each(node => Array.isArray(node.cases) ? node.cases : null, { rule: () => switchCase }),
+  step((node, ctx) => completeSwitch(ctx)));
 
-  if (node.value) {
-    // return statements
+// The first body node hangs off the condition (isFirstLoopBodyNode); a for
+// loop's body is its 'Yes' branch
+const forStatement = sequence(
+  step((node, ctx) => {
+    ctx.inLoop = true;
+    ctx.isFirstLoopBodyNode = true;
+    ctx.enterBranch('then');
+  }),
+  each(loopBody, { rule: nested }),
+  step((node, ctx) => {
+    ctx.isFirstLoopBodyNode = false;
+    ctx.exitBranch('then');
+  }),
+  hook('completeLoop'));
+
+const whileStatement = sequence(
+  step((node, ctx) => {
+    ctx.inLoop = true;
+    ctx.isFirstLoopBodyNode = true;
+  }),
+  each(loopBody, { rule: nested }),
+  step((node, ctx) => {
+    ctx.isFirstLoopBodyNode = false;
+  }),
+  hook('completeLoop'));
+
+// A do-while body continues from the previous flow; the condition loops back
+// to the first node of the body's first statement
+const doWhileStatement = sequence(
+  step((node, ctx) => {
+    ctx.inLoop = true;
+  }),
+  step((node, ctx) => ctx.last),
+  field(node => {
+    const body = loopBody(node);
+    return Array.isArray(body) ? body[0] : body;
+  }, { rule: nested }),
+  step((node, ctx, previousLast) => ctx.last && ctx.last !== previousLast ? ctx.last : null),
+  each(node => {
+    const body = loopBody(node);
+    return Array.isArray(body) ? body : null;
+  }, { filter: (statement, index) => index > 0, rule: nested }),
+  step((node, ctx, firstBodyNodeId) => {
+    if (firstBodyNodeId) {
+      ctx.doWhileFirstBodyNodeId = firstBodyNodeId;
+    }
+  }),
+  hook('completeLoop'),
+  step((node, ctx) => {
+    ctx.doWhileFirstBodyNodeId = null;
+  }));
+
+const controlRules = {
+  IfStatement: ifStatement,
+  SwitchStatement: switchStatement,
+  ForStatement: forStatement,
+  WhileStatement: whileStatement,
+  DoWhileStatement: doWhileStatement
+};
+for (const type of CONTROL) {
+  nestedRules.set(type, sequence(handle, controlRules[type]));
+}
+
+// Pending joins of a statement of the flow resolve to the node it ended on
+const settle = step((node, ctx) => {
+  if (node.type && ctx.pendingJoins.length > 0 && ctx.last) {
+    ctx.resolvePendingJoins(ctx.last);
   }
-}
\ No newline at end of file
+});
+
+const parts = sequence(each('body'), field('init'), field('test'), field('update'));
+
+export const mapWalk = flowWalker({
+  handleFirst: false,
+  rules: {
+    IfStatement: sequence(handle, ifStatement, settle, parts),
+    SwitchStatement: sequence(handle, switchStatement, settle, parts),
+    ForStatement: sequence(handle, forStatement, settle),
+    WhileStatement: sequence(handle, whileStatement, settle),
+    DoWhileStatement: sequence(handle, doWhileStatement, settle)
+  },
+  otherwise: sequence(handle, settle, parts)
+});
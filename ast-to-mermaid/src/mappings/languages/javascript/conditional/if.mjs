@@ -1,17 +1,18 @@
 import { shapes } from "../../../../mermaid/shapes.mjs";
 import { linkNext } from "../mappings/common/common.mjs";
+import { linkNext as linkBranches } from "../../c/mappings/common/common.mjs";
 
 // Helper function to create decision shape with text
 const decisionShape = (text) => shapes.decision.replace('{}', text);
 
 /**
  * Map if statement to Mermaid flowchart nodes
-  * Creates decision node with Yes / No branches
-    * @param { Object } node - Normalized if statement node
-      * @param { Object } ctx - Context for flowchart generation
-        * @param { Function } mapper - Function to map child nodes
-          */
-export function mapIfStatement(node, ctx, mapper) {
+ * Creates the decision node with Yes/No branches and opens the if; the mapping
+ * walk (see walkers/walk.mjs) maps the branches and completes it
+ * @param {Object} node - Normalized if statement node
+ * @param {Object} ctx - Context for flowchart generation
+ */
+export function mapIfStatement(node, ctx) {
   if (!node || !ctx) return;
 
   // Create decision node for condition
@@ -33,44 +34,20 @@ export function mapIfStatement(node, ctx, mapper) {
   const labelText = prefix + conditionText;
   ctx.add(conditionId, decisionShape(labelText));
 
+  // Record where this condition sits in an if / else-if chain for finalize
+  if (typeof ctx.markDecision === 'function') {
+    ctx.markDecision(conditionId, isElseIf ? 'else-if' : 'if');
+  }
+
   // Connect to previous node using shared linking logic
-  // But don't connect sequentially if this is an else if statement
+  // But don't connect sequentially if this is an else if statement; an if with
+  // an else links like the C mapping, resolving pending joins and branches
   if (!isElseIf) {
-    linkNext(ctx, conditionId);
+    (node.alternate ? linkBranches : linkNext)(ctx, conditionId);
   }
 
   // Register if context for branch handling
   if (typeof ctx.registerIf === 'function') {
     ctx.registerIf(conditionId, !!node.alternate);
   }
-
-  // Process the consequent (then) branch
-  if (node.consequent) {
-    // Enter the then branch
-    if (typeof ctx.enterBranch === 'function') {
-      ctx.enterBranch('then');
-    }
-
-    // Process statements in the consequent block
-    if (node.consequent.body && Array.isArray(node.consequent.body)) {
-      node.consequent.body.forEach(stmt => {
-        if (stmt && mapper) {
-          mapper(stmt, ctx);
-        }
-      });
-    } else if (mapper) {
-      // Handle single statement (not in a block)
-      mapper(node.consequent, ctx);
-    }
-
-    // Exit the then branch
-    if (typeof ctx.exitBranch === 'function') {
-      ctx.exitBranch('then');
-    }
-  }
-
-  // Complete the if statement and handle branch merging
-  if (typeof ctx.completeIf === 'function') {
-    ctx.completeIf();
-  }
-}
\ No newline at end of file
+}
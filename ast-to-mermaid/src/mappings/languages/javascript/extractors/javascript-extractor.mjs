@@ -1,5 +1,6 @@
-import Parser from 'tree-sitter';
 import JavaScript from 'tree-sitter-javascript';
+import { withParser, parseSource } from '../../../../shared/parser-pool.mjs';
+import { BudgetExceeded } from '../../../../shared/budget.mjs';
 
 /**
  * Extract JavaScript AST using Tree-sitter
@@ -8,11 +9,10 @@ import JavaScript from 'tree-sitter-javascript';
  */
 export function extractJavaScript(sourceCode) {
   try {
-    const parser = new Parser();
-    parser.setLanguage(JavaScript);
-    const tree = parser.parse(sourceCode);
+    const tree = withParser('javascript', JavaScript, (parser) => parseSource(parser, sourceCode));
     return tree.rootNode;
   } catch (error) {
+    if (error instanceof BudgetExceeded) throw error;
     console.error('Error extracting JavaScript AST:', error);
     return {
       type: 'ERROR',
@@ -3,8 +3,12 @@
  */
 
 import { emitNode } from '../mermaid/emit-node.mjs';
+import { resetCounters } from '../mermaid/ids.mjs';
 
 export function convertAST(ast) {
+  // ID counters are module-level, so restart them for every diagram
+  resetCounters();
+
   // Placeholder for Mermaid emission logic
   const diagram = ['graph TD'];
   
@@ -1,62 +1,102 @@
-export function walk(node, ctx) {
-  if (!node) return;
-
-  // Handle the current node
-  if (ctx && typeof ctx.handle === 'function') {
-    ctx.handle(node);
-  }
-
-  // Recursively walk child nodes
-  // Special handling for Case and Default nodes to avoid duplicate processing
-  if (node.type === 'Case' || node.type === 'Default') {
-    // Process the body separately to avoid duplicate processing
-    if (node.body) {
-      if (Array.isArray(node.body)) {
-        node.body.forEach(child => walk(child, ctx));
-      } else {
-        walk(node.body, ctx);
-      }
-    }
-    // Process consequent statements for switch cases
-    if (node.consequent) {
-      if (Array.isArray(node.consequent)) {
-        node.consequent.forEach(child => walk(child, ctx));
-      } else {
-        walk(node.consequent, ctx);
-      }
-    }
-  } else if (node.type === 'Switch') {
-    // Process cases for switch statements
-    if (node.cases) {
-      if (Array.isArray(node.cases)) {
-        node.cases.forEach(child => walk(child, ctx));
-      } else {
-        walk(node.cases, ctx);
-      }
-    }
-    
-    // Complete the switch statement after processing all cases
-    if (ctx && typeof ctx.completeSwitch === 'function') {
-      ctx.completeSwitch();
-    }
-  } else {
-    // General body processing for other node types
-    if (node.body) {
-      if (Array.isArray(node.body)) {
-        node.body.forEach(child => walk(child, ctx));
-      } else {
-        walk(node.body, ctx);
-      }
-    }
-  }
-  
-  if (node.then) walk(node.then, ctx);
-  if (node.else) walk(node.else, ctx);
-  // Note: We don't walk node.init, node.cond, node.update here
-  // because they are handled by the mapping functions that create
-  // decision nodes with combined text
-
-  if (node.value) {
-    // return statements
-  }
-}
\ No newline at end of file
+import { flowWalker, sequence, each, field, handle, hook, step, when } from '../../../../engine/walk.mjs';
+import { mapIfStatement } from '../conditional/if.mjs';
+import { mapSwitchStatement, mapCase, mapDefault, restoreSwitch } from '../conditional/switch/switch.mjs';
+import { mapForStatement, closeForStatement } from '../loops/for/for.mjs';
+import { mapWhileStatement, closeWhileStatement } from '../loops/while/while.mjs';
+import { mapDoWhileStatement } from '../loops/do-while/do-while.mjs';
+import { completeSwitch } from '../mappings/common/common.mjs';
+
+// Statements of a branch, loop part or body: a block's statements, or the node itself
+function statements(value) {
+  return value && value.body && Array.isArray(value.body) ? value.body : value;
+}
+
+// First statement of a loop body, when it has one
+function firstStatement(node) {
+  const body = statements(node.body);
+  return Array.isArray(body) ? body[0] : body;
+}
+
+/**
+ * Mapping walkers of the script languages. Control statements are walked here,
+ * statement by statement, with the language's mappers creating their nodes
+ * (the mapper of a loop or conditional opens it, the walker maps what it
+ * contains, then closes it); any other node is mapped alone by ctx.handle(node).
+ * @param {Object} mappers - The control statement mappers of the language
+ * @returns {{ walk: Function, walkFunction: Function }} - Walkers of the main
+ *   flow (where a switch is completed right after it is mapped, to connect its
+ *   breaks) and of function bodies
+ */
+export function scriptWalkers({
+  mapIfStatement, mapSwitchStatement, mapCase, mapDefault, restoreSwitch,
+  mapForStatement, closeForStatement, mapWhileStatement, closeWhileStatement,
+  mapDoWhileStatement, completeSwitch
+}) {
+  const enter = (name) => step((node, ctx) => ctx.enterBranch(name));
+  const exit = (name) => step((node, ctx) => ctx.exitBranch(name));
+
+  // The then branch, then the else branch: an else holding another if continues
+  // the chain from this condition's 'No' edge
+  const ifStatement = sequence(
+    step(mapIfStatement),
+    when(node => node.consequent,
+      enter('then'), each(node => statements(node.consequent)), exit('then')),
+    when(node => node.alternate && node.alternate.type === 'If',
+      enter('else'), hook('guardElseIf'), field('alternate'), hook('releaseElseIf'), exit('else')),
+    when(node => node.alternate && node.alternate.type !== 'If',
+      enter('else'), each(node => statements(node.alternate)), exit('else')),
+    hook('completeIf'));
+
+  // A case label, then its consequent statements
+  const switchCase = (mapLabel) => sequence(
+    step(mapLabel),
+    when((node, ctx, switchId) => switchId,
+      each('consequent'),
+      step((node, ctx, switchId) => restoreSwitch(ctx, switchId))));
+
+  const loops = {
+    For: sequence(
+      each(node => statements(node.init)),
+      step(mapForStatement),
+      each(node => statements(node.body)),
+      field('update'),
+      step((node, ctx, loopConditionId) => closeForStatement(ctx, loopConditionId))),
+    While: sequence(
+      step(mapWhileStatement),
+      each(node => statements(node.body)),
+      step((node, ctx, loopConditionId) => closeWhileStatement(ctx, loopConditionId))),
+    // The condition loops back to where the body's first statement ended
+    DoWhile: sequence(
+      field(firstStatement),
+      step((node, ctx) => firstStatement(node) && ctx.last ? ctx.last : null),
+      each(node => Array.isArray(statements(node.body)) ? node.body.body : null, { filter: (statement, index) => index > 0 }),
+      step((node, ctx, firstStatementId) => mapDoWhileStatement(node, ctx, firstStatementId)))
+  };
+
+  const rules = (switchStatement) => ({
+    If: ifStatement,
+    Switch: switchStatement,
+    Case: switchCase(mapCase),
+    Default: switchCase(mapDefault),
+    ...loops
+  });
+
+  return {
+    walk: flowWalker({
+      handleFirst: false,
+      rules: rules(sequence(step(mapSwitchStatement), each('cases'), step((node, ctx) => completeSwitch(ctx)))),
+      otherwise: handle
+    }),
+    walkFunction: flowWalker({
+      handleFirst: false,
+      rules: rules(sequence(step(mapSwitchStatement), each('cases'))),
+      otherwise: handle
+    })
+  };
+}
+
+export const { walk, walkFunction } = scriptWalkers({
+  mapIfStatement, mapSwitchStatement, mapCase, mapDefault, restoreSwitch,
+  mapForStatement, closeForStatement, mapWhileStatement, closeWhileStatement,
+  mapDoWhileStatement, completeSwitch
+});
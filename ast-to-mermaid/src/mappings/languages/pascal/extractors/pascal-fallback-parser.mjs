@@ -0,0 +1,745 @@
+/**
+ * Fallback Pascal parser, used when neither the native tree-sitter-pascal
+ * binding nor the tree-sitter CLI is available. One pass turns the source into
+ * a flat token table, then a descent parser over the supported subset
+ * (programs and units, var sections, procedures and functions, begin/end,
+ * if/else, for, while, repeat/until, case) builds the same simplified AST as
+ * `buildPascalAST` builds from a real syntax tree. Every token is visited a
+ * constant number of times, so parsing is linear in the size of the source,
+ * and nested statements are kept on an explicit stack, so it does not
+ * recurse however deeply they nest.
+ *
+ * Labels are the statement's tokens joined with single spaces where the source
+ * had whitespace or comments between them, i.e. the source text with
+ * whitespace collapsed and comments removed. Constructs outside the subset
+ * (with, try, asm, goto, ...) become one exprCall labelled with their text,
+ * as on the tree-sitter route.
+ */
+
+export const TokenType = {
+  WORD: 0,
+  NUMBER: 1,
+  STRING: 2,
+  SYMBOL: 3
+};
+
+// Two-character operators; every other symbol is one character
+const SYMBOLS_2 = new Set([':=', '<=', '>=', '<>', '..', '+=', '-=', '*=', '/=', '**', '><']);
+
+function isWordStart(c) {
+  return (c >= 97 && c <= 122) || (c >= 65 && c <= 90) || c === 95 || c === 38 || c > 127;
+}
+
+function isWordPart(c) {
+  return (c >= 97 && c <= 122) || (c >= 65 && c <= 90) || (c >= 48 && c <= 57) || c === 95 || c > 127;
+}
+
+function isDigit(c) {
+  return c >= 48 && c <= 57;
+}
+
+function isHexDigit(c) {
+  return isDigit(c) || (c >= 97 && c <= 102) || (c >= 65 && c <= 70);
+}
+
+/**
+ * Split Pascal source into tokens in a single pass. Comments ({ }, (* *), //)
+ * and whitespace are dropped; words are keyed in lower case, since Pascal is
+ * case-insensitive.
+ * @param {string} source - Pascal source code
+ * @returns {{ count: number, types: Array<number>, starts: Array<number>, ends: Array<number>, values: Array<string|null> }}
+ *   Token table: type, [start, end) source offsets, and the lower-cased word or
+ *   symbol (null for numbers and strings)
+ */
+export function tokenizePascal(source) {
+  const types = [];
+  const starts = [];
+  const ends = [];
+  const values = [];
+  const length = source.length;
+  const push = (type, start, end, value) => {
+    types.push(type);
+    starts.push(start);
+    ends.push(end);
+    values.push(value);
+  };
+
+  let i = 0;
+  while (i < length) {
+    const c = source.charCodeAt(i);
+    if (c <= 32) {
+      i++;
+      continue;
+    }
+    const start = i;
+    const next = source.charCodeAt(i + 1);
+
+    // Comments (compiler directives {$...} included)
+    if (c === 123) {
+      const close = source.indexOf('}', i + 1);
+      i = close === -1 ? length : close + 1;
+      continue;
+    }
+    if (c === 40 && next === 42) {
+      const close = source.indexOf('*)', i + 2);
+      i = close === -1 ? length : close + 2;
+      continue;
+    }
+    if (c === 47 && next === 47) {
+      const close = source.indexOf('\n', i + 2);
+      i = close === -1 ? length : close + 1;
+      continue;
+    }
+
+    if (isWordStart(c)) {
+      i++;
+      while (i < length && isWordPart(source.charCodeAt(i))) i++;
+      push(TokenType.WORD, start, i, source.slice(start, i).toLowerCase());
+      continue;
+    }
+
+    if (isDigit(c) || (c === 36 && isHexDigit(next))) {
+      i++;
+      if (c === 36) {
+        while (i < length && isHexDigit(source.charCodeAt(i))) i++;
+      } else {
+        while (i < length && isDigit(source.charCodeAt(i))) i++;
+        // A fraction, but not the `..` of a range such as 1..10
+        if (source.charCodeAt(i) === 46 && isDigit(source.charCodeAt(i + 1))) {
+          i++;
+          while (i < length && isDigit(source.charCodeAt(i))) i++;
+        }
+        const e = source.charCodeAt(i);
+        if (e === 101 || e === 69) {
+          let j = i + 1;
+          const sign = source.charCodeAt(j);
+          if (sign === 43 || sign === 45) j++;
+          if (isDigit(source.charCodeAt(j))) {
+            i = j;
+            while (i < length && isDigit(source.charCodeAt(i))) i++;
+          }
+        }
+      }
+      push(TokenType.NUMBER, start, i, null);
+      continue;
+    }
+
+    // 'text' with '' escapes; a string never spans lines
+    if (c === 39) {
+      i++;
+      while (i < length) {
+        const s = source.charCodeAt(i);
+        if (s === 10) break;
+        i++;
+        if (s === 39) {
+          if (source.charCodeAt(i) !== 39) break;
+          i++;
+        }
+      }
+      push(TokenType.STRING, start, i, null);
+      continue;
+    }
+
+    // Character codes: #13, #$0D
+    if (c === 35 && (isDigit(next) || next === 36)) {
+      i += next === 36 ? 2 : 1;
+      while (i < length && isHexDigit(source.charCodeAt(i))) i++;
+      push(TokenType.STRING, start, i, null);
+      continue;
+    }
+
+    const pair = source.slice(i, i + 2);
+    if (SYMBOLS_2.has(pair)) {
+      i += 2;
+      push(TokenType.SYMBOL, start, i, pair);
+    } else {
+      i++;
+      push(TokenType.SYMBOL, start, i, source[start]);
+    }
+  }
+
+  return { count: types.length, types, starts, ends, values };
+}
+
+// Words that open a construct closed by `end`
+const BLOCK_OPEN = new Set(['begin', 'case', 'try', 'asm', 'record']);
+
+// Tokens that end a simple statement (outside brackets and blocks)
+const STATEMENT_END = new Set([';', 'end', 'else', 'until']);
+
+// Words that start a declaration section (or the program body) at the top level
+const SECTION = new Set([
+  'var', 'threadvar', 'const', 'type', 'label', 'resourcestring',
+  'procedure', 'function', 'constructor', 'destructor',
+  'begin', 'initialization', 'finalization', 'implementation', 'interface'
+]);
+
+// Routine directives, each followed by `;`
+const DIRECTIVES = new Set([
+  'forward', 'external', 'overload', 'inline', 'cdecl', 'stdcall', 'safecall', 'register', 'pascal',
+  'virtual', 'override', 'abstract', 'reintroduce', 'static', 'dynamic', 'assembler', 'export', 'public'
+]);
+
+const THEN = new Set(['then']);
+const DO = new Set(['do']);
+const OF = new Set(['of']);
+const COLON = new Set([':']);
+const FOR_RANGE = new Set(['to', 'downto', 'in', 'do']);
+const NONE = new Set();
+
+const UNTIL_END = new Set(['until', 'end']);
+const BLOCK_END = new Set(['end']);
+const MAIN_END = new Set(['end', 'finalization']);
+
+// What an open construct returns while it waits for a nested statement
+const PENDING = Symbol('pending');
+
+class PascalParser {
+  /**
+   * @param {string} source - Pascal source code
+   */
+  constructor(source) {
+    this.source = source;
+    const tokens = tokenizePascal(source);
+    this.count = tokens.count;
+    this.types = tokens.types;
+    this.starts = tokens.starts;
+    this.ends = tokens.ends;
+    this.values = tokens.values;
+    this.pos = 0;
+    // Inside a unit's interface section, routine headers have no bodies
+    this.interface = false;
+  }
+
+  /**
+   * Source text of tokens [first, last): single spaces where the source had a gap
+   * @param {number} first
+   * @param {number} last
+   * @returns {string}
+   */
+  text(first, last) {
+    let text = '';
+    for (let i = first; i < last; i++) {
+      if (i > first && this.starts[i] > this.ends[i - 1]) text += ' ';
+      text += this.source.slice(this.starts[i], this.ends[i]);
+    }
+    return text;
+  }
+
+  /**
+   * Advance to the next token in `stop` (or that ends a statement), skipping
+   * bracketed and begin/end-nested tokens
+   * @param {Set<string>} stop - Values to stop at
+   * @returns {number} - First token passed over
+   */
+  scan(stop) {
+    const first = this.pos;
+    const values = this.values;
+    let depth = 0;
+    for (; this.pos < this.count; this.pos++) {
+      const value = values[this.pos];
+      if (value === null) continue;
+      if (depth === 0 && (stop.has(value) || STATEMENT_END.has(value))) break;
+      if (value === '(' || value === '[' || BLOCK_OPEN.has(value)) {
+        depth++;
+      } else if ((value === ')' || value === ']' || value === 'end') && depth > 0) {
+        depth--;
+      }
+    }
+    return first;
+  }
+
+  /**
+   * Consume one token if it has the given value
+   * @param {string} value
+   * @returns {boolean}
+   */
+  accept(value) {
+    if (this.values[this.pos] !== value) return false;
+    this.pos++;
+    return true;
+  }
+
+  /**
+   * Parse statements up to (not including) a token in `stop`
+   * @param {Set<string>} stop
+   * @returns {Array<Object>}
+   */
+  statements(stop) {
+    const body = [];
+    while (this.pos < this.count) {
+      const value = this.values[this.pos];
+      if (value === ';') {
+        this.pos++;
+        continue;
+      }
+      if (stop.has(value)) break;
+      const before = this.pos;
+      const statement = this.statement();
+      if (statement) body.push(statement);
+      // A stray token (an `else` without an `if`, say) is skipped
+      if (this.pos === before) this.pos++;
+    }
+    return body;
+  }
+
+  /**
+   * Parse one statement; null for an empty statement. Statements nested in
+   * blocks, branches, loops and case arms are parsed on an explicit stack of
+   * frames, one per open construct, so nesting depth is bounded by memory
+   * rather than by the call stack.
+   * @returns {Object|null}
+   */
+  statement() {
+    const frames = [];
+    let result = this.open(frames);
+    for (;;) {
+      if (result === PENDING) {
+        // The innermost open construct wants a statement here
+        result = this.open(frames);
+        continue;
+      }
+      if (frames.length === 0) return result;
+      result = this.step(frames[frames.length - 1], result);
+      if (result !== PENDING) frames.pop();
+    }
+  }
+
+  /**
+   * Start the statement at the current token: a finished node (or null), or
+   * PENDING when it opened a construct that now needs a nested statement
+   * @param {Array<Object>} frames - Open constructs, innermost last
+   * @returns {Object|null|symbol}
+   */
+  open(frames) {
+    let frame;
+    switch (this.values[this.pos]) {
+      case 'begin':
+        this.pos++;
+        frame = { kind: 'block', stop: BLOCK_END, body: [], before: -1 };
+        break;
+
+      case 'if': {
+        this.pos++;
+        const condition = this.scan(THEN);
+        const cond = { text: this.text(condition, this.pos) };
+        this.accept('then');
+        frame = { kind: 'if', cond, then: undefined };
+        break;
+      }
+
+      case 'for': {
+        this.pos++;
+        const start = this.scan(FOR_RANGE);
+        const direction = this.values[this.pos];
+        let init;
+        if (direction === 'to' || direction === 'downto') {
+          const startText = this.text(start, this.pos);
+          this.pos++;
+          const end = this.scan(DO);
+          init = `${startText} ${direction} ${this.text(end, this.pos)}`;
+        } else {
+          this.scan(DO);
+          init = this.text(start, this.pos);
+        }
+        this.accept('do');
+        frame = { kind: 'loop', node: { type: 'ForStatement', init: { text: init } } };
+        break;
+      }
+
+      case 'while': {
+        this.pos++;
+        const condition = this.scan(DO);
+        const cond = { text: this.text(condition, this.pos) };
+        this.accept('do');
+        frame = { kind: 'loop', node: { type: 'WhileStatement', cond } };
+        break;
+      }
+
+      case 'repeat':
+        this.pos++;
+        frame = { kind: 'repeat', stop: UNTIL_END, body: [], before: -1 };
+        break;
+
+      case 'case': {
+        this.pos++;
+        const expression = this.scan(OF);
+        const cond = { text: this.text(expression, this.pos) };
+        this.accept('of');
+        frame = { kind: 'case', cond, options: [], label: null, stop: BLOCK_END, body: null, before: -1 };
+        break;
+      }
+
+      default:
+        return this.simpleStatement();
+    }
+
+    frames.push(frame);
+    const result = this.step(frame, undefined);
+    if (result !== PENDING) frames.pop();
+    return result;
+  }
+
+  /**
+   * Advance an open construct, handing it the nested statement just parsed
+   * (undefined on the first step)
+   * @param {Object} frame - From open()
+   * @param {Object|null|undefined} child
+   * @returns {Object|null|symbol} - The finished node, or PENDING for another nested statement
+   */
+  step(frame, child) {
+    switch (frame.kind) {
+      case 'block':
+        if (this.listStep(frame, frame.body, child)) return PENDING;
+        this.accept('end');
+        return { type: 'Block', body: frame.body };
+
+      case 'repeat': {
+        if (this.listStep(frame, frame.body, child)) return PENDING;
+        let until = '';
+        if (this.accept('until')) {
+          const condition = this.scan(NONE);
+          until = this.text(condition, this.pos);
+        }
+        return { type: 'RepeatStatement', untilCondition: { text: until }, body: { type: 'Block', body: frame.body } };
+      }
+
+      case 'if':
+        for (;;) {
+          if (child === undefined) {
+            if (!this.atBranchEnd()) return PENDING;
+            child = null;
+          }
+          if (frame.then !== undefined) {
+            return { type: 'ifElse', cond: frame.cond, then: frame.then, else: toBlock(child) };
+          }
+          frame.then = toBlock(child);
+          if (!this.accept('else')) {
+            return { type: 'if', cond: frame.cond, then: frame.then, else: null };
+          }
+          child = undefined;
+        }
+
+      case 'loop':
+        if (child === undefined) {
+          if (!this.atBranchEnd()) return PENDING;
+          child = null;
+        }
+        return { ...frame.node, body: toBlock(child) };
+
+      default:
+        return this.caseStep(frame, child);
+    }
+  }
+
+  /**
+   * One step of a statement list that runs to a token in `frame.stop`
+   * @param {Object} frame - Holds `stop` and the token a pending statement started at
+   * @param {Array<Object>} body - Statements so far
+   * @param {Object|null|undefined} child - Statement just parsed, if any
+   * @returns {boolean} - Whether another statement starts here
+   */
+  listStep(frame, body, child) {
+    if (child !== undefined) {
+      if (child) body.push(child);
+      // A stray token (an `else` without an `if`, say) is skipped
+      if (this.pos === frame.before) this.pos++;
+    }
+    while (this.pos < this.count) {
+      const value = this.values[this.pos];
+      if (value === ';') {
+        this.pos++;
+        continue;
+      }
+      if (frame.stop.has(value)) return false;
+      frame.before = this.pos;
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * case ... of label: statement; ... [else statements] end
+   * @param {Object} frame - From open()
+   * @param {Object|null|undefined} child - The arm (or else statement) just parsed, if any
+   * @returns {Object|symbol}
+   */
+  caseStep(frame, child) {
+    if (frame.body === null) {
+      if (child !== undefined) {
+        frame.options.push({ type: 'caseCase', value: frame.label, body: child });
+      }
+      for (;;) {
+        if (this.pos >= this.count) break;
+        const value = this.values[this.pos];
+        if (value === 'end') break;
+        if (value === ';') {
+          this.pos++;
+          continue;
+        }
+        if (value === 'else' || value === 'otherwise') {
+          this.pos++;
+          frame.body = [];
+          child = undefined;
+          break;
+        }
+        const label = this.scan(COLON);
+        if (!this.accept(':')) {
+          if (this.pos === label) this.pos++;
+          continue;
+        }
+        frame.label = this.text(label, this.pos - 1);
+        if (!this.atBranchEnd()) return PENDING;
+        frame.options.push({ type: 'caseCase', value: frame.label, body: null });
+      }
+    }
+    if (frame.body !== null && this.listStep(frame, frame.body, child)) return PENDING;
+    this.accept('end');
+
+    const elseBody = frame.body || [];
+    if (elseBody.length > 0) {
+      frame.options.push({
+        type: 'kElse',
+        body: elseBody.length === 1 ? elseBody[0] : { type: 'Block', body: elseBody }
+      });
+    }
+    return { type: 'Case', cond: frame.cond, options: frame.options };
+  }
+
+  /**
+   * Whether a then/else/do branch or case arm is empty here
+   * @returns {boolean}
+   */
+  atBranchEnd() {
+    return this.pos >= this.count || STATEMENT_END.has(this.values[this.pos]);
+  }
+
+  /**
+   * An assignment, call or unsupported statement, labelled with its text
+   * @returns {Object|null}
+   */
+  simpleStatement() {
+    const first = this.pos;
+    const values = this.values;
+    let depth = 0;
+    let assignment = false;
+    for (; this.pos < this.count; this.pos++) {
+      const value = values[this.pos];
+      if (value === null) continue;
+      if (depth === 0) {
+        if (STATEMENT_END.has(value)) break;
+        if (value === ':=') assignment = true;
+      }
+      if (value === '(' || value === '[' || BLOCK_OPEN.has(value)) {
+        depth++;
+      } else if ((value === ')' || value === ']' || value === 'end') && depth > 0) {
+        depth--;
+      }
+    }
+    if (this.pos === first) return null;
+    return { type: assignment ? 'assignment' : 'exprCall', text: this.text(first, this.pos) };
+  }
+
+  /**
+   * Skip tokens up to the next section keyword, stepping over records, classes
+   * and other `end`-terminated type bodies
+   */
+  skipSection() {
+    const values = this.values;
+    let depth = 0;
+    for (; this.pos < this.count; this.pos++) {
+      const value = values[this.pos];
+      if (value === null) continue;
+      const previous = values[this.pos - 1];
+      // `= procedure(...)`, `= interface`, `of object` are types, not sections
+      const typeContext = previous === '=' || previous === ':' || previous === 'of';
+      if (depth === 0 && SECTION.has(value) && !typeContext) break;
+      if (value === 'record' || (value === 'object' && previous !== 'of')) {
+        depth++;
+      } else if ((value === 'class' || value === 'interface') && previous === '=' &&
+                 values[this.pos + 1] !== ';' && values[this.pos + 1] !== 'of') {
+        depth++;
+      } else if (value === 'end' && depth > 0) {
+        depth--;
+      }
+    }
+  }
+
+  /**
+   * Declarations of a var section
+   * @param {Array<Object>|null} out - Top-level statements to add declVar nodes to
+   */
+  variables(out) {
+    while (this.pos < this.count && this.types[this.pos] === TokenType.WORD && !SECTION.has(this.values[this.pos])) {
+      const first = this.pos;
+      const values = this.values;
+      let depth = 0;
+      for (; this.pos < this.count; this.pos++) {
+        const value = values[this.pos];
+        if (value === null) continue;
+        if (depth === 0 && (value === ';' || SECTION.has(value))) break;
+        if (value === '(' || value === '[' || value === 'record') {
+          depth++;
+        } else if ((value === ')' || value === ']' || value === 'end') && depth > 0) {
+          depth--;
+        }
+      }
+      if (out) out.push({ type: 'declVar', text: `var ${this.text(first, this.pos)}`, sourceCode: this.source });
+      this.accept(';');
+    }
+  }
+
+  /**
+   * A procedure or function: header, directives, local declarations and body
+   * @param {Array<Object>|null} out - Top-level statements to add the defProc node to
+   */
+  routine(out) {
+    const first = this.pos;
+    const funcType = this.values[this.pos] === 'function' ? 'function' : 'procedure';
+    this.pos++;
+    // The name, qualified for methods (TStack.Push)
+    let name = 'unknown';
+    if (this.types[this.pos] === TokenType.WORD) {
+      const nameStart = this.pos++;
+      while (this.values[this.pos] === '.' && this.types[this.pos + 1] === TokenType.WORD) this.pos += 2;
+      name = this.source.slice(this.starts[nameStart], this.ends[this.pos - 1]);
+    }
+
+    // Header up to its `;`, outside the parameter list
+    let depth = 0;
+    for (; this.pos < this.count; this.pos++) {
+      const value = this.values[this.pos];
+      if (depth === 0 && (value === ';' || value === 'begin' || value === 'var')) break;
+      if (value === '(') depth++;
+      else if (value === ')' && depth > 0) depth--;
+    }
+    const signature = this.text(first, this.pos);
+    this.accept(';');
+
+    let hasBody = !this.interface;
+    while (DIRECTIVES.has(this.values[this.pos])) {
+      if (this.values[this.pos] === 'forward' || this.values[this.pos] === 'external') hasBody = false;
+      this.scan(NONE);
+      this.accept(';');
+    }
+    if (!hasBody) return;
+
+    // Local declarations belong to the routine and are not drawn
+    let body = null;
+    while (this.pos < this.count) {
+      const value = this.values[this.pos];
+      if (value === 'var' || value === 'threadvar') {
+        this.pos++;
+        this.variables(null);
+      } else if (value === 'const' || value === 'type' || value === 'label' || value === 'resourcestring') {
+        this.pos++;
+        this.skipSection();
+      } else if (value === 'procedure' || value === 'function' || value === 'constructor' || value === 'destructor') {
+        this.routine(null);
+      } else if (value === 'begin') {
+        body = this.statement();
+        this.accept(';');
+        break;
+      } else {
+        break;
+      }
+    }
+
+    if (out) out.push({ type: 'defProc', name, signature, funcType, body, sourceCode: this.source });
+  }
+
+  /**
+   * The whole compilation unit
+   * @returns {Object} - Simplified Program AST
+   */
+  program() {
+    const statements = [];
+    const topLevel = (statement) => {
+      if (statement) statements.push({ ...statement, sourceCode: this.source });
+    };
+
+    while (this.pos < this.count) {
+      switch (this.values[this.pos]) {
+        case 'program':
+        case 'unit':
+        case 'library':
+        case 'uses':
+          this.scan(NONE);
+          this.accept(';');
+          break;
+        case 'interface':
+          this.interface = true;
+          this.pos++;
+          break;
+        case 'implementation':
+          this.interface = false;
+          this.pos++;
+          break;
+        case 'var':
+        case 'threadvar':
+          this.pos++;
+          this.variables(statements);
+          break;
+        case 'const':
+        case 'type':
+        case 'label':
+        case 'resourcestring':
+          this.pos++;
+          this.skipSection();
+          break;
+        case 'class':
+          this.pos++;
+          break;
+        case 'procedure':
+        case 'function':
+        case 'constructor':
+        case 'destructor':
+          this.routine(statements);
+          break;
+        case 'begin':
+        case 'initialization':
+        case 'finalization':
+          // Main program body (or unit initialization), statements at the top level
+          this.pos++;
+          this.statements(MAIN_END).forEach(topLevel);
+          if (this.values[this.pos] !== 'finalization') this.accept('end');
+          break;
+        case 'end':
+        case '.':
+        case ';':
+          this.pos++;
+          break;
+        default: {
+          // A bare statement list (a snippet without a program header)
+          const before = this.pos;
+          topLevel(this.statement());
+          if (this.pos === before) this.pos++;
+        }
+      }
+    }
+
+    return {
+      type: 'Program',
+      body: statements
+    };
+  }
+}
+
+/**
+ * Wrap a parsed statement as a Block (begin/end blocks already are one)
+ * @param {Object|null} statement
+ * @returns {Object|null}
+ */
+function toBlock(statement) {
+  if (!statement) return null;
+  return statement.type === 'Block' ? statement : { type: 'Block', body: [statement] };
+}
+
+/**
+ * Parse Pascal source into the simplified AST without tree-sitter
+ * @param {string} sourceCode - Pascal source code
+ * @returns {Object} - Simplified AST
+ */
+export function parsePascalFallback(sourceCode) {
+  return new PascalParser(sourceCode).program();
+}
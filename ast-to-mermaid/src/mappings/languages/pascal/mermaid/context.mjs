@@ -1,11 +1,12 @@
 import { mapNodePascal } from '../map-node-pascal.mjs';
 import { shapes } from "./shapes.mjs";
-
-let nodeId = 1;
+import { graphFromLines } from '../../../../shared/graph-json.mjs';
+import { currentBudget, truncatedComment } from '../../../../shared/budget.mjs';
+import { noteNodeOrigin } from '../../../../shared/stable-ids.mjs';
 
 export function ctx() {
-  // Reset nodeId for each new context
-  nodeId = 1;
+  // Per-context counter so concurrent conversions never share IDs
+  let nodeId = 1;
   
   const context = {
     nodes: [],
@@ -27,16 +28,16 @@ export function ctx() {
     nextAfterCase: null,
     
     next() {
-      return `N${nodeId++}`;
+      const id = `N${nodeId++}`;
+      noteNodeOrigin(id);
+      return id;
     },
     
     add(id, label) {
-      console.log('Adding node:', id, label);
       this.nodes.push(`${id}${label}`);
     },
     
     addEdge(from, to, label = null) {
-      console.log('Adding edge:', from, to, label);
       if (label) {
         this.edges.push(`${from} -- ${label} --> ${to}`);
       } else {
@@ -45,13 +46,11 @@ export function ctx() {
     },
     
     setLast(id) {
-      console.log('Setting last node:', id);
       this.last = id;
     },
     
     // Handler function for the walker
     handle(node) {
-      console.log('Context handling node:', node.type);
       if (node && node.type) {
         // Use the mapping function to add nodes to the context
         mapNodePascal(node, this);
@@ -60,7 +59,6 @@ export function ctx() {
     
     // If statement management
     registerIf(conditionId, hasElse) {
-      console.log('Registering if statement:', conditionId, hasElse);
       const frame = {
         conditionId,
         hasElse,
@@ -112,7 +110,6 @@ export function ctx() {
     
     completeIf() {
       const frame = this.ifStack.pop();
-      console.log('Completing if statement:', frame);
       if (!frame) return null;
       this.queueJoinForFrame(frame);
       
@@ -189,7 +186,6 @@ export function ctx() {
     
     // Case statement management
     registerCase(caseId) {
-      console.log('Registering case statement:', caseId);
       const frame = {
         caseId,
         options: [],
@@ -202,7 +198,6 @@ export function ctx() {
     
     // Loop condition management
     registerLoopCondition(conditionId, loopType) {
-      console.log('Registering loop condition:', conditionId, loopType);
       const frame = {
         conditionId,
         loopType,
@@ -228,7 +223,6 @@ export function ctx() {
     exitLoop() {
       const frame = this.loopStack ? this.loopStack.pop() : null;
       if (!frame) return null;
-      console.log('Exiting loop:', frame);
       return frame;
     },
     
@@ -263,20 +257,17 @@ export function ctx() {
       const frame = this.currentCase();
       if (frame && nodeId) {
         frame.caseEndNodes.push(nodeId);
-        console.log('Added case end node:', nodeId, 'to case:', frame.caseId);
       }
     },
     
     completeCase() {
       const frame = this.caseStack.pop();
-      console.log('Completing case statement:', frame);
       if (!frame) return null;
       
       // Store the case end nodes to be used for connectivity
       if (frame.caseEndNodes && frame.caseEndNodes.length > 0) {
         // Add all case end nodes to the main caseEndNodes array for final connection
-        this.caseEndNodes = this.caseEndNodes.concat(frame.caseEndNodes);
-        console.log('Case end nodes to connect:', frame.caseEndNodes);
+        for (const nodeId of frame.caseEndNodes) this.caseEndNodes.push(nodeId);
       }
       
       // Don't leave ctx.last pointing to the case condition node
@@ -299,10 +290,18 @@ export function ctx() {
       // The loop condition node should have a "No" branch to the next statement
       // This is handled in the emit method when we connect the loop condition to END
       // or to the next statement after the loop
-      console.log('Completing loop:', loop);
     },
     
-    emit() {
+    // Mermaid lines of the finished chart, headed by a comment when the time
+    // budget cut it short
+    emitLines() {
+      const lines = this.chartLines();
+      const truncated = this.truncated || currentBudget()?.truncated;
+      if (truncated) lines.splice(1, 0, `  ${truncatedComment(truncated)}`);
+      return lines;
+    },
+
+    chartLines() {
       // Handle empty flowcharts
       if (this.nodes.length === 0) {
         return [
@@ -310,7 +309,7 @@ export function ctx() {
           '  START(["start"])',
           '  END(["end"])',
           '  START --> END'
-        ].join('\n');
+        ];
       }
 
       // Build the flowchart
@@ -359,7 +358,6 @@ export function ctx() {
         // Connect all case branch ends to the next statement after case if it exists,
         // otherwise connect to END
         if (this.caseEndNodes && this.caseEndNodes.length > 0) {
-          console.log('Connecting case end nodes to next statement or END:', this.caseEndNodes);
           
           // Check if there are statements after the case by looking for nodes that are not 
           // case-related and come after the case branches in the sequence
@@ -382,28 +380,23 @@ export function ctx() {
             }
           }
           
+          // Edges already drawn, looked up once rather than scanned per case end
+          const drawn = new Set(this.edges);
           if (nextNodeAfterCase) {
             // Connect all case end nodes to the next statement after case
-            console.log('Connecting case end nodes to next statement:', nextNodeAfterCase);
             this.caseEndNodes.forEach(caseEndNode => {
-              // Only add the connection if it doesn't already exist
-              const edgeExists = this.edges.some(edge => 
-                edge.includes(`${caseEndNode} --> ${nextNodeAfterCase}`)
-              );
-              if (!edgeExists) {
+              if (!drawn.has(`${caseEndNode} --> ${nextNodeAfterCase}`)) {
                 lines.push(`  ${caseEndNode} --> ${nextNodeAfterCase}`);
               }
             });
           } else {
-            // Connect all case end nodes to END
-            console.log('Connecting case end nodes to END');
+            // Connect all case end nodes to END, unless one already reaches it (with or without a label)
+            const reachEnd = new Set();
+            for (const edge of this.edges) {
+              if (edge.endsWith('--> END')) reachEnd.add(edge.slice(0, edge.indexOf(' ')));
+            }
             this.caseEndNodes.forEach(caseEndNode => {
-              // Only add the connection if it doesn't already exist
-              const edgeExists = this.edges.some(edge => 
-                edge.includes(`${caseEndNode} --> END`) || 
-                edge.includes(`${caseEndNode} --`) && edge.includes('--> END')
-              );
-              if (!edgeExists) {
+              if (!reachEnd.has(caseEndNode)) {
                 lines.push(`  ${caseEndNode} --> END`);
               }
             });
@@ -425,7 +418,18 @@ export function ctx() {
         lines.push('  START --> END');
       }
       
-      return lines.join('\n');
+      return lines;
+    },
+
+    emit() {
+      return this.emitLines().join('\n');
+    },
+
+    // Graph-JSON output (see shared/graph-json.mjs)
+    emitGraph() {
+      const graph = graphFromLines(this.emitLines());
+      if (this.truncated || currentBudget()?.truncated) graph.truncated = true;
+      return graph;
     }
   };
   
@@ -1,5 +1,4 @@
 export function finalizeFlowContext(context) {
-  console.log('DEBUG: finalizeFlowContext called');
   
   if (!context) return null;
 
@@ -8,17 +7,11 @@ export function finalizeFlowContext(context) {
     context.completeBranches();
   }
 
-  console.log('DEBUG: Checking caseStatements condition');
-  console.log('DEBUG: context.caseStatements:', context.caseStatements);
-  console.log('DEBUG: context.caseStatements length:', context.caseStatements ? context.caseStatements.length : 'undefined');
-  console.log('DEBUG: context.caseConnectionsResolved:', context.caseConnectionsResolved);
 
   // Handle Pascal case statements properly
   // In Pascal, each case branch should connect directly to the next statement
   // since there's no fall-through behavior
   if (context.caseStatements && context.caseStatements.length > 0 && !context.caseConnectionsResolved) {
-    // Debug: Print case statements
-    console.log('DEBUG: Finalizing case statements, caseStatements:', context.caseStatements);
     
     // Get all node IDs in order
     const nodeInfos = [];
@@ -38,20 +31,16 @@ export function finalizeFlowContext(context) {
       }
     });
     
-    console.log('DEBUG: Case positions:', casePositions);
     
     // For each case statement, connect all its case branches to the next statement
     context.caseStatements.forEach((caseStmt, index) => {
-      console.log('DEBUG: Processing case statement:', caseStmt);
       
       // Find the position of this case statement in the flow
       const casePos = casePositions.find(pos => pos.id === caseStmt.id);
       if (!casePos) {
-        console.log('DEBUG: Could not find position for case statement:', caseStmt.id);
         return;
       }
       
-      console.log('DEBUG: Processing case position:', casePos);
       
       // Find the next statement after this case block
       // We'll look for the first node that is clearly not part of this case statement
@@ -76,7 +65,6 @@ export function finalizeFlowContext(context) {
         nextStatementId = 'END';
       }
       
-      console.log('DEBUG: Connecting case end nodes to:', nextStatementId);
       
       // Connect all case end nodes for this specific case statement to the next statement
       if (caseStmt.endNodes && caseStmt.endNodes.length > 0) {
@@ -87,10 +75,7 @@ export function finalizeFlowContext(context) {
           );
           
           if (!alreadyExists) {
-            console.log('DEBUG: Adding edge:', caseEndId, '-->', nextStatementId);
             context.addEdge(caseEndId, nextStatementId);
-          } else {
-            console.log('DEBUG: Edge already exists:', caseEndId, '-->', nextStatementId);
           }
         });
       }
@@ -110,19 +95,13 @@ export function finalizeFlowContext(context) {
         
         // If not already connected, add the connection
         if (!alreadyConnected) {
-          console.log('DEBUG: Adding else case connection:', caseStmt.id, '-->', elseCaseEndId);
           context.addEdge(caseStmt.id, elseCaseEndId);
-        } else {
-          console.log('DEBUG: Else case connection already exists:', caseStmt.id, '-->', elseCaseEndId);
         }
       }
     });
     
     // Mark that we've resolved case connections
     context.caseConnectionsResolved = true;
-    console.log('DEBUG: Set caseConnectionsResolved to true');
-  } else {
-    console.log('DEBUG: Case statements condition not met');
   }
 
   return context;
@@ -1,13 +1,64 @@
+// Properties through which a node's normalization reaches nested nodes
+const NESTED_KEYS = ['body', 'then', 'else', 'init', 'cond', 'test', 'untilCondition', 'expression', 'options'];
+
+// Nodes already normalized during the current call, keyed by AST node
+let normalized = null;
+
 /**
- * Normalize Pascal AST to unified node types
+ * Normalize Pascal AST to unified node types.
+ *
+ * Nested nodes are normalized first, deepest first, from an explicit stack;
+ * each node then finds its children already done, so deep nesting does not
+ * grow the call stack.
  * @param {Object} node - AST node
  * @returns {Object} - Normalized node
  */
 export function normalizePascal(node) {
   if (!node) return null;
-  
-  console.log(`Normalizing node type: ${node.type}`);
-  
+  if (normalized) return normalized.has(node) ? normalized.get(node) : normalizeNode(node);
+
+  normalized = new Map();
+  try {
+    for (const nested of deepestFirst(node)) normalized.set(nested, normalizeNode(nested));
+    return normalized.get(node);
+  } finally {
+    normalized = null;
+  }
+}
+
+/**
+ * List the nodes under `root` (inclusive) with every node after the nodes
+ * nested in it.
+ * @param {Object} root - AST node
+ * @returns {Object[]} - Nodes, children before parents
+ */
+function deepestFirst(root) {
+  const order = [];
+  const stack = [root];
+  const seen = new Set();
+  while (stack.length) {
+    const node = stack.pop();
+    if (seen.has(node)) continue;
+    seen.add(node);
+    order.push(node);
+    for (const key of NESTED_KEYS) {
+      const value = node[key];
+      if (Array.isArray(value)) {
+        for (const item of value) if (item && typeof item === 'object') stack.push(item);
+      } else if (value && typeof value === 'object') {
+        stack.push(value);
+      }
+    }
+  }
+  return order.reverse();
+}
+
+/**
+ * Normalize one node; nested nodes go back through normalizePascal.
+ * @param {Object} node - AST node
+ * @returns {Object} - Normalized node
+ */
+function normalizeNode(node) {
   // Convert Pascal-specific AST nodes to unified node types
   switch (node.type) {
     case "Program":
@@ -223,7 +274,6 @@ export function normalizePascal(node) {
     case "BlockStatement":
     case "block":
     case "Block":  // Add this case for our fallback parser
-      console.log('Processing Block node with body:', node.body);
       return {
         type: "Block",
         body: node.body ? node.body.map(normalizePascal).filter(Boolean) : []
@@ -334,7 +384,6 @@ export function normalizePascal(node) {
           text: node.text
         };
       }
-      console.log(`Unknown node type: ${node.type}`);
       return null;
   }
 }
@@ -409,9 +458,7 @@ function extractConditionFromIf(ifNode) {
 function extractThenBranch(ifNode) {
   // If we have a then branch from the fallback parser, use it
   if (ifNode.then) {
-    console.log('Processing then branch:', JSON.stringify(ifNode.then, null, 2));
     const result = normalizePascal(ifNode.then);
-    console.log('Normalized then branch:', JSON.stringify(result, null, 2));
     return result;
   }
   
@@ -430,9 +477,7 @@ function extractThenBranch(ifNode) {
 function extractElseBranch(ifNode) {
   // If we have an else branch from the fallback parser, use it
   if (ifNode.else) {
-    console.log('Processing else branch:', JSON.stringify(ifNode.else, null, 2));
     const result = normalizePascal(ifNode.else);
-    console.log('Normalized else branch:', JSON.stringify(result, null, 2));
     return result;
   }
   
@@ -1,10 +0,0 @@
-program CaseRanges;
-var
-  y: integer;
-begin
-  case y of
-    1..10: writeln('Small range');
-    11..20: writeln('Medium range');
-    else writeln('Large number');
-  end;
-end.
\ No newline at end of file
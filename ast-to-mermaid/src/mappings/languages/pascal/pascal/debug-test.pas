@@ -1,7 +0,0 @@
-program DebugTest;
-var
-  i: integer;
-begin
-  for i := 1 to 1 do
-    writeln('Debug');
-end.
\ No newline at end of file
@@ -1,9 +0,0 @@
-program IfElse;
-var
-  y: integer;
-begin
-  if y < 10 then
-    writeln('Small number')
-  else
-    writeln('Large number');
-end.
\ No newline at end of file
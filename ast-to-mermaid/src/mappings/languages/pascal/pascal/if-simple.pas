@@ -1,7 +0,0 @@
-program SimpleIf;
-var
-  x: integer;
-begin
-  if x > 0 then
-    writeln('Positive number');
-end.
\ No newline at end of file
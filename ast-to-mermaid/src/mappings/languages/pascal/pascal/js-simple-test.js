@@ -1,3 +0,0 @@
-console.log("Hello, World!");
-let x = 10;
-x = x + 5;
\ No newline at end of file
@@ -1,13 +0,0 @@
-/**
- * VTU Shape definitions for Mermaid flowcharts
- */
-export const shapes = {
-  // VTU shapes
-  start: '(["start"])',
-  end: '(["end"])',
-  process: '["{}"]',
-  decision: '{"{}"}',
-  io: '[/"{}"/]',
-  return: '>"{}"]',
-  function: '[["{}"]]'
-};
\ No newline at end of file
@@ -1,10 +0,0 @@
-/**
- * Map block statement to Mermaid flowchart nodes
- * Block statements are handled by the walker, so we don't need to do anything here
- * @param {Object} node - Normalized block statement node
- * @param {Object} ctx - Context for flowchart generation
- */
-export function mapBlockStatement(node, ctx) {
-  // Block statements are handled by the walker, so we don't need to do anything here
-  // The body of the block will be processed by the walker
-}
\ No newline at end of file
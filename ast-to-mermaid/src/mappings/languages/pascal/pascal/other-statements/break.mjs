@@ -1,10 +0,0 @@
-/**
- * Break statement mapping for Pascal language
- */
-
-export function mapBreakStatement(node) {
-  // Placeholder for break statement mapping logic
-  return {
-    type: 'break'
-  };
-}
\ No newline at end of file
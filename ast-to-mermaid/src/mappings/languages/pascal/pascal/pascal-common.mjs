@@ -1,11 +0,0 @@
-/**
- * Common Pascal language mapping utilities
- */
-
-export function mapPascalNode(node) {
-  // Placeholder for Pascal node mapping logic
-  return {
-    id: node.id || 'pascal-node',
-    type: node.type || 'unknown'
-  };
-}
\ No newline at end of file
@@ -1,14 +0,0 @@
-/**
- * Pascal language mapping implementation
- */
-
-import { pascalConfig } from './pascal-config.mjs';
-import { mapPascalNode } from './pascal-common.mjs';
-
-export function mapPascalProgram(ast) {
-  // Placeholder for Pascal program mapping logic
-  return {
-    config: pascalConfig,
-    nodes: ast.body.map(mapPascalNode)
-  };
-}
\ No newline at end of file
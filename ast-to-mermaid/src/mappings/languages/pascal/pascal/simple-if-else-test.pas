@@ -1,9 +0,0 @@
-program SimpleIfElse;
-var
-  x: integer;
-begin
-  if x < 10 then
-    writeln('Small number')
-  else
-    writeln('Large number');
-end.
\ No newline at end of file
@@ -1,31 +0,0 @@
-import { generateFlowchart } from './pipeline/flow.mjs';
-import fs from 'fs';
-
-console.log('Pascal Simple Test to Mermaid Converter\n');
-
-// Read the Pascal test file
-const sourceFile = process.argv[2] || 'simple-test.pas';
-console.log(`Reading Pascal file: ${sourceFile}`);
-
-try {
-  const sourceCode = fs.readFileSync(sourceFile, 'utf8');
-  console.log('\nSource code:');
-  console.log(sourceCode);
-  
-  // Convert to Mermaid flowchart
-  console.log('\nConverting to Mermaid flowchart...\n');
-  const mermaidDiagram = generateFlowchart(sourceCode);
-  
-  // Display the result
-  console.log('Generated Mermaid diagram:');
-  console.log(mermaidDiagram);
-  
-  // Save to output file
-  const outputFile = 'simple-test-output.mmd';
-  fs.writeFileSync(outputFile, mermaidDiagram);
-  console.log(`\nMermaid diagram saved to: ${outputFile}`);
-  
-} catch (error) {
-  console.error('Error:', error.message);
-  process.exit(1);
-}
\ No newline at end of file
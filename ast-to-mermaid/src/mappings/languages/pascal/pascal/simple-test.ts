@@ -1,5 +0,0 @@
-if (true) {
-  console.log("then");
-} else {
-  console.log("else");
-}
\ No newline at end of file
@@ -1,20 +0,0 @@
-program TestCaseElseConflict;
-
-var
-  choice: integer;
-  x: integer;
-
-begin
-  choice := 1;
-  x := 5;
-  
-  case choice of
-    1: if x > 0 then
-         writeln('Positive')
-       else
-         writeln('Non-positive');
-  else
-    writeln('Invalid choice');
-  end;
-
-end.
\ No newline at end of file
@@ -1,19 +0,0 @@
-program GradeCheck;
-
-var
-  marks: integer;
-
-begin
-  write('Enter marks: ');
-  readln(marks);
-
-  if marks >= 90 then
-    writeln('Grade A')
-  else if marks >= 75 then
-    writeln('Grade B')
-  else if marks >= 50 then
-    writeln('Grade C')
-  else
-    writeln('Fail');
-
-end.
\ No newline at end of file
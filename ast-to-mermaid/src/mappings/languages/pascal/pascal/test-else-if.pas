@@ -1,11 +0,0 @@
-program TestElseIf;
-var
-  x: integer;
-begin
-  if x < 0 then
-    writeln('Negative')
-  else if x = 0 then
-    writeln('Zero')
-  else
-    writeln('Positive');
-end.
\ No newline at end of file
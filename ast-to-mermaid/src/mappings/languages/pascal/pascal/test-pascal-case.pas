@@ -1,10 +0,0 @@
-program TestCase;
-var
-  x: integer;
-begin
-  case x of
-    1: writeln('One');
-    2: writeln('Two');
-    else writeln('Other number');
-  end;
-end.
\ No newline at end of file
@@ -1,11 +0,0 @@
-/**
- * Mermaid type definitions
- */
-
-export class MermaidNode {
-  constructor(id, shape, label) {
-    this.id = id;
-    this.shape = shape;
-    this.label = label;
-  }
-}
\ No newline at end of file
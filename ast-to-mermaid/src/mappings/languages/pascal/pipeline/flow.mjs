@@ -1,40 +1,44 @@
 import { extractPascal } from '../extractors/pascal-extractor.mjs';
 import { normalizePascal } from '../normalizer/normalize-pascal.mjs';
-import { mapNodePascal } from '../map-node-pascal.mjs';
 import { walk } from '../walkers/walk.mjs';
 import { ctx } from '../mermaid/context.mjs';
+import { REGION_KINDS } from '../../../../shared/detail.mjs';
+import { flowchartPipeline } from '../../../../engine/pipeline.mjs';
+
+// A Pascal `Case` is the whole case statement (its arms are CaseOption nodes)
+const PASCAL_REGION_KINDS = { ...REGION_KINDS, Case: { kind: 'switch', keyword: 'case' } };
 
 /**
- * Generate VTU-style Mermaid flowchart from Pascal source code
- * @param {string} sourceCode - Pascal source code
- * @returns {string} - Mermaid flowchart
+ * Flow context of a program: the statements of its body, walked with the
+ * context itself receiving the walker callbacks
+ * @param {Object} normalized - Normalized Pascal program
+ * @returns {Object} - Flow context
  */
-export function generateFlowchart(sourceCode) {
-  
-  // 1. Extract AST using Tree-sitter
-  const ast = extractPascal(sourceCode);
-  
-  // 2. Normalize AST to unified node types
-  const normalized = normalizePascal(ast);
-  
-  // 3. Create context for flowchart generation
+function buildFlow(normalized) {
   const context = ctx();
-  
-  // 4. Walk and generate nodes using mapping functions
-  if (normalized) {
-    // Find the main program and process its body
-    if (normalized.type === 'Program' && normalized.body) {
-      // Process each statement in the program body
-      normalized.body.forEach(statement => {
-        walk(statement, context);
-      });
-    }
+
+  if (normalized && normalized.type === 'Program' && normalized.body) {
+    normalized.body.forEach(statement => {
+      walk(statement, context);
+    });
   }
-  
+
   // The END node will be added by the emit function
   // Resolve any pending joins to the END node that will be added by emit
   context.resolvePendingJoins('END');
-  
-  // 5. Emit final Mermaid flowchart
-  return context.emit();
-}
\ No newline at end of file
+  return context;
+}
+
+/**
+ * Generate VTU-style Mermaid flowchart from Pascal source code
+ * @param {string} sourceCode - Pascal source code
+ * @param {Object} [options] - Pipeline options (see src/engine/pipeline.mjs; no { tree } or
+ *   { lines } support)
+ * @returns {string|Object} - Mermaid flowchart (the graph, with { format: 'graph' })
+ */
+export const generateFlowchart = flowchartPipeline({
+  extract: (sourceCode) => extractPascal(sourceCode),
+  normalize: normalizePascal,
+  detail: { kinds: PASCAL_REGION_KINDS },
+  build: buildFlow
+});
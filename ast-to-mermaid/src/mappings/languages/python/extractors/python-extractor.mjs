@@ -2,8 +2,9 @@
  * Python extractor using Tree-sitter
  */
 
-import Parser from 'tree-sitter';
 import Python from 'tree-sitter-python';
+import { withParser, parseSource } from '../../../../shared/parser-pool.mjs';
+import { BudgetExceeded } from '../../../../shared/budget.mjs';
 
 /**
  * Extract Python AST using Tree-sitter
@@ -12,11 +13,10 @@ import Python from 'tree-sitter-python';
  */
 export function extractPython(sourceCode) {
   try {
-    const parser = new Parser();
-    parser.setLanguage(Python);
-    const tree = parser.parse(sourceCode);
+    const tree = withParser('python', Python, (parser) => parseSource(parser, sourceCode));
     return tree.rootNode;
   } catch (error) {
+    if (error instanceof BudgetExceeded) throw error;
     console.error('Error extracting Python AST:', error);
     return {
       type: 'ERROR',
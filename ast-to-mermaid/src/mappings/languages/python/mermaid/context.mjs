@@ -1,7 +1,12 @@
 // Context for Mermaid diagram generation
-let nodeId = 2; // Start from 2 since N1 is reserved for start node
-
+import { graphFromLines } from '../../../../shared/graph-json.mjs';
+import { noteNodeOrigin, recordingNodeOrigins } from '../../../../shared/stable-ids.mjs';
+import { currentFunctionReuse } from '../../../../shared/function-reuse.mjs';
+import { placeSubgraph } from '../../../../cache/subgraph-cache.mjs';
+import { currentBudget } from '../../../../shared/budget.mjs';
 export function ctx() {
+  // Per-context counter: IDs restart for every diagram instead of drifting across requests
+  let nodeId = 2; // Start from 2 since N1 is reserved for start node
   const context = {
     nodes: [],
     edges: [],
@@ -14,7 +19,9 @@ export function ctx() {
     deferredStatements: [],
     
     next() {
-      return `N${nodeId++}`;
+      const id = `N${nodeId++}`;
+      noteNodeOrigin(id);
+      return id;
     },
     
     add(id, label) {
@@ -134,7 +141,8 @@ export function ctx() {
       this.subgraphs[id] = { title, nodes, edges };
     },
     
-    emit() {
+    // Mermaid lines of the finished chart
+    emitLines() {
       const result = ['flowchart TD'];
       
       // Add regular nodes
@@ -151,7 +159,16 @@ export function ctx() {
       // Add edges
       result.push(...this.edges);
       
-      return result.join('\n');
+      return result;
+    },
+
+    emit() {
+      return this.emitLines().join('\n');
+    },
+
+    // Graph-JSON output (see shared/graph-json.mjs)
+    emitGraph() {
+      return graphFromLines(this.emitLines());
     },
     
     // Execute a function body in a subgraph
@@ -162,12 +179,31 @@ export function ctx() {
       const subgraphId = `SG${Object.keys(this.subgraphs).length + 1}`;
       const subgraphTitle = `function ${funcDef.name || funcName}`;
       
+      // A function carried over from a live-editing session's last conversion
+      // is placed on the node IDs it gets now (see shared/function-reuse.mjs)
+      const reuse = recordingNodeOrigins() ? null : currentFunctionReuse();
+      const base = nodeId;
+      const kept = reuse === null ? null : reuse.subgraph(funcDef);
+      if (kept) {
+        const lines = placeSubgraph(kept, base);
+        nodeId += kept.count;
+        this.addSubgraph(subgraphId, subgraphTitle, lines.slice(0, kept.nodeCount), lines.slice(kept.nodeCount));
+        return subgraphId;
+      }
+      const nodeCount = this.nodes.length;
+      const edgeCount = this.edges.length;
+      const subgraphCount = Object.keys(this.subgraphs).length;
+      
       // Create temporary context for the subgraph
       const subgraphCtx = {
         nodes: [],
         edges: [],
         last: null,
-        next: () => `SGN${nodeId++}`, // Use different ID generator for subgraph nodes
+        next: () => { // Use different ID generator for subgraph nodes
+          const id = `SGN${nodeId++}`;
+          noteNodeOrigin(id);
+          return id;
+        },
         add: function(id, label) { this.nodes.push(`${id}${label}`); },
         addEdge: function(from, to, label = null) {
           if (label) {
@@ -234,6 +270,18 @@ export function ctx() {
       // Add the subgraph to the main context
       this.addSubgraph(subgraphId, subgraphTitle, subgraphCtx.nodes, subgraphCtx.edges);
       
+      // Kept only when the body drew into its own subgraph alone, and in full
+      if (reuse !== null && this.nodes.length === nodeCount && this.edges.length === edgeCount &&
+          Object.keys(this.subgraphs).length === subgraphCount + 1 && !currentBudget()?.truncated) {
+        reuse.keepSubgraph(funcDef, {
+          lines: [...subgraphCtx.nodes, ...subgraphCtx.edges],
+          nodeCount: subgraphCtx.nodes.length,
+          base,
+          count: nodeId - base,
+          prefix: 'SGN'
+        });
+      }
+      
       // Return the subgraph ID so caller can make connections
       return subgraphId;
     }
@@ -1,63 +1,83 @@
+import { syntaxKinds, syntaxView } from '../../../../shared/syntax-view.mjs';
+import { reusedFunction, keepFunction } from '../../../../shared/function-reuse.mjs';
+
+// Node types the normalizer dispatches on
+const PY = syntaxKinds([
+  'module', 'function_definition', 'block', 'if_statement', 'elif_clause', 'else_clause',
+  'for_statement', 'while_statement', 'match_statement', 'case_clause', 'expression_statement',
+  'assignment', 'call', 'argument_list', 'comma', 'return_statement', 'import_statement',
+  'comment'
+]);
+
 /**
- * Normalize Python AST to unified node types
- * @param {Object} node - AST node
+ * Normalize Python AST to unified node types, read through a syntax view (see
+ * shared/syntax-view.mjs)
+ * @param {Object} node - Tree-sitter node
  * @returns {Object} - Normalized node
  */
 export function normalizePython(node) {
+  return normalize(syntaxView(node, PY));
+}
+
+// Normalize one Python syntax node
+function normalize(node) {
   if (!node) return null;
   
   // Convert Python-specific AST nodes to unified node types
-  switch (node.type) {
-    case "module":
+  switch (node.kind) {
+    case PY.module:
       return {
         type: "Program",
         name: "main",
-        body: node.children ? node.children.map(normalizePython).filter(Boolean) : []
+        body: node.children ? node.children.map(normalize).filter(Boolean) : []
       };
       
-    case "function_definition":
+    case PY.function_definition:
+      // Unchanged since the session's last conversion (see shared/function-reuse.mjs)
+      const reused = reusedFunction(node);
+      if (reused) return reused;
       // Check if this is the main function
       const functionName = node.child(1)?.text || "unknown";
       if (functionName === "main") {
         // Get the block (body) of the function
         const bodyNode = node.child(4); // This should be the block
-        return {
+        return keepFunction(node, {
           type: "Program",
           name: "main",
-          body: bodyNode ? (normalizePython(bodyNode)?.body || []) : []
-        };
+          body: bodyNode ? (normalize(bodyNode)?.body || []) : []
+        });
       }
       // Extract the function body (typically at index 4 in tree-sitter-python)
       let functionBody = [];
       for (let i = 0; i < node.childCount; i++) {
         const child = node.child(i);
-        if (child && child.type === 'block') {
-          const normalizedBody = normalizePython(child);
+        if (child && child.kind === PY.block) {
+          const normalizedBody = normalize(child);
           if (normalizedBody && normalizedBody.body) {
             functionBody = normalizedBody.body;
           }
           break;
         }
       }
-      return {
+      return keepFunction(node, {
         type: "Function",
         name: functionName,
         body: functionBody
-      };
+      });
       
-    case "block":
+    case PY.block:
       // This is a block - process its children
       return {
         type: "Block",
-        body: node.children ? node.children.map(normalizePython).filter(Boolean) : []
+        body: node.children ? node.children.map(normalize).filter(Boolean) : []
       };
       
-    case "if_statement":
+    case PY.if_statement:
       // Handle if/elif/else chains properly
       const result = {
         type: "If",
-        cond: normalizePython(node.child(1)), // condition is typically at index 1 (after 'if')
-        then: normalizePython(node.child(3)), // then block is typically at index 3
+        cond: normalize(node.child(1)), // condition is typically at index 1 (after 'if')
+        then: normalize(node.child(3)), // then block is typically at index 3
         else: null
       };
       
@@ -69,10 +89,10 @@ export function normalizePython(node) {
       // Process all children starting from index 4
       for (let i = 4; i < node.childCount; i++) {
         const child = node.child(i);
-        if (child && child.type === 'elif_clause') {
+        if (child && child.kind === PY.elif_clause) {
           // Convert elif to nested if structure
-          const elifCond = normalizePython(child.child(1)); // condition after 'elif'
-          const elifBody = normalizePython(child.child(3)); // body after ':'
+          const elifCond = normalize(child.child(1)); // condition after 'elif'
+          const elifBody = normalize(child.child(3)); // body after ':'
           
           // Create a new if statement for the elif
           const elifIf = {
@@ -85,32 +105,32 @@ export function normalizePython(node) {
           // Attach this elif if to the current else chain
           currentIf.else = elifIf;
           currentIf = elifIf;
-        } else if (child && child.type === 'else_clause') {
+        } else if (child && child.kind === PY.else_clause) {
           // Handle else clause - this is the final else
-          currentIf.else = normalizePython(child.child(2)); // body after 'else' and ':'
+          currentIf.else = normalize(child.child(2)); // body after 'else' and ':'
         }
       }
       
       return result;
       
-    case "for_statement":
+    case PY.for_statement:
       return {
         type: "For",
-        target: normalizePython(node.child(1)), // target is at index 1 (identifier)
-        iter: normalizePython(node.child(3)), // iterator is at index 3 (call)
-        body: normalizePython(node.child(5)) // body is at index 5 (block)
+        target: normalize(node.child(1)), // target is at index 1 (identifier)
+        iter: normalize(node.child(3)), // iterator is at index 3 (call)
+        body: normalize(node.child(5)) // body is at index 5 (block)
       };
       
-    case "while_statement":
+    case PY.while_statement:
       return {
         type: "While",
-        cond: normalizePython(node.child(1)), // condition is typically at index 1
-        body: normalizePython(node.child(3)) // body is typically at index 3
+        cond: normalize(node.child(1)), // condition is typically at index 1
+        body: normalize(node.child(3)) // body is typically at index 3
       };
       
-    case "expression_statement":
+    case PY.expression_statement:
       // Process the actual expression, which might contain function calls
-      const expr = normalizePython(node.child(0));
+      const expr = normalize(node.child(0));
       
       // Check if this expression contains a function call
       if (expr && expr.text) {
@@ -137,7 +157,7 @@ export function normalizePython(node) {
       }
       return expr;
       
-    case "assignment":
+    case PY.assignment:
       // Check if this assignment contains an I/O operation
       if (node.text && containsIOOperation(node.text)) {
         return {
@@ -159,7 +179,7 @@ export function normalizePython(node) {
         text: node.text
       };
       
-    case "call":
+    case PY.call:
       // Handle print, input, and other I/O functions
       if (node.text && containsIOOperation(node.text)) {
         // Check if this I/O operation contains an inner function call
@@ -186,7 +206,7 @@ export function normalizePython(node) {
         text: node.text
       };
       
-    case "match_statement":
+    case PY.match_statement:
       // Handle Python match (switch) statements
       // console.log('Processing match_statement:', node.text);
       // console.log('Children count:', node.childCount);
@@ -203,12 +223,12 @@ export function normalizePython(node) {
       
       // Cases are inside the block child (index 3)
       const blockChild = node.child(3);
-      if (blockChild && blockChild.type === 'block') {
+      if (blockChild && blockChild.kind === PY.block) {
         // console.log('Processing block child with', blockChild.childCount, 'children');
         for (let i = 0; i < blockChild.childCount; i++) {
           const caseChild = blockChild.child(i);
-          if (caseChild && caseChild.type === 'case_clause') {
-            const normalizedCase = normalizePython(caseChild);
+          if (caseChild && caseChild.kind === PY.case_clause) {
+            const normalizedCase = normalize(caseChild);
             // console.log('Normalized case:', JSON.stringify(normalizedCase, null, 2));
             matchCases.push(normalizedCase);
           }
@@ -217,14 +237,14 @@ export function normalizePython(node) {
       
       const matchResult = {
         type: "Match",
-        subject: normalizePython(node.child(1)), // subject is typically at index 1 (after 'match')
+        subject: normalize(node.child(1)), // subject is typically at index 1 (after 'match')
         cases: matchCases
       };
       
       // console.log('Final match result:', JSON.stringify(matchResult, null, 2));
       return matchResult;
       
-    case "case_clause":
+    case PY.case_clause:
       // Handle individual case clauses in match statements
       // console.log('Processing case_clause:', node.text);
       // console.log('Children count:', node.childCount);
@@ -239,21 +259,21 @@ export function normalizePython(node) {
       
       return {
         type: "Case",
-        pattern: normalizePython(node.child(1)), // pattern is typically at index 1 (after 'case')
-        body: normalizePython(node.child(3)) // body is typically at index 3 (after ':')
+        pattern: normalize(node.child(1)), // pattern is typically at index 1 (after 'case')
+        body: normalize(node.child(3)) // body is typically at index 3 (after ':')
       };
       
-    case "return_statement":
+    case PY.return_statement:
       return {
         type: "Return",
         text: node.text
       };
       
-    case "comment":
+    case PY.comment:
       // Skip comments - they should be ignored
       return null;
       
-    case "import_statement":
+    case PY.import_statement:
       // Skip import statements - they should be ignored
       return null;
       
@@ -302,11 +322,11 @@ function extractFunctionArguments(node) {
   // Arguments are typically in the parentheses child
   for (let i = 0; i < node.childCount; i++) {
     const child = node.child(i);
-    if (child && child.type === 'argument_list') {
+    if (child && child.kind === PY.argument_list) {
       const args = [];
       for (let j = 0; j < child.childCount; j++) {
         const arg = child.child(j);
-        if (arg && arg.type !== 'comma') {
+        if (arg && arg.kind !== PY.comma) {
           args.push(arg.text);
         }
       }
@@ -17,6 +17,7 @@ import { mapIO } from '../io/io.mjs';
 import { mapDecl } from '../../c/other-statements/declaration.mjs';
 import { mapExpr } from '../../c/other-statements/expression.mjs';
 import { mapMatch, mapCase, mapDefault } from '../conditional/switch/switch.mjs';
+import { flowchartPipeline } from '../../../../engine/pipeline.mjs';
 
 /**
  * Map Python nodes to Mermaid flowchart nodes
@@ -72,87 +73,73 @@ function mapNodePython(node, ctx) {
 }
 
 /**
- * Generate VTU-style Mermaid flowchart from Python source code
- * @param {string} sourceCode - Python source code
- * @returns {string} - Mermaid flowchart
+ * Flow context of a program: function definitions are set aside and drawn when
+ * they are called, the rest is the main flow
+ * @param {Object} normalized - Normalized Python program
+ * @returns {Object} - Flow context
  */
-export function generateFlowchart(sourceCode) {
-  
-  // 1. Extract AST using Tree-sitter
-  const ast = extractPython(sourceCode);
-  
-  // 2. Normalize AST to unified node types
-  const normalized = normalizePython(ast);
-  
-  // 3. Create context for flowchart generation
+function buildFlow(normalized) {
   const context = ctx();
-  
+
   // Manually set the start node
   context.add('N1', '(["start"])');
   context.setLast('N1');
-  
-  // 4. Walk and generate nodes using mapping functions
-  if (normalized) {
-    // Find the main program and process its body
-    let program;
-    if (normalized && normalized.type === 'Program') {
-      program = normalized;
-    } else if (normalized && normalized.body) {
-      // If normalized is a module with body, use it directly
-      program = normalized;
-    } else {
-      program = normalized?.body?.find(node => node.type === 'Program');
-    }
-    
-    // If no program was found, try using the normalized object directly if it has a body
-    const programToUse = program || (normalized && normalized.body ? normalized : null);
-    
-    if (programToUse && programToUse.body) {
-      // First, collect all function definitions separately
-      const functionDefinitions = new Map();
-      const mainBody = [];
-      
-      for (const node of programToUse.body) {
-        if (node && node.type === 'Function') {
-          // Store function definition by name
-          functionDefinitions.set(node.name, node);
-        } else {
-          // Add non-function nodes to main execution body
-          mainBody.push(node);
-        }
+
+  if (normalized && normalized.body) {
+    // First, collect all function definitions separately
+    const functionDefinitions = new Map();
+    const mainBody = [];
+
+    for (const node of normalized.body) {
+      if (node && node.type === 'Function') {
+        // Store function definition by name
+        functionDefinitions.set(node.name, node);
+      } else {
+        // Add non-function nodes to main execution body
+        mainBody.push(node);
       }
-      
-      // Add function definitions to context for later use
-      context.functionDefinitions = functionDefinitions;
-      
-      // Create a walker context with our handler
-      const walkerContext = {
-        handle: (node) => mapNodePython(node, context),
-        enterBranch: (type) => context.enterBranch(type),
-        exitBranch: (type) => context.exitBranch(type),
-        completeIf: () => context.completeBranches(),
-        completeLoop: () => context.completeLoop(),
-        // Add direct access to the context for case tracking
-        getContext: () => context,
-        // Function call handler for executing function bodies
-        functionCallHandler: (node, ctx) => mapNodePython(node, ctx)
-      };
-      
-      // Also set the functionCallHandler on the main context so it can be accessed by subgraph operations
-      context.functionCallHandler = walkerContext.functionCallHandler;
-      
-      // Walk through the main execution body (excluding function definitions)
-      mainBody.forEach(node => {
-        if (node) {
-          walk(node, walkerContext);
-        }
-      });
     }
+
+    // Add function definitions to context for later use
+    context.functionDefinitions = functionDefinitions;
+
+    // Create a walker context with our handler
+    const walkerContext = {
+      handle: (node) => mapNodePython(node, context),
+      enterBranch: (type) => context.enterBranch(type),
+      exitBranch: (type) => context.exitBranch(type),
+      completeIf: () => context.completeBranches(),
+      completeLoop: () => context.completeLoop(),
+      // Add direct access to the context for case tracking
+      getContext: () => context,
+      // Function call handler for executing function bodies
+      functionCallHandler: (node, ctx) => mapNodePython(node, ctx)
+    };
+
+    // Also set the functionCallHandler on the main context so it can be accessed by subgraph operations
+    context.functionCallHandler = walkerContext.functionCallHandler;
+
+    // Walk through the main execution body (excluding function definitions)
+    mainBody.forEach(node => {
+      if (node) {
+        walk(node, walkerContext);
+      }
+    });
   }
-  
-  // 5. Finalize the context to handle proper branch joins and add end node
+
+  // Handle proper branch joins and add the end node
   finalizeFlowContext(context);
-  
-  // 6. Generate Mermaid diagram using the context's emit method
-  return context.emit();
-}
\ No newline at end of file
+  return context;
+}
+
+/**
+ * Generate VTU-style Mermaid flowchart from Python source code
+ * @param {string} sourceCode - Python source code
+ * @param {Object} [options] - Pipeline options (see src/engine/pipeline.mjs; no { lines } streaming)
+ * @returns {string|Object} - Mermaid flowchart (the graph, with { format: 'graph' })
+ */
+export const generateFlowchart = flowchartPipeline({
+  extract: (sourceCode, options) => options.tree ? options.tree.rootNode : extractPython(sourceCode),
+  normalize: normalizePython,
+  build: buildFlow
+});
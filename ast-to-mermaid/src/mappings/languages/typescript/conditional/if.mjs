@@ -6,12 +6,12 @@ const decisionShape = (text) => shapes.decision.replace('{}', text);
 
 /**
  * Map if statement to Mermaid flowchart nodes
- * Creates decision node with Yes/No branches
+ * Creates the decision node with Yes/No branches and opens the if; the mapping
+ * walk (see walkers/walk.mjs) maps the branches and completes it
  * @param {Object} node - Normalized if statement node
  * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Function to map child nodes
  */
-export function mapIfStatement(node, ctx, mapper) {
+export function mapIfStatement(node, ctx) {
   if (!node || !ctx) return;
 
   // Create decision node for condition
@@ -33,6 +33,11 @@ export function mapIfStatement(node, ctx, mapper) {
   const labelText = prefix + conditionText;
   ctx.add(conditionId, decisionShape(labelText));
 
+  // Record where this condition sits in an if / else-if chain for finalize
+  if (typeof ctx.markDecision === 'function') {
+    ctx.markDecision(conditionId, isElseIf ? 'else-if' : 'if');
+  }
+
   // Connect to previous node using shared linking logic
   // But don't connect sequentially if this is an else if statement
   if (!isElseIf) {
@@ -43,69 +48,4 @@ export function mapIfStatement(node, ctx, mapper) {
   if (typeof ctx.registerIf === 'function') {
     ctx.registerIf(conditionId, !!node.alternate);
   }
-
-  // Process the consequent (then) branch
-  if (node.consequent) {
-    // Enter the then branch
-    if (typeof ctx.enterBranch === 'function') {
-      ctx.enterBranch('then');
-    }
-
-    // Process statements in the consequent block
-    if (node.consequent.body && Array.isArray(node.consequent.body)) {
-      node.consequent.body.forEach(stmt => {
-        if (stmt && mapper) {
-          mapper(stmt, ctx);
-        }
-      });
-    } else if (mapper) {
-      // Handle single statement (not in a block)
-      mapper(node.consequent, ctx);
-    }
-
-    // Exit the then branch
-    if (typeof ctx.exitBranch === 'function') {
-      ctx.exitBranch('then');
-    }
-  }
-
-  // Process the alternate (else) branch
-  if (node.alternate) {
-    // Enter the else branch
-    if (typeof ctx.enterBranch === 'function') {
-      ctx.enterBranch('else');
-    }
-
-    // Process statements in the alternate block
-    if (node.alternate.body && Array.isArray(node.alternate.body)) {
-      node.alternate.body.forEach(stmt => {
-        if (stmt && mapper) {
-          mapper(stmt, ctx);
-        }
-      });
-    } else if (mapper) {
-      // Handle single statement (not in a block)
-      mapper(node.alternate, ctx);
-    }
-
-    // Exit the else branch
-    if (typeof ctx.exitBranch === 'function') {
-      ctx.exitBranch('else');
-    }
-  }
-
-  // Complete the if statement and handle branch merging
-  if (typeof ctx.completeIf === 'function') {
-    // Check if we're inside a switch case and need special handling
-    if (ctx.currentSwitchId) {
-      // Complete the if normally
-      ctx.completeIf();
-      
-      // When inside a switch case, the conditional branches should connect to the break statement
-      // rather than to END or the next linear statement
-      // The finalize context will handle connecting them properly
-    } else {
-      ctx.completeIf();
-    }
-  }
-}
\ No newline at end of file
+}
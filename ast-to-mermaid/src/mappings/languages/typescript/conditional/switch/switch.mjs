@@ -12,9 +12,8 @@ const processShape = (text) => shapes.process.replace('{}', text);
  * Creates decision node for switch with case branches
  * @param {Object} node - Normalized switch statement node
  * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Recursive mapper function
  */
-export function mapSwitchStatement(node, ctx, mapper) {
+export function mapSwitchStatement(node, ctx) {
   // Set up the switch end node placeholder before processing the switch
   if (!ctx.switchEndNodes) {
     ctx.switchEndNodes = [];
@@ -25,6 +24,7 @@ export function mapSwitchStatement(node, ctx, mapper) {
   const switchId = ctx.next();
   const discriminantText = node.discriminant?.text || "expression";
   ctx.add(switchId, decisionShape("switch (" + discriminantText + ")"));
+  if (typeof ctx.markNode === 'function') ctx.markNode(switchId, 'switch');
 
   // Connect to previous node using shared linking logic
   linkNext(ctx, switchId);
@@ -35,14 +35,8 @@ export function mapSwitchStatement(node, ctx, mapper) {
   // Initialize tracking for case processing
   ctx.switchCaseNodes = [];
   ctx.switchMergeNode = null;
-  
-  // Process the cases using the mapper
-  if (node.cases && Array.isArray(node.cases) && mapper) {
-    node.cases.forEach(caseNode => {
-      mapper(caseNode, ctx);
-    });
-  }
-  
+
+  // The mapping walk maps the cases next (see walkers/walk.mjs)
   // Don't clear switch-specific context here - let finalize context handle it
   // ctx.currentSwitchId will be cleared in finalizeFlowContext
 }
@@ -52,16 +46,18 @@ export function mapSwitchStatement(node, ctx, mapper) {
  * Creates process node for case statement
  * @param {Object} node - Normalized case statement node
  * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Recursive mapper function
+ * @returns {string|null} - Switch ID to restore after the consequent statements
+ *   are mapped, or null when there are none to map
  */
-export function mapCase(node, ctx, mapper) {
-  if (!node || !ctx || !ctx.currentSwitchId) return;
+export function mapCase(node, ctx) {
+  if (!node || !ctx || !ctx.currentSwitchId) return null;
 
   // Create process node for case statement
   const caseId = ctx.next();
   const caseValue = node.test ? (node.test.value !== undefined ? node.test.value : node.test.text) : "";
   const caseText = `case ${caseValue}:`;
   ctx.add(caseId, processShape(caseText));
+  if (typeof ctx.markNode === 'function') ctx.markNode(caseId, 'case');
 
   // Track this case node
   if (!ctx.switchCaseNodes) {
@@ -72,56 +68,13 @@ export function mapCase(node, ctx, mapper) {
   // Connect from switch node to this case (will be refined later)
   ctx.addEdge(ctx.currentSwitchId, caseId);
 
-  // Process the consequent statements
-  if (node.consequent && Array.isArray(node.consequent) && mapper) {
-    // Store the current switch ID to ensure it's available during consequent processing
-    const originalSwitchId = ctx.currentSwitchId;
-    const originalLast = ctx.last;
-    const originalIfStackLength = ctx.ifStack.length;
-    
-    // Find and track break statement in this case
-    const breakIndex = node.consequent.findIndex(stmt => stmt.type === 'Break');
-    
-    // Set the case node as the last node so consequent statements connect to it
+  // The consequent statements connect to the case node
+  if (node.consequent && Array.isArray(node.consequent)) {
     ctx.last = caseId;
-    
-    // Process each consequent statement
-    for (let i = 0; i < node.consequent.length; i++) {
-      const statement = node.consequent[i];
-      
-      // If this is a break statement, remember its ID for later use in conditional handling
-      if (statement.type === 'Break') {
-        // Temporarily store the expected break ID so conditionals know where to connect
-        if (!ctx.caseBreakIds) ctx.caseBreakIds = new Map();
-        // We'll store the break ID when it gets created
-        ctx.expectingBreakInCase = true;
-        ctx.currentCaseId = caseId;
-      }
-      
-      // Track the last node before processing the statement
-      const nodeCountBefore = ctx.nodes.length;
-      
-      mapper(statement, ctx);
-      
-      // If this statement was a break, capture its ID
-      if (statement.type === 'Break' && ctx.last) {
-        if (!ctx.caseBreakIds) ctx.caseBreakIds = new Map();
-        ctx.caseBreakIds.set(caseId, ctx.last);
-        ctx.expectingBreakInCase = false;
-        ctx.currentCaseId = null;
-      }
-    }
-    
-    // Don't restore originalLast here - let the processed statements determine the final 'last' for this case
-    // This ensures that if there are conditionals with branches, the last will be where branches join
-    if (!ctx.currentSwitchId && originalSwitchId) {
-      ctx.currentSwitchId = originalSwitchId;
-    }
-    
-    // Clear temporary tracking variables
-    ctx.expectingBreakInCase = false;
-    ctx.currentCaseId = null;
+    // The switch ID to restore once they are mapped (see restoreSwitch)
+    return ctx.currentSwitchId;
   }
+  return null;
 }
 
 /**
@@ -129,15 +82,16 @@ export function mapCase(node, ctx, mapper) {
  * Creates process node for default case
  * @param {Object} node - Normalized default case node
  * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Recursive mapper function
+ * @returns {string|null} - As for mapCase
  */
-export function mapDefault(node, ctx, mapper) {
-  if (!node || !ctx || !ctx.currentSwitchId) return;
+export function mapDefault(node, ctx) {
+  if (!node || !ctx || !ctx.currentSwitchId) return null;
 
   // Create process node for default case
   const defaultId = ctx.next();
   const defaultText = "default:";
   ctx.add(defaultId, processShape(defaultText));
+  if (typeof ctx.markNode === 'function') ctx.markNode(defaultId, 'default');
 
   // Track this default node
   if (!ctx.switchCaseNodes) {
@@ -148,54 +102,25 @@ export function mapDefault(node, ctx, mapper) {
   // Connect from switch node to this default case
   ctx.addEdge(ctx.currentSwitchId, defaultId);
 
-  // Process the consequent statements
-  if (node.consequent && Array.isArray(node.consequent) && mapper) {
-    // Store the current switch ID to ensure it's available during consequent processing
-    const originalSwitchId = ctx.currentSwitchId;
-    const originalLast = ctx.last;
-    const originalIfStackLength = ctx.ifStack.length;
-    
-    // Find and track break statement in this case
-    const breakIndex = node.consequent.findIndex(stmt => stmt.type === 'Break');
-    
-    // Set the default node as the last node so consequent statements connect to it
+  // The consequent statements connect to the default node
+  if (node.consequent && Array.isArray(node.consequent)) {
     ctx.last = defaultId;
-    
-    // Process each consequent statement
-    for (let i = 0; i < node.consequent.length; i++) {
-      const statement = node.consequent[i];
-      
-      // If this is a break statement, remember its ID for later use in conditional handling
-      if (statement.type === 'Break') {
-        // Temporarily store the expected break ID so conditionals know where to connect
-        if (!ctx.caseBreakIds) ctx.caseBreakIds = new Map();
-        // We'll store the break ID when it gets created
-        ctx.expectingBreakInCase = true;
-        ctx.currentCaseId = defaultId;
-      }
-      
-      // Track the last node before processing the statement
-      const nodeCountBefore = ctx.nodes.length;
-      
-      mapper(statement, ctx);
-      
-      // If this statement was a break, capture its ID
-      if (statement.type === 'Break' && ctx.last) {
-        if (!ctx.caseBreakIds) ctx.caseBreakIds = new Map();
-        ctx.caseBreakIds.set(defaultId, ctx.last);
-        ctx.expectingBreakInCase = false;
-        ctx.currentCaseId = null;
-      }
-    }
-    
-    // Don't restore originalLast here - let the processed statements determine the final 'last' for this case
-    // This ensures that if there are conditionals with branches, the last will be where branches join
-    if (!ctx.currentSwitchId && originalSwitchId) {
-      ctx.currentSwitchId = originalSwitchId;
-    }
-    
-    // Clear temporary tracking variables
-    ctx.expectingBreakInCase = false;
-    ctx.currentCaseId = null;
+    // The switch ID to restore once they are mapped (see restoreSwitch)
+    return ctx.currentSwitchId;
   }
-}
\ No newline at end of file
+  return null;
+}
+
+/**
+ * Restore the current switch after a case's consequent statements are mapped:
+ * let the processed statements determine the final 'last' for the case (so
+ * that conditionals inside it join where their branches do), but keep the switch
+ * available for the next case
+ * @param {Object} ctx - Context for flowchart generation
+ * @param {string|null} switchId - What mapCase or mapDefault returned
+ */
+export function restoreSwitch(ctx, switchId) {
+  if (!ctx.currentSwitchId && switchId) {
+    ctx.currentSwitchId = switchId;
+  }
+}
@@ -1,5 +1,6 @@
-import Parser from 'tree-sitter';
 import TypeScript from 'tree-sitter-typescript';
+import { withParser, parseSource } from '../../../../shared/parser-pool.mjs';
+import { BudgetExceeded } from '../../../../shared/budget.mjs';
 
 /**
  * Extract TypeScript AST using Tree-sitter
@@ -8,12 +9,11 @@ import TypeScript from 'tree-sitter-typescript';
  */
 export function extractTypeScript(sourceCode) {
   try {
-    const parser = new Parser();
     // Use the TypeScript parser
-    parser.setLanguage(TypeScript.typescript);
-    const tree = parser.parse(sourceCode);
+    const tree = withParser('typescript', TypeScript.typescript, (parser) => parseSource(parser, sourceCode));
     return tree.rootNode;
   } catch (error) {
+    if (error instanceof BudgetExceeded) throw error;
     console.error('Error extracting TypeScript AST:', error);
     return {
       type: 'ERROR',
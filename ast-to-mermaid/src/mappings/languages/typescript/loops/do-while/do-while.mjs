@@ -9,42 +9,15 @@ const processShape = (text) => shapes.process.replace('{}', text);
 
 /**
  * Map do-while statement to Mermaid flowchart nodes
- * Creates process nodes for the body and decision node for the condition
+ * For do-while, the body executes first, then the condition is checked: the
+ * mapping walk (see walkers/walk.mjs) maps the loop body, then this creates the
+ * decision node for the condition
  * @param {Object} node - Normalized do-while statement node
  * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Recursive mapper function
+ * @param {string|null} firstStatementId - Node the body's first statement ended on
  */
-export function mapDoWhileStatement(node, ctx, mapper) {
-  if (!node || !ctx || !mapper) return;
-
-  // We need to capture the ID of the first statement in the body
-  // Process the loop body first and capture the first statement ID
-  let firstStatementId = null;
-  
-  // For do-while, we first execute the body, then check the condition
-  // Process the loop body first
-  if (node.body) {
-    if (node.body.body && Array.isArray(node.body.body) && mapper) {
-      // Process each statement in the loop body
-      node.body.body.forEach((stmt, index) => {
-        if (stmt && mapper) {
-          // Capture the ID of the first statement
-          const originalLast = ctx.last;
-          mapper(stmt, ctx);
-          if (index === 0 && ctx.last && !firstStatementId) {
-            firstStatementId = ctx.last;
-          }
-        }
-      });
-    } else if (mapper) {
-      // Handle single statement body
-      const originalLast = ctx.last;
-      mapper(node.body, ctx);
-      if (ctx.last && !firstStatementId) {
-        firstStatementId = ctx.last;
-      }
-    }
-  }
+export function mapDoWhileStatement(node, ctx, firstStatementId) {
+  if (!node || !ctx) return;
 
   // Create a node for the do-while loop condition
   const loopConditionId = ctx.next();
@@ -66,6 +39,7 @@ export function mapDoWhileStatement(node, ctx, mapper) {
   
   const loopText = `while (${conditionText})`;
   ctx.add(loopConditionId, decisionShape(loopText));
+  if (typeof ctx.markNode === 'function') ctx.markNode(loopConditionId, 'loop');
 
   // Connect from the end of the loop body to the condition check
   if (ctx.last && ctx.last !== loopConditionId) {
@@ -37,6 +37,7 @@ export function mapForStatement(node, ctx, mapper) {
   
   const loopText = `for (${conditionText})`;
   ctx.add(loopConditionId, decisionShape(loopText));
+  if (typeof ctx.markNode === 'function') ctx.markNode(loopConditionId, 'loop');
 
   // Connect to previous node
   linkNext(ctx, loopConditionId);
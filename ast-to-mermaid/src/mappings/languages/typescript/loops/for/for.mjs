@@ -9,27 +9,16 @@ const processShape = (text) => shapes.process.replace('{}', text);
 
 /**
  * Map for statement to Mermaid flowchart nodes
- * Creates the complete for loop structure: init -> condition -> body -> update -> condition
+ * The for loop structure is init -> condition -> body -> update -> condition; the
+ * mapping walk (see walkers/walk.mjs) maps the init before this creates the
+ * condition node, then the body and the update, then calls closeForStatement
  * @param {Object} node - Normalized for statement node
  * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Recursive mapper function
+ * @returns {string|null} - Loop condition node ID
  */
-export function mapForStatement(node, ctx, mapper) {
-  if (!node || !ctx || !mapper) return;
+export function mapForStatement(node, ctx) {
+  if (!node || !ctx) return null;
 
-  // Handle initialization part (executed once before the loop)
-  if (node.init) {
-    if (node.init.body && Array.isArray(node.init.body) && mapper) {
-      node.init.body.forEach(stmt => {
-        if (stmt && mapper) {
-          mapper(stmt, ctx);
-        }
-      });
-    } else if (mapper) {
-      mapper(node.init, ctx);
-    }
-  }
-  
   // Create a node for the for loop condition
   const loopConditionId = ctx.next();
   
@@ -50,34 +39,22 @@ export function mapForStatement(node, ctx, mapper) {
   
   const loopText = `for (${conditionText})`;
   ctx.add(loopConditionId, decisionShape(loopText));
+  if (typeof ctx.markNode === 'function') ctx.markNode(loopConditionId, 'loop');
 
   // Connect to previous node (or from init)
   linkNext(ctx, loopConditionId);
 
-  // Process the loop body
-  if (node.body) {
-    if (node.body.body && Array.isArray(node.body.body) && mapper) {
-      // Process each statement in the loop body
-      node.body.body.forEach(stmt => {
-        if (stmt && mapper) {
-          mapper(stmt, ctx);
-        }
-      });
-    } else if (mapper) {
-      // Handle single statement body
-      mapper(node.body, ctx);
-    }
-  }
+  return loopConditionId;
+}
 
-  // Handle update part (executed after each iteration)
-  if (node.update) {
-    if (mapper) {
-      mapper(node.update, ctx);
-    }
-  }
-
-  // Connect back to the loop condition for the loop continuation
-  if (ctx.last && ctx.last !== loopConditionId) {
+/**
+ * Close a for loop once its body and update are mapped: connect back to the
+ * loop condition for the loop continuation
+ * @param {Object} ctx - Context for flowchart generation
+ * @param {string} loopConditionId - What mapForStatement returned
+ */
+export function closeForStatement(ctx, loopConditionId) {
+  if (loopConditionId && ctx.last && ctx.last !== loopConditionId) {
     ctx.addEdge(ctx.last, loopConditionId);
   }
-}
\ No newline at end of file
+}
@@ -9,13 +9,14 @@ const processShape = (text) => shapes.process.replace('{}', text);
 
 /**
  * Map while statement to Mermaid flowchart nodes
- * Creates decision node for the condition and connects the loop body
+ * Creates decision node for the condition; the mapping walk (see
+ * walkers/walk.mjs) maps the loop body, then calls closeWhileStatement
  * @param {Object} node - Normalized while statement node
  * @param {Object} ctx - Context for flowchart generation
- * @param {Function} mapper - Recursive mapper function
+ * @returns {string|null} - Loop condition node ID
  */
-export function mapWhileStatement(node, ctx, mapper) {
-  if (!node || !ctx || !mapper) return;
+export function mapWhileStatement(node, ctx) {
+  if (!node || !ctx) return null;
 
   // Create a node for the while loop condition
   const loopConditionId = ctx.next();
@@ -37,27 +38,22 @@ export function mapWhileStatement(node, ctx, mapper) {
   
   const loopText = `while (${conditionText})`;
   ctx.add(loopConditionId, decisionShape(loopText));
+  if (typeof ctx.markNode === 'function') ctx.markNode(loopConditionId, 'loop');
 
   // Connect to previous node
   linkNext(ctx, loopConditionId);
 
-  // Process the loop body
-  if (node.body) {
-    if (node.body.body && Array.isArray(node.body.body) && mapper) {
-      // Process each statement in the loop body
-      node.body.body.forEach(stmt => {
-        if (stmt && mapper) {
-          mapper(stmt, ctx);
-        }
-      });
-    } else if (mapper) {
-      // Handle single statement body
-      mapper(node.body, ctx);
-    }
-  }
+  return loopConditionId;
+}
 
-  // Connect back to the loop condition for the loop continuation
-  if (ctx.last && ctx.last !== loopConditionId) {
+/**
+ * Close a while loop once its body is mapped: connect back to the loop
+ * condition for the loop continuation
+ * @param {Object} ctx - Context for flowchart generation
+ * @param {string} loopConditionId - What mapWhileStatement returned
+ */
+export function closeWhileStatement(ctx, loopConditionId) {
+  if (loopConditionId && ctx.last && ctx.last !== loopConditionId) {
     ctx.addEdge(ctx.last, loopConditionId);
   }
-}
\ No newline at end of file
+}
@@ -1,94 +1,114 @@
+import { syntaxKinds, syntaxView } from '../../../../shared/syntax-view.mjs';
+import { reusedFunction, keepFunction } from '../../../../shared/function-reuse.mjs';
+
+// Node types the normalizer dispatches on
+const TS = syntaxKinds([
+  'program', 'function_declaration', 'statement_block', 'if_statement', 'else_clause',
+  'for_statement', 'while_statement', 'do_statement', 'switch_statement', 'switch_case',
+  'switch_default', 'expression_statement', 'assignment_expression', 'call_expression',
+  'return_statement', 'import_statement'
+]);
+
 /**
- * Normalize TypeScript AST to unified node types
- * @param {Object} node - AST node
+ * Normalize TypeScript AST to unified node types, read through a syntax view (see
+ * shared/syntax-view.mjs)
+ * @param {Object} node - Tree-sitter node
  * @returns {Object} - Normalized node
  */
 export function normalizeTypescriptAst(node) {
+  return normalize(syntaxView(node, TS));
+}
+
+// Normalize one TypeScript syntax node
+function normalize(node) {
   if (!node) return null;
   
   // Convert TypeScript-specific AST nodes to unified node types
-  switch (node.type) {
-    case "program":
+  switch (node.kind) {
+    case TS.program:
       return {
         type: "Program",
         name: "main",
-        body: node.children ? node.children.map(normalizeTypescriptAst).filter(Boolean) : []
+        body: node.children ? node.children.map(normalize).filter(Boolean) : []
       };
       
-    case "function_declaration":
+    case TS.function_declaration:
+      // Unchanged since the session's last conversion (see shared/function-reuse.mjs)
+      const reused = reusedFunction(node);
+      if (reused) return reused;
       // Check if this is the main function
       const functionName = node.child(1)?.text || "unknown";
       // Find the statement block (function body) among the children
-      const bodyNode = node.children ? node.children.find(child => child.type === 'statement_block') : null;
-      return {
+      const bodyNode = node.children ? node.children.find(child => child.kind === TS.statement_block) : null;
+      return keepFunction(node, {
         type: "Function",
         name: functionName,
-        body: bodyNode ? normalizeTypescriptAst(bodyNode).body || [] : []
-      };
+        body: bodyNode ? normalize(bodyNode).body || [] : []
+      });
       
-    case "statement_block":
+    case TS.statement_block:
       // This is a block {} - process its children
       return {
         type: "Block",
-        body: node.children ? node.children.slice(1, -1).map(normalizeTypescriptAst).filter(Boolean) : [] // Remove { and }
+        body: node.children ? node.children.slice(1, -1).map(normalize).filter(Boolean) : [] // Remove { and }
       };
       
-    case "if_statement":
+    case TS.if_statement:
       // Handle if-else-if chains properly
       let alternate = null;
       // Check if there's an else clause (typically at index 3 in 0-indexed array)
       if (node.child(3)) {
-        alternate = normalizeTypescriptAst(node.child(3));
+        alternate = normalize(node.child(3));
       }
       
       return {
         type: "If",
-        test: normalizeTypescriptAst(node.child(1)), // condition is at index 1 (the parenthesized expression)
-        consequent: normalizeTypescriptAst(node.child(2)), // then block is at index 2
+        test: normalize(node.child(1)), // condition is at index 1 (the parenthesized expression)
+        consequent: normalize(node.child(2)), // then block is at index 2
         alternate: alternate
       };
       
-    case "for_statement":
+    case TS.for_statement:
       return {
         type: "For",
-        init: normalizeTypescriptAst(node.child(2)), // init is at index 2
-        test: normalizeTypescriptAst(node.child(3)), // test is at index 3
-        update: normalizeTypescriptAst(node.child(5)), // update is at index 5
-        body: normalizeTypescriptAst(node.child(7)) // body is at index 7
+        init: normalize(node.child(2)), // init is at index 2
+        test: normalize(node.child(3)), // test is at index 3
+        update: normalize(node.child(5)), // update is at index 5
+        body: normalize(node.child(7)) // body is at index 7
       };
       
-    case "while_statement":
+    case TS.while_statement:
       // For a while loop: while (condition) body
       // Children are: [while, parenthesized_expression, body]
       return {
         type: "While",
-        test: node.child(1) ? normalizeTypescriptAst(node.child(1)) : null, // condition in parenthesized expression
-        body: normalizeTypescriptAst(node.child(2)) // body is at index 2
+        test: node.child(1) ? normalize(node.child(1)) : null, // condition in parenthesized expression
+        body: normalize(node.child(2)) // body is at index 2
       };
       
-    case "do_statement":
+    case TS.do_statement:
       // For a do-while loop: do body while (condition) ;
       // Children are: [do, body, while, parenthesized_expression, ;]
       return {
         type: "DoWhile",
-        body: normalizeTypescriptAst(node.child(1)), // body is at index 1
-        test: node.child(3) ? normalizeTypescriptAst(node.child(3)) : null // condition in parenthesized expression
+        body: normalize(node.child(1)), // body is at index 1
+        test: node.child(3) ? normalize(node.child(3)) : null // condition in parenthesized expression
       };
       
-    case "expression_statement":
-      return normalizeTypescriptAst(node.child(0)); // Process the actual expression
+    case TS.expression_statement:
+      return normalize(node.child(0)); // Process the actual expression
       
-    case "assignment_expression":
+    case TS.assignment_expression:
       // Check if this assignment contains a function call
       if (node.children) {
         // Look for call expressions in the assignment
         for (const child of node.children) {
-          if (child.type === 'call_expression') {
+          if (child.kind === TS.call_expression) {
             // This assignment contains a function call
             return {
               type: "FunctionCall",
               text: node.text,
-              callee: normalizeTypescriptAst(child)
+              callee: normalize(child)
             };
           }
         }
@@ -98,7 +118,7 @@ export function normalizeTypescriptAst(node) {
         text: node.text
       };
       
-    case "call_expression":
+    case TS.call_expression:
       // Handle console.log statements
       if (node.text && node.text.includes('console.log')) {
         return {
@@ -111,13 +131,13 @@ export function normalizeTypescriptAst(node) {
         text: node.text
       };
       
-    case "return_statement":
+    case TS.return_statement:
       return {
         type: "Return",
         text: node.text
       };
       
-    case "switch_statement":
+    case TS.switch_statement:
       // Handle switch statements
       // The switch_body is typically at index 2
       const switchBody = node.child(2);
@@ -128,7 +148,7 @@ export function normalizeTypescriptAst(node) {
         // Skip the first '{' and last '}' tokens
         for (let i = 1; i < switchBody.children.length - 1; i++) {
           const child = switchBody.children[i];
-          const normalized = normalizeTypescriptAst(child);
+          const normalized = normalize(child);
           if (normalized) {
             cases.push(normalized);
           }
@@ -137,34 +157,34 @@ export function normalizeTypescriptAst(node) {
       
       return {
         type: "Switch",
-        discriminant: normalizeTypescriptAst(node.child(1)), // switch expression is typically at index 1
+        discriminant: normalize(node.child(1)), // switch expression is typically at index 1
         cases: cases
       };
       
-    case "switch_case":
+    case TS.switch_case:
       return {
         type: "Case",
-        test: normalizeTypescriptAst(node.child(1)), // case value is typically at index 1
-        consequent: node.children ? node.children.slice(3).map(normalizeTypescriptAst).filter(Boolean) : [] // Skip 'case', value, and ':'
+        test: normalize(node.child(1)), // case value is typically at index 1
+        consequent: node.children ? node.children.slice(3).map(normalize).filter(Boolean) : [] // Skip 'case', value, and ':'
       };
       
-    case "switch_default":
+    case TS.switch_default:
       return {
         type: "Default",
         test: null, // default case has no test value
-        consequent: node.children ? node.children.slice(2).map(normalizeTypescriptAst).filter(Boolean) : [] // Skip 'default' and ':'
+        consequent: node.children ? node.children.slice(2).map(normalize).filter(Boolean) : [] // Skip 'default' and ':'
       };
       
-    case "else_clause":
+    case TS.else_clause:
       // Process the statement that follows 'else'
       // This could be a single statement or another if_statement
       if (node.children && node.children.length > 1) {
         // The actual statement is typically at index 1
-        return normalizeTypescriptAst(node.children[1]);
+        return normalize(node.children[1]);
       }
       return null;
       
-    case "import_statement":
+    case TS.import_statement:
       // Skip import statements - they should be ignored
       return null;
       
@@ -17,6 +17,7 @@ export function mapBreakStatement(node, ctx) {
   const breakId = ctx.next();
   const breakText = "break;";
   ctx.add(breakId, processShape(breakText));
+  if (typeof ctx.markNode === 'function') ctx.markNode(breakId, 'break');
   
   // If we're in a switch statement, track the break for proper connection
   if (ctx.currentSwitchId) {
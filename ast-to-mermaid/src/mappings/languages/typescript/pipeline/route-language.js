@@ -2,7 +2,13 @@
  * Route to appropriate language processor
  */
 
+import { loadLanguagePack } from '../../../../shared/language-registry.mjs';
+
+/**
+ * Resolve the pipeline module for a language through the lazy registry
+ * @param {string} language - Normalized language key
+ * @returns {Promise<{ generateFlowchart: Function }>} - The language's pipeline module
+ */
 export function routeLanguage(language) {
-  // Placeholder for language routing logic
-  return `./mappings/languages/${language}/${language}.mjs`;
-}
\ No newline at end of file
+  return loadLanguagePack(language);
+}
@@ -1,40 +1,14 @@
-export function walk(node, ctx) {
-  if (!node) return;
+import { scriptWalkers } from '../../javascript/walkers/walk.mjs';
+import { mapIfStatement } from '../conditional/if.mjs';
+import { mapSwitchStatement, mapCase, mapDefault, restoreSwitch } from '../conditional/switch/switch.mjs';
+import { mapForStatement, closeForStatement } from '../loops/for/for.mjs';
+import { mapWhileStatement, closeWhileStatement } from '../loops/while/while.mjs';
+import { mapDoWhileStatement } from '../loops/do-while/do-while.mjs';
+import { completeSwitch } from '../mappings/common/common.mjs';
 
-  // Handle the current node
-  if (ctx && typeof ctx.handle === 'function') {
-    ctx.handle(node);
-  }
-
-  // Recursively walk child nodes
-  // Special handling for Case and Default nodes to avoid duplicate processing
-  if (node.type === 'Case' || node.type === 'Default') {
-    // Process the body separately to avoid duplicate processing
-    if (node.body) {
-      if (Array.isArray(node.body)) {
-        node.body.forEach(child => walk(child, ctx));
-      } else {
-        walk(node.body, ctx);
-      }
-    }
-  } else {
-    // General body processing for other node types
-    if (node.body) {
-      if (Array.isArray(node.body)) {
-        node.body.forEach(child => walk(child, ctx));
-      } else {
-        walk(node.body, ctx);
-      }
-    }
-  }
-  
-  if (node.then) walk(node.then, ctx);
-  if (node.else) walk(node.else, ctx);
-  // Note: We don't walk node.init, node.cond, node.update here
-  // because they are handled by the mapping functions that create
-  // decision nodes with combined text
-
-  if (node.value) {
-    // return statements
-  }
-}
\ No newline at end of file
+// Same statement shapes as JavaScript, mapped with the TypeScript mappers
+export const { walk, walkFunction } = scriptWalkers({
+  mapIfStatement, mapSwitchStatement, mapCase, mapDefault, restoreSwitch,
+  mapForStatement, closeForStatement, mapWhileStatement, closeWhileStatement,
+  mapDoWhileStatement, completeSwitch
+});
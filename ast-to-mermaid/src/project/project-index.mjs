@@ -0,0 +1,68 @@
+/**
+ * On-disk index of a project conversion: one entry per source file (keyed by
+ * its path relative to the project root) with the content key its diagram was
+ * made from, so a rerun converts only the files that changed. The index
+ * belongs to one engine version and one set of output options; when either
+ * differs, every entry is stale.
+ */
+
+import { mkdir, readFile, rename, writeFile } from 'fs/promises';
+import { dirname } from 'path';
+import { ENGINE_VERSION } from '../cache/conversion-cache.mjs';
+
+// Bump when the index layout changes
+const INDEX_VERSION = 1;
+
+/**
+ * Load a project index, or start an empty one when there is none or it was made
+ * by another engine version or with other output options
+ * @param {string} path - Index file
+ * @param {Object} settings - Output options the diagrams depend on ({ format, detail, ids })
+ * @returns {Promise<{ path: string, settings: string, files: Map<string, Object> }>} - Entries are
+ *   { language, key, size, mtimeMs }
+ */
+export async function loadProjectIndex(path, settings) {
+  const index = { path, settings: JSON.stringify(settings), files: new Map() };
+  let stored;
+  try {
+    stored = JSON.parse(await readFile(path, 'utf8'));
+  } catch (error) {
+    if (error.code !== 'ENOENT') console.error(`[ast2m] ignoring unreadable project index ${path}:`, error.message);
+    return index;
+  }
+
+  if (stored?.version === INDEX_VERSION && stored.engineVersion === ENGINE_VERSION &&
+      stored.settings === index.settings && stored.files && typeof stored.files === 'object') {
+    for (const [file, entry] of Object.entries(stored.files)) index.files.set(file, entry);
+  }
+  return index;
+}
+
+/**
+ * Write a project index (to a temporary file renamed into place, so an
+ * interrupted run never leaves a partial index)
+ * @param {Object} index - From loadProjectIndex()
+ * @returns {Promise<void>}
+ */
+export async function saveProjectIndex(index) {
+  const stored = {
+    version: INDEX_VERSION,
+    engineVersion: ENGINE_VERSION,
+    settings: index.settings,
+    files: Object.fromEntries([...index.files].sort(([a], [b]) => (a < b ? -1 : a > b ? 1 : 0)))
+  };
+  const temp = `${index.path}.${process.pid}.tmp`;
+  await mkdir(dirname(index.path), { recursive: true });
+  await writeFile(temp, JSON.stringify(stored, null, 2), 'utf8');
+  await rename(temp, index.path);
+}
+
+/**
+ * Whether an entry still describes a file, judged from its stat alone
+ * @param {Object|undefined} entry - Index entry
+ * @param {Object} stats - fs.Stats of the file
+ * @returns {boolean}
+ */
+export function isEntryFresh(entry, stats) {
+  return Boolean(entry) && entry.size === stats.size && entry.mtimeMs === stats.mtimeMs;
+}
@@ -0,0 +1,314 @@
+/**
+ * Project mode: convert every source file under a directory, with the language
+ * taken from the file extension, and mirror the tree into an output directory
+ * (`src/Main.java` -> `<out>/src/Main.java.mmd`). Files convert in parallel on
+ * the conversion worker pool. The project index (see project-index.mjs) lets a
+ * rerun skip files unchanged since the last one, and watchProject() keeps the
+ * output current as files change.
+ */
+
+import { watch } from 'fs';
+import { mkdir, readdir, readFile, rm, stat, writeFile } from 'fs/promises';
+import { dirname, join, relative, resolve, sep } from 'path';
+import { conversionKey } from '../cache/conversion-cache.mjs';
+import { runConversion, startConversionPool } from '../workers/conversion-pool.mjs';
+import { runBatch } from '../batch/run-batch.mjs';
+import { isLanguageEnabled, languageForPath } from '../shared/language-registry.mjs';
+import { ERROR_DIAGRAM, ERROR_GRAPH } from '../index.mjs';
+import { loadProjectIndex, saveProjectIndex, isEntryFresh } from './project-index.mjs';
+
+// Output directory inside the project when none is given (hidden, so it is never walked)
+const DEFAULT_OUT_DIR = '.ast2m';
+const INDEX_FILE = 'index.json';
+
+// Quiet period after a change before the watcher converts, so a save that
+// touches a file several times converts it once
+const WATCH_DEBOUNCE_MS = 100;
+
+const ERROR_GRAPH_TEXT = JSON.stringify(ERROR_GRAPH);
+
+/**
+ * Open a project: resolve its directories and load its index
+ * @param {string} root - Project directory
+ * @param {Object} [options]
+ * @param {string} [options.out] - Output directory (default `<root>/.ast2m`)
+ * @param {string} [options.language] - Only convert files of this language
+ * @param {string} [options.format] - 'graph' writes graph JSON instead of Mermaid, 'compact' compact Mermaid
+ * @param {number} [options.detail] - Level of detail (see shared/detail.mjs)
+ * @param {string} [options.ids] - 'stable' names Mermaid nodes by their place in the IR (see shared/stable-ids.mjs)
+ * @param {number} [options.budget] - Time budget per file in milliseconds
+ * @param {number} [options.jobs] - Conversion workers (default: the pool's own default)
+ * @returns {Promise<Object>} - Project
+ */
+export async function openProject(root, { out, language = null, format, detail, ids, budget = 0, jobs } = {}) {
+  const rootDir = resolve(root);
+  const outDir = resolve(out || join(rootDir, DEFAULT_OUT_DIR));
+  const pipeline = {};
+  if (detail !== undefined) pipeline.detail = detail;
+  if (format === 'graph' || format === 'compact') pipeline.format = format;
+  else if (ids === 'stable') pipeline.ids = ids;
+
+  return {
+    root: rootDir,
+    out: outDir,
+    // Project path of the output directory when it lies inside the project
+    outPrefix: outDir.startsWith(rootDir + sep) ? `${projectPath(rootDir, outDir)}/` : null,
+    language,
+    pipeline,
+    budget,
+    jobs,
+    index: await loadProjectIndex(join(outDir, INDEX_FILE), pipeline)
+  };
+}
+
+// Path relative to the project root, with `/` separators (the index key)
+function projectPath(root, path) {
+  return relative(root, path).split(sep).join('/');
+}
+
+// Language of a project file, or null for files the project does not convert
+function sourceLanguage(project, file) {
+  const language = languageForPath(file);
+  if (!language || !isLanguageEnabled(language)) return null;
+  return !project.language || project.language === language ? language : null;
+}
+
+// Hidden directories (the default output among them) and dependencies are not walked
+function skippedDirectory(name) {
+  return name.startsWith('.') || name === 'node_modules';
+}
+
+function outputPath(project, file) {
+  return join(project.out, `${file}${project.pipeline.format === 'graph' ? '.json' : '.mmd'}`);
+}
+
+/**
+ * Source files of a project, in path order
+ * @param {Object} project - From openProject()
+ * @returns {Promise<Array<{ file: string, language: string }>>}
+ */
+export async function listProjectSources(project) {
+  const sources = [];
+  const pending = [project.root];
+  while (pending.length > 0) {
+    const dir = pending.pop();
+    let entries;
+    try {
+      entries = await readdir(dir, { withFileTypes: true });
+    } catch (error) {
+      console.error(`[ast2m] cannot read ${dir}:`, error.message);
+      continue;
+    }
+    for (const entry of entries) {
+      const path = join(dir, entry.name);
+      if (entry.isDirectory()) {
+        if (!skippedDirectory(entry.name) && path !== project.out) pending.push(path);
+      } else if (entry.isFile()) {
+        const file = projectPath(project.root, path);
+        const language = sourceLanguage(project, file);
+        if (language) sources.push({ file, language });
+      }
+    }
+  }
+  return sources.sort((a, b) => (a.file < b.file ? -1 : a.file > b.file ? 1 : 0));
+}
+
+async function exists(path) {
+  try {
+    await stat(path);
+    return true;
+  } catch (error) {
+    return false;
+  }
+}
+
+// Drop a file's diagram from the output and the index
+async function dropOutput(project, file) {
+  project.index.files.delete(file);
+  await rm(outputPath(project, file), { force: true });
+}
+
+// Drop a file that no longer exists from the output and the index
+async function removeFile(project, file) {
+  await dropOutput(project, file);
+  return 'removed';
+}
+
+/**
+ * Bring one file's diagram up to date
+ * @returns {Promise<string>} - 'converted', 'unchanged', 'truncated' or 'removed'
+ */
+async function updateFile(project, file, language) {
+  const path = join(project.root, file);
+  let stats;
+  try {
+    stats = await stat(path);
+  } catch (error) {
+    if (error.code === 'ENOENT') return removeFile(project, file);
+    throw error;
+  }
+
+  const output = outputPath(project, file);
+  const entry = project.index.files.get(file);
+  if (isEntryFresh(entry, stats) && await exists(output)) return 'unchanged';
+
+  // A touched file whose content did not change keeps its diagram
+  const code = await readFile(path, 'utf8');
+  const key = conversionKey(language, code);
+  if (entry && entry.key === key && await exists(output)) {
+    project.index.files.set(file, { ...entry, size: stats.size, mtimeMs: stats.mtimeMs });
+    return 'unchanged';
+  }
+
+  // A file that fails to convert loses its old diagram, which no longer matches its source
+  let truncated = false;
+  let diagram;
+  try {
+    diagram = await runConversion(code, language, {
+      // Small files go to the workers too, so they convert in parallel
+      allowInline: false,
+      pipeline: project.pipeline,
+      deadline: project.budget > 0 ? Date.now() + project.budget : null,
+      onTruncated: () => { truncated = true; }
+    });
+  } catch (error) {
+    await dropOutput(project, file);
+    throw error;
+  }
+  if (diagram === ERROR_DIAGRAM || diagram === ERROR_GRAPH_TEXT) {
+    await dropOutput(project, file);
+    throw new Error(`Failed to convert ${language} source`);
+  }
+
+  await mkdir(dirname(output), { recursive: true });
+  await writeFile(output, diagram, 'utf8');
+  // A diagram the time budget cut short is converted again on the next run
+  if (truncated) {
+    project.index.files.delete(file);
+    return 'truncated';
+  }
+  project.index.files.set(file, { language, key, size: stats.size, mtimeMs: stats.mtimeMs });
+  return 'converted';
+}
+
+/**
+ * Update the diagrams of some project files in parallel, then save the index
+ * @param {Object} project - From openProject()
+ * @param {Array<{ file: string, language: string }>} sources - Files to update
+ * @param {Object} [options]
+ * @param {Function} [options.onFile] - ({ file, status, error }) => void, per file as it finishes
+ * @returns {Promise<Object>} - Counts per status, plus `failed`
+ */
+export async function updateProject(project, sources, { onFile = null } = {}) {
+  const summary = { converted: 0, unchanged: 0, truncated: 0, removed: 0, failed: 0 };
+  if (sources.length > 0) {
+    // The first update starts the pool, warming only the languages the project uses
+    const pool = startConversionPool({
+      ...(project.jobs ? { size: project.jobs } : {}),
+      warmLanguages: [...new Set(sources.map(({ language }) => language))]
+    });
+    await runBatch(sources, {
+      // Enough in flight to keep every worker busy while the main thread reads and writes files
+      concurrency: Math.max(1, pool.size) * 2,
+      handle: ({ file, language }) => updateFile(project, file, language),
+      emit: ({ index, result, error }) => {
+        const { file } = sources[index];
+        if (error) {
+          summary.failed++;
+        } else {
+          summary[result]++;
+        }
+        if (onFile) onFile({ file, status: error ? 'failed' : result, error });
+      }
+    });
+  }
+  await saveProjectIndex(project.index);
+  return summary;
+}
+
+/**
+ * Convert a whole project: files that changed since the last run, new files,
+ * and files whose diagram is missing; outputs of deleted files are removed.
+ * A rerun with nothing to convert never starts the worker pool.
+ * @param {Object} project - From openProject()
+ * @param {Object} [options] - As for updateProject()
+ * @returns {Promise<Object>} - Summary, as from updateProject(), with `files` (sources found)
+ */
+export async function buildProject(project, options = {}) {
+  const sources = await listProjectSources(project);
+  const found = new Set(sources.map(({ file }) => file));
+  // Files of languages a --language run leaves out keep their diagrams
+  const gone = [...project.index.files.keys()].filter(file => !found.has(file) && sourceLanguage(project, file));
+
+  // Files whose index entry still matches their stat need no worker at all
+  const stale = [];
+  for (const source of sources) {
+    const entry = project.index.files.get(source.file);
+    let fresh = false;
+    try {
+      fresh = isEntryFresh(entry, await stat(join(project.root, source.file))) &&
+        await exists(outputPath(project, source.file));
+    } catch (error) {
+      fresh = false;
+    }
+    if (!fresh) stale.push(source);
+  }
+
+  for (const file of gone) await removeFile(project, file);
+
+  const summary = await updateProject(project, stale, options);
+  summary.unchanged += sources.length - stale.length;
+  summary.removed += gone.length;
+  summary.files = sources.length;
+  return summary;
+}
+
+/**
+ * Watch a project and update the diagrams of files as they change (updates run
+ * one at a time, each after a short quiet period)
+ * @param {Object} project - From openProject()
+ * @param {Object} [options]
+ * @param {Function} [options.onFile] - As for updateProject()
+ * @param {Function} [options.onUpdate] - (summary) => void after each update
+ * @returns {{ close: Function }} - close() stops watching and resolves once the last update finished
+ */
+export function watchProject(project, { onFile = null, onUpdate = null } = {}) {
+  const changed = new Set();
+  let timer = null;
+  let updating = Promise.resolve();
+
+  const flush = () => {
+    timer = null;
+    const sources = [];
+    for (const file of changed) sources.push({ file, language: sourceLanguage(project, file) });
+    changed.clear();
+    updating = updating
+      .then(() => updateProject(project, sources, { onFile }))
+      .then(summary => { if (onUpdate) onUpdate(summary); })
+      .catch(error => console.error('[ast2m] project update failed:', error));
+  };
+
+  const watcher = watch(project.root, { recursive: true }, (event, name) => {
+    if (!name) return;
+    const file = String(name).split(sep).join('/');
+    if (project.outPrefix && file.startsWith(project.outPrefix)) return;
+    if (file.split('/').slice(0, -1).some(skippedDirectory)) return;
+    if (!sourceLanguage(project, file)) return;
+
+    changed.add(file);
+    if (timer) clearTimeout(timer);
+    timer = setTimeout(flush, WATCH_DEBOUNCE_MS);
+  });
+  watcher.on('error', error => console.error('[ast2m] project watch error:', error));
+
+  return {
+    close() {
+      watcher.close();
+      if (timer) {
+        clearTimeout(timer);
+        flush();
+      }
+      return updating;
+    }
+  };
+}
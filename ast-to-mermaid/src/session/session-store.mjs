@@ -0,0 +1,323 @@
+/**
+ * Live-editing sessions: keep the previous Tree-sitter tree per session, apply
+ * Monaco-style text edits with tree.edit() and re-parse incrementally. Functions
+ * the edits did not touch are carried over from the last conversion with their
+ * IR and subgraph (see shared/function-reuse.mjs), so only the edited ones are
+ * normalized and mapped again.
+ */
+
+import { randomUUID } from 'crypto';
+import { convertAST } from '../index.mjs';
+import { withParser, parseSource } from '../shared/parser-pool.mjs';
+import { hasGrammar, loadGrammar, FUNCTION_NODE_TYPES } from '../shared/grammars.mjs';
+import { subgraphBytes } from '../cache/subgraph-cache.mjs';
+import { FunctionReuse } from '../shared/function-reuse.mjs';
+
+const SESSION_TTL_MS = Number(process.env.AST2M_SESSION_TTL_MS || 10 * 60 * 1000);
+const SESSION_MAX_BYTES = Number(process.env.AST2M_SESSION_MAX_BYTES || 8 * 1024 * 1024);
+const MAX_SESSIONS = Number(process.env.AST2M_MAX_SESSIONS || 200);
+
+// Rough per-node cost of a Tree-sitter tree, used for the memory estimate
+const TREE_BYTES_PER_NODE = 48;
+
+export class SessionError extends Error {
+  constructor(message, status = 400) {
+    super(message);
+    this.name = 'SessionError';
+    this.status = status;
+  }
+}
+
+const sessions = new Map();
+
+/**
+ * Evict sessions that have been idle longer than the TTL
+ * @param {number} [now] - Current time in ms
+ * @returns {number} - Number of evicted sessions
+ */
+export function evictExpiredSessions(now = Date.now()) {
+  let evicted = 0;
+  for (const [id, session] of sessions) {
+    if (now - session.lastUsed > SESSION_TTL_MS) {
+      sessions.delete(id);
+      evicted++;
+    }
+  }
+  return evicted;
+}
+
+const sweeper = setInterval(() => evictExpiredSessions(), Math.min(SESSION_TTL_MS, 60 * 1000));
+if (typeof sweeper.unref === 'function') sweeper.unref();
+
+/**
+ * Build Tree-sitter input edits from Monaco content changes. Edits are applied
+ * in order, each relative to the text produced by the previous one.
+ * @param {string} source - Text before the edit
+ * @param {Object} change - { range: { startLineNumber, startColumn, endLineNumber, endColumn }, text }
+ * @returns {{ source: string, edit: Object }}
+ */
+export function applyMonacoChange(source, change) {
+  const range = change?.range;
+  if (!range || typeof change.text !== 'string') {
+    throw new SessionError('Each edit needs a range and replacement text');
+  }
+
+  const lineStarts = [0];
+  for (let i = 0; i < source.length; i++) {
+    if (source.charCodeAt(i) === 10) lineStarts.push(i + 1);
+  }
+
+  const toPoint = (lineNumber, column) => {
+    const row = Math.min(Math.max(lineNumber - 1, 0), lineStarts.length - 1);
+    const lineEnd = row + 1 < lineStarts.length ? lineStarts[row + 1] - 1 : source.length;
+    const index = Math.min(lineStarts[row] + Math.max(column - 1, 0), lineEnd);
+    return { row, column: index - lineStarts[row], index };
+  };
+
+  const start = toPoint(range.startLineNumber, range.startColumn);
+  const oldEnd = toPoint(range.endLineNumber, range.endColumn);
+  if (oldEnd.index < start.index) {
+    throw new SessionError('Edit range end precedes its start');
+  }
+
+  const text = change.text;
+  const lastNewline = text.lastIndexOf('\n');
+  const insertedRows = lastNewline === -1 ? 0 : text.split('\n').length - 1;
+  const newEndPosition = insertedRows === 0
+    ? { row: start.row, column: start.column + text.length }
+    : { row: start.row + insertedRows, column: text.length - lastNewline - 1 };
+
+  return {
+    source: source.slice(0, start.index) + text + source.slice(oldEnd.index),
+    edit: {
+      startIndex: start.index,
+      oldEndIndex: oldEnd.index,
+      newEndIndex: start.index + text.length,
+      startPosition: { row: start.row, column: start.column },
+      oldEndPosition: { row: oldEnd.row, column: oldEnd.column },
+      newEndPosition
+    }
+  };
+}
+
+function estimateBytes(session) {
+  let bytes = session.source.length * 2 + (session.mermaid?.length || 0) * 2;
+  const root = session.tree?.rootNode;
+  if (root) {
+    bytes += (typeof root.descendantCount === 'number' ? root.descendantCount : session.source.length / 4) * TREE_BYTES_PER_NODE;
+  }
+  bytes += session.reuse.bytes(subgraphBytes);
+  return bytes;
+}
+
+// Where an offset of the text before an edit is after it; an offset inside the
+// replaced text goes to the start of the replacement, or its end with `toEnd`
+function shiftIndex(index, edit, toEnd) {
+  if (index <= edit.startIndex) return index;
+  if (index >= edit.oldEndIndex) return index + edit.newEndIndex - edit.oldEndIndex;
+  return toEnd ? edit.newEndIndex : edit.startIndex;
+}
+
+function overlaps(node, ranges) {
+  for (const range of ranges) {
+    if (node.startIndex <= range.endIndex && range.startIndex <= node.endIndex) return true;
+  }
+  return false;
+}
+
+/**
+ * Names of functions whose source ranges intersect any changed or edited range.
+ * Only subtrees that overlap a range are entered, so the cost follows the edit
+ * rather than the size of the file.
+ * @param {Object} session - Session
+ * @param {Array} ranges - Ranges in new-tree coordinates
+ * @returns {Set<string>}
+ */
+function findChangedFunctions(session, ranges) {
+  const changed = new Set();
+  const types = new Set(FUNCTION_NODE_TYPES[session.language] || []);
+  if (!session.tree || types.size === 0 || ranges.length === 0) return changed;
+
+  const cursor = session.tree.rootNode.walk();
+  for (;;) {
+    const overlapping = overlaps(cursor, ranges);
+    if (overlapping && types.has(cursor.nodeType)) {
+      const fn = cursor.currentNode;
+      const nameNode = fn.childForFieldName('name') ||
+        fn.childForFieldName('declarator')?.childForFieldName('declarator');
+      changed.add(nameNode ? nameNode.text : 'anonymous');
+    }
+    // Functions nest, so an overlapping function is entered as well
+    if (overlapping && cursor.gotoFirstChild()) continue;
+    while (!cursor.gotoNextSibling()) {
+      if (!cursor.gotoParent()) return changed;
+    }
+  }
+}
+
+async function parse(session, oldTree) {
+  const grammar = await loadGrammar(session.language);
+  return withParser(session.language, grammar, (parser) => parseSource(parser, session.source, oldTree));
+}
+
+// Functions the edits did not touch come from the last conversion, so only edited
+// ones are normalized and mapped again (Java's subgraph cache is not needed then)
+async function render(session) {
+  const options = { functionCache: false };
+  const root = session.tree?.rootNode;
+  // Java sources with parse errors are re-wrapped by the extractor, so let it re-parse
+  const reuseTree = session.tree && !(session.language === 'java' && root && root.hasError);
+  if (reuseTree) {
+    options.tree = session.tree;
+    options.functionReuse = session.reuse;
+  } else {
+    // Nothing of a conversion that did not read the session's tree can be carried over
+    session.reuse.clear();
+  }
+
+  session.mermaid = await convertAST(session.source, session.language, options);
+  session.bytes = estimateBytes(session);
+  if (session.bytes > SESSION_MAX_BYTES) {
+    sessions.delete(session.id);
+    throw new SessionError(`Session exceeds memory cap of ${SESSION_MAX_BYTES} bytes`, 413);
+  }
+}
+
+function summarize(session, extra = {}) {
+  return {
+    sessionId: session.id,
+    language: session.language,
+    version: session.version,
+    mermaid: session.mermaid,
+    ...extra
+  };
+}
+
+/**
+ * Open a session with an initial buffer
+ * @param {string} code - Initial source
+ * @param {string} language - Normalized language key
+ * @returns {Promise<Object>} - Session summary with the initial diagram
+ */
+export async function createSession(code, language) {
+  evictExpiredSessions();
+  if (sessions.size >= MAX_SESSIONS) {
+    throw new SessionError('Too many open sessions', 503);
+  }
+
+  const session = {
+    id: randomUUID(),
+    language,
+    source: code,
+    tree: null,
+    mermaid: '',
+    version: 0,
+    reuse: new FunctionReuse(),
+    bytes: 0,
+    lastUsed: Date.now()
+  };
+
+  if (hasGrammar(language)) {
+    session.tree = await parse(session, null);
+  }
+  sessions.set(session.id, session);
+  await render(session);
+  return summarize(session);
+}
+
+/**
+ * Apply edits to a session and return the updated diagram. The source is
+ * re-parsed incrementally, and only the functions an edit or a changed range
+ * of the re-parse touched are normalized and mapped again; the others keep
+ * their IR and subgraph from the last conversion. Fortran and Pascal sessions
+ * have no syntax tree and convert the whole file.
+ * @param {string} id - Session ID
+ * @param {Array} edits - Monaco content changes
+ * @param {Object} [options]
+ * @param {boolean} [options.changedFunctions] - Also report the functions the edits touched
+ * @returns {Promise<Object>} - Session summary with changed ranges (and functions, when asked)
+ */
+export async function updateSession(id, edits, { changedFunctions = false } = {}) {
+  const session = getSession(id);
+  const unchanged = changedFunctions ? { changedRanges: [], changedFunctions: [] } : { changedRanges: [] };
+  if (!Array.isArray(edits) || edits.length === 0) {
+    return summarize(session, unchanged);
+  }
+
+  // Each edit is relative to the text the one before left, so the ranges edited
+  // so far move with every later edit
+  const appliedEdits = [];
+  const editedRanges = [];
+  let source = session.source;
+  for (const change of edits) {
+    const applied = applyMonacoChange(source, change);
+    const { edit } = applied;
+    source = applied.source;
+    if (session.tree) session.tree.edit(edit);
+    for (const range of editedRanges) {
+      range.startIndex = shiftIndex(range.startIndex, edit, false);
+      range.endIndex = shiftIndex(range.endIndex, edit, true);
+    }
+    appliedEdits.push(edit);
+    editedRanges.push({ startIndex: edit.startIndex, endIndex: edit.newEndIndex });
+  }
+
+  if (source === session.source) {
+    return summarize(session, unchanged);
+  }
+
+  session.source = source;
+  session.version++;
+
+  let changedRanges = [];
+  let functions = null;
+  if (session.tree) {
+    const oldTree = session.tree;
+    session.tree = await parse(session, oldTree);
+    changedRanges = oldTree.getChangedRanges(session.tree);
+    session.reuse.applyEdits(appliedEdits, changedRanges);
+    // Label text can change without a structural change, so edited ranges count too
+    if (changedFunctions) functions = findChangedFunctions(session, [...changedRanges, ...editedRanges]);
+  }
+
+  await render(session);
+  const summary = summarize(session, {
+    changedRanges: changedRanges.map(r => ({ startIndex: r.startIndex, endIndex: r.endIndex }))
+  });
+  if (changedFunctions) summary.changedFunctions = functions ? [...functions] : null;
+  return summary;
+}
+
+/**
+ * Look up a live session, refreshing its TTL
+ * @param {string} id - Session ID
+ * @returns {Object} - Session
+ */
+export function getSession(id) {
+  const session = sessions.get(id);
+  if (!session || Date.now() - session.lastUsed > SESSION_TTL_MS) {
+    sessions.delete(id);
+    throw new SessionError('Session not found or expired', 404);
+  }
+  session.lastUsed = Date.now();
+  return session;
+}
+
+/**
+ * Close a session
+ * @param {string} id - Session ID
+ * @returns {boolean} - Whether a session was removed
+ */
+export function closeSession(id) {
+  return sessions.delete(id);
+}
+
+/**
+ * Session counts and memory estimate
+ * @returns {Object}
+ */
+export function getSessionStats() {
+  let bytes = 0;
+  for (const session of sessions.values()) bytes += session.bytes;
+  return { sessions: sessions.size, bytes, ttlMs: SESSION_TTL_MS, maxBytesPerSession: SESSION_MAX_BYTES };
+}
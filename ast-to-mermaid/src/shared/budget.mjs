@@ -0,0 +1,145 @@
+/**
+ * Per-conversion time budget. A budget is a deadline (epoch milliseconds, so it
+ * can be posted to a worker thread as a number) checked at cooperative
+ * checkpoints: the tree-sitter parse, every walker op and the finalize passes.
+ * When it runs out the conversion stops where it is and emits the diagram built
+ * so far, marked as truncated, instead of failing. A parse only gets part of
+ * the budget, so a source cut short while parsing still has time to be drawn
+ * up to where the parser stopped.
+ *
+ * The pipeline makes the budget of a conversion current while it runs (see
+ * withBudget()), so the parse and walk stages pick it up without every
+ * extractor and build step taking it as a parameter. Conversions are
+ * synchronous from extraction to emit, so one current budget per thread is
+ * enough.
+ */
+
+// Walker ops between two reads of the clock
+const CHECK_EVERY = 1024;
+
+export class BudgetExceeded extends Error {
+  constructor(stage) {
+    super(`Time budget ran out while ${stage}`);
+    this.name = 'BudgetExceeded';
+    this.stage = stage;
+  }
+}
+
+export class Budget {
+  /**
+   * @param {number} deadline - Epoch milliseconds (Date.now() based)
+   */
+  constructor(deadline) {
+    this.deadline = deadline;
+    // Stage the budget ran out in, once it has
+    this.exceeded = null;
+    // Stage that left the diagram incomplete: where the budget ran out, or an
+    // earlier stage that stopped at its own share of it
+    this.truncated = null;
+    this.countdown = CHECK_EVERY;
+  }
+
+  /**
+   * Budget ending `ms` milliseconds from now
+   * @param {number} ms
+   * @returns {Budget}
+   */
+  static after(ms) {
+    return new Budget(Date.now() + ms);
+  }
+
+  // Milliseconds left (0 once out)
+  remaining() {
+    return Math.max(0, this.deadline - Date.now());
+  }
+
+  /**
+   * Whether the budget ran out, recording the stage the first time it is seen
+   * @param {string} stage - What the conversion was doing ('parsing', 'walking', ...)
+   * @returns {boolean}
+   */
+  expired(stage) {
+    if (this.exceeded === null && Date.now() >= this.deadline) {
+      this.exceeded = stage;
+      this.truncated = this.truncated || stage;
+    }
+    return this.exceeded !== null;
+  }
+
+  /**
+   * Deadline of a stage that may use a share of what is left
+   * @param {number} share - Fraction of the remaining time (0..1)
+   * @returns {number} - Epoch milliseconds
+   */
+  share(share) {
+    return Date.now() + this.remaining() * share;
+  }
+
+  /**
+   * Record that a stage stopped early without the budget running out
+   * @param {string} stage
+   */
+  cut(stage) {
+    this.truncated = this.truncated || stage;
+  }
+
+  /**
+   * Checkpoint of a hot loop: throws BudgetExceeded once the budget ran out,
+   * reading the clock only every CHECK_EVERY calls
+   * @param {string} stage
+   */
+  tick(stage) {
+    if (this.exceeded === null) {
+      if (--this.countdown > 0) return;
+      this.countdown = CHECK_EVERY;
+      if (!this.expired(stage)) return;
+    }
+    throw new BudgetExceeded(this.exceeded);
+  }
+}
+
+/**
+ * Mermaid comment heading a diagram a budget cut short
+ * @param {string} stage - Budget's `truncated` stage
+ * @returns {string}
+ */
+export function truncatedComment(stage) {
+  return `%% truncated: the time budget ran out while ${stage}`;
+}
+
+let current = null;
+
+/**
+ * Budget of the conversion running on this thread, if any
+ * @returns {Budget|null}
+ */
+export function currentBudget() {
+  return current;
+}
+
+/**
+ * Run a function with a budget current (null runs it without one)
+ * @param {Budget|null} budget
+ * @param {Function} fn
+ * @returns {*} - Whatever fn returns
+ */
+export function withBudget(budget, fn) {
+  const previous = current;
+  current = budget;
+  try {
+    return fn();
+  } finally {
+    current = previous;
+  }
+}
+
+/**
+ * Budget of a set of pipeline options: { budget } as a Budget, or { deadline }
+ * in epoch milliseconds (the form that crosses to worker threads)
+ * @param {Object} [options]
+ * @returns {Budget|null}
+ */
+export function budgetOf(options = {}) {
+  if (options.budget instanceof Budget) return options.budget;
+  return Number.isFinite(options.deadline) ? new Budget(options.deadline) : null;
+}
@@ -0,0 +1,211 @@
+/**
+ * Per-conversion call-site symbol table. Normalizers record every call in the
+ * syntax tree (callee name and source range) and tag normalized statements with
+ * their source range; mapping registers the flow node created for each tagged
+ * statement. Each call is then owned by the innermost flow node whose range
+ * contains it, and links to function subgraphs are built from that ownership
+ * instead of by scanning node labels.
+ */
+
+import { currentFunctionReuse } from './function-reuse.mjs';
+
+/**
+ * Collect call sites from a tree-sitter tree in source order. In a live-editing
+ * session, the sites of functions carried over from the last conversion (left
+ * out of the view) are spliced in, and each function keeps its own for the next
+ * one (see shared/function-reuse.mjs).
+ * @param {Object} root - Tree-sitter root node
+ * @param {Set<string>} callTypes - Node types that are calls
+ * @param {Function} calleeOf - (node) => callee name, or null to skip the call
+ * @returns {Array<{ callee: string, start: number, end: number }>}
+ */
+export function collectCallSites(root, callTypes, calleeOf) {
+  const sites = [];
+  if (!root || typeof root.walk !== 'function') return sites;
+
+  // Pre-order walk with a cursor: no per-node child arrays, no recursion
+  const reuse = currentFunctionReuse();
+  const cursor = root.walk();
+  for (;;) {
+    if (callTypes.has(cursor.nodeType)) {
+      const node = cursor.currentNode;
+      const callee = calleeOf(node);
+      if (callee) sites.push({ callee, start: node.startIndex, end: node.endIndex });
+    } else if (reuse !== null) {
+      const reused = reuse.sitesOf(cursor.currentNode);
+      if (reused !== null) sites.push(...reused);
+    }
+    if (cursor.gotoFirstChild()) continue;
+    while (!cursor.gotoNextSibling()) {
+      if (!cursor.gotoParent()) {
+        if (reuse !== null) reuse.keepSites(sites);
+        return sites;
+      }
+    }
+  }
+}
+
+/**
+ * Tag a normalized node with the source range of the syntax node it came from.
+ * Nodes that already carry a (narrower) range keep it.
+ * @param {Object|null} normalized - Normalized node
+ * @param {Object} node - Tree-sitter node
+ * @returns {Object|null} - The normalized node
+ */
+export function withRange(normalized, node) {
+  if (normalized && typeof normalized === 'object' && !normalized.range &&
+      node && typeof node.startIndex === 'number') {
+    normalized.range = [node.startIndex, node.endIndex];
+  }
+  return normalized;
+}
+
+/**
+ * Map a normalized node and register the first flow node it created as the
+ * owner of its source range
+ * @param {Object} node - Normalized node
+ * @param {Object} ctx - Mapping context (uses ctx.graph and ctx.callSites)
+ * @param {Function} map - Language dispatch, (node, ctx) => any
+ * @returns {*} - Whatever the dispatch returned
+ */
+export function mapOwningCallSites(node, ctx, map) {
+  const table = ctx.callSites;
+  if (!table || !node || !node.range) return map(node, ctx);
+
+  const firstSlot = ctx.graph.nodeCount;
+  const result = map(node, ctx);
+  if (ctx.graph.nodeCount > firstSlot) {
+    table.own(firstSlot, node.range);
+  }
+  return result;
+}
+
+export class CallSiteTable {
+  /**
+   * @param {Array<{ callee: string, start: number, end: number }>} [sites] - Calls in source order
+   */
+  constructor(sites = []) {
+    this.sites = sites;
+    // Flat (slot, start, end) triples, in registration order
+    this.owners = [];
+  }
+
+  /**
+   * Register the flow node at a graph slot as the owner of a source range
+   * @param {number} slot - Graph node slot
+   * @param {Array<number>} range - [start, end) source offsets
+   */
+  own(slot, range) {
+    this.owners.push(slot, range[0], range[1]);
+  }
+
+  /**
+   * Source range of each registered flow node. Inner statements register before
+   * the statement enclosing them, so a node shared by both keeps the narrower range.
+   * @returns {Map<number, Array<number>>} - Graph slot -> [start, end) source offsets
+   */
+  ranges() {
+    const ranges = new Map();
+    for (let i = 0; i < this.owners.length; i += 3) {
+      const slot = this.owners[i];
+      if (!ranges.has(slot)) ranges.set(slot, [this.owners[i + 1], this.owners[i + 2]]);
+    }
+    return ranges;
+  }
+
+  /**
+   * Assign each call to the innermost registered range containing it.
+   * Statement and call ranges come from one syntax tree, so they nest or are
+   * disjoint, and a single sweep with a stack of open ranges is enough.
+   * @returns {Map<number, Array<string>>} - Owner slot -> callees in source order
+   */
+  resolve() {
+    const owners = this.owners;
+    const count = owners.length / 3;
+    const order = Array.from({ length: count }, (_, i) => i * 3);
+    // Outer ranges first; for identical ranges the earliest node ends up on top
+    order.sort((a, b) => owners[a + 1] - owners[b + 1] || owners[b + 2] - owners[a + 2] || owners[b] - owners[a]);
+
+    const sites = this.sites.length > 1 && !isSorted(this.sites)
+      ? [...this.sites].sort((a, b) => a.start - b.start)
+      : this.sites;
+
+    const calls = new Map();
+    const stack = [];
+    let next = 0;
+    for (const site of sites) {
+      while (next < count && owners[order[next] + 1] <= site.start) {
+        stack.push(order[next++]);
+      }
+      while (stack.length && owners[stack[stack.length - 1] + 2] < site.end) {
+        stack.pop();
+      }
+      if (!stack.length) continue;
+
+      const slot = owners[stack[stack.length - 1]];
+      const callees = calls.get(slot);
+      if (callees) callees.push(site.callee);
+      else calls.set(slot, [site.callee]);
+    }
+    return calls;
+  }
+}
+
+function isSorted(sites) {
+  for (let i = 1; i < sites.length; i++) {
+    if (sites[i].start < sites[i - 1].start) return false;
+  }
+  return true;
+}
+
+/**
+ * Links from call nodes to function subgraphs, in node order: explicit calls
+ * recorded by the mappers first, then the call-site table. Each (node, function)
+ * pair is linked once. With `aggregate`, all calls to a function collapse into
+ * one link from its first caller, labelled with the number of calling nodes.
+ * @param {Object} options
+ * @param {Object} options.graph - FlowGraph
+ * @param {CallSiteTable|null} options.table - Call-site table, if the IR had one
+ * @param {Array<{ callId: string, functionName: string }>} [options.functionCalls] - Calls recorded by mappers
+ * @param {Object} options.subgraphIds - Function name -> subgraph ID
+ * @param {boolean} [options.aggregate] - Collapse repeated calls to one function
+ * @returns {Array<{ from: string, to: string, label: string|null }>}
+ */
+export function callSiteLinks({ graph, table, functionCalls = [], subgraphIds, aggregate = false }) {
+  const links = [];
+  const seen = new Set();
+  const add = (from, functionName) => {
+    const to = Object.prototype.hasOwnProperty.call(subgraphIds, functionName) ? subgraphIds[functionName] : null;
+    if (!from || !to) return;
+    const key = `${from}\0${to}`;
+    if (seen.has(key)) return;
+    seen.add(key);
+    links.push({ from, to, label: null });
+  };
+
+  for (const call of functionCalls) add(call.callId, call.functionName);
+
+  if (table) {
+    const calls = table.resolve();
+    for (let slot = 0; slot < graph.nodeCount; slot++) {
+      const callees = calls.get(slot);
+      if (!callees) continue;
+      const nodeId = graph.nodeId(slot);
+      for (const callee of callees) add(nodeId, callee);
+    }
+  }
+
+  if (!aggregate) return links;
+
+  const byTarget = new Map();
+  for (const link of links) {
+    const first = byTarget.get(link.to);
+    if (first) first.count++;
+    else byTarget.set(link.to, { link, count: 1 });
+  }
+  return [...byTarget.values()].map(({ link, count }) => ({
+    from: link.from,
+    to: link.to,
+    label: count > 1 ? `${count} calls` : null
+  }));
+}
@@ -0,0 +1,231 @@
+/**
+ * Compact Mermaid output ({ format: 'compact' }): the same flowchart in fewer
+ * bytes, for the wire. Node and subgraph IDs become short names handed out in
+ * order of appearance (N123 -> A, B, ..., Z, A0, ...), indentation and the
+ * spaces around arrows go, edge labels use the `-->|label|` form, and runs of
+ * edges share one statement: consecutive edges from one node with the same
+ * arrow and label become `A-->B&C`, and an edge leaving the node the previous
+ * one reached continues it as a chain (`A-->B-->C`). Edges keep their order, so
+ * Mermaid lays the diagram out as it does the verbose one.
+ *
+ * It is a line transform over the emitted diagram, so it works for every
+ * language pipeline and keeps streamed output streaming.
+ */
+
+import { EdgeKind } from './flow-graph.mjs';
+
+const ID = '[A-Za-z_][\\w]*';
+const HEADER = /^(flowchart|graph)\b/;
+const SUBGRAPH_LINE = new RegExp(`^subgraph\\s+(${ID})(.*)$`);
+// Characters after an ID that do not open a node shape
+const NOT_SHAPE = /[\s-]/;
+const PLAIN_EDGE = new RegExp(`^(${ID})\\s+(<?)-->\\s+(${ID})$`);
+const LABELLED_EDGE = new RegExp(`^(${ID})\\s+(<?)--\\s+(.+?)\\s+-->\\s+(${ID})$`);
+const PIPE_EDGE = new RegExp(`^(${ID})\\s+(<?)-->\\|(.*?)\\|\\s*(${ID})$`);
+const DOTTED_EDGE = new RegExp(`^(${ID})\\s+-\\.->\\s+(${ID})$`);
+// IDs in lines of any other form: at the start and after an arrow
+const ID_POSITION = new RegExp(`(^|\\s*(?:-->\\|[^|]*\\|\\s*|-->\\s*|-\\.->\\s*))(${ID})`, 'g');
+
+// Short IDs Mermaid would read as something else
+const RESERVED_IDS = new Set(['TB', 'TD', 'BT', 'RL', 'LR']);
+
+const FIRST = 'ABCDEFGHIJKLMNOPQRSTUVWXYZ';
+const REST = '0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ';
+
+/**
+ * n-th short ID: A..Z, then a letter followed by digits and capitals. Capitals
+ * keep IDs clear of `end` and of the `o` / `x` arrow heads.
+ * @param {number} n
+ * @returns {string}
+ */
+function shortId(n) {
+  let id = FIRST[n % FIRST.length];
+  for (let rest = Math.floor(n / FIRST.length); rest > 0; rest = Math.floor((rest - 1) / REST.length)) {
+    id += REST[(rest - 1) % REST.length];
+  }
+  return id;
+}
+
+// Number of a pipeline node ID (N1, N2, ...), or -1 for other IDs
+export function idNumber(id) {
+  if (id.charCodeAt(0) !== 78 || id.length < 2 || id.length > 10 || id.charCodeAt(1) === 48) return -1;
+  let n = 0;
+  for (let i = 1; i < id.length; i++) {
+    const digit = id.charCodeAt(i) - 48;
+    if (digit < 0 || digit > 9) return -1;
+    n = n * 10 + digit;
+  }
+  return n;
+}
+
+class IdTable {
+  constructor() {
+    this.numbered = [];
+    this.named = new Map();
+    this.next = 0;
+  }
+
+  // Pipelines number their nodes, so most IDs are looked up by number
+  get(id) {
+    const n = idNumber(id);
+    let short = n >= 0 ? this.numbered[n] : this.named.get(id);
+    if (short === undefined) {
+      do short = shortId(this.next++); while (RESERVED_IDS.has(short));
+      if (n >= 0) this.numbered[n] = short;
+      else this.named.set(id, short);
+    }
+    return short;
+  }
+}
+
+// Whether a character code can be part of an ID
+function isIdChar(code) {
+  return (code >= 97 && code <= 122) || (code >= 65 && code <= 90) || (code >= 48 && code <= 57) || code === 95;
+}
+
+// End of the ID starting a line (0 when it starts with none)
+function leadingIdEnd(line) {
+  const first = line.charCodeAt(0);
+  if (!isIdChar(first) || (first >= 48 && first <= 57)) return 0;
+  let end = 1;
+  while (end < line.length && isIdChar(line.charCodeAt(end))) end++;
+  return end;
+}
+
+// Whether the rest of a line from `start` is one ID
+function isIdFrom(line, start) {
+  if (start >= line.length) return false;
+  for (let i = start; i < line.length; i++) if (!isIdChar(line.charCodeAt(i))) return false;
+  return true;
+}
+
+// Arrow of an edge in compact form
+function arrow(kind, label) {
+  if (kind === EdgeKind.DOTTED) return '-.->';
+  const head = kind === EdgeKind.LINK ? '<-->' : '-->';
+  return label === null ? head : `${head}|${label}|`;
+}
+
+// Edge of a line, or null for other lines
+function parseEdge(line, idEnd) {
+  // Most edges are plain `A --> B`: read without a regex
+  if (line.startsWith(' --> ', idEnd) && isIdFrom(line, idEnd + 5)) {
+    return { from: line.slice(0, idEnd), to: line.slice(idEnd + 5), kind: EdgeKind.ARROW, label: null };
+  }
+  let match = PLAIN_EDGE.exec(line);
+  if (match) return { from: match[1], to: match[3], kind: match[2] ? EdgeKind.LINK : EdgeKind.ARROW, label: null };
+  if ((match = LABELLED_EDGE.exec(line)) || (match = PIPE_EDGE.exec(line))) {
+    // A label with a pipe cannot go between pipes; such edges stay in their own form
+    if (match[3].includes('|')) return null;
+    return { from: match[1], to: match[4], kind: match[2] ? EdgeKind.LINK : EdgeKind.ARROW, label: match[3] };
+  }
+  if ((match = DOTTED_EDGE.exec(line))) return { from: match[1], to: match[2], kind: EdgeKind.DOTTED, label: null };
+  return null;
+}
+
+/**
+ * Compacts a diagram line by line. Edge lines are held back while they can
+ * still join the statement being grouped, so a line in may give none, one or
+ * two lines out.
+ */
+class Compactor {
+  constructor() {
+    this.ids = new IdTable();
+    // Edge statement being grouped: its text so far, the node its last step
+    // leaves from, that step's arrow and its targets
+    this.statement = null;
+  }
+
+  /**
+   * Compact one verbose line
+   * @param {string} raw
+   * @param {Array<string>} out - Receives the compact lines it completes
+   */
+  add(raw, out) {
+    const line = raw.trim();
+    if (!line) return;
+    const { ids } = this;
+
+    // A line that starts with an ID and a space may be an edge; one that starts
+    // with an ID and a shape is a node
+    const idEnd = leadingIdEnd(line);
+    const edge = idEnd > 0 && line.charCodeAt(idEnd) === 32 ? parseEdge(line, idEnd) : null;
+    if (edge) {
+      const from = ids.get(edge.from);
+      const to = ids.get(edge.to);
+      const step = arrow(edge.kind, edge.label);
+      const statement = this.statement;
+      if (statement && statement.from === from && statement.step === step) {
+        statement.text += `&${to}`;
+        statement.targets++;
+      } else if (statement && statement.targets === 1 && statement.to === from) {
+        statement.text += `${step}${to}`;
+        statement.from = from;
+        statement.step = step;
+        statement.to = to;
+      } else {
+        if (statement) out.push(statement.text);
+        this.statement = { text: `${from}${step}${to}`, from, step, to, targets: 1 };
+      }
+      return;
+    }
+
+    this.flush(out);
+    if (line === 'end' || line.startsWith('%%') || HEADER.test(line)) {
+      out.push(line);
+      return;
+    }
+    const match = SUBGRAPH_LINE.exec(line);
+    if (match) {
+      out.push(`subgraph ${ids.get(match[1])}${match[2].trim()}`);
+    } else if (idEnd > 0 && (idEnd === line.length || !NOT_SHAPE.test(line[idEnd]))) {
+      // A node: its ID, then its shape if any
+      out.push(`${ids.get(line.slice(0, idEnd))}${line.slice(idEnd)}`);
+    } else {
+      out.push(line.replace(ID_POSITION, (_, prefix, id) => `${prefix.trim()}${ids.get(id)}`));
+    }
+  }
+
+  /**
+   * End the edge statement being grouped
+   * @param {Array<string>} out
+   */
+  flush(out) {
+    if (this.statement) {
+      out.push(this.statement.text);
+      this.statement = null;
+    }
+  }
+}
+
+/**
+ * Compact the lines of a Mermaid flowchart lazily, for streamed output
+ * @param {Iterable<string>} lines - Verbose lines, as the pipelines emit them
+ * @yields {string} - Compact lines
+ */
+export function* compactLines(lines) {
+  const compactor = new Compactor();
+  const out = [];
+  for (const raw of lines) {
+    compactor.add(raw, out);
+    if (out.length > 0) {
+      yield* out;
+      out.length = 0;
+    }
+  }
+  compactor.flush(out);
+  yield* out;
+}
+
+/**
+ * Compact a Mermaid flowchart
+ * @param {string|Iterable<string>} mermaid - Verbose diagram, or its lines
+ * @returns {string}
+ */
+export function compactMermaid(mermaid) {
+  const compactor = new Compactor();
+  const out = [];
+  for (const line of typeof mermaid === 'string' ? mermaid.split('\n') : mermaid) compactor.add(line, out);
+  compactor.flush(out);
+  return out.join('\n');
+}
@@ -0,0 +1,122 @@
+/**
+ * Response compression. Diagrams are repetitive text (node IDs, arrows, shape
+ * brackets) and shrink several times under gzip or brotli, so conversion
+ * responses are compressed in whichever encoding the client accepts, preferring
+ * brotli. Small bodies are sent as they are: below a kilobyte the saving is
+ * lost in the encoding overhead.
+ */
+
+import { promisify } from 'util';
+import zlib from 'zlib';
+
+// Bodies smaller than this (in bytes) are not compressed
+export const COMPRESS_MIN_BYTES = Number(process.env.AST2M_COMPRESS_MIN_BYTES ?? 1024);
+
+// Brotli quality: 4 compresses diagrams about as well as gzip -9 at gzip -6 speed;
+// the top levels cost tens of times more for a few percent
+const BROTLI_QUALITY = Number(process.env.AST2M_BROTLI_QUALITY ?? 4);
+
+// Supported encodings, in order of preference when the client rates them equally
+const ENCODINGS = ['br', 'gzip'];
+
+const brotliCompress = promisify(zlib.brotliCompress);
+const gzip = promisify(zlib.gzip);
+
+/**
+ * Encoding to answer with, from an Accept-Encoding header
+ * @param {string|undefined} header
+ * @returns {string|null} - 'br', 'gzip', or null for an uncompressed body
+ */
+export function negotiateEncoding(header) {
+  if (!header) return null;
+  const quality = new Map();
+  for (const part of String(header).split(',')) {
+    const [name, ...params] = part.trim().toLowerCase().split(';');
+    if (!name) continue;
+    const q = params.map(p => /^\s*q=([\d.]+)\s*$/.exec(p)).find(Boolean);
+    quality.set(name, q ? Number(q[1]) : 1);
+  }
+
+  let best = null;
+  let bestQuality = 0;
+  for (const encoding of ENCODINGS) {
+    const q = quality.get(encoding) ?? quality.get('*') ?? 0;
+    if (q > bestQuality) {
+      best = encoding;
+      bestQuality = q;
+    }
+  }
+  return best;
+}
+
+function brotliParams(size) {
+  const params = {
+    [zlib.constants.BROTLI_PARAM_MODE]: zlib.constants.BROTLI_MODE_TEXT,
+    [zlib.constants.BROTLI_PARAM_QUALITY]: BROTLI_QUALITY
+  };
+  if (size) params[zlib.constants.BROTLI_PARAM_SIZE_HINT] = size;
+  return params;
+}
+
+/**
+ * Compress a body
+ * @param {Buffer|string} body
+ * @param {string} encoding - 'br' or 'gzip'
+ * @returns {Promise<Buffer>}
+ */
+export function compressBody(body, encoding) {
+  const buffer = Buffer.isBuffer(body) ? body : Buffer.from(body, 'utf8');
+  return encoding === 'br'
+    ? brotliCompress(buffer, { params: brotliParams(buffer.length) })
+    : gzip(buffer);
+}
+
+/**
+ * Compressing stream for a body written in chunks. Every write is flushed, so
+ * each chunk reaches the client as soon as it is written rather than when the
+ * compressor's window fills.
+ * @param {string} encoding - 'br' or 'gzip'
+ * @returns {import('stream').Transform}
+ */
+export function compressStream(encoding) {
+  return encoding === 'br'
+    ? zlib.createBrotliCompress({ flush: zlib.constants.BROTLI_OPERATION_FLUSH, params: brotliParams(0) })
+    : zlib.createGzip({ flush: zlib.constants.Z_SYNC_FLUSH });
+}
+
+/**
+ * Entity tag of a body sent in an encoding. The br, gzip and identity bytes of
+ * one body differ, so each gets its own strong tag: the encoding is appended
+ * inside the quotes ("<tag>-br"); the identity body keeps the tag as it is.
+ * @param {string} etag - Quoted tag of the identity body
+ * @param {string|null} encoding - 'br', 'gzip', or null
+ * @returns {string}
+ */
+export function encodedETag(etag, encoding) {
+  return encoding ? `${etag.slice(0, -1)}-${encoding}"` : etag;
+}
+
+/**
+ * Send a complete body, compressed when the request accepts an encoding and the
+ * body is worth it. Sets Vary: Accept-Encoding either way, since the same URL
+ * answers with different bytes depending on it.
+ * @param {Object} req - HTTP request
+ * @param {Object} res - HTTP response (status and other headers already set)
+ * @param {string} body
+ * @param {string} contentType
+ * @param {string} [etag] - Tag of the identity body, sent as encodedETag() of the encoding chosen
+ * @returns {Promise<void>}
+ */
+export async function sendCompressed(req, res, body, contentType, etag) {
+  res.setHeader('Content-Type', contentType);
+  res.vary('Accept-Encoding');
+  let payload = Buffer.from(body, 'utf8');
+  const encoding = payload.length >= COMPRESS_MIN_BYTES ? negotiateEncoding(req.headers['accept-encoding']) : null;
+  if (etag) res.setHeader('ETag', encodedETag(etag, encoding));
+  if (encoding) {
+    payload = await compressBody(payload, encoding);
+    res.setHeader('Content-Encoding', encoding);
+  }
+  res.setHeader('Content-Length', payload.length);
+  res.end(req.method === 'HEAD' ? undefined : payload);
+}
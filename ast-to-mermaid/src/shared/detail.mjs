@@ -0,0 +1,304 @@
+/**
+ * Level of detail for large flowcharts. Works on the normalized IR before it is
+ * walked: control structures (loops, switches, conditionals) nested at depth N
+ * or deeper are replaced by one summary statement each, labelled with a region
+ * ID, and a single region can later be rendered on its own.
+ *
+ * Region IDs are stable: they are derived from the region's content, the
+ * enclosing region (or function) and the region's position among identical
+ * siblings, not from node numbering, so the same source always yields the same
+ * IDs and edits elsewhere in the file leave them unchanged.
+ */
+
+import { createHash } from 'crypto';
+
+/**
+ * Normalized node types that form regions, across the language normalizers
+ */
+export const REGION_KINDS = {
+  If: { kind: 'if', keyword: 'if' },
+  IfElse: { kind: 'if', keyword: 'if' },
+  IfStatement: { kind: 'if', keyword: 'if' },
+  While: { kind: 'loop', keyword: 'while' },
+  WhileStatement: { kind: 'loop', keyword: 'while' },
+  For: { kind: 'loop', keyword: 'for' },
+  ForStatement: { kind: 'loop', keyword: 'for' },
+  DoWhile: { kind: 'loop', keyword: 'do while' },
+  DoWhileStatement: { kind: 'loop', keyword: 'do while' },
+  RepeatUntil: { kind: 'loop', keyword: 'repeat until' },
+  Switch: { kind: 'switch', keyword: 'switch' },
+  SwitchStatement: { kind: 'switch', keyword: 'switch' },
+  Match: { kind: 'switch', keyword: 'match' },
+  SelectCase: { kind: 'switch', keyword: 'select case' }
+};
+
+// Slots holding the rest of an if / else-if chain (part of the same region)
+const ELSE_KEYS = new Set(['else', 'alternate']);
+
+// Source positions and call tables do not change what a region is
+const IGNORED_KEYS = new Set(['range', 'callSites']);
+
+// Fields whose text describes a region in its summary label
+const HEADER_KEYS = ['cond', 'test', 'condition', 'discriminant', 'subject'];
+
+const LABEL_TEXT_MAX = 40;
+
+/**
+ * A requested region does not exist in the program
+ */
+export class RegionNotFoundError extends Error {
+  constructor(region) {
+    super(`Region ${region} not found`);
+    this.name = 'RegionNotFoundError';
+    this.status = 404;
+  }
+}
+
+/**
+ * Summary statement as a plain `Expr` node, which every pipeline but Java maps
+ * to a process box
+ * @param {string} label - Summary label
+ * @returns {Object}
+ */
+export const exprStatement = (label) => ({ type: 'Expr', text: label });
+
+/**
+ * Parse a detail level from a request value
+ * @param {*} value - Query/body/CLI value
+ * @returns {number|undefined|null} - Depth, undefined when absent, null when invalid
+ */
+export function parseDetail(value) {
+  if (value === undefined || value === null || value === '') return undefined;
+  const depth = Number(value);
+  return Number.isInteger(depth) && depth >= 0 ? depth : null;
+}
+
+/**
+ * Cache variant for a level-of-detail request ('' for the full diagram)
+ * @param {Object} [options] - { detail, expand }
+ * @returns {string}
+ */
+export function detailVariant({ detail, expand } = {}) {
+  const parts = [];
+  if (detail !== undefined && detail !== null) parts.push(`d${detail}`);
+  if (expand) parts.push(`x${expand}`);
+  return parts.join('.');
+}
+
+function textOf(value) {
+  if (value === null || value === undefined) return '';
+  if (typeof value === 'string') return value;
+  if (typeof value !== 'object') return String(value);
+  if (typeof value.text === 'string') return value.text;
+  if (typeof value.raw === 'string') return value.raw;
+  if (typeof value.value === 'string') return value.value;
+  if (value.expression) return textOf(value.expression);
+  return typeof value.name === 'string' ? value.name : '';
+}
+
+function summaryLabel(node, id, kinds) {
+  let header = '';
+  for (const key of HEADER_KEYS) {
+    if (node[key]) {
+      header = textOf(node[key]).replace(/\s+/g, ' ').trim();
+      break;
+    }
+  }
+  if (header.length > LABEL_TEXT_MAX) header = `${header.slice(0, LABEL_TEXT_MAX - 3)}...`;
+  const keyword = kinds[node.type].keyword;
+  return `${header ? `${keyword} ${header}` : keyword} ... [${id}]`;
+}
+
+function isRegion(value, kinds) {
+  return value !== null && typeof value === 'object' && !Array.isArray(value) &&
+    Object.prototype.hasOwnProperty.call(kinds, value.type);
+}
+
+// Else-if continuation: an if region in the else slot of an if region
+function isContinuation(parent, key, child, kinds) {
+  return ELSE_KEYS.has(key) && kinds[parent.type].kind === 'if' &&
+    isRegion(child, kinds) && kinds[child.type].kind === 'if';
+}
+
+/**
+ * Content digests of regions, where a nested region contributes only its own
+ * digest, so every node is hashed once
+ */
+function createDigester(kinds) {
+  const digests = new WeakMap();
+
+  const feed = (value, hash, top) => {
+    if (value === null || typeof value !== 'object') {
+      hash.update(`${typeof value}:${String(value)}\0`);
+      return;
+    }
+    if (!top && isRegion(value, kinds)) {
+      hash.update(`@${digest(value)}\0`);
+      return;
+    }
+    if (Array.isArray(value)) {
+      hash.update('[\0');
+      for (const item of value) feed(item, hash, false);
+      hash.update(']\0');
+      return;
+    }
+    hash.update('{\0');
+    for (const key of Object.keys(value)) {
+      if (IGNORED_KEYS.has(key)) continue;
+      hash.update(`${key}\0`);
+      feed(value[key], hash, false);
+    }
+    hash.update('}\0');
+  };
+
+  const digest = (node) => {
+    let value = digests.get(node);
+    if (!value) {
+      const hash = createHash('sha1');
+      feed(node, hash, true);
+      value = hash.digest('hex');
+      digests.set(node, value);
+    }
+    return value;
+  };
+
+  return digest;
+}
+
+/**
+ * Pre-order traversal that assigns region IDs and lets a visitor replace regions.
+ * `visit(node, id, depth)` returns a replacement node, or undefined to descend.
+ * Returns the (copy-on-write) transformed value.
+ */
+function createTraversal(kinds, visit) {
+  const digest = createDigester(kinds);
+
+  const regionId = (node, scope, seen) => {
+    const content = digest(node);
+    const occurrence = seen.get(content) || 0;
+    seen.set(content, occurrence + 1);
+    const id = createHash('sha1').update(`${scope}\0${content}\0${occurrence}`).digest('hex');
+    return `R${id.slice(0, 8)}`;
+  };
+
+  // Children of a region (and of its else-if continuations) are one level deeper
+  const regionChildren = (node, id, depth, seen = new Map()) => {
+    let copy = null;
+    for (const key of Object.keys(node)) {
+      if (IGNORED_KEYS.has(key)) continue;
+      const child = node[key];
+      const next = isContinuation(node, key, child, kinds)
+        ? regionChildren(child, id, depth, seen)
+        : value(child, id, depth + 1, seen);
+      if (next !== child) {
+        if (!copy) copy = { ...node };
+        copy[key] = next;
+      }
+    }
+    return copy || node;
+  };
+
+  const value = (item, scope, depth, seen) => {
+    if (item === null || typeof item !== 'object') return item;
+
+    if (Array.isArray(item)) {
+      let copy = null;
+      item.forEach((child, index) => {
+        const next = value(child, scope, depth, seen);
+        if (next !== child) {
+          if (!copy) copy = item.slice();
+          copy[index] = next;
+        }
+      });
+      return copy || item;
+    }
+
+    if (isRegion(item, kinds)) {
+      const id = regionId(item, scope, seen);
+      const replacement = visit(item, id, depth);
+      if (replacement !== undefined) return replacement;
+      return regionChildren(item, id, depth);
+    }
+
+    // Each function starts a new scope at depth 0
+    if (item.type === 'Function') {
+      scope = `fn:${item.name || ''}`;
+      depth = 0;
+      seen = new Map();
+    }
+
+    let copy = null;
+    for (const key of Object.keys(item)) {
+      if (IGNORED_KEYS.has(key)) continue;
+      const child = item[key];
+      const next = value(child, scope, depth, seen);
+      if (next !== child) {
+        if (!copy) copy = { ...item };
+        copy[key] = next;
+      }
+    }
+    return copy || item;
+  };
+
+  return {
+    run: (root) => value(root, '', 0, new Map()),
+    regionChildren
+  };
+}
+
+// Summary node standing in for a collapsed region; keeps the source range so
+// calls inside the region still link to their functions
+function summaryNode(node, id, kinds, statement) {
+  const summary = statement(summaryLabel(node, id, kinds));
+  summary.region = id;
+  if (node.range) summary.range = node.range;
+  return summary;
+}
+
+/**
+ * Apply level-of-detail options to a normalized program
+ * @param {Object} normalized - Normalized program (not modified)
+ * @param {Object} [options]
+ * @param {number} [options.detail] - Collapse regions nested this deep or deeper (0: every region)
+ * @param {string} [options.expand] - Keep only this region; with `detail`, its nested regions
+ *   collapse at that depth below it
+ * @param {Object} [profile]
+ * @param {Function} [profile.statement] - (label) => summary statement node for the language
+ * @param {Object} [profile.kinds] - Region node types (default REGION_KINDS)
+ * @returns {Object} - Normalized program to walk
+ */
+export function applyDetail(normalized, options = {}, { statement = exprStatement, kinds = REGION_KINDS } = {}) {
+  const { expand } = options;
+  const detail = options.detail ?? null;
+  if (!normalized || (detail === null && !expand)) return normalized;
+
+  if (!expand) {
+    const traversal = createTraversal(kinds, (node, id, depth) =>
+      depth >= detail ? summaryNode(node, id, kinds, statement) : undefined);
+    return traversal.run(normalized);
+  }
+
+  // Find the region, then collapse below it relative to its own depth
+  let target = null;
+  const finder = createTraversal(kinds, (node, id, depth) => {
+    if (target) return node;
+    if (id === expand) {
+      target = { node, depth };
+      return node;
+    }
+    return undefined;
+  });
+  finder.run(normalized);
+  if (!target) throw new RegionNotFoundError(expand);
+
+  let region = target.node;
+  if (detail !== null) {
+    const limit = target.depth + Math.max(detail, 1);
+    const collapser = createTraversal(kinds, (node, id, depth) =>
+      depth >= limit ? summaryNode(node, id, kinds, statement) : undefined);
+    region = collapser.regionChildren(region, expand, target.depth);
+  }
+
+  // The region alone, in a program of the same shape (no functions, same call table)
+  return { ...normalized, body: [region] };
+}
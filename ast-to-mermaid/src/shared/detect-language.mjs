@@ -0,0 +1,78 @@
+/**
+ * Server-side language detection: keyword scores from the shared detector, with
+ * a Tree-sitter error-count tiebreak for inputs the keywords cannot separate
+ */
+
+import { rankLanguages, isAmbiguous, DETECT_PREFIX_CHARS } from './language-detector.mjs';
+import { hasGrammar, loadGrammar } from './grammars.mjs';
+import { loadLocalGrammar } from './local-grammar.mjs';
+import { withParser } from './parser-pool.mjs';
+
+// How many of the top-ranked languages are parsed when the keywords are ambiguous
+const PARSE_CANDIDATES = 3;
+
+// Upper bound on each tiebreak parse
+const PARSE_TIMEOUT_MICROS = 50 * 1000;
+
+async function grammarFor(language) {
+  if (hasGrammar(language)) return loadGrammar(language);
+  return loadLocalGrammar(language);
+}
+
+/**
+ * Number of syntax errors Tree-sitter finds when parsing the prefix as `language`
+ * @param {string} language - Normalized language key
+ * @param {string} prefix - Bounded source prefix
+ * @returns {Promise<number>} - Error count, or Infinity if the language cannot be parsed
+ */
+async function countSyntaxErrors(language, prefix) {
+  try {
+    const grammar = await grammarFor(language);
+    if (!grammar) return Infinity;
+
+    return withParser(language, grammar, (parser) => {
+      if (typeof parser.setTimeoutMicros === 'function') parser.setTimeoutMicros(PARSE_TIMEOUT_MICROS);
+      const tree = parser.parse(prefix);
+      if (!tree) return Infinity;
+      const root = tree.rootNode;
+      // MISSING nodes flag hasError without producing an ERROR node
+      return root.hasError ? Math.max(1, root.descendantsOfType('ERROR').length) : 0;
+    });
+  } catch (error) {
+    return Infinity;
+  }
+}
+
+/**
+ * Rank candidate languages, parsing only when the keyword scores are too close
+ * @param {string} code - Source code
+ * @returns {Promise<{ language: string|null, candidates: Array, method: string }>}
+ */
+export async function rankLanguagesWithFallback(code) {
+  const ranking = rankLanguages(code);
+  const candidates = ranking.map(({ language, confidence }) => ({ language, confidence }));
+
+  if (!isAmbiguous(ranking)) {
+    return { language: ranking[0]?.language || null, candidates, method: 'keywords' };
+  }
+
+  const prefix = String(code).slice(0, DETECT_PREFIX_CHARS);
+  const contenders = ranking.slice(0, PARSE_CANDIDATES);
+  const errors = await Promise.all(contenders.map(({ language }) => countSyntaxErrors(language, prefix)));
+
+  // Fewest errors wins; ties keep the keyword order
+  let best = 0;
+  for (let i = 1; i < contenders.length; i++) {
+    if (errors[i] < errors[best]) best = i;
+  }
+  return { language: contenders[best].language, candidates, method: 'parse' };
+}
+
+/**
+ * Detect the language of a source snippet
+ * @param {string} code - Source code
+ * @returns {Promise<string|null>} - Normalized language key, or null if nothing matched
+ */
+export async function detectLanguage(code) {
+  return (await rankLanguagesWithFallback(code)).language;
+}
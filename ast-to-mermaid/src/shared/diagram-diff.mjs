@@ -0,0 +1,193 @@
+/**
+ * Diagram diff: the edit script that turns one version of a diagram into the
+ * next, so a client can patch what it shows instead of rendering a new diagram
+ * on every edit. Both versions must use stable IDs (see stable-ids.mjs); nodes
+ * are then matched by ID, and edges by their ends, kind and label.
+ *
+ * A stable ID follows a node's place in the IR, so a node whose label changed
+ * keeps its ID and is reported as relabeled, as is one that kept its ID but
+ * changed shape or subgraph. A node that came back under a new ID (a diagram
+ * named by content, see stable-ids.mjs) is reported as relabeled with its
+ * previous ID, rather than as a removal and an addition, when it kept its place:
+ * same kind, same subgraph, and the same neighbours among the nodes both
+ * versions share. Edges that only followed the node to its new ID are not
+ * reported.
+ *
+ * A client applies the script in order: rename and relabel nodes, remove edges,
+ * remove nodes, add nodes, add edges, relabel edges. Edges are always given with
+ * the IDs of the new version.
+ */
+
+import { graphFromLines, NODE_KINDS, EDGE_KINDS } from './graph-json.mjs';
+
+// Read a diagram into node and edge tables keyed the way the diff compares them
+function readDiagram(mermaid) {
+  const graph = graphFromLines(typeof mermaid === 'string' ? mermaid.split('\n') : mermaid);
+  const { id, kind, label } = graph.nodes;
+
+  const parent = new Array(id.length).fill(null);
+  for (const { node, members } of graph.subgraphs) {
+    for (let r = 0; r < members.length; r += 2) {
+      for (let i = members[r]; i < members[r] + members[r + 1]; i++) parent[i] = id[node];
+    }
+  }
+
+  const nodes = new Map();
+  id.forEach((nodeId, i) => {
+    nodes.set(nodeId, { id: nodeId, kind: NODE_KINDS[kind[i]], label: label[i], parent: parent[i], in: [], out: [] });
+  });
+
+  const edges = [];
+  const { from, to, label: edgeLabel, kind: edgeKind } = graph.edges;
+  for (let e = 0; e < from.length; e++) {
+    const edge = {
+      from: id[from[e]],
+      to: id[to[e]],
+      kind: EDGE_KINDS[edgeKind[e]],
+      label: graph.edgeLabels[edgeLabel[e]]
+    };
+    edges.push(edge);
+    nodes.get(edge.from).out.push(edge.to);
+    nodes.get(edge.to).in.push(edge.from);
+  }
+  return { nodes, edges };
+}
+
+// Where a node sits, in terms of the nodes both versions share (null when it touches none)
+function placement(node, shared) {
+  const inner = node.in.map(shared).filter(Boolean).sort();
+  const outer = node.out.map(shared).filter(Boolean).sort();
+  if (inner.length === 0 && outer.length === 0) return null;
+  return `${node.kind}\0${shared(node.parent) || ''}\0${inner.join(',')}\0${outer.join(',')}`;
+}
+
+// Pair nodes only one version has that kept their place, until no more pair up
+// (a pair can place its neighbours in turn). Returns previous ID -> next ID.
+function pairRelabeled(previous, next, removed, added) {
+  const renamed = new Map();
+  const renamedBack = new Map();
+  // A node's ID in the next version, if it is in both
+  const sharedNext = (id) => (id === null ? null : renamed.get(id) || (next.nodes.has(id) && previous.nodes.has(id) ? id : null));
+  const sharedFromNext = (id) => (id === null ? null : renamedBack.has(id) ? id : (previous.nodes.has(id) && next.nodes.has(id) ? id : null));
+
+  for (let paired = true; paired;) {
+    paired = false;
+    const candidates = new Map();
+    for (const id of removed) {
+      if (renamed.has(id)) continue;
+      const key = placement(previous.nodes.get(id), sharedNext);
+      if (key === null) continue;
+      const entry = candidates.get(key) || { removed: [], added: [] };
+      entry.removed.push(id);
+      candidates.set(key, entry);
+    }
+    for (const id of added) {
+      if (renamedBack.has(id)) continue;
+      const key = placement(next.nodes.get(id), sharedFromNext);
+      const entry = key === null ? undefined : candidates.get(key);
+      if (entry) entry.added.push(id);
+    }
+    // Only unambiguous matches: one node left its place and one took it
+    for (const entry of candidates.values()) {
+      if (entry.removed.length !== 1 || entry.added.length !== 1) continue;
+      renamed.set(entry.removed[0], entry.added[0]);
+      renamedBack.set(entry.added[0], entry.removed[0]);
+      paired = true;
+    }
+  }
+  return renamed;
+}
+
+const edgeKey = (edge) => `${edge.from}\0${edge.to}\0${edge.kind}\0${edge.label ?? ''}`;
+const endsKey = (edge) => `${edge.from}\0${edge.to}\0${edge.kind}`;
+
+const edgeOut = ({ from, to, kind, label }) => (label === null || label === undefined
+  ? { from, to, kind }
+  : { from, to, kind, label });
+
+const nodeOut = ({ id, kind, label, parent }) => (parent === null ? { id, kind, label } : { id, kind, label, parent });
+
+/**
+ * Edit script from one version of a diagram to the next
+ * @param {string|Iterable<string>} previous - Previous diagram (Mermaid, stable IDs)
+ * @param {string|Iterable<string>} next - New diagram (Mermaid, stable IDs)
+ * @returns {Object} - { nodes: { added, removed, relabeled }, edges: { added, removed, relabeled },
+ *   unchanged: { nodes, edges } }
+ */
+export function diffDiagrams(previous, next) {
+  const before = readDiagram(previous);
+  const after = readDiagram(next);
+
+  const removedIds = [...before.nodes.keys()].filter(id => !after.nodes.has(id));
+  const addedIds = [...after.nodes.keys()].filter(id => !before.nodes.has(id));
+  const renamed = pairRelabeled(before, after, removedIds, addedIds);
+
+  const nodes = { added: [], removed: [], relabeled: [] };
+  let unchangedNodes = 0;
+  for (const [id, node] of before.nodes) {
+    const current = after.nodes.get(renamed.get(id) || id);
+    if (!current) {
+      nodes.removed.push(id);
+    } else if (current.id !== id) {
+      nodes.relabeled.push({ ...nodeOut(current), previous: id });
+    } else if (current.kind !== node.kind || current.label !== node.label
+      || current.parent !== (renamed.get(node.parent) || node.parent)) {
+      nodes.relabeled.push(nodeOut(current));
+    } else {
+      unchangedNodes++;
+    }
+  }
+  const renamedTo = new Set(renamed.values());
+  for (const id of addedIds) {
+    if (!renamedTo.has(id)) nodes.added.push(nodeOut(after.nodes.get(id)));
+  }
+
+  // Previous edges with the IDs of the new version, counted by key (edges may repeat)
+  const remaining = new Map();
+  for (const edge of before.edges) {
+    const moved = renamed.has(edge.from) || renamed.has(edge.to)
+      ? { ...edge, from: renamed.get(edge.from) || edge.from, to: renamed.get(edge.to) || edge.to }
+      : edge;
+    const key = edgeKey(moved);
+    const entry = remaining.get(key);
+    if (entry) entry.count++;
+    else remaining.set(key, { edge: moved, count: 1 });
+  }
+
+  let unchangedEdges = 0;
+  const addedEdges = [];
+  for (const edge of after.edges) {
+    const entry = remaining.get(edgeKey(edge));
+    if (entry && entry.count > 0) {
+      entry.count--;
+      unchangedEdges++;
+    } else {
+      addedEdges.push(edge);
+    }
+  }
+
+  // An edge that kept its ends and kind but not its label is relabeled
+  const removedByEnds = new Map();
+  for (const { edge, count } of remaining.values()) {
+    for (let i = 0; i < count; i++) {
+      const key = endsKey(edge);
+      if (!removedByEnds.has(key)) removedByEnds.set(key, []);
+      removedByEnds.get(key).push(edge);
+    }
+  }
+  const edges = { added: [], removed: [], relabeled: [] };
+  for (const edge of addedEdges) {
+    const match = removedByEnds.get(endsKey(edge));
+    if (match && match.length > 0) {
+      const old = match.shift();
+      edges.relabeled.push({ ...edgeOut(edge), previousLabel: old.label ?? null });
+    } else {
+      edges.added.push(edgeOut(edge));
+    }
+  }
+  for (const list of removedByEnds.values()) {
+    for (const edge of list) edges.removed.push(edgeOut(edge));
+  }
+
+  return { nodes, edges, unchanged: { nodes: unchangedNodes, edges: unchangedEdges } };
+}
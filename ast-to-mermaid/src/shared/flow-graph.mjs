@@ -0,0 +1,479 @@
+/**
+ * Typed flow-graph IR used by the mermaid contexts while a flowchart is built.
+ * Node IDs are interned to integers, labels live in chunked text buffers addressed
+ * by offsets, and edges are stored in typed arrays with per-node adjacency lists.
+ * Mermaid text is only produced when the graph is emitted.
+ */
+
+// Node shapes, recognised from the label wrapper the mappers pass to ctx.add()
+export const Shape = Object.freeze({
+  RAW: 0,        // anything not recognised below; the whole label is kept verbatim
+  TERMINAL: 1,   // (["start"]) / (["end"])
+  PROCESS: 2,    // ["..."]
+  DECISION: 3,   // {"..."}
+  IO: 4,         // [/"..."/]
+  RETURN: 5,     // >["..."]
+  FUNCTION: 6    // [["..."]]
+});
+
+// shape -> [open, close]; longer openers are tried first so `[[` is not read as `[`
+const SHAPE_DELIMITERS = [
+  ['', ''],
+  ['(["', '"])'],
+  ['["', '"]'],
+  ['{"', '"}'],
+  ['[/"', '"/]'],
+  ['>["', '"]'],
+  ['[["', '"]]']
+];
+const SHAPE_MATCH_ORDER = [Shape.TERMINAL, Shape.FUNCTION, Shape.IO, Shape.RETURN, Shape.PROCESS, Shape.DECISION];
+
+export const EdgeKind = Object.freeze({
+  ARROW: 0,  // A --> B, A -- label --> B (or A -->|label| B)
+  LINK: 1,   // A <--> B, A <-- label --> B (call site to function subgraph)
+  DOTTED: 2, // A -.-> B
+  EXIT: 3    // From or to a placeholder the finalizer resolves; never emitted
+});
+const EDGE_KINDS = 4;
+
+const NONE = -1;
+const INITIAL_CAPACITY = 64;
+// Label text is sealed into flat chunks of about this many characters, so a read
+// while the graph is still growing only flattens the open chunk
+const TEXT_CHUNK = 1 << 16;
+
+// Endpoint pairs (and endpoint/label pairs) are packed into one safe integer
+const PAIR_BASE = 2 ** 26;
+
+function grow(array, needed) {
+  if (needed <= array.length) return array;
+  let size = array.length || INITIAL_CAPACITY;
+  while (size < needed) size *= 2;
+  const next = new array.constructor(size);
+  next.set(array);
+  if (array instanceof Int32Array) next.fill(NONE, array.length);
+  return next;
+}
+
+/**
+ * Split a label into its shape and inner text
+ * @param {string} label - e.g. `["x = 1"]`
+ * @returns {{ shape: number, text: string }}
+ */
+export function parseShape(label) {
+  for (const shape of SHAPE_MATCH_ORDER) {
+    const [open, close] = SHAPE_DELIMITERS[shape];
+    if (label.length >= open.length + close.length && label.startsWith(open) && label.endsWith(close)) {
+      const text = label.slice(open.length, label.length - close.length);
+      // Only a single wrapped label gets a shape; anything else stays raw
+      if (!text.includes(close)) return { shape, text };
+    }
+  }
+  return { shape: Shape.RAW, text: label };
+}
+
+export class FlowGraph {
+  /**
+   * @param {Object} [options]
+   * @param {string} [options.labelStyle] - 'dashes' (`A -- l --> B`) or 'pipe' (`A -->|l| B`)
+   */
+  constructor({ labelStyle = 'dashes' } = {}) {
+    this.pipeLabels = labelStyle === 'pipe';
+
+    // Endpoint interning: id string <-> integer
+    this.ids = [];
+    this.idIndex = new Map();
+    this.outHead = new Int32Array(0);
+    this.outTail = new Int32Array(0);
+    this.inHead = new Int32Array(0);
+    this.inTail = new Int32Array(0);
+    this.firstNode = new Int32Array(0);
+
+    // Nodes: endpoint, shape, text chunk and [start, end) offsets into it
+    this.nodeCount = 0;
+    this.nodeRef = new Int32Array(0);
+    this.nodeShape = new Uint8Array(0);
+    this.labelChunk = new Int32Array(0);
+    this.labelStart = new Int32Array(0);
+    this.labelEnd = new Int32Array(0);
+    this.textChunks = [];
+    this.openParts = [];
+    this.openLength = 0;
+
+    // Statement section order: >= 0 is a node, < 0 is ~index into `raw`
+    this.entryCount = 0;
+    this.entries = new Int32Array(0);
+    this.raw = [];
+
+    // Edges with outgoing/incoming adjacency
+    this.edgeCount = 0;
+    this.edgeFrom = new Int32Array(0);
+    this.edgeTo = new Int32Array(0);
+    this.edgeLabel = new Int32Array(0);
+    this.edgeKind = new Uint8Array(0);
+    this.outNext = new Int32Array(0);
+    this.inNext = new Int32Array(0);
+    this.edgeRemoved = new Uint8Array(0);
+    this.removedCount = 0;
+    this.edgeLabels = [];
+    this.edgeLabelIndex = new Map();
+    // endpoint pair -> label/kind codes already present
+    this.edgeKeys = new Map();
+    // source/label pair -> number of live edges
+    this.labelledOut = new Map();
+  }
+
+  /**
+   * Integer index for an endpoint ID, assigning one on first use
+   * @param {string} id - Node or subgraph ID
+   * @returns {number}
+   */
+  intern(id) {
+    let index = this.idIndex.get(id);
+    if (index === undefined) {
+      index = this.ids.length;
+      this.ids.push(id);
+      this.idIndex.set(id, index);
+      if (index >= this.outHead.length) {
+        this.outHead = grow(this.outHead, index + 1);
+        this.outTail = grow(this.outTail, index + 1);
+        this.inHead = grow(this.inHead, index + 1);
+        this.inTail = grow(this.inTail, index + 1);
+        this.firstNode = grow(this.firstNode, index + 1);
+      }
+    }
+    return index;
+  }
+
+  internLabel(label) {
+    if (label === null || label === undefined) return NONE;
+    let index = this.edgeLabelIndex.get(label);
+    if (index === undefined) {
+      index = this.edgeLabels.length;
+      this.edgeLabels.push(label);
+      this.edgeLabelIndex.set(label, index);
+    }
+    return index;
+  }
+
+  pushEntry(value) {
+    this.entries = grow(this.entries, this.entryCount + 1);
+    this.entries[this.entryCount++] = value;
+  }
+
+  /**
+   * Add a node; the label carries the mermaid shape wrapper, e.g. `{"x > 0"}`
+   * @param {string} id - Node ID
+   * @param {string} label - Shaped label
+   * @returns {number} - Node slot
+   */
+  addNode(id, label) {
+    const ref = this.intern(id);
+    const { shape, text } = parseShape(String(label));
+    const slot = this.nodeCount++;
+    if (slot >= this.nodeRef.length) {
+      this.nodeRef = grow(this.nodeRef, slot + 1);
+      this.nodeShape = grow(this.nodeShape, slot + 1);
+      this.labelChunk = grow(this.labelChunk, slot + 1);
+      this.labelStart = grow(this.labelStart, slot + 1);
+      this.labelEnd = grow(this.labelEnd, slot + 1);
+    }
+    this.nodeRef[slot] = ref;
+    this.nodeShape[slot] = shape;
+    this.labelChunk[slot] = this.textChunks.length;
+    this.labelStart[slot] = this.openLength;
+    this.openParts.push(text);
+    this.openLength += text.length;
+    this.labelEnd[slot] = this.openLength;
+    if (this.openLength >= TEXT_CHUNK) {
+      this.textChunks.push(this.openParts.join(''));
+      this.openParts = [];
+      this.openLength = 0;
+    }
+    if (this.firstNode[ref] === NONE) this.firstNode[ref] = slot;
+    this.pushEntry(slot);
+    return slot;
+  }
+
+  /**
+   * Add a verbatim line to the node section (subgraph headers, bodies, `end`)
+   * @param {string} line
+   */
+  addRaw(line) {
+    this.raw.push(line);
+    this.pushEntry(~(this.raw.length - 1));
+  }
+
+  edgeCode(label, kind) {
+    return (label + 1) * EDGE_KINDS + kind;
+  }
+
+  /**
+   * Add an edge
+   * @param {string} from - Source ID
+   * @param {string} to - Target ID
+   * @param {string|null} [label] - Edge label
+   * @param {number} [kind] - EdgeKind
+   * @returns {number} - Edge index
+   */
+  addEdge(from, to, label = null, kind = EdgeKind.ARROW) {
+    const f = this.intern(from);
+    const t = this.intern(to);
+    const l = this.internLabel(label);
+    const e = this.edgeCount++;
+    if (e >= this.edgeFrom.length) {
+      this.edgeFrom = grow(this.edgeFrom, e + 1);
+      this.edgeTo = grow(this.edgeTo, e + 1);
+      this.edgeLabel = grow(this.edgeLabel, e + 1);
+      this.edgeKind = grow(this.edgeKind, e + 1);
+      this.outNext = grow(this.outNext, e + 1);
+      this.inNext = grow(this.inNext, e + 1);
+      this.edgeRemoved = grow(this.edgeRemoved, e + 1);
+    }
+    this.edgeFrom[e] = f;
+    this.edgeTo[e] = t;
+    this.edgeLabel[e] = l;
+    this.edgeKind[e] = kind;
+
+    // Append to both adjacency lists so iteration follows insertion order
+    if (this.outTail[f] === NONE) this.outHead[f] = e;
+    else this.outNext[this.outTail[f]] = e;
+    this.outTail[f] = e;
+    if (this.inTail[t] === NONE) this.inHead[t] = e;
+    else this.inNext[this.inTail[t]] = e;
+    this.inTail[t] = e;
+
+    const pair = f * PAIR_BASE + t;
+    const codes = this.edgeKeys.get(pair);
+    if (codes) codes.push(this.edgeCode(l, kind));
+    else this.edgeKeys.set(pair, [this.edgeCode(l, kind)]);
+    if (l !== NONE) {
+      const key = f * PAIR_BASE + l;
+      this.labelledOut.set(key, (this.labelledOut.get(key) || 0) + 1);
+    }
+    return e;
+  }
+
+  /**
+   * Drop every live edge matching a predicate; adjacency and duplicate lookups
+   * stop seeing it, and it is not emitted
+   * @param {Function} predicate - (edgeIndex) => boolean
+   * @returns {number} - Edges removed
+   */
+  removeEdges(predicate) {
+    let removed = 0;
+    for (let e = 0; e < this.edgeCount; e++) {
+      if (this.edgeRemoved[e] || !predicate(e)) continue;
+      this.edgeRemoved[e] = 1;
+      removed++;
+      const f = this.edgeFrom[e];
+      const l = this.edgeLabel[e];
+      const codes = this.edgeKeys.get(f * PAIR_BASE + this.edgeTo[e]);
+      codes.splice(codes.indexOf(this.edgeCode(l, this.edgeKind[e])), 1);
+      if (l !== NONE) {
+        const key = f * PAIR_BASE + l;
+        const count = this.labelledOut.get(key) - 1;
+        if (count > 0) this.labelledOut.set(key, count);
+        else this.labelledOut.delete(key);
+      }
+    }
+    this.removedCount += removed;
+    return removed;
+  }
+
+  /**
+   * Whether an identical edge was already added
+   * @returns {boolean}
+   */
+  hasEdge(from, to, label = null, kind = EdgeKind.ARROW) {
+    const f = this.idIndex.get(from);
+    const t = this.idIndex.get(to);
+    if (f === undefined || t === undefined) return false;
+    const l = label === null || label === undefined ? NONE : this.edgeLabelIndex.get(label);
+    if (l === undefined) return false;
+    const codes = this.edgeKeys.get(f * PAIR_BASE + t);
+    return codes !== undefined && codes.includes(this.edgeCode(l, kind));
+  }
+
+  /**
+   * Whether any edge with this label leaves `from`
+   * @param {string} from - Source ID
+   * @param {string} label - Edge label
+   * @returns {boolean}
+   */
+  hasOutgoingLabel(from, label) {
+    const f = this.idIndex.get(from);
+    const l = this.edgeLabelIndex.get(label);
+    if (f === undefined || l === undefined) return false;
+    return this.labelledOut.has(f * PAIR_BASE + l);
+  }
+
+  /**
+   * Edge indexes leaving a node, in insertion order
+   * @param {string} id
+   * @returns {Array<number>}
+   */
+  outgoing(id) {
+    const result = [];
+    const f = this.idIndex.get(id);
+    if (f === undefined) return result;
+    for (let e = this.outHead[f]; e !== NONE; e = this.outNext[e]) {
+      if (!this.edgeRemoved[e]) result.push(e);
+    }
+    return result;
+  }
+
+  /**
+   * Edge indexes entering a node, in insertion order
+   * @param {string} id
+   * @returns {Array<number>}
+   */
+  incoming(id) {
+    const result = [];
+    const t = this.idIndex.get(id);
+    if (t === undefined) return result;
+    for (let e = this.inHead[t]; e !== NONE; e = this.inNext[e]) {
+      if (!this.edgeRemoved[e]) result.push(e);
+    }
+    return result;
+  }
+
+  edgeSource(e) {
+    return this.ids[this.edgeFrom[e]];
+  }
+
+  edgeTarget(e) {
+    return this.ids[this.edgeTo[e]];
+  }
+
+  edgeLabelOf(e) {
+    const l = this.edgeLabel[e];
+    return l === NONE ? null : this.edgeLabels[l];
+  }
+
+  // Text of a chunk; the open one is joined on demand
+  chunkText(chunk) {
+    if (chunk < this.textChunks.length) return this.textChunks[chunk];
+    if (this.openParts.length > 1) this.openParts = [this.openParts.join('')];
+    return this.openParts[0] || '';
+  }
+
+  nodeId(slot) {
+    return this.ids[this.nodeRef[slot]];
+  }
+
+  nodeShapeOf(slot) {
+    return this.nodeShape[slot];
+  }
+
+  /**
+   * Label text without the shape wrapper
+   * @param {number} slot - Node slot
+   * @returns {string}
+   */
+  nodeText(slot) {
+    return this.chunkText(this.labelChunk[slot]).slice(this.labelStart[slot], this.labelEnd[slot]);
+  }
+
+  /**
+   * Label with its shape wrapper, as passed to addNode()
+   * @param {number} slot - Node slot
+   * @returns {string}
+   */
+  nodeLabel(slot) {
+    const [open, close] = SHAPE_DELIMITERS[this.nodeShape[slot]];
+    return open + this.nodeText(slot) + close;
+  }
+
+  /**
+   * First node slot added under an ID
+   * @param {string} id
+   * @returns {number} - Slot, or -1
+   */
+  slotOf(id) {
+    const ref = this.idIndex.get(id);
+    return ref === undefined ? NONE : this.firstNode[ref];
+  }
+
+  edgeLine(e) {
+    const from = this.ids[this.edgeFrom[e]];
+    const to = this.ids[this.edgeTo[e]];
+    const l = this.edgeLabel[e];
+    if (this.edgeKind[e] === EdgeKind.LINK) {
+      if (l === NONE) return `${from} <--> ${to}`;
+      return this.pipeLabels
+        ? `${from} <-->|${this.edgeLabels[l]}| ${to}`
+        : `${from} <-- ${this.edgeLabels[l]} --> ${to}`;
+    }
+    if (this.edgeKind[e] === EdgeKind.DOTTED) return `${from} -.-> ${to}`;
+    if (l === NONE) return `${from} --> ${to}`;
+    return this.pipeLabels
+      ? `${from} -->|${this.edgeLabels[l]}| ${to}`
+      : `${from} -- ${this.edgeLabels[l]} --> ${to}`;
+  }
+
+  /**
+   * Node-section lines (nodes and raw lines) in insertion order
+   * @returns {Array<string>}
+   */
+  nodeLines() {
+    const lines = new Array(this.entryCount);
+    for (let i = 0; i < this.entryCount; i++) {
+      const entry = this.entries[i];
+      lines[i] = entry >= 0 ? this.nodeId(entry) + this.nodeLabel(entry) : this.raw[~entry];
+    }
+    return lines;
+  }
+
+  /**
+   * Edge lines in insertion order
+   * @returns {Array<string>}
+   */
+  edgeLines() {
+    const lines = new Array(this.edgeCount - this.removedCount);
+    let i = 0;
+    for (let e = 0; e < this.edgeCount; e++) {
+      if (!this.edgeRemoved[e]) lines[i++] = this.edgeLine(e);
+    }
+    return lines;
+  }
+
+  /**
+   * All mermaid lines: node section, then edges
+   * @returns {Array<string>}
+   */
+  lines() {
+    return [...this.nodeLines(), ...this.edgeLines()];
+  }
+
+  /**
+   * Node-section lines, rendered one at a time (same order as nodeLines())
+   * @yields {string}
+   */
+  *eachNodeLine() {
+    for (let i = 0; i < this.entryCount; i++) {
+      const entry = this.entries[i];
+      yield entry >= 0 ? this.nodeId(entry) + this.nodeLabel(entry) : this.raw[~entry];
+    }
+  }
+
+  /**
+   * Edge lines, rendered one at a time (same order as edgeLines())
+   * @yields {string}
+   */
+  *eachEdgeLine() {
+    for (let e = 0; e < this.edgeCount; e++) {
+      if (!this.edgeRemoved[e]) yield this.edgeLine(e);
+    }
+  }
+
+  /**
+   * All mermaid lines, rendered one at a time, so large charts can be streamed
+   * without building the whole text
+   * @yields {string}
+   */
+  *eachLine() {
+    yield* this.eachNodeLine();
+    yield* this.eachEdgeLine();
+  }
+}
@@ -0,0 +1,266 @@
+/**
+ * Function reuse between the conversions of a live-editing session. A
+ * conversion run with a FunctionReuse ({ functionReuse } pipeline option)
+ * records each function it normalizes: the function's syntax node type and
+ * source range, its IR, the call sites inside it and, once mapped, its
+ * subgraph. Before the next conversion the session passes the edits made since
+ * (applyEdits()); functions that no edit and no changed range of the re-parse
+ * touched are carried over, their ranges shifted by the edits before them.
+ *
+ * While the next conversion runs, a carried-over function whose node is found
+ * again at its shifted range with the same type is not read again: the syntax
+ * view leaves its subtree out (see shared/syntax-view.mjs), the normalizer
+ * takes its IR from here (reusedFunction()), the call-site collector splices in
+ * its call sites, and the pipeline places its cached subgraph on the node IDs
+ * it gets now. Only the functions an edit touched are normalized and mapped
+ * again.
+ *
+ * A function's IR and subgraph depend on its own subtree only; its ranges are
+ * the one thing that moves, and they are shifted in place when it is reused.
+ */
+
+let current = null;
+
+/**
+ * The function reuse of the conversion running now
+ * @returns {FunctionReuse|null}
+ */
+export function currentFunctionReuse() {
+  return current;
+}
+
+/**
+ * IR of a function node carried over from the session's last conversion
+ * @param {Object} node - Syntax (view) node of a function
+ * @returns {Object|null} - Its IR, or null when it has to be normalized
+ */
+export function reusedFunction(node) {
+  return current === null ? null : current.reused(node);
+}
+
+/**
+ * Record the IR a normalizer produced for a function node
+ * @param {Object} node - Syntax (view) node of the function
+ * @param {Object|null} ir - Its IR
+ * @returns {Object|null} - The IR
+ */
+export function keepFunction(node, ir) {
+  if (current !== null && ir) current.keep(node, ir);
+  return ir;
+}
+
+// Objects an IR is made of; syntax nodes kept in an IR are left alone
+function isPlain(value) {
+  if (Array.isArray(value)) return true;
+  const proto = Object.getPrototypeOf(value);
+  return proto === Object.prototype || proto === null;
+}
+
+// Shift the source ranges of an IR in place
+function shiftRanges(ir, delta) {
+  const stack = [ir];
+  while (stack.length) {
+    const value = stack.pop();
+    if (!Array.isArray(value) && Array.isArray(value.range)) {
+      value.range = [value.range[0] + delta, value.range[1] + delta];
+    }
+    for (const key in value) {
+      const child = value[key];
+      if (child && typeof child === 'object' && key !== 'range' && isPlain(child)) stack.push(child);
+    }
+  }
+}
+
+// Whether [start, end] meets any of the ranges
+function touches(start, end, ranges) {
+  for (const range of ranges) {
+    if (range.startIndex <= end && start <= range.endIndex) return true;
+  }
+  return false;
+}
+
+export class FunctionReuse {
+  constructor() {
+    // Functions of the last conversion: { type, start, end, ir, sites, delta }
+    this.functions = [];
+    // Of those, the ones the edits since did not touch, by start in the new source
+    this.unchanged = new Map();
+    // Subgraphs of the last conversion, by Function IR
+    this.subgraphs = new Map();
+    // View nodes left unread this conversion -> their function
+    this.leaves = new Map();
+    this.seen = [];
+    this.seenSubgraphs = new Map();
+  }
+
+  /**
+   * Carry over the functions the edits did not touch
+   * @param {Array<Object>} edits - Tree-sitter input edits ({ startIndex, oldEndIndex, newEndIndex })
+   *   in the order they were applied, each relative to the text the one before left
+   * @param {Array<Object>} changedRanges - Ranges the re-parse changed, in new-source offsets
+   */
+  applyEdits(edits, changedRanges) {
+    this.unchanged = new Map();
+    for (const fn of this.functions) {
+      let kept = true;
+      for (const edit of edits) {
+        if (edit.startIndex <= fn.end && fn.start <= edit.oldEndIndex) {
+          kept = false;
+          break;
+        }
+        if (edit.oldEndIndex <= fn.start) {
+          const delta = edit.newEndIndex - edit.oldEndIndex;
+          fn.start += delta;
+          fn.end += delta;
+          fn.delta += delta;
+        }
+      }
+      if (kept && !touches(fn.start, fn.end, changedRanges)) this.unchanged.set(fn.start, fn);
+    }
+  }
+
+  /**
+   * Forget everything, e.g. when the next conversion does not read the session's tree
+   */
+  clear() {
+    this.functions = [];
+    this.unchanged = new Map();
+    this.subgraphs = new Map();
+  }
+
+  /**
+   * Run a conversion with this reuse; what it records replaces the last one's.
+   * A conversion that throws leaves nothing to reuse.
+   * @param {Function} convert
+   * @returns {*} - Whatever convert returns
+   */
+  run(convert) {
+    const previous = current;
+    current = this;
+    this.leaves = new Map();
+    this.seen = [];
+    this.seenSubgraphs = new Map();
+    try {
+      const result = convert();
+      this.functions = this.seen.sort((a, b) => a.start - b.start);
+      this.subgraphs = this.seenSubgraphs;
+      return result;
+    } catch (error) {
+      this.functions = [];
+      this.subgraphs = new Map();
+      throw error;
+    } finally {
+      this.unchanged = new Map();
+      this.leaves = new Map();
+      this.seen = [];
+      this.seenSubgraphs = new Map();
+      current = previous;
+    }
+  }
+
+  /**
+   * Whether a view node is a carried-over function (its subtree is then not read)
+   * @param {Object} view - Syntax view node
+   * @returns {boolean}
+   */
+  skip(view) {
+    const fn = this.unchanged.get(view.startIndex);
+    if (!fn || fn.end !== view.endIndex || fn.type !== view.type) return false;
+    this.unchanged.delete(view.startIndex);
+    this.leaves.set(view, fn);
+    return true;
+  }
+
+  // A carried-over function, its ranges moved to where it is now
+  take(view) {
+    const fn = this.leaves.get(view);
+    if (!fn) return null;
+    if (fn.delta !== 0) {
+      shiftRanges(fn.ir, fn.delta);
+      for (const site of fn.sites) {
+        site.start += fn.delta;
+        site.end += fn.delta;
+      }
+      fn.delta = 0;
+    }
+    return fn;
+  }
+
+  reused(view) {
+    const fn = this.take(view);
+    if (!fn) return null;
+    this.seen.push(fn);
+    return fn.ir;
+  }
+
+  keep(view, ir) {
+    this.seen.push({ type: view.type, start: view.startIndex, end: view.endIndex, ir, sites: [], delta: 0 });
+  }
+
+  /**
+   * Call sites of a carried-over function, for the collector to splice in
+   * @param {Object} view - Syntax view node
+   * @returns {Array|null}
+   */
+  sitesOf(view) {
+    const fn = this.take(view);
+    return fn ? fn.sites : null;
+  }
+
+  /**
+   * Hand each function recorded so far the call sites inside it
+   * @param {Array<{ start: number, end: number }>} sites - Call sites in source order
+   */
+  keepSites(sites) {
+    for (const fn of this.seen) {
+      let i = lowerBound(sites, fn.start);
+      const own = [];
+      for (; i < sites.length && sites[i].start < fn.end; i++) own.push(sites[i]);
+      fn.sites = own;
+    }
+  }
+
+  /**
+   * Subgraph a Function IR had in the last conversion; it is kept for the next one
+   * @param {Object} fnNode - Function IR
+   * @returns {Object|null} - { lines, base, count, ... } (see cache/subgraph-cache.mjs)
+   */
+  subgraph(fnNode) {
+    const subgraph = this.subgraphs.get(fnNode) || this.seenSubgraphs.get(fnNode);
+    if (!subgraph) return null;
+    this.seenSubgraphs.set(fnNode, subgraph);
+    return subgraph;
+  }
+
+  /**
+   * Record the subgraph built for a Function IR
+   * @param {Object} fnNode - Function IR
+   * @param {Object} subgraph - { lines, base, count, ... }
+   */
+  keepSubgraph(fnNode, subgraph) {
+    this.seenSubgraphs.set(fnNode, subgraph);
+  }
+
+  /**
+   * Estimated memory of the kept subgraphs
+   * @param {Function} bytesOf - (subgraph) => bytes
+   * @returns {number}
+   */
+  bytes(bytesOf) {
+    let bytes = 0;
+    for (const subgraph of this.subgraphs.values()) bytes += bytesOf(subgraph);
+    return bytes;
+  }
+}
+
+// First site starting at or after `start`
+function lowerBound(sites, start) {
+  let lo = 0;
+  let hi = sites.length;
+  while (lo < hi) {
+    const mid = (lo + hi) >> 1;
+    if (sites[mid].start < start) lo = mid + 1;
+    else hi = mid;
+  }
+  return lo;
+}
@@ -0,0 +1,51 @@
+/**
+ * On-demand access to the npm-installed Tree-sitter grammars
+ */
+
+const GRAMMAR_LOADERS = {
+  c: async () => (await import('tree-sitter-c')).default,
+  cpp: async () => (await import('tree-sitter-cpp')).default,
+  java: async () => (await import('tree-sitter-java')).default,
+  javascript: async () => (await import('tree-sitter-javascript')).default,
+  python: async () => (await import('tree-sitter-python')).default,
+  typescript: async () => (await import('tree-sitter-typescript')).default.typescript
+};
+
+// Top-level function node types per language, used to map changed ranges to functions
+export const FUNCTION_NODE_TYPES = {
+  c: ['function_definition'],
+  cpp: ['function_definition'],
+  java: ['method_declaration', 'constructor_declaration'],
+  javascript: ['function_declaration', 'method_definition'],
+  python: ['function_definition'],
+  typescript: ['function_declaration', 'method_definition']
+};
+
+const grammars = new Map();
+
+/**
+ * Whether the language is parsed with an npm Tree-sitter grammar
+ * @param {string} language - Normalized language key
+ * @returns {boolean}
+ */
+export function hasGrammar(language) {
+  return Object.prototype.hasOwnProperty.call(GRAMMAR_LOADERS, language);
+}
+
+/**
+ * Load (once) the Tree-sitter grammar for a language
+ * @param {string} language - Normalized language key
+ * @returns {Promise<Object>} - Tree-sitter Language
+ */
+export async function loadGrammar(language) {
+  if (!hasGrammar(language)) {
+    throw new Error(`No tree-sitter grammar registered for ${language}`);
+  }
+  if (!grammars.has(language)) {
+    const pending = GRAMMAR_LOADERS[language]();
+    // Do not cache a failed load, so a later call can retry
+    pending.catch(() => grammars.delete(language));
+    grammars.set(language, pending);
+  }
+  return grammars.get(language);
+}
@@ -0,0 +1,274 @@
+/**
+ * Compact graph-JSON output: the flowchart as columnar node and edge tables,
+ * for clients that want a graph rather than Mermaid text. Contexts built on a
+ * FlowGraph are read directly from its typed tables (shapes, edge kinds and
+ * the source ranges recorded for the call-site table); function subgraph bodies
+ * and the contexts that keep plain line lists are read one line at a time, so
+ * no Mermaid document is built on the way.
+ *
+ * Layout (version 1):
+ *   nodes.id / kind / label - one entry per node; `kind` indexes `nodeKinds`.
+ *     Subgraphs are nodes of kind 'subgraph', so edges can target them.
+ *   subgraphs - [{ node, members }]: a subgraph's node index and the nodes
+ *     declared inside it, as [first, count] runs of consecutive node indexes
+ *   ranges - flat [node, start, end] triples with the [start, end) source
+ *     offsets of the nodes the pipeline recorded one for; omitted when none
+ *   edges.from / to / label / kind - node indexes, an index into `edgeLabels`
+ *     (whose entry 0 is null, for unlabelled edges) and an index into `edgeKinds`
+ */
+
+import { Shape, EdgeKind, parseShape } from './flow-graph.mjs';
+
+export const GRAPH_FORMAT_VERSION = 1;
+
+// Indexed by Shape, with subgraphs last
+export const NODE_KINDS = ['raw', 'terminal', 'process', 'decision', 'io', 'return', 'function', 'subgraph'];
+const SUBGRAPH = NODE_KINDS.length - 1;
+
+// Indexed by EdgeKind
+export const EDGE_KINDS = ['arrow', 'link', 'dotted'];
+
+// 'compact' is Mermaid too, in its wire form (see compact-mermaid.mjs)
+export const OUTPUT_FORMATS = ['mermaid', 'graph', 'compact'];
+
+/**
+ * Parse an output format from a request value
+ * @param {*} value - Query/body/CLI value
+ * @returns {string|undefined|null} - Format, undefined when absent, null when unknown
+ */
+export function parseOutputFormat(value) {
+  if (value === undefined || value === null || value === '') return undefined;
+  const format = String(value).toLowerCase();
+  return OUTPUT_FORMATS.includes(format) ? format : null;
+}
+
+const ID = '[A-Za-z_][\\w]*';
+const NODE_LINE = new RegExp(`^(${ID})([^\\w\\s].*)?$`);
+const SUBGRAPH_LINE = new RegExp(`^subgraph\\s+(${ID})\\s*(.*)$`);
+const LABELLED_EDGE = new RegExp(`^(${ID})\\s+(<?)--\\s+(.+?)\\s+-->\\s+(${ID})$`);
+const PIPE_EDGE = new RegExp(`^(${ID})\\s+(<?)-->\\|(.*?)\\|\\s*(${ID})$`);
+const PLAIN_EDGE = new RegExp(`^(${ID})\\s+(<?)-->\\s+(${ID})$`);
+const DOTTED_EDGE = new RegExp(`^(${ID})\\s+-\\.->\\s+(${ID})$`);
+
+export class GraphBuilder {
+  constructor() {
+    this.index = new Map();
+    this.ids = [];
+    this.kinds = [];
+    this.labels = [];
+    this.parents = [];
+    // Node index -> [start, end)
+    this.ranges = new Map();
+    this.from = [];
+    this.to = [];
+    this.edgeLabel = [];
+    this.edgeKind = [];
+    this.edgeLabels = [null];
+    this.edgeLabelIndex = new Map();
+    // Node indexes of the subgraphs currently open
+    this.open = [];
+  }
+
+  /**
+   * Node index for an ID; IDs only referenced by edges become raw nodes labelled
+   * with the ID, as in Mermaid
+   * @param {string} id
+   * @returns {number}
+   */
+  ref(id) {
+    let index = this.index.get(id);
+    if (index === undefined) {
+      index = this.ids.length;
+      this.index.set(id, index);
+      this.ids.push(id);
+      this.kinds.push(Shape.RAW);
+      this.labels.push(id);
+      this.parents.push(-1);
+    }
+    return index;
+  }
+
+  /**
+   * Declare a node; a later declaration of the same ID replaces its label
+   * @param {string} id - Node ID
+   * @param {number} kind - Index into NODE_KINDS
+   * @param {string} label - Label text without the shape wrapper
+   * @param {Array<number>} [range] - [start, end) source offsets
+   * @returns {number} - Node index
+   */
+  node(id, kind, label, range = null) {
+    const index = this.ref(id);
+    this.kinds[index] = kind;
+    this.labels[index] = label;
+    if (this.open.length) this.parents[index] = this.open[this.open.length - 1];
+    if (range) this.ranges.set(index, range);
+    return index;
+  }
+
+  edge(from, to, label = null, kind = EdgeKind.ARROW) {
+    let l = 0;
+    if (label !== null && label !== undefined) {
+      l = this.edgeLabelIndex.get(label);
+      if (l === undefined) {
+        l = this.edgeLabels.length;
+        this.edgeLabels.push(label);
+        this.edgeLabelIndex.set(label, l);
+      }
+    }
+    this.from.push(this.ref(from));
+    this.to.push(this.ref(to));
+    this.edgeLabel.push(l);
+    this.edgeKind.push(kind);
+  }
+
+  beginSubgraph(id, label) {
+    this.open.push(this.node(id, SUBGRAPH, label));
+  }
+
+  endSubgraph() {
+    this.open.pop();
+  }
+
+  /**
+   * Add one Mermaid statement line (node, edge, subgraph start or end); headers,
+   * comments and styling lines are skipped
+   * @param {string} text
+   */
+  line(text) {
+    const line = text.trim();
+    if (!line || line.startsWith('%%')) return;
+    if (line === 'end') {
+      this.endSubgraph();
+      return;
+    }
+
+    let match = SUBGRAPH_LINE.exec(line);
+    if (match) {
+      this.beginSubgraph(match[1], match[2] ? parseShape(match[2]).text : match[1]);
+      return;
+    }
+    if ((match = PLAIN_EDGE.exec(line))) {
+      this.edge(match[1], match[3], null, match[2] ? EdgeKind.LINK : EdgeKind.ARROW);
+      return;
+    }
+    if ((match = LABELLED_EDGE.exec(line)) || (match = PIPE_EDGE.exec(line))) {
+      this.edge(match[1], match[4], match[3], match[2] ? EdgeKind.LINK : EdgeKind.ARROW);
+      return;
+    }
+    if ((match = DOTTED_EDGE.exec(line))) {
+      this.edge(match[1], match[2], null, EdgeKind.DOTTED);
+      return;
+    }
+    // Shaped labels follow the ID directly, so `flowchart TD` or `style ...` never match
+    if ((match = NODE_LINE.exec(line))) {
+      if (!match[2]) {
+        this.ref(match[1]);
+        return;
+      }
+      const { shape, text: label } = parseShape(match[2]);
+      this.node(match[1], shape, label);
+    }
+  }
+
+  /**
+   * Add every line of a list or iterable
+   * @param {Iterable<string>} lines
+   * @returns {GraphBuilder}
+   */
+  lines(lines) {
+    for (const line of lines) this.line(line);
+    return this;
+  }
+
+  /**
+   * Add the node section of a FlowGraph (nodes, and raw lines such as subgraphs)
+   * @param {Object} graph - FlowGraph
+   * @param {Object|null} [callSites] - CallSiteTable whose owners carry node source ranges
+   * @returns {GraphBuilder}
+   */
+  graphNodes(graph, callSites = null) {
+    const ranges = callSites ? callSites.ranges() : null;
+    for (let i = 0; i < graph.entryCount; i++) {
+      const entry = graph.entries[i];
+      if (entry < 0) {
+        this.line(graph.raw[~entry]);
+      } else {
+        this.node(graph.nodeId(entry), graph.nodeShapeOf(entry), graph.nodeText(entry), ranges && ranges.get(entry));
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Add the live edges of a FlowGraph
+   * @param {Object} graph - FlowGraph
+   * @returns {GraphBuilder}
+   */
+  graphEdges(graph) {
+    for (let e = 0; e < graph.edgeCount; e++) {
+      if (!graph.edgeRemoved[e]) {
+        this.edge(graph.edgeSource(e), graph.edgeTarget(e), graph.edgeLabelOf(e), graph.edgeKind[e]);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Add a whole FlowGraph
+   * @param {Object} graph - FlowGraph
+   * @param {Object|null} [callSites] - CallSiteTable for node source ranges
+   * @returns {GraphBuilder}
+   */
+  flowGraph(graph, callSites = null) {
+    return this.graphNodes(graph, callSites).graphEdges(graph);
+  }
+
+  /**
+   * The graph in its serialized layout
+   * @returns {Object}
+   */
+  toJSON() {
+    const subgraphs = [];
+    const members = new Map();
+    this.kinds.forEach((kind, index) => {
+      if (kind !== SUBGRAPH) return;
+      const runs = [];
+      members.set(index, runs);
+      subgraphs.push({ node: index, members: runs });
+    });
+    this.parents.forEach((parent, index) => {
+      const runs = parent === -1 ? null : members.get(parent);
+      if (!runs) return;
+      const last = runs.length - 2;
+      if (last >= 0 && runs[last] + runs[last + 1] === index) runs[last + 1]++;
+      else runs.push(index, 1);
+    });
+
+    const graph = {
+      version: GRAPH_FORMAT_VERSION,
+      nodeKinds: NODE_KINDS,
+      edgeKinds: EDGE_KINDS,
+      nodes: { id: this.ids, kind: this.kinds, label: this.labels },
+      subgraphs,
+      edges: { from: this.from, to: this.to, label: this.edgeLabel, kind: this.edgeKind },
+      edgeLabels: this.edgeLabels
+    };
+    if (this.ranges.size) {
+      const ranges = [];
+      for (const [index, [start, end]] of [...this.ranges].sort((a, b) => a[0] - b[0])) {
+        ranges.push(index, start, end);
+      }
+      graph.ranges = ranges;
+    }
+    return graph;
+  }
+}
+
+/**
+ * Graph from Mermaid lines, for contexts that keep their output as line lists
+ * @param {Iterable<string>} lines
+ * @returns {Object} - Serialized graph
+ */
+export function graphFromLines(lines) {
+  return new GraphBuilder().lines(lines).toJSON();
+}
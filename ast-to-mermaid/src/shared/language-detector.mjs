@@ -0,0 +1,199 @@
+/**
+ * Keyword-scoring language detector shared by the server and the frontend.
+ * Scans at most a fixed-size prefix of the input once, so the cost does not
+ * grow with the size of the upload. Dependency-free so it can run in a browser.
+ */
+
+// Only this many leading characters are ever inspected
+export const DETECT_PREFIX_CHARS = 16 * 1024;
+
+export const DETECTABLE_LANGUAGES = ['c', 'cpp', 'java', 'javascript', 'typescript', 'python', 'pascal', 'fortran'];
+
+// Case-sensitive tokens -> per-language weights. TypeScript is a superset of JavaScript, so shared
+// tokens weigh the same for both and only type syntax tips the balance towards TypeScript.
+const KEYWORDS = {
+  '#include': { c: 3, cpp: 3 },
+  printf: { c: 2, cpp: 0.5 },
+  scanf: { c: 2, cpp: 0.5 },
+  fprintf: { c: 2, cpp: 0.5 },
+  fopen: { c: 2, cpp: 0.5 },
+  malloc: { c: 2, cpp: 0.5 },
+  free: { c: 1 },
+  strlen: { c: 2, cpp: 0.5 },
+  strcpy: { c: 2, cpp: 0.5 },
+  struct: { c: 1, cpp: 0.5 },
+  std: { cpp: 3 },
+  cout: { cpp: 3 },
+  cin: { cpp: 3 },
+  endl: { cpp: 3 },
+  namespace: { cpp: 2, typescript: 0.5 },
+  template: { cpp: 2 },
+  class: { cpp: 1, java: 1, python: 0.5, javascript: 0.5, typescript: 0.5 },
+  void: { c: 1, cpp: 1, java: 1, typescript: 0.5 },
+  int: { c: 1, cpp: 1, java: 1 },
+  public: { java: 1.5, cpp: 0.5, typescript: 0.5 },
+  private: { java: 1, cpp: 0.5, typescript: 0.5 },
+  static: { java: 1, c: 0.5, cpp: 0.5 },
+  System: { java: 3 },
+  String: { java: 1.5 },
+  Scanner: { java: 3 },
+  extends: { java: 1, typescript: 0.5, javascript: 0.5 },
+  implements: { java: 1.5, typescript: 0.5 },
+  import: { java: 0.5, javascript: 1, typescript: 1, python: 1 },
+  export: { javascript: 1.5, typescript: 1.5 },
+  def: { python: 3 },
+  elif: { python: 3 },
+  self: { python: 2 },
+  None: { python: 2 },
+  True: { python: 1.5 },
+  False: { python: 1.5 },
+  range: { python: 1 },
+  input: { python: 1 },
+  print: { python: 1.5 },
+  function: { javascript: 2, typescript: 2 },
+  const: { javascript: 2, typescript: 2, cpp: 0.5, c: 0.5 },
+  let: { javascript: 2, typescript: 2 },
+  console: { javascript: 2, typescript: 2 },
+  undefined: { javascript: 2, typescript: 2 },
+  require: { javascript: 2 },
+  '=>': { javascript: 1.5, typescript: 1.5 },
+  '===': { javascript: 1.5, typescript: 1.5 },
+  interface: { typescript: 2, java: 1 },
+  enum: { typescript: 1, java: 0.5, c: 0.5, cpp: 0.5 },
+  '::': { cpp: 2 },
+  '<<': { cpp: 1 },
+  ':=': { pascal: 2 }
+};
+
+// Case-insensitive tokens (Pascal and Fortran keywords) -> per-language weights
+const KEYWORDS_CI = {
+  begin: { pascal: 2 },
+  end: { pascal: 0.5, fortran: 0.5 },
+  writeln: { pascal: 3 },
+  readln: { pascal: 3 },
+  procedure: { pascal: 3 },
+  downto: { pascal: 3 },
+  repeat: { pascal: 2 },
+  until: { pascal: 2 },
+  var: { pascal: 1, javascript: 1, typescript: 0.5 },
+  then: { pascal: 1, fortran: 1 },
+  program: { pascal: 1, fortran: 1 },
+  integer: { pascal: 1, fortran: 1 },
+  implicit: { fortran: 3 },
+  subroutine: { fortran: 3 },
+  endif: { fortran: 3 },
+  enddo: { fortran: 3 },
+  allocate: { fortran: 2 },
+  real: { fortran: 1, pascal: 0.5 }
+};
+
+// Two-token patterns that are stronger than either token alone: previous token -> token -> weights
+const PAIRS = {
+  ':': {
+    number: { typescript: 3 },
+    string: { typescript: 3 },
+    boolean: { typescript: 3 },
+    any: { typescript: 3 },
+    void: { typescript: 2 },
+    integer: { pascal: 2 }
+  },
+  '.': {
+    log: { javascript: 1, typescript: 1 },
+    println: { java: 2 },
+    nextInt: { java: 3 }
+  },
+  implicit: { none: { fortran: 3 } },
+  end: { '.': { pascal: 3 }, program: { fortran: 3 }, do: { fortran: 2 }, if: { fortran: 2 } },
+  print: { '*': { fortran: 3 } },
+  write: { '(': { pascal: 1, fortran: 1 } }
+};
+
+// Fortran declarations (`integer :: x`) also use `::`; those must not count as C++
+const FORTRAN_TYPES = new Set(['integer', 'real', 'character', 'logical', 'complex', 'double', 'precision']);
+
+// String literals are skipped; everything else is a word, a multi-char operator or one character
+const TOKEN = /"(?:[^"\\\n]|\\.)*"|'(?:[^'\\\n]|\\.)*'|#\s*include|[A-Za-z_][A-Za-z0-9_]*|===|::|<<|=>|:=|\S/g;
+
+// Table lookup that ignores inherited keys such as `constructor` or `toString`
+const own = (table, key) => (key !== null && Object.prototype.hasOwnProperty.call(table, key) ? table[key] : undefined);
+
+function addWeights(scores, weights) {
+  if (!weights) return;
+  for (const language in weights) {
+    scores[language] += weights[language];
+  }
+}
+
+/**
+ * Score every detectable language from a single pass over a bounded prefix
+ * @param {string} code - Source code
+ * @param {Object} [options] - { prefixChars } to change the scanned prefix length
+ * @returns {Array<{ language: string, score: number, confidence: number }>} - Languages with a
+ *   positive score, best first; confidences sum to 1
+ */
+export function rankLanguages(code, { prefixChars = DETECT_PREFIX_CHARS } = {}) {
+  const src = String(code || '');
+  const prefix = src.length > prefixChars ? src.slice(0, prefixChars) : src;
+
+  const scores = {};
+  for (const language of DETECTABLE_LANGUAGES) scores[language] = 0;
+
+  let previous = null;
+  let previousLower = null;
+  TOKEN.lastIndex = 0;
+  let match;
+  while ((match = TOKEN.exec(prefix)) !== null) {
+    let token = match[0];
+    const first = token.charCodeAt(0);
+    if (first === 34 || first === 39) {
+      // "..." or '...' literal
+      previous = previousLower = null;
+      continue;
+    }
+    if (first === 35 && token !== '#') token = '#include';
+
+    const lower = token.toLowerCase();
+
+    if (token === '::' && FORTRAN_TYPES.has(previousLower)) {
+      scores.fortran += 3;
+    } else {
+      addWeights(scores, own(KEYWORDS, token));
+    }
+    addWeights(scores, own(KEYWORDS_CI, lower));
+
+    const pairs = own(PAIRS, previous) || own(PAIRS, previousLower);
+    if (pairs) addWeights(scores, own(pairs, token) || own(pairs, lower));
+
+    previous = token;
+    previousLower = lower;
+  }
+
+  let total = 0;
+  for (const language of DETECTABLE_LANGUAGES) total += scores[language];
+
+  return DETECTABLE_LANGUAGES
+    .filter(language => scores[language] > 0)
+    .map(language => ({ language, score: scores[language], confidence: scores[language] / total }))
+    .sort((a, b) => b.score - a.score);
+}
+
+/**
+ * Whether the top candidates are too close to call from keywords alone
+ * @param {Array} ranking - Result of rankLanguages()
+ * @returns {boolean}
+ */
+export function isAmbiguous(ranking) {
+  if (ranking.length < 2) return false;
+  const [best, second] = ranking;
+  return best.confidence < 0.4 || second.score >= best.score * 0.75;
+}
+
+/**
+ * Best-scoring language, or null when nothing matched
+ * @param {string} code - Source code
+ * @returns {string|null}
+ */
+export function detectLanguage(code) {
+  const ranking = rankLanguages(code);
+  return ranking.length > 0 ? ranking[0].language : null;
+}
@@ -0,0 +1,178 @@
+/**
+ * Lazy registry of language packs. Each pack (pipeline, normalizer, native
+ * grammar) is loaded with dynamic import() the first time it is needed, and
+ * only languages on the allow-list can be loaded at all.
+ */
+
+import { extname } from 'path';
+
+// language key -> loader for its pipeline/flow.mjs
+const LANGUAGE_PACKS = {
+  c: () => import('../mappings/languages/c/pipeline/flow.mjs'),
+  cpp: () => import('../mappings/languages/cpp/pipeline/flow.mjs'),
+  java: () => import('../mappings/languages/java/pipeline/flow.mjs'),
+  javascript: () => import('../mappings/languages/javascript/pipeline/flow.mjs'),
+  typescript: () => import('../mappings/languages/typescript/pipeline/flow.mjs'),
+  python: () => import('../mappings/languages/python/pipeline/flow.mjs'),
+  pascal: () => import('../mappings/languages/pascal/pipeline/flow.mjs'),
+  fortran: () => import('../mappings/languages/fortran/pipeline/flow.mjs')
+};
+
+export const REGISTERED_LANGUAGES = Object.keys(LANGUAGE_PACKS);
+
+// File extension -> language key, for sources named without a language (`.h` is read as C)
+const LANGUAGE_EXTENSIONS = {
+  '.c': 'c', '.h': 'c',
+  '.cpp': 'cpp', '.cc': 'cpp', '.cxx': 'cpp', '.hpp': 'cpp', '.hh': 'cpp', '.hxx': 'cpp',
+  '.java': 'java',
+  '.js': 'javascript', '.mjs': 'javascript', '.cjs': 'javascript', '.jsx': 'javascript',
+  '.ts': 'typescript', '.mts': 'typescript', '.cts': 'typescript', '.tsx': 'typescript',
+  '.py': 'python',
+  '.pas': 'pascal', '.pp': 'pascal', '.dpr': 'pascal',
+  '.f': 'fortran', '.for': 'fortran', '.f90': 'fortran', '.f95': 'fortran', '.f03': 'fortran', '.f08': 'fortran'
+};
+
+// Tiny programs used to load grammars and JIT the hot mapping paths up front
+export const WARM_UP_SOURCES = {
+  c: 'int main() { int i = 0; if (i > 0) { i--; } return 0; }',
+  cpp: '#include <iostream>\nint main() { for (int i = 0; i < 2; i++) { std::cout << i; } return 0; }',
+  java: 'public class Main { public static void main(String[] args) { int x = 1; if (x > 0) { x--; } } }',
+  javascript: 'function main() { let x = 1; if (x > 0) { x--; } }',
+  typescript: 'function main(): void { let x: number = 1; while (x > 0) { x--; } }',
+  python: 'def main():\n    x = 1\n    if x > 0:\n        print(x)\n',
+  pascal: 'program Main;\nvar x: integer;\nbegin\n  x := 1;\n  if x > 0 then writeln(x);\nend.',
+  fortran: 'program main\n  implicit none\n  integer :: x\n  x = 1\n  if (x > 0) then\n    print *, x\n  end if\nend program main'
+};
+
+const parseLanguageList = (value) => String(value)
+  .split(',')
+  .map(s => s.trim().toLowerCase())
+  .filter(Boolean);
+
+// AST2M_LANGUAGES restricts which packs may be loaded (default: all)
+let enabled = new Set(process.env.AST2M_LANGUAGES
+  ? parseLanguageList(process.env.AST2M_LANGUAGES).filter(l => REGISTERED_LANGUAGES.includes(l))
+  : REGISTERED_LANGUAGES);
+
+// language -> Promise<module>
+const packs = new Map();
+// language -> { loadMs, rssDeltaBytes, heapDeltaBytes, warmMs }
+const loadStats = new Map();
+
+/**
+ * Restrict the registry to a set of languages
+ * @param {Array<string>|string} languages - Language keys, or a comma-separated list
+ */
+export function setEnabledLanguages(languages) {
+  const list = Array.isArray(languages) ? languages : parseLanguageList(languages);
+  enabled = new Set(list.filter(l => REGISTERED_LANGUAGES.includes(l)));
+}
+
+/**
+ * Enabled language keys
+ * @returns {Array<string>}
+ */
+export function getEnabledLanguages() {
+  return REGISTERED_LANGUAGES.filter(l => enabled.has(l));
+}
+
+/**
+ * Whether a language has a pack and is on the allow-list
+ * @param {string} language - Normalized language key
+ * @returns {boolean}
+ */
+export function isLanguageEnabled(language) {
+  return enabled.has(language);
+}
+
+/**
+ * Whether a language has a registered pack, enabled or not
+ * @param {string} language - Normalized language key
+ * @returns {boolean}
+ */
+export function hasLanguagePack(language) {
+  return Object.prototype.hasOwnProperty.call(LANGUAGE_PACKS, language);
+}
+
+/**
+ * Language of a source file, from its extension
+ * @param {string} path - File path or name
+ * @returns {string|null} - Language key, or null for an unknown extension
+ */
+export function languageForPath(path) {
+  return LANGUAGE_EXTENSIONS[extname(path).toLowerCase()] || null;
+}
+
+/**
+ * Load (once) the pack for a language
+ * @param {string} language - Normalized language key
+ * @returns {Promise<{ generateFlowchart: Function }>} - The language's pipeline module
+ */
+export function loadLanguagePack(language) {
+  if (!hasLanguagePack(language)) {
+    return Promise.reject(new Error(`Unsupported language: ${language}`));
+  }
+  if (!isLanguageEnabled(language)) {
+    return Promise.reject(new Error(`Language ${language} is not enabled (AST2M_LANGUAGES)`));
+  }
+
+  if (!packs.has(language)) {
+    const before = process.memoryUsage();
+    const started = performance.now();
+    const pending = LANGUAGE_PACKS[language]().then((module) => {
+      const after = process.memoryUsage();
+      loadStats.set(language, {
+        loadMs: Math.round((performance.now() - started) * 100) / 100,
+        // Approximate: concurrent loads and GC also move these numbers
+        rssDeltaBytes: after.rss - before.rss,
+        heapDeltaBytes: after.heapUsed - before.heapUsed,
+        warmMs: loadStats.get(language)?.warmMs ?? null
+      });
+      return module;
+    });
+    // Do not cache a failed load, so a later call can retry
+    pending.catch(() => packs.delete(language));
+    packs.set(language, pending);
+  }
+  return packs.get(language);
+}
+
+/**
+ * Load every enabled pack and run one synthetic conversion through each, so
+ * the first real request does not pay for grammar loading or JIT warm-up
+ * @param {Array<string>} [languages] - Languages to warm (default: all enabled)
+ * @returns {Promise<Object>} - Per-language { loadMs, warmMs } or { error }
+ */
+export async function warmUpLanguages(languages = getEnabledLanguages()) {
+  const report = {};
+  for (const language of languages) {
+    if (!isLanguageEnabled(language)) continue;
+    try {
+      const pack = await loadLanguagePack(language);
+      const started = performance.now();
+      await pack.generateFlowchart(WARM_UP_SOURCES[language] || '');
+      const warmMs = Math.round((performance.now() - started) * 100) / 100;
+      loadStats.set(language, { ...loadStats.get(language), warmMs });
+      report[language] = { loadMs: loadStats.get(language).loadMs, warmMs };
+    } catch (error) {
+      console.error(`[ast2m] warm-up failed for ${language}:`, error.message);
+      report[language] = { error: error.message };
+    }
+  }
+  return report;
+}
+
+/**
+ * Enabled and loaded packs, per-pack load/warm timings and current memory use
+ * @returns {Object}
+ */
+export function getLanguageRegistryStats() {
+  const { rss, heapUsed } = process.memoryUsage();
+  return {
+    enabled: getEnabledLanguages(),
+    loaded: Object.fromEntries(loadStats),
+    uptimeMs: Math.round(process.uptime() * 1000),
+    rssBytes: rss,
+    heapUsedBytes: heapUsed
+  };
+}
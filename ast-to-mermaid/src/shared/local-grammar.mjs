@@ -0,0 +1,57 @@
+/**
+ * In-process loading of the locally cloned Tree-sitter grammars (Pascal, Fortran)
+ */
+
+import { createRequire } from 'module';
+import { join, dirname } from 'path';
+import { fileURLToPath } from 'url';
+import { withParser, parseSource } from './parser-pool.mjs';
+
+const require = createRequire(import.meta.url);
+const __dirname = dirname(fileURLToPath(import.meta.url));
+
+export const PARSERS_DIR = join(__dirname, '../../parsers');
+
+// grammar name -> Language object, or null when the native binding is unavailable
+const grammars = new Map();
+
+/**
+ * Load the native Node binding of a grammar cloned under parsers/tree-sitter-<name>
+ * @param {string} name - Grammar name (e.g. 'pascal', 'fortran')
+ * @returns {Object|null} - Tree-sitter Language, or null if it cannot be loaded
+ */
+export function loadLocalGrammar(name) {
+  if (grammars.has(name)) return grammars.get(name);
+
+  let language = null;
+  try {
+    language = require(join(PARSERS_DIR, `tree-sitter-${name}`)) || null;
+  } catch (error) {
+    console.warn(`Unable to load tree-sitter-${name} binding in-process:`, error.message);
+    language = null;
+  }
+
+  grammars.set(name, language);
+  return language;
+}
+
+/**
+ * Parse source with a locally cloned grammar through the shared parser pool
+ * @param {string} name - Grammar name
+ * @param {string} sourceCode - Source to parse
+ * @returns {Object|null} - Tree-sitter tree, or null if the grammar is unavailable
+ */
+export function parseWithLocalGrammar(name, sourceCode) {
+  const language = loadLocalGrammar(name);
+  if (!language) return null;
+  return withParser(name, language, (parser) => parseSource(parser, sourceCode));
+}
+
+/**
+ * Whether the `npx tree-sitter parse` route was explicitly enabled as a fallback
+ * @returns {boolean}
+ */
+export function isCLIFallbackEnabled() {
+  const flag = String(process.env.AST2M_TREE_SITTER_CLI || '').toLowerCase();
+  return flag === '1' || flag === 'true' || flag === 'yes';
+}
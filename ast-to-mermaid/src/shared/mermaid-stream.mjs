@@ -0,0 +1,91 @@
+/**
+ * Streaming output for Mermaid diagrams. Pipelines called with `{ lines: true }`
+ * return their lines lazily; these helpers group them into bounded chunks and
+ * write them to a stream, waiting for `drain` whenever the stream is full, so a
+ * diagram never exists as one string on the way out.
+ */
+
+// Characters per chunk handed to stream.write()
+export const STREAM_CHUNK_CHARS = Number(process.env.AST2M_STREAM_CHUNK || 64 * 1024);
+
+/**
+ * Split a diagram into chunks of about `size` characters
+ * @param {string|Iterable<string>} output - Mermaid text, or its lines (joined with `\n`)
+ * @param {number} [size] - Target chunk length
+ * @yields {string}
+ */
+export function* mermaidChunks(output, size = STREAM_CHUNK_CHARS) {
+  if (typeof output === 'string') {
+    for (let start = 0; start < output.length;) {
+      let end = Math.min(start + size, output.length);
+      // Never split a surrogate pair across chunks
+      const last = output.charCodeAt(end - 1);
+      if (last >= 0xd800 && last <= 0xdbff && end < output.length) end++;
+      yield output.slice(start, end);
+      start = end;
+    }
+    return;
+  }
+
+  let parts = [];
+  let length = 0;
+  let first = true;
+  for (const line of output) {
+    if (!first) {
+      parts.push('\n');
+      length++;
+    }
+    first = false;
+    parts.push(line);
+    length += line.length;
+    if (length >= size) {
+      yield parts.join('');
+      parts = [];
+      length = 0;
+    }
+  }
+  if (length > 0) yield parts.join('');
+}
+
+/**
+ * Write chunks to a stream with backpressure. Stops early, without error, if the
+ * stream is destroyed (e.g. the client went away); the chunk source is closed.
+ * @param {Object} stream - Writable stream
+ * @param {Iterable|AsyncIterable<string|Uint8Array>} chunks - Chunks to write
+ * @returns {Promise<boolean>} - false if the stream closed before all chunks were written
+ */
+export async function writeChunks(stream, chunks) {
+  for await (const chunk of chunks) {
+    if (stream.destroyed) return false;
+    if (!stream.write(chunk)) await drained(stream);
+  }
+  return !stream.destroyed;
+}
+
+// Settles on drain or close (rejects on error) and removes its listeners either way
+function drained(stream) {
+  return new Promise((resolve, reject) => {
+    const done = () => settle(null);
+    const failed = (error) => settle(error);
+    const settle = (error) => {
+      stream.off('drain', done);
+      stream.off('close', done);
+      stream.off('error', failed);
+      if (error) reject(error);
+      else resolve();
+    };
+    stream.on('drain', done);
+    stream.on('close', done);
+    stream.on('error', failed);
+  });
+}
+
+/**
+ * Write a diagram (string or lines) to a stream in bounded chunks
+ * @param {Object} stream - Writable stream
+ * @param {string|Iterable<string>} output - Mermaid text or its lines
+ * @returns {Promise<boolean>} - false if the stream closed early
+ */
+export function writeMermaid(stream, output) {
+  return writeChunks(stream, mermaidChunks(output));
+}
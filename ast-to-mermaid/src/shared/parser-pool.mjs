@@ -0,0 +1,188 @@
+/**
+ * Shared pool of reusable Tree-sitter parsers, keyed by language
+ */
+
+import Parser from 'tree-sitter';
+import { currentBudget, BudgetExceeded } from './budget.mjs';
+
+// Maximum number of idle parsers kept per language
+const DEFAULT_MAX_IDLE = Number(process.env.AST2M_PARSER_POOL_SIZE || 4);
+
+// UTF-16 code units tree-sitter reads per call of an input callback
+const INPUT_CHUNK = 64 * 1024;
+
+// Share of the remaining time budget a parse may use; a parse cut off at its
+// share leaves the rest for drawing the source it read
+const PARSE_SHARE = 0.5;
+
+// language key -> { language, idle: Parser[], inUse, created, hits, misses }
+const pools = new Map();
+
+function getPool(key, language) {
+  let pool = pools.get(key);
+  if (!pool) {
+    pool = { language, idle: [], inUse: 0, created: 0, hits: 0, misses: 0 };
+    pools.set(key, pool);
+  } else if (language && pool.language !== language) {
+    // Grammar object changed (e.g. a reloaded module); drop stale parsers
+    pool.language = language;
+    pool.idle.length = 0;
+  }
+  return pool;
+}
+
+/**
+ * Check a parser out of the pool, creating one on a miss
+ * @param {string} key - Language key (e.g. 'java', 'typescript')
+ * @param {Object} language - Tree-sitter grammar object for the language
+ * @returns {Parser} - Parser with the language already set
+ */
+export function acquireParser(key, language) {
+  const pool = getPool(key, language);
+  let parser = pool.idle.pop();
+
+  if (parser) {
+    pool.hits++;
+  } else {
+    pool.misses++;
+    pool.created++;
+    parser = new Parser();
+    parser.setLanguage(pool.language);
+  }
+
+  pool.inUse++;
+  return parser;
+}
+
+/**
+ * Return a parser to the pool, resetting its state first
+ * @param {string} key - Language key used to acquire the parser
+ * @param {Parser} parser - Parser to return
+ */
+export function releaseParser(key, parser) {
+  const pool = pools.get(key);
+  if (!pool || !parser) return;
+
+  pool.inUse = Math.max(0, pool.inUse - 1);
+
+  try {
+    if (typeof parser.reset === 'function') parser.reset();
+    if (typeof parser.setTimeoutMicros === 'function') parser.setTimeoutMicros(0);
+  } catch (error) {
+    // A parser that cannot be reset is not safe to reuse
+    return;
+  }
+
+  if (pool.idle.length < DEFAULT_MAX_IDLE) {
+    pool.idle.push(parser);
+  }
+}
+
+/**
+ * Run a callback with a pooled parser. The parser is checked back in when the
+ * callback returns, or when its promise settles for async callbacks, so a
+ * parser is never shared between concurrent callers.
+ * @param {string} key - Language key
+ * @param {Object} language - Tree-sitter grammar object
+ * @param {Function} fn - Callback receiving the parser
+ * @returns {*} - Whatever the callback returns
+ */
+export function withParser(key, language, fn) {
+  const parser = acquireParser(key, language);
+  let result;
+
+  try {
+    result = fn(parser);
+  } catch (error) {
+    releaseParser(key, parser);
+    throw error;
+  }
+
+  if (result && typeof result.then === 'function') {
+    return result.finally(() => releaseParser(key, parser));
+  }
+
+  releaseParser(key, parser);
+  return result;
+}
+
+/**
+ * Tree-sitter input callback over a source string. Tree-sitter reads the source
+ * through it one chunk at a time, and each chunk is a slice that V8 shares with
+ * the source instead of copying it, so parsing makes no second copy of a large
+ * input.
+ * @param {string} source - Source code
+ * @param {Function} [stop] - () => true to end the input early
+ * @returns {Function} - (index) => chunk starting at that UTF-16 offset, or null at the end
+ */
+export function sourceInput(source, stop = null) {
+  return (index) => {
+    if (index >= source.length || (stop && stop())) return null;
+    return source.slice(index, index + INPUT_CHUNK);
+  };
+}
+
+/**
+ * Parse source through the input callback API. The tree keeps the source
+ * string as `tree.source`.
+ *
+ * Under a time budget (see shared/budget.mjs) the parse gets PARSE_SHARE of the
+ * time left: at that point the input ends, and the tree covers the source read
+ * so far (the budget records the cut). The parser's own timeout, set to the
+ * same point, bounds error recovery that reads no more input; a parse stopped
+ * that way has no tree and throws BudgetExceeded.
+ * @param {Parser} parser - Parser with the language set
+ * @param {string} source - Source code
+ * @param {Object} [oldTree] - Previous tree, for an incremental re-parse
+ * @returns {Object} - Tree-sitter tree
+ */
+export function parseSource(parser, source, oldTree) {
+  const budget = currentBudget();
+  let stop = null;
+  if (budget) {
+    if (budget.expired('parsing')) throw new BudgetExceeded(budget.exceeded);
+    const stopAt = budget.share(PARSE_SHARE);
+    stop = () => {
+      if (Date.now() < stopAt) return false;
+      budget.cut('parsing');
+      return true;
+    };
+    // The pool resets the timeout when the parser is released (0 means none)
+    if (typeof parser.setTimeoutMicros === 'function') {
+      parser.setTimeoutMicros(Math.max(1, stopAt - Date.now()) * 1000);
+    }
+  }
+  const tree = parser.parse(sourceInput(source, stop), oldTree || undefined, { bufferSize: INPUT_CHUNK });
+  if (!tree && budget) {
+    budget.cut('parsing');
+    throw new BudgetExceeded('parsing');
+  }
+  // Syntax views slice labels from the string instead of reading them back through the callback
+  if (tree) tree.source = source;
+  return tree;
+}
+
+/**
+ * Report pool hit/miss counts per language
+ * @returns {Object} - Stats keyed by language
+ */
+export function getParserPoolStats() {
+  const stats = {};
+  for (const [key, pool] of pools) {
+    stats[key] = {
+      hits: pool.hits,
+      misses: pool.misses,
+      created: pool.created,
+      idle: pool.idle.length,
+      inUse: pool.inUse
+    };
+  }
+  return stats;
+}
+
+/**
+ * Drop all idle parsers and reset counters
+ */
+export function clearParserPool() {
+  pools.clear();
+}
@@ -0,0 +1,94 @@
+/**
+ * Raw source input: a request body or stdin read straight into one buffer and
+ * decoded once, instead of being JSON-decoded and unescaped into a new string.
+ * The source is then parsed through the tree-sitter input callback (see
+ * parseSource() in parser-pool.mjs), which reads it in slices.
+ */
+
+// Default cap on a raw source, in bytes
+export const RAW_SOURCE_LIMIT = Number(process.env.AST2M_RAW_LIMIT || 32 * 1024 * 1024);
+
+// First buffer size when the length is not known up front
+const INITIAL_BYTES = 64 * 1024;
+
+export class RawSourceError extends Error {
+  constructor(message, status) {
+    super(message);
+    this.name = 'RawSourceError';
+    this.status = status;
+  }
+}
+
+/**
+ * Read a stream into a single buffer. When the length is known (e.g. from
+ * Content-Length) the buffer is allocated once at that size; otherwise it
+ * doubles as chunks arrive. Chunks are copied into it as they arrive and are
+ * not kept.
+ * @param {Readable} stream - Request body, stdin, ...
+ * @param {Object} [options]
+ * @param {number} [options.limit] - Maximum bytes; more rejects with status 413
+ * @param {number} [options.length] - Expected length in bytes, if known
+ * @returns {Promise<Buffer>} - The bytes read (a view of the buffer)
+ */
+export function readRawSource(stream, { limit = RAW_SOURCE_LIMIT, length = NaN } = {}) {
+  return new Promise((resolve, reject) => {
+    if (length > limit) {
+      // Do not read a body that is already known to be too large
+      stream.resume();
+      reject(new RawSourceError(`Source is larger than ${limit} bytes`, 413));
+      return;
+    }
+
+    let buffer = Buffer.allocUnsafe(length >= 0 ? length : Math.min(INITIAL_BYTES, limit));
+    let size = 0;
+    let done = false;
+
+    const finish = (error) => {
+      if (done) return;
+      done = true;
+      stream.off('data', onData);
+      stream.off('end', onEnd);
+      stream.off('error', finish);
+      stream.off('aborted', onAborted);
+      if (error) {
+        // Drain what is left so the connection can still be answered
+        stream.resume();
+        reject(error);
+      } else {
+        resolve(buffer.subarray(0, size));
+      }
+    };
+
+    const onData = (chunk) => {
+      if (size + chunk.length > limit) {
+        finish(new RawSourceError(`Source is larger than ${limit} bytes`, 413));
+        return;
+      }
+      if (size + chunk.length > buffer.length) {
+        const grown = Buffer.allocUnsafe(Math.min(limit, Math.max(buffer.length * 2, size + chunk.length)));
+        buffer.copy(grown, 0, 0, size);
+        buffer = grown;
+      }
+      size += chunk.copy(buffer, size);
+    };
+    const onEnd = () => finish(null);
+    const onAborted = () => finish(new RawSourceError('Request aborted', 400));
+
+    stream.on('data', onData);
+    stream.on('end', onEnd);
+    stream.on('error', finish);
+    stream.on('aborted', onAborted);
+  });
+}
+
+/**
+ * Decode raw UTF-8 source bytes into the source string pipelines take, without
+ * a leading byte order mark. Buffer decoding keeps ASCII sources as one-byte
+ * strings (TextDecoder would return a two-byte string twice the size).
+ * @param {Buffer} bytes
+ * @returns {string}
+ */
+export function decodeSource(bytes) {
+  const bom = bytes.length >= 3 && bytes[0] === 0xef && bytes[1] === 0xbb && bytes[2] === 0xbf;
+  return bytes.toString('utf8', bom ? 3 : 0);
+}
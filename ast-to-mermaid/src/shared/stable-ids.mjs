@@ -0,0 +1,285 @@
+/**
+ * Stable node IDs ({ ids: 'stable' }). Pipelines number nodes in the order they
+ * map them (N1, N2, ...), so a statement inserted near the top of a file renames
+ * every node after it. Stable IDs are instead derived from where a node comes
+ * from in the normalized IR: its structural path (the enclosing function, then
+ * the field and statement ordinal at each level down, e.g.
+ * fn:area/body.2/then/body.0), and its ordinal among the nodes mapped from that
+ * IR node. Labels play no part, so editing a statement's text keeps its ID (the
+ * diagram diff reports the node as relabeled), and identical statements in
+ * different places get different IDs. Converting the same source twice gives the
+ * same IDs, and an edit leaves the IDs outside the statements after it in the
+ * same block unchanged.
+ *
+ * The pipeline records the origins while it builds and emits (see NodeOrigins):
+ * contexts report each node ID they allocate, and the walk says which IR node
+ * it is on. Nodes allocated outside a walk (terminals, joins added while
+ * finalizing) are numbered in order within their subgraph. Function subgraphs
+ * are named by the function they draw.
+ *
+ * IDs are assigned from the emitted diagram in two passes (edges may name a
+ * function's nodes before its subgraph is written). Streamed output is
+ * buffered for it. A diagram with no recorded origins (the fallback converter)
+ * is named by node shape, label and occurrence instead.
+ */
+
+import crypto from 'crypto';
+import { parseShape } from './flow-graph.mjs';
+import { idNumber } from './compact-mermaid.mjs';
+
+export const ID_MODES = ['sequential', 'stable'];
+
+const ID = '[A-Za-z_][\\w]*';
+const HEADER = /^(flowchart|graph)\b/;
+const SUBGRAPH_LINE = new RegExp(`^subgraph\\s+(${ID})(.*)$`);
+const NODE_LINE = new RegExp(`^(${ID})([^\\w\\s-].*)?$`);
+// Edges name their source first and their target last, whatever the arrow and label
+const EDGE_LINE = new RegExp(`^(${ID})\\s+(?:<?--\\s+.+?\\s+-->\\s+|<?-->\\|.*?\\|\\s*|<?-->\\s+|-\\.->\\s+)(${ID})$`);
+// IDs in lines of any other form: at the start and after an arrow
+const ID_POSITION = new RegExp(`(^|-->\\|[^|]*\\|\\s*|-->\\s*|-\\.->\\s*)(${ID})`, 'g');
+
+const ID_DIGITS = 10;
+
+// One-shot hashing where the runtime has it; a diagram hashes every node
+const sha1 = crypto.hash
+  ? (text) => crypto.hash('sha1', text)
+  : (text) => crypto.createHash('sha1').update(text).digest('hex');
+
+/**
+ * Parse an ID mode from a request value
+ * @param {*} value - Query/body/CLI value
+ * @returns {string|undefined|null} - 'stable', undefined for the default numbering, null when invalid
+ */
+export function parseIdMode(value) {
+  if (value === undefined || value === null || value === '') return undefined;
+  const mode = String(value).toLowerCase();
+  if (!ID_MODES.includes(mode)) return null;
+  return mode === 'stable' ? mode : undefined;
+}
+
+/**
+ * Stable ID of a node
+ * @param {string} key - What names the node (see assignIds)
+ * @param {number} occurrence - Nodes with the same key before this one
+ * @returns {string}
+ */
+function stableId(key, occurrence) {
+  return `S${sha1(`${key}\0${occurrence}`).slice(0, ID_DIGITS)}`;
+}
+
+/**
+ * Structural path of every node of a normalized IR: the field names and array
+ * indexes leading to it, restarting at each Function (fn:name, with #n for a
+ * repeated name). Built without recursion; IR nesting can be deep.
+ * @param {Object|Array|null} root - Normalized IR
+ * @returns {Map<Object, string>}
+ */
+function structuralPaths(root) {
+  // A Map, not a WeakMap: it lives for one conversion, and weak entries are costly to collect
+  const paths = new Map();
+  const functions = new Map();
+  const stack = root && typeof root === 'object' ? [root, 'program'] : [];
+  while (stack.length) {
+    const path = stack.pop();
+    const value = stack.pop();
+    if (Array.isArray(value)) {
+      for (let i = value.length - 1; i >= 0; i--) {
+        if (value[i] && typeof value[i] === 'object') stack.push(value[i], `${path}.${i}`);
+      }
+      continue;
+    }
+    let own = path;
+    if (value.type === 'Function') {
+      const name = value.name || 'anonymous';
+      const seen = functions.get(name) || 0;
+      functions.set(name, seen + 1);
+      own = seen ? `fn:${name}#${seen}` : `fn:${name}`;
+    }
+    paths.set(value, own);
+    const keys = Object.keys(value);
+    for (let k = keys.length - 1; k >= 0; k--) {
+      const child = value[keys[k]];
+      if (child && typeof child === 'object' && keys[k] !== 'range' && keys[k] !== 'callSites') {
+        stack.push(child, `${own}/${keys[k]}`);
+      }
+    }
+  }
+  return paths;
+}
+
+let recording = null;
+
+/**
+ * Origins of the node IDs of one conversion: for each ID a context allocated,
+ * the structural path of the IR node the walk was on and the ID's ordinal among
+ * the IDs of that node (null outside a walk)
+ */
+export class NodeOrigins {
+  /**
+   * @param {Object|Array|null} normalized - IR the conversion walks
+   * @param {Function} walkNode - (test) => innermost IR node being walked that passes test
+   */
+  constructor(normalized, walkNode) {
+    this.paths = structuralPaths(normalized);
+    this.walkNode = walkNode;
+    this.inIR = (node) => this.paths.has(node);
+    this.ids = new Map();
+    this.counts = new Map();
+  }
+
+  note(id) {
+    if (this.ids.has(id)) return;
+    const node = this.walkNode(this.inIR);
+    if (!node) {
+      this.ids.set(id, null);
+      return;
+    }
+    // Counted per node: a path string would be flattened to be hashed on every call
+    const ordinal = this.counts.get(node) || 0;
+    this.counts.set(node, ordinal + 1);
+    this.ids.set(id, `${this.paths.get(node)}\0${ordinal}`);
+  }
+}
+
+/**
+ * Run a function with node origins recorded (null runs it without)
+ * @param {NodeOrigins|null} origins
+ * @param {Function} fn
+ * @returns {*} - Whatever fn returns
+ */
+export function withNodeOrigins(origins, fn) {
+  const previous = recording;
+  recording = origins;
+  try {
+    return fn();
+  } finally {
+    recording = previous;
+  }
+}
+
+/**
+ * Whether node origins are being recorded: output reused from an earlier run
+ * (a cached subgraph) has none and must be mapped again
+ * @returns {boolean}
+ */
+export function recordingNodeOrigins() {
+  return recording !== null;
+}
+
+/**
+ * Report a node ID a context just allocated
+ * @param {string} id
+ */
+export function noteNodeOrigin(id) {
+  if (recording !== null) recording.note(id);
+}
+
+// Pipeline ID -> stable ID; pipelines number their nodes, so most IDs are looked up by number
+class IdMap {
+  constructor() {
+    this.numbered = [];
+    this.named = new Map();
+  }
+
+  get(id) {
+    const n = idNumber(id);
+    return n >= 0 ? this.numbered[n] : this.named.get(id);
+  }
+
+  set(id, stable) {
+    const n = idNumber(id);
+    if (n >= 0) this.numbered[n] = stable;
+    else this.named.set(id, stable);
+  }
+}
+
+/**
+ * Stable IDs for the nodes and subgraphs a diagram declares. A node is keyed by
+ * its IR path and ordinal when its origin is known, by its place among the
+ * unwalked nodes of its subgraph when it was allocated outside a walk, and by
+ * its pipeline ID when no context reported it (a fixed terminal like N1).
+ * @param {Array<string>} lines - Trimmed diagram lines
+ * @param {NodeOrigins|null} origins - Recorded origins; null keys nodes by shape and label
+ * @returns {IdMap}
+ */
+function assignIds(lines, origins) {
+  const ids = new IdMap();
+  const used = new Set();
+  // Nodes seen per key, kept only for keys that repeat
+  const seen = new Map();
+  const scopes = [];
+
+  const keyOf = (id, kind, label, scope) => {
+    if (kind === 'subgraph' || !origins) return `${scope}\0${kind}\0${label}`;
+    if (!origins.ids.has(id)) return `${scope}\0=${id}`;
+    const origin = origins.ids.get(id);
+    return origin === null ? `${scope}\0unwalked` : origin;
+  };
+
+  const declare = (id, kind, label) => {
+    const known = ids.get(id);
+    if (known !== undefined) return known;
+    const scope = scopes.length ? scopes[scopes.length - 1] : '';
+    const key = keyOf(id, kind, label, scope);
+    let stable = stableId(key, 0);
+    if (used.has(stable)) {
+      // A node with the same key came first (or, however unlikely, the digests clash)
+      let occurrence = seen.get(key) || 1;
+      while (used.has(stable = stableId(key, occurrence))) occurrence++;
+      seen.set(key, occurrence + 1);
+    }
+    used.add(stable);
+    ids.set(id, stable);
+    return stable;
+  };
+
+  for (const line of lines) {
+    if (line === 'end') {
+      scopes.pop();
+      continue;
+    }
+    let match = SUBGRAPH_LINE.exec(line);
+    if (match) {
+      scopes.push(declare(match[1], 'subgraph', match[2] ? parseShape(match[2].trim()).text : ''));
+      continue;
+    }
+    if ((match = NODE_LINE.exec(line)) && match[2]) declare(match[1], 'node', match[2]);
+  }
+  return ids;
+}
+
+/**
+ * Rewrite a diagram with stable node IDs
+ * @param {Iterable<string>} lines - Diagram lines, as the pipelines emit them
+ * @param {NodeOrigins|null} [origins] - Origins recorded while the diagram was built
+ * @returns {Array<string>} - Lines with stable IDs; layout and order are kept
+ */
+export function stableIdLines(lines, origins = null) {
+  const all = Array.isArray(lines) ? lines : [...lines];
+  const ids = assignIds(all.map(line => line.trim()), origins);
+  const rename = (id) => ids.get(id) ?? id;
+
+  return all.map(raw => {
+    const line = raw.trim();
+    if (!line || line === 'end' || line.startsWith('%%') || HEADER.test(line)) return raw;
+    const indent = raw.slice(0, raw.length - raw.trimStart().length);
+
+    let match = EDGE_LINE.exec(line);
+    if (match) {
+      const body = line.slice(match[1].length, line.length - match[2].length);
+      return `${indent}${rename(match[1])}${body}${rename(match[2])}`;
+    }
+    if ((match = SUBGRAPH_LINE.exec(line))) return `${indent}subgraph ${rename(match[1])}${match[2]}`;
+    if ((match = NODE_LINE.exec(line))) return `${indent}${rename(match[1])}${match[2] || ''}`;
+    return indent + line.replace(ID_POSITION, (_, prefix, id) => `${prefix}${rename(id)}`);
+  });
+}
+
+/**
+ * Rewrite a diagram with stable node IDs
+ * @param {string|Iterable<string>} mermaid - Diagram, or its lines
+ * @returns {string}
+ */
+export function stableIdMermaid(mermaid) {
+  return stableIdLines(typeof mermaid === 'string' ? mermaid.split('\n') : mermaid).join('\n');
+}
@@ -0,0 +1,403 @@
+/**
+ * Syntax views: a tree-sitter tree copied into plain JS nodes in one TreeCursor
+ * pass, for the normalizers. Walking tree-sitter nodes directly costs a native
+ * call and a fresh wrapper object for every `child(i)`, and every `.children`
+ * rebuilds the whole child array, so positional normalizers pay for each node
+ * several times over. A view is built once: the cursor reads each node's
+ * numeric type and field ids and its source range, and nothing else.
+ *
+ * Each normalizer declares the node types it dispatches on with syntaxKinds();
+ * view nodes carry the matching small-integer `kind` (-1 for other types),
+ * resolved once per grammar from its type id table, so dispatch compares
+ * numbers instead of type strings. Field lookups compare numeric field ids.
+ * Node text is only sliced out of the source when a label asks for it.
+ *
+ * In a live-editing session, the subtrees of functions carried over from the
+ * last conversion are left out: their nodes are leaves in the view (see
+ * shared/function-reuse.mjs).
+ *
+ * View nodes keep the read-only part of the tree-sitter node API the
+ * normalizers use (type, text, child, children, childCount, namedChildren,
+ * childForFieldName, startIndex, endIndex, walk), so code written against
+ * tree-sitter nodes reads the same. Grammars or test doubles that do not expose
+ * numeric ids are read through their type and field names instead.
+ */
+
+import { currentFunctionReuse } from './function-reuse.mjs';
+
+const NO_CHILDREN = Object.freeze([]);
+
+// Kind table -> { byName: Map<string, number>, byGrammar: WeakMap<Array, Int16Array> }
+const kindTables = new WeakMap();
+
+// Grammar field-name table -> Map<field name, field id>
+const fieldTables = new WeakMap();
+
+/**
+ * Declare the node types a normalizer dispatches on
+ * @param {Array<string>} names - Tree-sitter node type names
+ * @returns {Object} - Frozen { name: kind } table, kinds numbered from 0
+ */
+export function syntaxKinds(names) {
+  const kinds = {};
+  const byName = new Map();
+  names.forEach((name, kind) => {
+    kinds[name] = kind;
+    byName.set(name, kind);
+  });
+  Object.freeze(kinds);
+  kindTables.set(kinds, { byName, byGrammar: new WeakMap() });
+  return kinds;
+}
+
+/**
+ * Kind of a node type name, for trees that are not views (e.g. plain-object
+ * ASTs from a CLI fallback)
+ * @param {Object} kinds - Table from syntaxKinds()
+ * @param {string} type - Node type name
+ * @returns {number} - Kind, or -1
+ */
+export function kindOf(kinds, type) {
+  const kind = kindTables.get(kinds).byName.get(type);
+  return kind === undefined ? -1 : kind;
+}
+
+/**
+ * Per-tree state shared by the nodes of one view
+ */
+class SyntaxTree {
+  constructor(source, offset, typeNames, fieldNames, fieldIds) {
+    this.source = source;
+    // Index of source[0] in the tree's coordinates
+    this.offset = offset;
+    // Type id -> name, field id -> name (field id 0 means "no field")
+    this.typeNames = typeNames;
+    this.fieldNames = fieldNames;
+    // Field name -> id
+    this.fieldIds = fieldIds;
+  }
+
+  /**
+   * @param {string} name - Field name
+   * @returns {number} - Field id, or 0 when the tree has no such field
+   */
+  fieldId(name) {
+    return this.fieldIds.get(name) || 0;
+  }
+}
+
+export class SyntaxView {
+  constructor(tree, typeId, kind, fieldId, isNamed, startIndex, endIndex) {
+    this.tree = tree;
+    this.typeId = typeId;
+    this.kind = kind;
+    this.fieldId = fieldId;
+    this.isNamed = isNamed;
+    this.startIndex = startIndex;
+    this.endIndex = endIndex;
+    this.children = NO_CHILDREN;
+    // Named children, collected on first use (see namedChildren)
+    this.namedList = null;
+  }
+
+  get type() {
+    return this.tree.typeNames[this.typeId] || 'ERROR';
+  }
+
+  // Name of the field this node fills in its parent, if any
+  get field() {
+    return this.fieldId ? this.tree.fieldNames[this.fieldId] : undefined;
+  }
+
+  get text() {
+    const { source, offset } = this.tree;
+    return source.slice(this.startIndex - offset, this.endIndex - offset);
+  }
+
+  get childCount() {
+    return this.children.length;
+  }
+
+  child(index) {
+    return this.children[index] || null;
+  }
+
+  // Collected once per node and shared by every caller, so it must not be
+  // modified; the children array itself when all of them are named
+  get namedChildren() {
+    if (this.namedList === null) {
+      const { children } = this;
+      let count = 0;
+      for (let i = 0; i < children.length; i++) {
+        if (children[i].isNamed) count++;
+      }
+      this.namedList = count === children.length ? children : children.filter(child => child.isNamed);
+    }
+    return this.namedList;
+  }
+
+  get namedChildCount() {
+    return this.namedChildren.length;
+  }
+
+  namedChild(index) {
+    return this.namedChildren[index] || null;
+  }
+
+  get firstChild() {
+    return this.child(0);
+  }
+
+  get lastChild() {
+    return this.child(this.children.length - 1);
+  }
+
+  get firstNamedChild() {
+    return this.children.find(child => child.isNamed) || null;
+  }
+
+  get lastNamedChild() {
+    for (let i = this.children.length - 1; i >= 0; i--) {
+      if (this.children[i].isNamed) return this.children[i];
+    }
+    return null;
+  }
+
+  childForFieldName(name) {
+    const id = this.tree.fieldId(name);
+    if (!id) return null;
+    for (const child of this.children) {
+      if (child.fieldId === id) return child;
+    }
+    return null;
+  }
+
+  childrenForFieldName(name) {
+    const id = this.tree.fieldId(name);
+    return id ? this.children.filter(child => child.fieldId === id) : [];
+  }
+
+  walk() {
+    return new SyntaxViewCursor(this);
+  }
+
+  // View nodes that end up in an IR are serialized as their type and text
+  toJSON() {
+    return { type: this.type, text: this.text };
+  }
+}
+
+/**
+ * TreeCursor over a view, so cursor-based helpers (e.g. collectCallSites)
+ * accept views as well as tree-sitter nodes
+ */
+class SyntaxViewCursor {
+  constructor(node) {
+    this.path = [node];
+    this.indexes = [];
+  }
+
+  get currentNode() {
+    return this.path[this.path.length - 1];
+  }
+
+  get nodeType() {
+    return this.currentNode.type;
+  }
+
+  get nodeTypeId() {
+    return this.currentNode.typeId;
+  }
+
+  get nodeIsNamed() {
+    return this.currentNode.isNamed;
+  }
+
+  get currentFieldId() {
+    return this.currentNode.fieldId;
+  }
+
+  get currentFieldName() {
+    return this.currentNode.field;
+  }
+
+  get startIndex() {
+    return this.currentNode.startIndex;
+  }
+
+  get endIndex() {
+    return this.currentNode.endIndex;
+  }
+
+  gotoFirstChild() {
+    const children = this.currentNode.children;
+    if (!children.length) return false;
+    this.path.push(children[0]);
+    this.indexes.push(0);
+    return true;
+  }
+
+  gotoNextSibling() {
+    const depth = this.indexes.length;
+    if (!depth) return false;
+    const siblings = this.path[depth - 1].children;
+    const index = this.indexes[depth - 1] + 1;
+    if (index >= siblings.length) return false;
+    this.indexes[depth - 1] = index;
+    this.path[depth] = siblings[index];
+    return true;
+  }
+
+  gotoParent() {
+    if (!this.indexes.length) return false;
+    this.path.pop();
+    this.indexes.pop();
+    return true;
+  }
+}
+
+// Grammar object of a tree-sitter node, when its tree exposes one
+function grammarOf(node) {
+  const tree = node.tree;
+  if (!tree) return null;
+  if (tree.language) return tree.language;
+  return typeof tree.getLanguage === 'function' ? tree.getLanguage() : null;
+}
+
+// Field ids by name for a grammar, built once per grammar
+function fieldIdsOf(fieldNames) {
+  let ids = fieldTables.get(fieldNames);
+  if (!ids) {
+    ids = new Map();
+    fieldNames.forEach((field, id) => {
+      if (field && id > 0) ids.set(field, id);
+    });
+    fieldTables.set(fieldNames, ids);
+  }
+  return ids;
+}
+
+// Kind of each type id of a grammar, built once per kind table and grammar
+function kindsByTypeId(table, typeNames) {
+  let byId = table.byGrammar.get(typeNames);
+  if (!byId) {
+    byId = new Int16Array(typeNames.length).fill(-1);
+    typeNames.forEach((name, id) => {
+      const kind = table.byName.get(name);
+      if (kind !== undefined) byId[id] = kind;
+    });
+    table.byGrammar.set(typeNames, byId);
+  }
+  return byId;
+}
+
+/**
+ * Build the view of a tree-sitter node and its subtree in one cursor pass.
+ * Views, and trees that are not tree-sitter nodes, are returned unchanged.
+ * @param {Object} node - Tree-sitter node (or tree)
+ * @param {Object} kinds - Table from syntaxKinds()
+ * @param {Object} [options] - { named: true } to keep named nodes only
+ * @returns {SyntaxView|Object|null} - Root of the view
+ */
+export function syntaxView(node, kinds, options = {}) {
+  if (node && node.rootNode) node = node.rootNode;
+  if (!node || node instanceof SyntaxView || typeof node.walk !== 'function') return node;
+
+  const table = kindTables.get(kinds);
+  const namedOnly = Boolean(options.named);
+  const cursor = node.walk();
+
+  // The tree's own input when it kept it (or the source parseSource() read
+  // through a callback), otherwise the node's text
+  let source = null;
+  if (node.tree) {
+    if (typeof node.tree.input === 'string') source = node.tree.input;
+    else if (typeof node.tree.source === 'string') source = node.tree.source;
+  }
+  let offset = 0;
+  if (source === null) {
+    source = node.text || '';
+    offset = node.startIndex;
+  }
+
+  // Numeric ids with the grammar's name tables, or ids interned from names
+  const grammar = grammarOf(node);
+  const grammarTypes = grammar && (grammar.nodeTypeNamesById || grammar.types);
+  const grammarFields = grammar && (grammar.nodeFieldNamesById || grammar.fields);
+  const numeric = Array.isArray(grammarTypes) && Array.isArray(grammarFields) &&
+    typeof cursor.nodeTypeId === 'number';
+
+  let tree;
+  let kindById;
+  let errorKind = -1;
+  let typeIds = null;
+  let fieldIds = null;
+  if (numeric) {
+    tree = new SyntaxTree(source, offset, grammarTypes, grammarFields, fieldIdsOf(grammarFields));
+    kindById = kindsByTypeId(table, grammarTypes);
+    // Ids past the name table (the error symbol) read as ERROR
+    errorKind = kindOf(kinds, 'ERROR');
+  } else {
+    typeIds = new Map();
+    fieldIds = new Map();
+    tree = new SyntaxTree(source, offset, [], [undefined], fieldIds);
+    kindById = [];
+  }
+
+  const isNamed = typeof cursor.nodeIsNamed === 'boolean'
+    ? () => cursor.nodeIsNamed
+    : () => cursor.currentNode.isNamed !== false;
+
+  const make = (named) => {
+    let typeId;
+    let fieldId;
+    if (numeric) {
+      typeId = cursor.nodeTypeId;
+      fieldId = cursor.currentFieldId || 0;
+    } else {
+      const type = cursor.nodeType;
+      typeId = typeIds.get(type);
+      if (typeId === undefined) {
+        typeId = tree.typeNames.length;
+        typeIds.set(type, typeId);
+        tree.typeNames.push(type);
+        kindById.push(kindOf(kinds, type));
+      }
+      const field = cursor.currentFieldName;
+      fieldId = 0;
+      if (field) {
+        fieldId = fieldIds.get(field);
+        if (fieldId === undefined) {
+          fieldId = tree.fieldNames.length;
+          fieldIds.set(field, fieldId);
+          tree.fieldNames.push(field);
+        }
+      }
+    }
+    const kind = typeId < kindById.length ? kindById[typeId] : errorKind;
+    return new SyntaxView(tree, typeId, kind, fieldId, named, cursor.startIndex, cursor.endIndex);
+  };
+
+  // Pre-order walk with an explicit stack of the views being filled
+  const reuse = currentFunctionReuse();
+  const root = make(isNamed());
+  const parents = [root];
+  if (!cursor.gotoFirstChild()) return root;
+  for (;;) {
+    const named = isNamed();
+    if (named || !namedOnly) {
+      const view = make(named);
+      const parent = parents[parents.length - 1];
+      if (parent.children === NO_CHILDREN) parent.children = [];
+      parent.children.push(view);
+      if ((reuse === null || !reuse.skip(view)) && cursor.gotoFirstChild()) {
+        parents.push(view);
+        continue;
+      }
+    }
+    while (!cursor.gotoNextSibling()) {
+      if (parents.length === 1 || !cursor.gotoParent()) return root;
+      parents.pop();
+    }
+  }
+}
@@ -0,0 +1,348 @@
+/**
+ * Pool of worker threads that run conversions off the main event loop, with a
+ * bounded task queue and an inline fast path for small inputs
+ */
+
+import { Worker } from 'worker_threads';
+import { availableParallelism, cpus } from 'os';
+import { cachedConversion, convertWithIR, conversionKey, getCachedRecord, mermaidRecordKind, setCachedRecord } from '../cache/conversion-cache.mjs';
+import { getEnabledLanguages } from '../shared/language-registry.mjs';
+import { mermaidChunks } from '../shared/mermaid-stream.mjs';
+
+const WORKER_URL = new URL('./conversion-worker.mjs', import.meta.url);
+
+const defaultSize = () => {
+  const parallelism = typeof availableParallelism === 'function' ? availableParallelism() : cpus().length;
+  return Math.max(1, parallelism - 1);
+};
+
+const envNumber = (name, fallback) => {
+  const value = process.env[name];
+  return value === undefined || value === '' ? fallback : Number(value);
+};
+
+const envLanguages = (name) => {
+  const value = process.env[name];
+  if (value === undefined) return getEnabledLanguages();
+  return value.split(',').map(s => s.trim().toLowerCase()).filter(Boolean);
+};
+
+export class ConversionPoolError extends Error {
+  constructor(message, status = 503) {
+    super(message);
+    this.name = 'ConversionPoolError';
+    this.status = status;
+  }
+}
+
+const decoder = new TextDecoder();
+
+let pool = null;
+
+function createPool(options = {}) {
+  return {
+    size: options.size ?? envNumber('AST2M_WORKERS', defaultSize()),
+    queueLimit: options.queueLimit ?? envNumber('AST2M_WORKER_QUEUE', 256),
+    inlineThreshold: options.inlineThreshold ?? envNumber('AST2M_INLINE_THRESHOLD', 2048),
+    warmLanguages: options.warmLanguages ?? envLanguages('AST2M_WARM_LANGUAGES'),
+    workers: [],
+    queue: [],
+    nextTaskId: 1,
+    stopping: false,
+    stats: { inline: 0, offloaded: 0, rejected: 0, failed: 0, restarts: 0 }
+  };
+}
+
+function spawnWorker(state) {
+  const entry = {
+    worker: new Worker(WORKER_URL, {
+      workerData: { warmLanguages: state.warmLanguages, enabledLanguages: getEnabledLanguages() }
+    }),
+    ready: false,
+    task: null
+  };
+
+  entry.worker.on('message', (message) => {
+    if (message.type === 'ready') {
+      entry.ready = true;
+      dispatch(state);
+      return;
+    }
+
+    // Streaming tasks send their diagram as chunks before the final result
+    if (message.type === 'chunk') {
+      if (entry.task && entry.task.id === message.id) entry.task.onChunk(message.bytes);
+      return;
+    }
+
+    const task = entry.task;
+    entry.task = null;
+    if (task && task.id === message.id) {
+      if (message.type === 'result') {
+        task.resolve({
+          mermaid: message.bytes ? decoder.decode(message.bytes) : null,
+          ir: message.irBytes ? decoder.decode(message.irBytes) : null,
+          ok: message.ok,
+          truncated: message.truncated
+        });
+      } else {
+        state.stats.failed++;
+        task.reject(new ConversionPoolError(message.message, message.status || 500));
+      }
+    }
+    dispatch(state);
+  });
+
+  entry.worker.on('error', (error) => {
+    console.error('[ast2m] conversion worker error:', error);
+  });
+
+  entry.worker.on('exit', (code) => {
+    state.workers = state.workers.filter(w => w !== entry);
+    if (entry.task) {
+      state.stats.failed++;
+      entry.task.reject(new ConversionPoolError(`Conversion worker exited with code ${code}`, 500));
+      entry.task = null;
+    }
+    if (state.stopping) return;
+    if (entry.ready) {
+      state.stats.restarts++;
+      spawnWorker(state);
+    } else {
+      // A worker that dies while loading would die again; leave the slot empty
+      console.error(`[ast2m] conversion worker failed to start (exit code ${code})`);
+      if (state.workers.length === 0) drainInline(state);
+    }
+  });
+
+  state.workers.push(entry);
+  return entry;
+}
+
+function dispatch(state) {
+  for (const entry of state.workers) {
+    if (state.queue.length === 0) return;
+    if (!entry.ready || entry.task) continue;
+
+    const task = state.queue.shift();
+    entry.task = task;
+    if (task.stream) {
+      task.ack = () => entry.worker.postMessage({ type: 'ack', id: task.id });
+      task.cancel = () => entry.worker.postMessage({ type: 'cancel', id: task.id });
+    }
+    entry.worker.postMessage({
+      id: task.id,
+      code: task.code,
+      language: task.language,
+      ir: task.ir,
+      options: task.options,
+      stream: task.stream
+    });
+  }
+}
+
+// Without any live worker, queued tasks run on the main thread instead of hanging
+function drainInline(state) {
+  for (const task of state.queue.splice(0)) {
+    if (task.stream) {
+      // Hand the finished diagram to the streaming consumer in chunks
+      convertWithIR(task.code, task.language, task.ir, task.options).then((result) => {
+        for (const chunk of mermaidChunks(result.mermaid)) task.onChunk(chunk);
+        task.resolve({ ...result, mermaid: null });
+      }, task.reject);
+    } else {
+      convertWithIR(task.code, task.language, task.ir, task.options).then(task.resolve, task.reject);
+    }
+  }
+}
+
+/**
+ * Start the worker pool. Called lazily by runConversion; calling it again is a no-op.
+ * @param {Object} [options] - { size, queueLimit, inlineThreshold, warmLanguages }; defaults come
+ *   from AST2M_WORKERS, AST2M_WORKER_QUEUE, AST2M_INLINE_THRESHOLD and AST2M_WARM_LANGUAGES
+ * @returns {Object} - Pool state
+ */
+export function startConversionPool(options = {}) {
+  if (pool) return pool;
+  pool = createPool(options);
+  for (let i = 0; i < pool.size; i++) {
+    spawnWorker(pool);
+  }
+  return pool;
+}
+
+function convertOnPool(state, code, language, ir, allowInline, options) {
+  // Small inputs convert faster than a round trip to a worker
+  if (state.workers.length === 0 || (allowInline && code.length <= state.inlineThreshold)) {
+    state.stats.inline++;
+    return convertWithIR(code, language, ir, options);
+  }
+
+  if (state.queue.length >= state.queueLimit) {
+    state.stats.rejected++;
+    return Promise.reject(new ConversionPoolError('Conversion queue is full, retry later'));
+  }
+
+  state.stats.offloaded++;
+  return new Promise((resolve, reject) => {
+    state.queue.push({ id: state.nextTaskId++, code, language, ir, options, resolve, reject });
+    dispatch(state);
+  });
+}
+
+/**
+ * Convert source to Mermaid through the conversion cache; misses run inline for
+ * small inputs and on a worker otherwise
+ * @param {string} code - Source code
+ * @param {string} language - Normalized language key
+ * @param {Object} [options] - { allowInline: false } sends even small inputs to a worker,
+ *   for callers that keep many conversions in flight; { pipeline } holds output options for the
+ *   language pipeline ({ detail, expand, format }); { deadline } (epoch milliseconds) is the time
+ *   budget of the conversion, queueing included, and { onTruncated } is called when it ran out
+ * @returns {Promise<string>} - Mermaid flowchart (graph JSON text with { format: 'graph' })
+ */
+export function runConversion(code, language, { allowInline = true, pipeline = {}, deadline = null, onTruncated = null } = {}) {
+  const state = startConversionPool();
+  return cachedConversion(
+    code,
+    language,
+    (source, lang, ir, options) => convertOnPool(state, source, lang, ir, allowInline, withDeadline(options, deadline)),
+    pipeline,
+    { onTruncated }
+  );
+}
+
+// Pipeline options with the time budget; the deadline is a number so it crosses to a worker
+function withDeadline(options, deadline) {
+  return deadline ? { ...options, deadline } : options;
+}
+
+/**
+ * Receive a diagram from a worker chunk by chunk. Each chunk is acknowledged when
+ * the consumer asks for it, so the worker never runs more than a few chunks ahead.
+ * @yields {Uint8Array} - UTF-8 chunks
+ * @returns {Promise<{ ir: string|null, ok: boolean }>} - Final result, once all chunks were taken
+ */
+async function* streamOnPool(state, code, language, ir, options) {
+  if (state.queue.length >= state.queueLimit) {
+    state.stats.rejected++;
+    throw new ConversionPoolError('Conversion queue is full, retry later');
+  }
+  state.stats.offloaded++;
+
+  const chunks = [];
+  let wake = null;
+  let result = null;
+  let failure = null;
+  let settled = false;
+  const notify = () => {
+    if (wake) wake();
+  };
+  const task = {
+    id: state.nextTaskId++,
+    code,
+    language,
+    ir,
+    options,
+    stream: true,
+    onChunk: (bytes) => { chunks.push(bytes); notify(); },
+    resolve: (value) => { result = value; settled = true; notify(); },
+    reject: (error) => { failure = error; settled = true; notify(); }
+  };
+  state.queue.push(task);
+  dispatch(state);
+
+  try {
+    for (;;) {
+      if (chunks.length) {
+        const bytes = chunks.shift();
+        if (task.ack) task.ack();
+        yield bytes;
+      } else if (settled) {
+        if (failure) throw failure;
+        return result;
+      } else {
+        await new Promise(resolve => { wake = resolve; });
+        wake = null;
+      }
+    }
+  } finally {
+    if (!settled) {
+      // The consumer stopped early (e.g. the client disconnected): let the worker move on
+      const queued = state.queue.indexOf(task);
+      if (queued !== -1) state.queue.splice(queued, 1);
+      else if (task.cancel) task.cancel();
+    }
+  }
+}
+
+/**
+ * Convert source to Mermaid and produce it in bounded chunks. Cached diagrams and
+ * small inputs are chunked from the finished text; large inputs stream from a
+ * worker (or inline, without workers) and only their IR is cached.
+ * @param {string} code - Source code
+ * @param {string} language - Normalized language key
+ * @param {Object} [pipeline] - Output options for the language pipeline ({ detail, expand })
+ * @param {Object} [options]
+ * @param {number} [options.deadline] - Time budget (epoch milliseconds); a diagram it cuts short
+ *   starts with a `%% truncated` comment
+ * @yields {string|Uint8Array} - Diagram chunks, in order
+ */
+export async function* streamConversion(code, language, pipeline = {}, { deadline = null } = {}) {
+  const state = startConversionPool();
+  if (code.length <= state.inlineThreshold) {
+    yield* mermaidChunks(await runConversion(code, language, { pipeline, deadline }));
+    return;
+  }
+
+  const key = conversionKey(language, code);
+  const cached = await getCachedRecord(key, mermaidRecordKind(pipeline));
+  if (cached !== null) {
+    yield* mermaidChunks(cached);
+    return;
+  }
+
+  const ir = await getCachedRecord(key, 'ir');
+  let result;
+  if (state.workers.length === 0) {
+    state.stats.inline++;
+    result = await convertWithIR(code, language, ir, { ...withDeadline(pipeline, deadline), lines: true });
+    yield* mermaidChunks(result.mermaid);
+  } else {
+    result = yield* streamOnPool(state, code, language, ir, withDeadline(pipeline, deadline));
+  }
+  if (result && (result.ok || result.truncated) && result.ir && !ir) setCachedRecord(key, 'ir', result.ir);
+}
+
+/**
+ * Worker, queue and routing counters
+ * @returns {Object}
+ */
+export function getConversionPoolStats() {
+  if (!pool) return { started: false };
+  return {
+    started: true,
+    size: pool.size,
+    ready: pool.workers.filter(w => w.ready).length,
+    busy: pool.workers.filter(w => w.task).length,
+    queued: pool.queue.length,
+    queueLimit: pool.queueLimit,
+    inlineThreshold: pool.inlineThreshold,
+    ...pool.stats
+  };
+}
+
+/**
+ * Terminate all workers and reject queued tasks
+ * @returns {Promise<void>}
+ */
+export async function stopConversionPool() {
+  if (!pool) return;
+  const state = pool;
+  pool = null;
+  state.stopping = true;
+  for (const task of state.queue.splice(0)) {
+    task.reject(new ConversionPoolError('Conversion pool stopped'));
+  }
+  await Promise.all(state.workers.map(entry => entry.worker.terminate()));
+}
@@ -0,0 +1,74 @@
+/**
+ * Worker thread entry for the conversion pool. Each worker has its own language
+ * registry (module state is per-isolate), warms the packs it was asked to, then
+ * converts requests posted by the main thread.
+ */
+
+import { parentPort, workerData } from 'worker_threads';
+import { convertWithIR } from '../cache/conversion-cache.mjs';
+import { setEnabledLanguages, warmUpLanguages } from '../shared/language-registry.mjs';
+import { mermaidChunks } from '../shared/mermaid-stream.mjs';
+
+const encoder = new TextEncoder();
+
+// Chunks a streaming task may have in flight before it waits for the main thread to ack
+const STREAM_WINDOW = 4;
+
+// task id -> { unacked, cancelled, wake } for streaming tasks
+const streams = new Map();
+
+if (workerData?.enabledLanguages) setEnabledLanguages(workerData.enabledLanguages);
+await warmUpLanguages(workerData?.warmLanguages);
+parentPort.postMessage({ type: 'ready' });
+
+/**
+ * Convert and post the diagram as a sequence of chunk messages, pausing while
+ * STREAM_WINDOW chunks are unacknowledged
+ */
+async function streamConversion(id, code, language, ir, options) {
+  const flow = { unacked: 0, cancelled: false, wake: null };
+  streams.set(id, flow);
+  try {
+    const result = await convertWithIR(code, language, ir, { ...options, lines: true });
+    for (const chunk of mermaidChunks(result.mermaid)) {
+      while (flow.unacked >= STREAM_WINDOW && !flow.cancelled) {
+        await new Promise(resolve => { flow.wake = resolve; });
+      }
+      if (flow.cancelled) break;
+      const bytes = encoder.encode(chunk);
+      flow.unacked++;
+      parentPort.postMessage({ type: 'chunk', id, bytes }, [bytes.buffer]);
+    }
+    const irBytes = result.ir ? encoder.encode(result.ir) : null;
+    parentPort.postMessage({ type: 'result', id, bytes: null, irBytes, ok: result.ok, truncated: result.truncated }, irBytes ? [irBytes.buffer] : []);
+  } finally {
+    streams.delete(id);
+  }
+}
+
+parentPort.on('message', async ({ type, id, code, language, ir, options, stream }) => {
+  // Flow control for a streaming task
+  if (type === 'ack' || type === 'cancel') {
+    const flow = streams.get(id);
+    if (!flow) return;
+    if (type === 'ack') flow.unacked--;
+    else flow.cancelled = true;
+    flow.wake?.();
+    return;
+  }
+
+  try {
+    if (stream) {
+      await streamConversion(id, code, language, ir, options);
+      return;
+    }
+    const result = await convertWithIR(code, language, ir, options);
+    // Send the diagram and IR as bytes and transfer the buffers instead of cloning strings
+    const bytes = encoder.encode(result.mermaid);
+    const irBytes = result.ir ? encoder.encode(result.ir) : null;
+    const transfer = irBytes ? [bytes.buffer, irBytes.buffer] : [bytes.buffer];
+    parentPort.postMessage({ type: 'result', id, bytes, irBytes, ok: result.ok, truncated: result.truncated }, transfer);
+  } catch (error) {
+    parentPort.postMessage({ type: 'error', id, message: error?.message || 'Conversion failed', status: error?.status });
+  }
+});
@@ -1,3 +1,5 @@
+import { detectLanguage } from '@ast2m-shared/language-detector.mjs';
+
 const API_BASE_URL = 'http://localhost:3000';
 const AST2M_BASE_URL = 'http://localhost:3400';
 
@@ -72,53 +74,21 @@ export const convertCodeToMermaid = async (code: string, language?: 'js' | 'ts'
     return data.mermaid;
 };
 
-// Lightweight client-side detector mirroring backend for display purposes only
-export const detectLanguageLocal = (code: string): 'js' | 'ts' | 'python' | 'java' | 'c' | 'cpp' | 'pascal' | 'no language detected' => {
-    const src = String(code || '');
-    const trimmed = src.trim();
-
-    // Java markers - check this BEFORE Python to avoid false positives
-    // Enhanced Java detection to better catch cases with imports and print statements
-    if (/\bpublic\s+class\s+\w+|System\.out\.print|public\s+static\s+void\s+main\s*\(String\[\]|Scanner\s+\w+|\.nextInt\(|\.next\(|import\s+java\.util\.Scanner|import\s+java\./.test(trimmed)) return 'java';
-
-    // Python - check AFTER Java to avoid false positives
-    if (/\bdef\s+\w+\(|:\n\s+/.test(trimmed) && !/System\.out\.print|public\s+static\s+void\s+main/.test(trimmed)) {
-        // Additional check to make sure it's not Java with print statements
-        if (!/\bpublic\s+class\s+\w+|System\.out\.print|public\s+static\s+void\s+main\s*\(String\[\]/.test(trimmed)) {
-            if (/^#!.*python/.test(trimmed) || /\bprint\s*\(/.test(trimmed)) return 'python';
-        }
-    }
-
-    // C/C++ includes
-    if (/^#include\s+</m.test(trimmed)) {
-        // Look for C++-specific markers
-        if (/\bstd::|cout\s*<<|cin\s*>>|\bclass\s+\w+/.test(trimmed)) return 'cpp';
-        // If we have #include but no C++ markers, assume C
-        return 'c';
-    }
-
-    // C language detection - detect common C functions and patterns
-    if (/\bprintf\s*\(|\bscanf\s*\(|\bfprintf\s*\(|\bfscanf\s*\(|\bgetc\s*\(|\bputc\s*\(|\bfopen\s*\(|\bfclose\s*\(|\bmalloc\s*\(|\bfree\s*\(|\bstrlen\s*\(|\bstrcpy\s*\(|\bstrcat\s*\(/.test(trimmed)) return 'c';
-
-    // C++ detection - look for C++ specific markers without #include
-    if (/\bstd::|cout\s*<<|cin\s*>>|\bclass\s+\w+|namespace\b/.test(trimmed)) return 'cpp';
-
-    // Pascal detection - look for Pascal-specific keywords
-    if (/program\s+\w+|begin|end\.|writeln\s*\(|readln\s*\(|if\s+.*\s+then|case\s+.*\s+of/i.test(trimmed)) return 'pascal';
-
-    // TypeScript vs JavaScript
-    // TypeScript type annotations / interfaces / enums
-    if (/\binterface\s+\w+|\benum\s+\w+|:\s*\w+(<.*>)?\s*(=|;|,|\))/.test(trimmed)) return 'ts';
-
-    // Default to JS when using console.log, import/export, arrow functions
-    if (/console\.log\(|\bexport\b|\bimport\b|=>/.test(trimmed)) return 'js';
-
-    // Fallback heuristics
-    if (/using\s+namespace\s+std;/.test(trimmed)) return 'cpp';
-    if (/\{|\}/.test(trimmed) && /;\s*($|\n)/m.test(trimmed)) return 'js';
-
-    // If no patterns match, return "no language detected"
-    return 'no language detected';
+// Client-side detector for display purposes only; shares its scoring with the backend
+const LOCAL_LANGUAGE_CODES = {
+    c: 'c',
+    cpp: 'cpp',
+    java: 'java',
+    javascript: 'js',
+    typescript: 'ts',
+    python: 'python',
+    pascal: 'pascal',
+    fortran: 'fortran',
+} as const;
+
+export const detectLanguageLocal = (code: string): 'js' | 'ts' | 'python' | 'java' | 'c' | 'cpp' | 'pascal' | 'fortran' | 'no language detected' => {
+    const detected = detectLanguage(code);
+    return detected ? LOCAL_LANGUAGE_CODES[detected] : 'no language detected';
 };
 
 export const detectLanguageAPI = async (code: string): Promise<string> => {
@@ -150,4 +120,107 @@ export const detectLanguageAPI = async (code: string): Promise<string> => {
     }
     const data = await fallback.json();
     return data.language;
-};
\ No newline at end of file
+};
+
+// Monaco-style content change, as reported by editor.onDidChangeModelContent
+export interface SessionTextEdit {
+    range: {
+        startLineNumber: number;
+        startColumn: number;
+        endLineNumber: number;
+        endColumn: number;
+    };
+    text: string;
+}
+
+export interface ConversionSession {
+    sessionId: string;
+    language: string;
+    version: number;
+    mermaid: string;
+    // Only when the edit request sets changedFunctions: true
+    changedFunctions?: string[] | null;
+}
+
+const readJsonResponse = async <T>(response: Response, fallbackMessage: string): Promise<T> => {
+    const data = await response.json().catch(() => ({}));
+    if (!response.ok) {
+        throw new Error(data?.message || fallbackMessage);
+    }
+    return data;
+};
+
+export const openConversionSession = async (code: string, language?: string): Promise<ConversionSession> => {
+    const response = await fetch(`${AST2M_BASE_URL}/session`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ code, language: language || 'auto' }),
+    });
+    return readJsonResponse<ConversionSession>(response, 'Failed to open conversion session');
+};
+
+// Edits are applied in order, each relative to the text left by the previous one
+export const applySessionEdits = async (sessionId: string, edits: SessionTextEdit[]): Promise<ConversionSession> => {
+    const response = await fetch(`${AST2M_BASE_URL}/session/${encodeURIComponent(sessionId)}/edits`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ edits }),
+    });
+    return readJsonResponse<ConversionSession>(response, 'Failed to update conversion session');
+};
+
+export const closeConversionSession = async (sessionId: string): Promise<void> => {
+    await fetch(`${AST2M_BASE_URL}/session/${encodeURIComponent(sessionId)}`, { method: 'DELETE' });
+};
+
+export interface DiagramNode {
+    id: string;
+    kind: string;
+    label: string;
+    parent?: string;
+}
+
+export interface DiagramEdge {
+    from: string;
+    to: string;
+    kind: string;
+    label?: string;
+}
+
+// Apply in order: relabeled nodes (renamed from `previous` when set), removed edges,
+// removed nodes, added nodes, added edges, relabeled edges
+export interface DiagramDiff {
+    nodes: {
+        added: DiagramNode[];
+        removed: string[];
+        relabeled: (DiagramNode & { previous?: string })[];
+    };
+    edges: {
+        added: DiagramEdge[];
+        removed: DiagramEdge[];
+        relabeled: (DiagramEdge & { previousLabel: string | null })[];
+    };
+    unchanged: { nodes: number; edges: number };
+}
+
+// Diagram whose node IDs follow each node's content and place, the base for diffDiagram
+export const convertWithStableIds = async (code: string, language?: string): Promise<string> => {
+    const response = await fetch(`${AST2M_BASE_URL}/convert`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ code, language: language || 'auto', ids: 'stable' }),
+    });
+    const data = await readJsonResponse<{ mermaid: string }>(response, 'Failed to convert code to Mermaid');
+    return data.mermaid;
+};
+
+// Edit script from the diagram of previousCode to the diagram of code
+export const diffDiagram = async (code: string, previousCode: string, language?: string): Promise<DiagramDiff> => {
+    const response = await fetch(`${AST2M_BASE_URL}/diff`, {
+        method: 'POST',
+        headers: { 'Content-Type': 'application/json' },
+        body: JSON.stringify({ code, previousCode, language: language || 'auto' }),
+    });
+    const data = await readJsonResponse<{ diff: DiagramDiff }>(response, 'Failed to diff diagrams');
+    return data.diff;
+};
@@ -0,0 +1,15 @@
+declare module '@ast2m-shared/language-detector.mjs' {
+  export type DetectableLanguage = 'c' | 'cpp' | 'java' | 'javascript' | 'typescript' | 'python' | 'pascal' | 'fortran';
+
+  export interface LanguageCandidate {
+    language: DetectableLanguage;
+    score: number;
+    confidence: number;
+  }
+
+  export const DETECT_PREFIX_CHARS: number;
+  export const DETECTABLE_LANGUAGES: DetectableLanguage[];
+  export function rankLanguages(code: string, options?: { prefixChars?: number }): LanguageCandidate[];
+  export function isAmbiguous(ranking: LanguageCandidate[]): boolean;
+  export function detectLanguage(code: string): DetectableLanguage | null;
+}
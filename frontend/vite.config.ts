@@ -1,4 +1,4 @@
-import { defineConfig } from 'vite';
+import { defineConfig, searchForWorkspaceRoot } from 'vite';
 import react from '@vitejs/plugin-react';
 import path from 'path';
 
@@ -6,6 +6,10 @@ export default defineConfig({
   plugins: [react()],
   server: {
     port: 5173,
+    fs: {
+      // Modules shared with the ast-to-mermaid service live outside the frontend root
+      allow: [searchForWorkspaceRoot(process.cwd()), path.resolve(__dirname, '../ast-to-mermaid/src/shared')]
+    },
     proxy: {
       '/mermaid-live-editor': {
         target: 'http://localhost:5174',
@@ -29,6 +33,7 @@ export default defineConfig({
   resolve: {
     alias: {
       '@': path.resolve(__dirname, './src'),
+      '@ast2m-shared': path.resolve(__dirname, '../ast-to-mermaid/src/shared'),
     },
   },
 }); 
\ No newline at end of file